@@ -27,8 +27,33 @@ dependencies {
   testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine")
 }
 
+tasks.getByName<Jar>("jar") {
+  manifest {
+    // Part of the configuration stamp of the incremental bytecode dumps
+    attributes("Implementation-Version" to project.version)
+  }
+}
+
 tasks.getByName<Test>("test") {
-  useJUnitPlatform()
+  useJUnitPlatform {
+    excludeTags("benchmark")
+  }
+
+  // Allows to update the snapshots via '-Dasmtestkit.snapshots.update=true'
+  System.getProperty("asmtestkit.snapshots.update")?.let { systemProperty("asmtestkit.snapshots.update", it) }
+}
+
+/**
+ * Runs the tests which measure the wall-clock time and therefore may be
+ * flaky on shared machines.
+ */
+tasks.register<Test>("benchmark") {
+  group = "verification"
+  testClassesDirs = sourceSets["test"].output.classesDirs
+  classpath = sourceSets["test"].runtimeClasspath
+  useJUnitPlatform {
+    includeTags("benchmark")
+  }
 }
 
 tasks {
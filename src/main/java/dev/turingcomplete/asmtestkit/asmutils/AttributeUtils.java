@@ -0,0 +1,114 @@
+package dev.turingcomplete.asmtestkit.asmutils;
+
+import dev.turingcomplete.asmtestkit.common._internal.ClassRegistry;
+import org.objectweb.asm.Attribute;
+import org.objectweb.asm.util.TextifierSupport;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.function.Function;
+
+public final class AttributeUtils {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final byte[] NO_CONTENT = new byte[0];
+
+  private static final ClassRegistry<Function<Attribute, byte[]>> CONTENT_EXTRACTORS = ClassRegistry.create();
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  private AttributeUtils() {
+    throw new UnsupportedOperationException();
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Registers a {@link Function} which extracts the content of
+   * {@link Attribute}s of the given type (or one of its subtypes).
+   *
+   * @param attributeClass   the {@link Attribute} {@link Class}; never null.
+   * @param contentExtractor a {@link Function} which extracts the content of
+   *                         an {@link Attribute} as bytes; never null. The
+   *                         result must not be null.
+   * @param <A>              the type of the {@link Attribute}.
+   */
+  public static <A extends Attribute> void registerContentExtractor(Class<A> attributeClass,
+                                                                    Function<? super A, byte[]> contentExtractor) {
+
+    Objects.requireNonNull(attributeClass);
+    Objects.requireNonNull(contentExtractor);
+
+    Function<Attribute, byte[]> extractor = attribute -> contentExtractor.apply(attributeClass.cast(attribute));
+    CONTENT_EXTRACTORS.register(attributeClass, () -> extractor);
+  }
+
+  /**
+   * Reads the content of the given {@link Attribute} without creating a
+   * textual representation of it.
+   *
+   * <p>The content gets determined by the first applicable of:
+   * <ol>
+   *   <li>The content extractor registered for the type of the
+   *   {@link Attribute} (see {@link #registerContentExtractor(Class, Function)}).</li>
+   *   <li>The text produced by {@link TextifierSupport#textify}.</li>
+   *   <li>Otherwise, the {@link Attribute} has no content.</li>
+   * </ol>
+   *
+   * <p>The raw bytes of an {@link Attribute} (e.g., of an unknown attribute
+   * read by a {@link org.objectweb.asm.ClassReader}) are not used, since they
+   * may contain constant pool indices, which differ between class files with
+   * a different constant pool layout. Therefore, such {@code Attribute}s only
+   * get distinguished by their type, unless a content extractor resolves
+   * their content.
+   *
+   * @param attribute an {@link Attribute}; never null.
+   * @return the content of the {@link Attribute}; never null.
+   */
+  public static byte[] readContent(Attribute attribute) {
+    Objects.requireNonNull(attribute);
+
+    Function<Attribute, byte[]> contentExtractor = CONTENT_EXTRACTORS.find(attribute.getClass());
+    if (contentExtractor != null) {
+      return Objects.requireNonNull(contentExtractor.apply(attribute));
+    }
+
+    if (attribute instanceof TextifierSupport) {
+      var content = new StringBuilder();
+      ((TextifierSupport) attribute).textify(content, Collections.emptyMap());
+      return content.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    return NO_CONTENT;
+  }
+
+  /**
+   * Calculates a hash of the type and the content (see
+   * {@link #readContent(Attribute)}) of the given {@link Attribute}.
+   *
+   * <p>Equal {@link Attribute}s have an equal hash, so the hash can be used
+   * to put {@link Attribute}s into buckets before comparing them.
+   *
+   * @param attribute an {@link Attribute}; never null.
+   * @return the hash of the {@link Attribute}.
+   */
+  public static long contentHash(Attribute attribute) {
+    Objects.requireNonNull(attribute);
+
+    // 64-bit FNV-1a
+    long hash = 0xcbf29ce484222325L;
+    for (byte value : attribute.type.getBytes(StandardCharsets.UTF_8)) {
+      hash = (hash ^ (value & 0xFF)) * 0x100000001b3L;
+    }
+    hash = (hash ^ 0xFF) * 0x100000001b3L; // Separates the type from the content
+    for (byte value : readContent(attribute)) {
+      hash = (hash ^ (value & 0xFF)) * 0x100000001b3L;
+    }
+    return hash;
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
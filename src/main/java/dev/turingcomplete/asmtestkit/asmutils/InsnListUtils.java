@@ -99,6 +99,9 @@ public final class InsnListUtils {
    * Creates a copy of the given {@link MethodNode} and filters all
    * {@link LineNumberNode}s (and their related {@link LineNumberNode}s).
    *
+   * <p>The copy keeps the header of the method (i.e., the access flags, the
+   * name, the descriptor, the signature and the exceptions).
+   *
    * @param methodNode a {@link MethodNode}; never null.
    * @return a new {@link MethodNode} with filtered line numbers; never null.
    * @see InsnListUtils#filterLineNumbers(MethodNode)
@@ -106,7 +109,8 @@ public final class InsnListUtils {
   public static MethodNode copyWithFilteredLineNumbers(MethodNode methodNode) {
     Objects.requireNonNull(methodNode);
 
-    var cleanedMethodNode = new MethodNode();
+    String[] exceptions = methodNode.exceptions != null ? methodNode.exceptions.toArray(String[]::new) : null;
+    var cleanedMethodNode = new MethodNode(methodNode.access, methodNode.name, methodNode.desc, methodNode.signature, exceptions);
 
     // Using a copy here to not modify the input method
     MethodNode methodNodeCopy = MethodNodeUtils.copy(methodNode);
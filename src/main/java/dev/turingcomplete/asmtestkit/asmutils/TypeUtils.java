@@ -1,14 +1,29 @@
 package dev.turingcomplete.asmtestkit.asmutils;
 
+import dev.turingcomplete.asmtestkit.common._internal.InternCache;
 import org.objectweb.asm.Type;
 
-import java.util.Collection;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Objects;
 
 public final class TypeUtils {
   // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final int INTERN_CACHE_MAX_SIZE = 16384;
+
+  /**
+   * Interns the {@link Type} of a class or internal name.
+   */
+  private static final InternCache<String, Type> NAME_TO_TYPE = InternCache.create(name -> Type.getType("L" + ClassNameUtils.toInternalName(name) + ";"), INTERN_CACHE_MAX_SIZE);
+
+  /**
+   * Interns the class name of an object {@link Type}. This is a cache by the
+   * {@link Type} because {@link Type#equals(Object)} and
+   * {@link Type#hashCode()} don't create any {@link String}s.
+   */
+  private static final InternCache<Type, String> TYPE_TO_CLASS_NAME = InternCache.create(Type::getClassName, INTERN_CACHE_MAX_SIZE);
+
   // -- Instance Fields --------------------------------------------------------------------------------------------- //
   // -- Initialization ---------------------------------------------------------------------------------------------- //
 
@@ -22,6 +37,9 @@ public final class TypeUtils {
    * Creates a {@link Type} from the given internal or class name (e.g.,
    * {@code java/lang/String} or {@code java.lang.String}).
    *
+   * <p>The {@link Type}s are interned in a bounded cache, so recurring names
+   * don't get reparsed.
+   *
    * @param name a class or internal name as {@link String}; may be null.
    * @return a {@link Type}; or null if the {@code name} is null.
    */
@@ -30,7 +48,7 @@ public final class TypeUtils {
       return null;
     }
 
-    return Type.getType("L" + ClassNameUtils.toInternalName(name) + ";");
+    return NAME_TO_TYPE.get(name);
   }
 
   /**
@@ -38,16 +56,43 @@ public final class TypeUtils {
    * internal or class names (e.g., {@code java/lang/String} or
    * {@code java.lang.String}).
    *
+   * <p>The {@link Type}s are interned, see {@link #nameToTypeElseNull(String)}.
+   *
    * @param names a {@link List} of class or internal name as {@link String};
    *              may be null.
    * @return a {@link List} of {@link Type}s; never null.
    */
   public static List<Type> namesToTypes(List<String> names) {
-    return Optional.ofNullable(names)
-                   .stream()
-                   .flatMap(Collection::stream)
-                   .map(TypeUtils::nameToTypeElseNull)
-                   .collect(Collectors.toList());
+    if (names == null || names.isEmpty()) {
+      return List.of();
+    }
+
+    var types = new ArrayList<Type>(names.size());
+    for (String name : names) {
+      types.add(nameToTypeElseNull(name));
+    }
+    return types;
+  }
+
+  /**
+   * Gets the class name (e.g., {@code java.lang.String} or {@code int[]}) of
+   * the given {@link Type}.
+   *
+   * <p>The class names of object {@link Type}s are interned.
+   *
+   * @param type a {@link Type}; never null.
+   * @return the class name of the {@link Type}; never null.
+   * @see Type#getClassName()
+   */
+  public static String toClassName(Type type) {
+    Objects.requireNonNull(type);
+
+    int sort = type.getSort();
+    if (sort == Type.OBJECT || sort == Type.ARRAY) {
+      return TYPE_TO_CLASS_NAME.get(type);
+    }
+
+    return type.getClassName();
   }
 
   // -- Private Methods --------------------------------------------------------------------------------------------- //
@@ -4,10 +4,13 @@ import org.objectweb.asm.Label;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.util.Textifier;
 
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Consumer;
@@ -15,6 +18,12 @@ import java.util.function.Consumer;
 public final class TextifierUtils {
   // -- Class Fields ------------------------------------------------------------------------------------------------ //
 
+  /**
+   * Like {@code text.replaceAll("[\n\r]$", "")}, which strips up to two
+   * trailing line break characters (e.g., {@code "\r\n"}).
+   */
+  private static final int MAX_TRAILING_LINE_BREAKS = 2;
+
   // -- Instance Fields --------------------------------------------------------------------------------------------- //
   // -- Initialization ---------------------------------------------------------------------------------------------- //
 
@@ -43,7 +52,81 @@ public final class TextifierUtils {
     return stringWriter.toString();
   }
 
+  /**
+   * Appends the text of the given {@link Textifier} like
+   * {@link Textifier#print(PrintWriter)}, but without trailing line breaks and
+   * without creating an intermediate {@link String} of the whole text.
+   *
+   * <p>The {@code \n} line breaks of the {@link Textifier} get replaced by
+   * {@link System#lineSeparator()}, like the line breaks of all other
+   * representations.
+   */
+  public static void appendWithoutTrailingLineBreaks(Textifier textifier, Appendable output) throws IOException {
+    Objects.requireNonNull(textifier);
+    Objects.requireNonNull(output);
+
+    var texts = new ArrayList<String>();
+    collectTexts(textifier.getText(), texts);
+
+    // Find the start of the trailing line breaks, which may span over
+    // multiple texts
+    int lastText = texts.size() - 1;
+    int lastTextEnd = lastText >= 0 ? texts.get(lastText).length() : 0;
+    int lineBreaks = 0;
+    while (lastText >= 0 && lineBreaks < MAX_TRAILING_LINE_BREAKS) {
+      if (lastTextEnd == 0) {
+        lastText--;
+        lastTextEnd = lastText >= 0 ? texts.get(lastText).length() : 0;
+        continue;
+      }
+
+      char lastChar = texts.get(lastText).charAt(lastTextEnd - 1);
+      if (lastChar != '\n' && lastChar != '\r') {
+        break;
+      }
+      lastTextEnd--;
+      lineBreaks++;
+    }
+
+    for (int i = 0; i < lastText; i++) {
+      appendWithLineSeparators(texts.get(i), texts.get(i).length(), output);
+    }
+    if (lastText >= 0) {
+      appendWithLineSeparators(texts.get(lastText), lastTextEnd, output);
+    }
+  }
+
   // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private static void collectTexts(List<?> text, List<String> result) {
+    for (Object element : text) {
+      if (element instanceof List) {
+        collectTexts((List<?>) element, result);
+      }
+      else {
+        result.add(element.toString());
+      }
+    }
+  }
+
+  private static void appendWithLineSeparators(String text, int end, Appendable output) throws IOException {
+    String lineSeparator = System.lineSeparator();
+    if (lineSeparator.equals("\n")) {
+      output.append(text, 0, end);
+      return;
+    }
+
+    int segmentStart = 0;
+    for (int i = 0; i < end; i++) {
+      // A '\n' of an existing "\r\n" gets kept
+      if (text.charAt(i) == '\n' && (i == 0 || text.charAt(i - 1) != '\r')) {
+        output.append(text, segmentStart, i).append(lineSeparator);
+        segmentStart = i + 1;
+      }
+    }
+    output.append(text, segmentStart, end);
+  }
+
   // -- Inner Type -------------------------------------------------------------------------------------------------- //
 
   public static class ExtendedTextifier extends Textifier {
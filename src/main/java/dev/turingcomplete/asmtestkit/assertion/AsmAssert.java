@@ -8,6 +8,7 @@ import dev.turingcomplete.asmtestkit.comparator.WithLabelIndexAsmComparator;
 import dev.turingcomplete.asmtestkit.comparator._internal.WithLabelIndexAsmComparatorAdapter;
 import dev.turingcomplete.asmtestkit.representation.AsmRepresentations;
 import dev.turingcomplete.asmtestkit.representation.DefaultAsmRepresentations;
+import dev.turingcomplete.asmtestkit.representation.RenderCache;
 import dev.turingcomplete.asmtestkit.representation._internal.CrumbDescription;
 import dev.turingcomplete.asmtestkit.representation._internal.SelfDescription;
 import org.assertj.core.api.AbstractAssert;
@@ -122,6 +123,26 @@ public abstract class AsmAssert<S extends AbstractAssert<S, A>, A>
     return getWritableAssertionInfo().labelIndexLookup();
   }
 
+  /**
+   * Sets a {@link RenderCache}, which memoizes the representations of the
+   * nodes while the checks of {@code this} assertion are running.
+   *
+   * <p>During the comparison of large nodes, the same nodes get rendered many
+   * times (e.g., while the elements of an {@link Iterable} get sorted).
+   * The memoized representations get discarded after each check, so the
+   * {@code RenderCache} may be shared by multiple assertions, and the nodes
+   * may be modified between them.
+   *
+   * @param renderCache a {@link RenderCache}; never null.
+   * @return {@code this} {@link S}; never null.
+   */
+  public S useRenderCache(RenderCache renderCache) {
+    getWritableAssertionInfo().useRenderCache(Objects.requireNonNull(renderCache));
+
+    //noinspection unchecked
+    return (S) this;
+  }
+
   @Override
   public S addOption(AssertOption option) {
     this.options.add(Objects.requireNonNull(option));
@@ -143,6 +164,19 @@ public abstract class AsmAssert<S extends AbstractAssert<S, A>, A>
     return options.contains(Objects.requireNonNull(option));
   }
 
+  /**
+   * Activates the {@link RenderCache} of {@code this} assertion for the
+   * current thread, if there is one.
+   *
+   * @return the {@link RenderCache.Activation}, which must be closed; may be
+   * null if there is no {@code RenderCache}.
+   * @see #useRenderCache(RenderCache)
+   */
+  protected final RenderCache.Activation activateRenderCache() {
+    RenderCache renderCache = getWritableAssertionInfo().renderCache();
+    return renderCache != null ? renderCache.activate() : null;
+  }
+
   protected final Description createCrumbDescription(String description, Object... args) {
     return new CrumbDescription(info, description, args);
   }
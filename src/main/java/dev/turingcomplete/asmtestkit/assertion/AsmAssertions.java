@@ -3,6 +3,7 @@ package dev.turingcomplete.asmtestkit.assertion;
 import dev.turingcomplete.asmtestkit.comparator.*;
 import dev.turingcomplete.asmtestkit.node.AccessNode;
 import dev.turingcomplete.asmtestkit.node.AnnotationDefaultNode;
+import dev.turingcomplete.asmtestkit.node.PackedInsnList;
 import dev.turingcomplete.asmtestkit.representation.*;
 import org.assertj.core.presentation.Representation;
 import org.objectweb.asm.Attribute;
@@ -163,6 +164,21 @@ public final class AsmAssertions {
     return assertThatInstructions(actual);
   }
 
+  /**
+   * Creates an {@link InsnListAssert} for the unpacked instructions of a
+   * {@link PackedInsnList}.
+   *
+   * <p>The expected value of {@link InsnListAssert#isEqualTo(Object)} may be
+   * another {@code PackedInsnList}.
+   *
+   * @param actual a {@link PackedInsnList}; may be null.
+   * @return a new {@link InsnListAssert}; never null.
+   * @see #assertThat(InsnList)
+   */
+  public static InsnListAssert assertThat(PackedInsnList actual) {
+    return assertThatInstructions(actual != null ? actual.toInsnList() : null);
+  }
+
   /**
    * Creates a {@link LabelNodeAssert}.
    *
@@ -42,6 +42,8 @@ public class AsmIterableAssert<S extends AsmIterableAssert<S, E, A>, E, A extend
 
   private Function<E, String> compareOneByOneKeyExtractor = null;
 
+  private Comparator<? super E> elementComparator = null;
+
   // -- Initialization ---------------------------------------------------------------------------------------------- //
 
   public AsmIterableAssert(Iterable<? extends E> actual, Function<E, A> elementAssertCreator) {
@@ -118,7 +120,20 @@ public class AsmIterableAssert<S extends AsmIterableAssert<S, E, A>, E, A extend
 
   @Override
   public S usingElementComparator(Comparator<? super E> customElementComparator) {
-    return super.usingElementComparator(WithLabelIndexAsmComparatorAdapter.wrapIfNeeded(customElementComparator, getWritableAssertionInfo().labelIndexLookup()));
+    elementComparator = WithLabelIndexAsmComparatorAdapter.wrapIfNeeded(customElementComparator, getWritableAssertionInfo().labelIndexLookup());
+    return super.usingElementComparator(elementComparator);
+  }
+
+  /**
+   * Gets the {@link Comparator} which gets used to compare the single
+   * elements.
+   *
+   * @return the element {@link Comparator}; may be null if the default
+   * equality comparison gets used.
+   * @see #usingElementComparator(Comparator)
+   */
+  Comparator<? super E> elementComparator() {
+    return elementComparator;
   }
 
   /**
@@ -209,7 +224,9 @@ public class AsmIterableAssert<S extends AsmIterableAssert<S, E, A>, E, A extend
 
       for (E expectedElement : expectedKeyToElement.get(actualElementKey)) {
         A elementAssert = toAssert(actualElement);
-        elementAssert.as(createCrumbDescription(elementAssert.descriptionText()))
+        // The description of the element gets only rendered on failure
+        Description elementDescription = elementAssert.getWritableAssertionInfo().description();
+        elementAssert.as(new CrumbDescription(info, elementDescription))
                      .isEqualTo(expectedElement);
       }
     }
@@ -282,7 +299,7 @@ public class AsmIterableAssert<S extends AsmIterableAssert<S, E, A>, E, A extend
 
   private void assertExpectedNotNullOfActualIsNotNull(E[] expected) {
     Assertions.assertThat(expected)
-              .as(descriptionText())
+              .as(info.description())
               .withFailMessage(String.format("%nExpecting expected value not to be null if actual value is not null"))
               .isNotNull();
   }
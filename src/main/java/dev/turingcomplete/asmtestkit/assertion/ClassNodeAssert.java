@@ -4,9 +4,14 @@ import dev.turingcomplete.asmtestkit.asmutils.TypeUtils;
 import dev.turingcomplete.asmtestkit.assertion.option.StandardAssertOption;
 import dev.turingcomplete.asmtestkit.common.IgnoreLineNumbersCapable;
 import dev.turingcomplete.asmtestkit.comparator.ClassNodeComparator;
+import dev.turingcomplete.asmtestkit.fingerprint.AsmFingerprint;
+import dev.turingcomplete.asmtestkit.fingerprint.AsmFingerprints;
 import dev.turingcomplete.asmtestkit.node.AccessNode;
 import dev.turingcomplete.asmtestkit.representation.AsmRepresentation;
 import dev.turingcomplete.asmtestkit.representation.ClassNodeRepresentation;
+import dev.turingcomplete.asmtestkit.representation.DifferenceWindowRepresentation;
+import dev.turingcomplete.asmtestkit.representation.RenderCache;
+import dev.turingcomplete.asmtestkit.snapshot.SnapshotStore;
 import org.assertj.core.api.AbstractAssert;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.presentation.Representation;
@@ -17,6 +22,8 @@ import org.objectweb.asm.tree.ClassNode;
 import org.objectweb.asm.tree.MethodNode;
 import org.objectweb.asm.tree.TypeAnnotationNode;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
@@ -58,35 +65,44 @@ public class ClassNodeAssert
   protected MethodsComparisonMode methodsComparisonMode = ONE_BY_ONE;
 
   private boolean ignoreLineNumbers = false;
+  /**
+   * The context size of the {@link DifferenceWindowRepresentation} or
+   * {@code -1} if the methods should be fully represented.
+   */
+  private int     differenceWindowContextSize = -1;
+
+  private SnapshotStore snapshotStore = SnapshotStore.INSTANCE;
 
   // -- Initialization ---------------------------------------------------------------------------------------------- //
 
   protected ClassNodeAssert(ClassNode actual) {
-    super("Class", actual, ClassNodeAssert.class, ClassNode.class, ClassNodeRepresentation.INSTANCE, ClassNodeComparator.INSTANCE);
+    super("Class", actual, ClassNodeAssert.class, ClassNode.class, ClassNodeRepresentation.INSTANCE, ClassNodeComparator.INSTANCE.compareCheapFirst());
   }
 
   // -- Exposed Methods --------------------------------------------------------------------------------------------- //
 
   @Override
   public ClassNodeAssert isEqualTo(Object expected) {
-    super.isEqualTo(expected);
-
-    hasEqualVersion(expected);
-    hasEqualSuperName(expected);
-    hasEqualInterfaces(expected);
-    hasEqualSourceFile(expected);
-    hasEqualSourceDebug(expected);
-    hasEqualOuterClass(expected);
-    hasEqualOuterMethod(expected);
-    hasEqualOuterMethodDescriptor(expected);
-    hasEqualInnerClasses(expected);
-    hasEqualNestHostClass(expected);
-    hasEqualNestMembers(expected);
-    hasEqualPermittedSubclasses(expected);
-    hasEqualFields(expected);
-    hasEqualMethods(expected);
-
-    return this;
+    try (RenderCache.Activation ignored = activateRenderCache()) {
+      super.isEqualTo(expected);
+
+      hasEqualVersion(expected);
+      hasEqualSuperName(expected);
+      hasEqualInterfaces(expected);
+      hasEqualSourceFile(expected);
+      hasEqualSourceDebug(expected);
+      hasEqualOuterClass(expected);
+      hasEqualOuterMethod(expected);
+      hasEqualOuterMethodDescriptor(expected);
+      hasEqualInnerClasses(expected);
+      hasEqualNestHostClass(expected);
+      hasEqualNestMembers(expected);
+      hasEqualPermittedSubclasses(expected);
+      hasEqualFields(expected);
+      hasEqualMethods(expected);
+
+      return this;
+    }
   }
 
   /**
@@ -329,6 +345,109 @@ public class ClassNodeAssert
     return this;
   }
 
+  /**
+   * Limits the representation of the methods in a failure message to a
+   * window around the first differing method.
+   *
+   * <p>Only {@code contextSize} methods before and after the first differing
+   * method get represented, the omitted methods get summarized, like
+   * {@code ... 1,842 identical methods ...}. This only affects the
+   * {@link MethodsComparisonMode#FULL} mode, since the other modes do not
+   * represent all methods.
+   *
+   * @param contextSize the number of methods to represent before and after
+   *                    the first differing method; must not be negative.
+   * @return {@code this} {@link ClassNodeAssert}s; never null.
+   * @see DifferenceWindowRepresentation
+   */
+  public ClassNodeAssert useDifferenceWindow(int contextSize) {
+    if (contextSize < 0) {
+      throw new IllegalArgumentException("Context size must not be negative: " + contextSize);
+    }
+
+    this.differenceWindowContextSize = contextSize;
+
+    return this;
+  }
+
+  /**
+   * Sets the {@link SnapshotStore} used by {@link #matchesSnapshot(String)}.
+   *
+   * <p>The default value is {@link SnapshotStore#INSTANCE}.
+   *
+   * @param snapshotStore a {@link SnapshotStore}; never null.
+   * @return {@code this} {@link ClassNodeAssert}s; never null.
+   */
+  public ClassNodeAssert useSnapshotStore(SnapshotStore snapshotStore) {
+    this.snapshotStore = Objects.requireNonNull(snapshotStore);
+
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@link ClassNode} matches the snapshot with the
+   * given name in the {@link SnapshotStore}.
+   *
+   * <p>First, only the stored {@link AsmFingerprint} gets compared with the
+   * fingerprint of the actual {@code ClassNode}. Only if they differ, the
+   * {@code ClassNode} gets represented and its text gets compared with the
+   * stored text, which decides about the result and shows the differences.
+   *
+   * <p>If the snapshot does not exist, the assertion fails. If only the
+   * stored fingerprint is stale (e.g., after a change of the fingerprint
+   * algorithm or a manual edit of the text), the assertion fails too, since
+   * otherwise every run would have to represent the {@code ClassNode}. In the
+   * update mode of the {@code SnapshotStore} (see
+   * {@link SnapshotStore#UPDATE_MODE_PROPERTY}), new and changed snapshots
+   * and stale fingerprints get written instead.
+   *
+   * <p>The assert options and {@link #ignoreLineNumbers()} are not taken
+   * into account, since the snapshot always contains the whole class.
+   *
+   * @param name the name of the snapshot (e.g., {@code "foo/MyClass"}); never
+   *             null.
+   * @return {@code this} {@link ClassNodeAssert}s; never null.
+   * @throws UncheckedIOException if the snapshot can't be read or written.
+   * @see SnapshotStore
+   */
+  public ClassNodeAssert matchesSnapshot(String name) {
+    Objects.requireNonNull(name);
+
+    isNotNull();
+
+    try {
+      AsmFingerprint fingerprint = AsmFingerprints.INSTANCE.fingerprint(actual);
+      AsmFingerprint snapshotFingerprint = snapshotStore.readFingerprint(name);
+      if (fingerprint.equals(snapshotFingerprint)) {
+        return this;
+      }
+
+      String actualText = SnapshotStore.normalizeLineBreaks(asmRepresentations.toStringOf(actual));
+      if (snapshotStore.isUpdateMode()) {
+        // Also rewrites the stale fingerprint of an unchanged text
+        snapshotStore.write(name, fingerprint, actualText);
+        return this;
+      }
+
+      String snapshotText = snapshotStore.readText(name);
+      if (snapshotText == null) {
+        failWithMessage("%nExpecting snapshot '%s' to exist: %s%nRerun the test with the system property '%s=true' to create it.",
+                        name, snapshotStore.snapshotFile(name), SnapshotStore.UPDATE_MODE_PROPERTY);
+      }
+
+      Assertions.assertThat(actualText)
+                .as(createCrumbDescription("Matches snapshot '%s'", name))
+                .isEqualTo(snapshotText);
+
+      failWithMessage("%nExpecting snapshot '%s' to have the fingerprint %s, but the fingerprint is stale: %s%nRerun the test with the system property '%s=true' to update it.",
+                      name, fingerprint.toHexString(), snapshotFingerprint != null ? snapshotFingerprint.toHexString() : "none", SnapshotStore.UPDATE_MODE_PROPERTY);
+      return this;
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   /**
    * Checks whether the {@link ClassNode#methods} are equal.
    *
@@ -345,7 +464,8 @@ public class ClassNodeAssert
       return;
     }
 
-    MethodNodesAssert methodNodesAssert = assertThatMethods(getListFromObjectElseNull(actual, classNode -> classNode.methods))
+    List<MethodNode> actualMethods = getListFromObjectElseNull(actual, classNode -> classNode.methods);
+    MethodNodesAssert methodNodesAssert = assertThatMethods(actualMethods)
             .useLabelIndexLookup(labelIndexLookup())
             .addOptions(options)
             .as(createCrumbDescription("Has equal methods"));
@@ -354,11 +474,19 @@ public class ClassNodeAssert
       methodNodesAssert.ignoreLineNumbers();
     }
 
+    List<MethodNode> expectedMethods = getListFromObjectElseNull(expected, ClassNode.class, classNode -> classNode.methods);
     if (ONE_BY_ONE.equals(methodsComparisonMode)) {
-      methodNodesAssert.containsExactlyInAnyOrderCompareOneByOneElementsOf(getListFromObjectElseNull(expected, ClassNode.class, classNode -> classNode.methods));
+      methodNodesAssert.containsExactlyInAnyOrderCompareOneByOneElementsOf(expectedMethods);
     }
     else if (FULL.equals(methodsComparisonMode)) {
-      methodNodesAssert.containsExactlyInAnyOrderElementsOf(getListFromObjectElseNull(expected, ClassNode.class, classNode -> classNode.methods));
+      if (differenceWindowContextSize >= 0) {
+        Representation methodsRepresentation = methodNodesAssert.getWritableAssertionInfo().representation();
+        // The window must focus on the first method which the assertion does not match
+        Comparator<? super MethodNode> methodNodeComparator = methodNodesAssert.elementComparator();
+        methodNodesAssert.withRepresentation(DifferenceWindowRepresentation.forLists(methodsRepresentation, actualMethods, expectedMethods,
+                                                                                     methodNodeComparator, "methods", differenceWindowContextSize));
+      }
+      methodNodesAssert.containsExactlyInAnyOrderElementsOf(expectedMethods);
     }
     else {
       throw new IllegalStateException("snh: Unknown " + MethodsComparisonMode.class.getSimpleName() + ": " + methodsComparisonMode);
@@ -1,11 +1,16 @@
 package dev.turingcomplete.asmtestkit.assertion;
 
+import dev.turingcomplete.asmtestkit.asmutils.InsnListUtils;
 import dev.turingcomplete.asmtestkit.common.IgnoreLineNumbersCapable;
 import dev.turingcomplete.asmtestkit.comparator.InsnListComparator;
 import dev.turingcomplete.asmtestkit.comparator.MethodNodeComparator;
+import dev.turingcomplete.asmtestkit.comparator.PackedInsnListComparator;
+import dev.turingcomplete.asmtestkit.node.PackedInsnList;
+import dev.turingcomplete.asmtestkit.representation.InsnListDiff;
 import dev.turingcomplete.asmtestkit.representation.InsnListRepresentation;
 import org.assertj.core.api.AbstractIterableAssert;
 import org.assertj.core.presentation.Representation;
+import org.assertj.core.util.IterableUtil;
 import org.objectweb.asm.tree.AbstractInsnNode;
 import org.objectweb.asm.tree.FieldNode;
 import org.objectweb.asm.tree.InsnList;
@@ -31,7 +36,19 @@ public class InsnListAssert
         implements IgnoreLineNumbersCapable<InsnListAssert> {
 
   // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  /**
+   * The default minimum number of instructions from which on a failure of
+   * {@link #isEqualTo(Object)} shows an {@link InsnListDiff}.
+   */
+  public static final int DEFAULT_DIFF_THRESHOLD = 100;
+
   // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private boolean ignoreLineNumbers = false;
+  private boolean usesOwnComparator = false;
+  private int     diffThreshold     = DEFAULT_DIFF_THRESHOLD;
+
   // -- Initialization ---------------------------------------------------------------------------------------------- //
 
   /**
@@ -65,6 +82,91 @@ public class InsnListAssert
     return this;
   }
 
+  /**
+   * Sets the minimum number of instructions from which on a failure of
+   * {@link #isEqualTo(Object)} shows an {@link InsnListDiff} of the
+   * instructions, instead of the full expected and actual instructions.
+   *
+   * <p>The default value is {@link #DEFAULT_DIFF_THRESHOLD}. The diff only
+   * gets used with the default {@link InsnListComparator}.
+   *
+   * @param diffThreshold the minimum number of expected or actual
+   *                      instructions; must not be negative.
+   * @return {@code this} {@link InsnListAssert}; never null.
+   */
+  public InsnListAssert useDiffFrom(int diffThreshold) {
+    if (diffThreshold < 0) {
+      throw new IllegalArgumentException("The diff threshold must not be negative: " + diffThreshold);
+    }
+    this.diffThreshold = diffThreshold;
+
+    return this;
+  }
+
+  /**
+   * Checks whether the given instructions are equal to the actual ones.
+   *
+   * <p>If there are at least as many instructions as set by
+   * {@link #useDiffFrom(int)}, the failure message only contains an
+   * {@link InsnListDiff} of the instructions.
+   *
+   * <p>The expected instructions may also be a {@link PackedInsnList}. In this
+   * case, the actual instructions get packed first (with their own
+   * {@link PackedInsnList.ConstantTable}, so that the possibly shared table of
+   * the expected {@code PackedInsnList} doesn't get modified) and compared by
+   * the {@link PackedInsnListComparator}. The {@code PackedInsnList} only
+   * gets unpacked if the instructions are not equal.
+   *
+   * @param expected an {@link Object} expected to be an {@link Iterable} of
+   *                 {@link AbstractInsnNode}s or a {@link PackedInsnList}; may
+   *                 be null.
+   * @return {@code this} {@link InsnListAssert}; never null.
+   */
+  @Override
+  public InsnListAssert isEqualTo(Object expected) {
+    if (expected instanceof PackedInsnList) {
+      var expectedPackedInsnList = (PackedInsnList) expected;
+      if (usesOwnComparator && !ignoreLineNumbers && actual != null
+          && PackedInsnListComparator.INSTANCE.compare(PackedInsnList.create(actual), expectedPackedInsnList) == 0) {
+        return this;
+      }
+      expected = expectedPackedInsnList.toInsnList();
+    }
+
+    if (!usesOwnComparator || actual == null || !isInstructions(expected)) {
+      return super.isEqualTo(expected);
+    }
+
+    @SuppressWarnings("unchecked")
+    var expectedInstructions = (Iterable<? extends AbstractInsnNode>) expected;
+    if (Math.max(sizeOf(actual), sizeOf(expectedInstructions)) < diffThreshold) {
+      return super.isEqualTo(expected);
+    }
+
+    InsnListComparator comparator = ignoreLineNumbers ? InsnListComparator.INSTANCE_IGNORE_LINE_NUMBERS : InsnListComparator.INSTANCE;
+    if (comparator.compare(actual, expectedInstructions, labelIndexLookup()) == 0) {
+      return this;
+    }
+
+    InsnListDiff diff = ignoreLineNumbers
+            ? InsnListDiff.create(InsnListUtils.filterLineNumbers(expectedInstructions), InsnListUtils.filterLineNumbers(actual))
+            : InsnListDiff.create(expectedInstructions, actual);
+    if (diff.isEmpty()) {
+      // The difference is not visible in the textified instructions
+      return super.isEqualTo(expected);
+    }
+
+    failWithMessage("%nExpecting instructions to be equal, but found %s edit(s) (-expected, +actual):%n%s", diff.edits().size(), diff);
+    return this;
+  }
+
+  @Override
+  public InsnListAssert usingComparator(Comparator<? super Iterable<? extends AbstractInsnNode>> customComparator, String customComparatorDescription) {
+    usesOwnComparator = false;
+
+    return super.usingComparator(customComparator, customComparatorDescription);
+  }
+
   // -- Private Methods --------------------------------------------------------------------------------------------- //
 
   @SuppressWarnings("ResultOfMethodCallIgnored")
@@ -75,6 +177,25 @@ public class InsnListAssert
     else {
       usingComparator(InsnListComparator.INSTANCE_IGNORE_LINE_NUMBERS);
     }
+    this.ignoreLineNumbers = ignoreLineNumbers;
+    this.usesOwnComparator = true;
+  }
+
+  private static boolean isInstructions(Object object) {
+    if (!(object instanceof Iterable)) {
+      return false;
+    }
+
+    for (Object element : (Iterable<?>) object) {
+      if (!(element instanceof AbstractInsnNode)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int sizeOf(Iterable<? extends AbstractInsnNode> instructions) {
+    return instructions instanceof InsnList ? ((InsnList) instructions).size() : IterableUtil.sizeOf(instructions);
   }
 
   // -- Inner Type -------------------------------------------------------------------------------------------------- //
@@ -8,6 +8,7 @@ import dev.turingcomplete.asmtestkit.comparator.MethodNodeComparator;
 import dev.turingcomplete.asmtestkit.node.AccessNode;
 import dev.turingcomplete.asmtestkit.node.AnnotationDefaultNode;
 import dev.turingcomplete.asmtestkit.representation.MethodNodeRepresentation;
+import dev.turingcomplete.asmtestkit.representation.RenderCache;
 import org.assertj.core.api.AbstractAssert;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.presentation.Representation;
@@ -66,7 +67,7 @@ public class MethodNodeAssert
    * @param actual the actual {@link LocalVariableNode}; may be null.
    */
   protected MethodNodeAssert(MethodNode actual) {
-    super("Method", actual, MethodNodeAssert.class, MethodNode.class, MethodNodeRepresentation.INSTANCE, MethodNodeComparator.INSTANCE);
+    super("Method", actual, MethodNodeAssert.class, MethodNode.class, MethodNodeRepresentation.INSTANCE, MethodNodeComparator.INSTANCE.compareCheapFirst());
   }
 
   // -- Exposed Methods --------------------------------------------------------------------------------------------- //
@@ -80,35 +81,37 @@ public class MethodNodeAssert
 
   @Override
   public MethodNodeAssert isEqualTo(Object expected) {
-    super.isEqualTo(expected);
-
-    // Filter line numbers if needed
-    MethodNode actualPrepared = actual != null ? filterLineNumbers(actual) : null;
-    MethodNode expectedPrepared = expected instanceof MethodNode ? filterLineNumbers((MethodNode) expected) : null;
-
-    // Collect label indices
-    // Because of the line number filtering, we may have to overwrite existing 
-    // indices here as they may have changed.
-    ifNotNull(actualPrepared, nonNullActual -> labelIndexLookup().putAll(extractLabelIndices(nonNullActual)));
-    ifNotNull(expectedPrepared, nonNullExpected -> labelIndexLookup().putAll(extractLabelIndices(nonNullExpected)));
-
-    hasEqualDescriptor(actualPrepared, expectedPrepared);
-    hasEqualExceptions(actualPrepared, expectedPrepared);
-    hasEqualParameters(actualPrepared, expectedPrepared);
-    hasEqualVisibleAnnotableParameterCount(actualPrepared, expectedPrepared);
-    hasEqualVisibleParameterAnnotations(actualPrepared, expectedPrepared);
-    hasEqualInvisibleAnnotableParameterCount(actualPrepared, expectedPrepared);
-    hasEqualInvisibleParameterAnnotations(actualPrepared, expectedPrepared);
-    hasEqualInstructions(actualPrepared, expectedPrepared);
-    hasEqualTryCatchBlocks(actualPrepared, expectedPrepared);
-    hasEqualMaxLocals(actualPrepared, expectedPrepared);
-    hasEqualMaxStack(actualPrepared, expectedPrepared);
-    hasEqualLocalVariables(actualPrepared, expectedPrepared);
-    hasEqualVisibleLocalVariableAnnotations(actualPrepared, expectedPrepared);
-    hasEqualInvisibleLocalVariableAnnotations(actualPrepared, expectedPrepared);
-    hasEqualAnnotationDefault(actualPrepared, expectedPrepared);
-
-    return this;
+    try (RenderCache.Activation ignored = activateRenderCache()) {
+      super.isEqualTo(expected);
+
+      // Filter line numbers if needed
+      MethodNode actualPrepared = actual != null ? filterLineNumbers(actual) : null;
+      MethodNode expectedPrepared = expected instanceof MethodNode ? filterLineNumbers((MethodNode) expected) : null;
+
+      // Collect label indices
+      // Because of the line number filtering, we may have to overwrite existing 
+      // indices here as they may have changed.
+      ifNotNull(actualPrepared, nonNullActual -> labelIndexLookup().putAll(extractLabelIndices(nonNullActual)));
+      ifNotNull(expectedPrepared, nonNullExpected -> labelIndexLookup().putAll(extractLabelIndices(nonNullExpected)));
+
+      hasEqualDescriptor(actualPrepared, expectedPrepared);
+      hasEqualExceptions(actualPrepared, expectedPrepared);
+      hasEqualParameters(actualPrepared, expectedPrepared);
+      hasEqualVisibleAnnotableParameterCount(actualPrepared, expectedPrepared);
+      hasEqualVisibleParameterAnnotations(actualPrepared, expectedPrepared);
+      hasEqualInvisibleAnnotableParameterCount(actualPrepared, expectedPrepared);
+      hasEqualInvisibleParameterAnnotations(actualPrepared, expectedPrepared);
+      hasEqualInstructions(actualPrepared, expectedPrepared);
+      hasEqualTryCatchBlocks(actualPrepared, expectedPrepared);
+      hasEqualMaxLocals(actualPrepared, expectedPrepared);
+      hasEqualMaxStack(actualPrepared, expectedPrepared);
+      hasEqualLocalVariables(actualPrepared, expectedPrepared);
+      hasEqualVisibleLocalVariableAnnotations(actualPrepared, expectedPrepared);
+      hasEqualInvisibleLocalVariableAnnotations(actualPrepared, expectedPrepared);
+      hasEqualAnnotationDefault(actualPrepared, expectedPrepared);
+
+      return this;
+    }
   }
 
   /**
@@ -1,8 +1,9 @@
 package dev.turingcomplete.asmtestkit.assertion._internal;
 
-import dev.turingcomplete.asmtestkit.common.DefaultLabelIndexLookup;
 import dev.turingcomplete.asmtestkit.common.LabelIndexLookup;
+import dev.turingcomplete.asmtestkit.common.ScopedLabelIndexLookup;
 import dev.turingcomplete.asmtestkit.representation.AbstractWithLabelIndexAsmRepresentation;
+import dev.turingcomplete.asmtestkit.representation.RenderCache;
 import dev.turingcomplete.asmtestkit.representation._internal.WithLabelIndexRepresentationAdapter;
 import org.assertj.core.api.WritableAssertionInfo;
 import org.assertj.core.presentation.Representation;
@@ -11,7 +12,18 @@ public final class AsmWritableAssertionInfo extends WritableAssertionInfo {
   // -- Class Fields ------------------------------------------------------------------------------------------------ //
   // -- Instance Fields --------------------------------------------------------------------------------------------- //
 
-  private final LabelIndexLookup labelIndexLookup = DefaultLabelIndexLookup.create();
+  /**
+   * Each assertion has its own scope, which falls back to the
+   * {@link LabelIndexLookup} of the enclosing assertion. Therefore, the label
+   * indices of nested assertions (e.g., of each method of a class) are not
+   * copied into the enclosing assertions.
+   */
+  private final ScopedLabelIndexLookup labelIndexLookup = ScopedLabelIndexLookup.create();
+
+  /**
+   * If null, the representations are not memoized.
+   */
+  private RenderCache renderCache;
 
   // -- Initialization ---------------------------------------------------------------------------------------------- //
 
@@ -24,13 +36,33 @@ public final class AsmWritableAssertionInfo extends WritableAssertionInfo {
   // -- Exposed Methods --------------------------------------------------------------------------------------------- //
 
   public void useLabelIndexLookup(LabelIndexLookup labelIndexLookup) {
-    this.labelIndexLookup.mergeWith(labelIndexLookup);
+    if (labelIndexLookup instanceof ScopedLabelIndexLookup && ((ScopedLabelIndexLookup) labelIndexLookup).isWithin(this.labelIndexLookup)) {
+      // This scope itself or a scope nested in it, which can't become the
+      // parent without a cycle. The own label indices of a nested scope are
+      // not taken over, since a scope only falls back to its enclosing scopes.
+      return;
+    }
+
+    if (this.labelIndexLookup.parent() == null) {
+      this.labelIndexLookup.useParent(labelIndexLookup);
+    }
+    else {
+      this.labelIndexLookup.mergeWith(labelIndexLookup);
+    }
   }
 
   public LabelIndexLookup labelIndexLookup() {
     return labelIndexLookup;
   }
 
+  public void useRenderCache(RenderCache renderCache) {
+    this.renderCache = renderCache;
+  }
+
+  public RenderCache renderCache() {
+    return renderCache;
+  }
+
   @Override
   public void useRepresentation(Representation newRepresentation) {
     if (newRepresentation instanceof AbstractWithLabelIndexAsmRepresentation) {
@@ -25,6 +25,8 @@ public final class DefaultLabelIndexLookup implements LabelIndexLookup {
    */
   private List<LabelIndexLookup> children;
 
+  private long version = LabelIndexLookupVersions.next();
+
   // -- Initialization ---------------------------------------------------------------------------------------------- //
 
   private DefaultLabelIndexLookup(Map<Label, Integer> labelIndices) {
@@ -87,6 +89,7 @@ public final class DefaultLabelIndexLookup implements LabelIndexLookup {
     }
 
     this.labelIndices.putAll(labelIndices);
+    version = LabelIndexLookupVersions.next();
   }
 
   @Override
@@ -97,12 +100,14 @@ public final class DefaultLabelIndexLookup implements LabelIndexLookup {
       initLabelIndices();
 
       this.labelIndices.put(label, index);
+      version = LabelIndexLookupVersions.next();
     }
   }
 
   @Override
   public void clearLabelIndices() {
     labelIndices = null;
+    version = LabelIndexLookupVersions.next();
   }
 
   @Override
@@ -116,6 +121,7 @@ public final class DefaultLabelIndexLookup implements LabelIndexLookup {
 
     initChildren();
     children.add(childLabelIndexLookup);
+    version = LabelIndexLookupVersions.next();
   }
 
   @Override
@@ -126,6 +132,7 @@ public final class DefaultLabelIndexLookup implements LabelIndexLookup {
   @Override
   public void clearChildren() {
     children = null;
+    version = LabelIndexLookupVersions.next();
   }
 
   @Override
@@ -143,6 +150,13 @@ public final class DefaultLabelIndexLookup implements LabelIndexLookup {
       initChildren();
       this.children.addAll(children);
     }
+
+    version = LabelIndexLookupVersions.next();
+  }
+
+  @Override
+  public long version() {
+    return LabelIndexLookupVersions.combine(version, getChildren());
   }
 
   // -- Private Methods --------------------------------------------------------------------------------------------- //
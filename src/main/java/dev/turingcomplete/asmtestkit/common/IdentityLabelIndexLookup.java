@@ -0,0 +1,311 @@
+package dev.turingcomplete.asmtestkit.common;
+
+import org.objectweb.asm.Label;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A {@link LabelIndexLookup} which maps the {@link Label}s by their identity
+ * to primitive {@code int} indices.
+ *
+ * <p>The mappings are stored in an open-addressing hash table with linear
+ * probing, which avoids the boxing of the indices and the entry objects of a
+ * {@link java.util.HashMap}. The lookup of a {@link Label} is available
+ * without any allocation via {@link #findIndex(Label)}.
+ *
+ * <p>In contrast to {@link #addChild(LabelIndexLookup)}, which keeps a
+ * reference to the child, {@link #mergeWith(LabelIndexLookup)} copies all
+ * mappings of the given {@link LabelIndexLookup} and its children into this
+ * lookup. Therefore, the chain of children that must be walked on a miss
+ * does not grow with each merge.
+ *
+ * <p>This class is not thread-safe.
+ */
+public final class IdentityLabelIndexLookup implements LabelIndexLookup {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final int DEFAULT_CAPACITY = 16;
+
+  /**
+   * Represents a {@link Label} that is known but has a null index (see
+   * {@link #putIfUnknown(Label, Integer)}). Such a {@link Label} shadows
+   * the mappings of the children.
+   */
+  private static final int NULL_INDEX = Integer.MIN_VALUE + 1;
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Lazily initialized to reduce the memory footprint for empty
+   * {@link IdentityLabelIndexLookup}s. The length is always a power of two.
+   */
+  private Label[] labels;
+  private int[]   indices;
+  private int     size;
+
+  /**
+   * Lazily initialized to reduce the memory footprint for empty
+   * {@link IdentityLabelIndexLookup}s.
+   */
+  private List<LabelIndexLookup> children;
+
+  private long version = LabelIndexLookupVersions.next();
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  private IdentityLabelIndexLookup() {
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Creates a new {@link IdentityLabelIndexLookup}.
+   *
+   * @return a new {@link IdentityLabelIndexLookup}; never null.
+   */
+  public static IdentityLabelIndexLookup create() {
+    return new IdentityLabelIndexLookup();
+  }
+
+  /**
+   * Creates a new {@link IdentityLabelIndexLookup} with the given initial
+   * {@link Label} to index mappings.
+   *
+   * @param labelIndices a {@link Map} with a mapping of {@link Label} to
+   *                     an {@link Integer} index; never null.
+   * @return a new {@link IdentityLabelIndexLookup}; never null.
+   */
+  public static IdentityLabelIndexLookup create(Map<Label, Integer> labelIndices) {
+    Objects.requireNonNull(labelIndices);
+
+    var labelIndexLookup = new IdentityLabelIndexLookup();
+    labelIndexLookup.putAll(labelIndices);
+    return labelIndexLookup;
+  }
+
+  @Override
+  public int findIndex(Label label) {
+    if (label == null) {
+      return UNKNOWN_INDEX;
+    }
+
+    if (labels != null) {
+      int slot = slotOf(label);
+      if (labels[slot] == label) {
+        int index = indices[slot];
+        return index == NULL_INDEX ? UNKNOWN_INDEX : index;
+      }
+    }
+
+    if (children != null) {
+      for (LabelIndexLookup child : children) {
+        int index = child.findIndex(label);
+        if (index != UNKNOWN_INDEX) {
+          return index;
+        }
+      }
+    }
+
+    return UNKNOWN_INDEX;
+  }
+
+  @Override
+  public Optional<Integer> find(Label label) {
+    int index = findIndex(label);
+    return index == UNKNOWN_INDEX ? Optional.empty() : Optional.of(index);
+  }
+
+  @Override
+  public void putAll(Map<Label, Integer> labelIndices) {
+    Objects.requireNonNull(labelIndices);
+
+    labelIndices.forEach(this::put);
+  }
+
+  @Override
+  public void putIfUnknown(Label label, Integer index) {
+    Objects.requireNonNull(label);
+
+    if (labels != null && labels[slotOf(label)] == label) {
+      return;
+    }
+
+    if (children != null) {
+      for (LabelIndexLookup child : children) {
+        if (child.findIndex(label) != UNKNOWN_INDEX) {
+          return;
+        }
+      }
+    }
+
+    put(label, index);
+  }
+
+  @Override
+  public void clearLabelIndices() {
+    labels = null;
+    indices = null;
+    size = 0;
+    version = LabelIndexLookupVersions.next();
+  }
+
+  @Override
+  public Map<Label, Integer> getAllLabelIndices() {
+    if (size == 0) {
+      return Map.of();
+    }
+
+    var labelIndices = new IdentityHashMap<Label, Integer>(size);
+    for (int slot = 0; slot < labels.length; slot++) {
+      if (labels[slot] != null) {
+        labelIndices.put(labels[slot], indices[slot] == NULL_INDEX ? null : indices[slot]);
+      }
+    }
+    return Collections.unmodifiableMap(labelIndices);
+  }
+
+  @Override
+  public void addChild(LabelIndexLookup childLabelIndexLookup) {
+    Objects.requireNonNull(childLabelIndexLookup);
+
+    if (children == null) {
+      children = new ArrayList<>();
+    }
+    children.add(childLabelIndexLookup);
+    version = LabelIndexLookupVersions.next();
+  }
+
+  @Override
+  public List<LabelIndexLookup> getChildren() {
+    return children == null ? List.of() : children;
+  }
+
+  @Override
+  public void clearChildren() {
+    children = null;
+    version = LabelIndexLookupVersions.next();
+  }
+
+  @Override
+  public long version() {
+    return LabelIndexLookupVersions.combine(version, getChildren());
+  }
+
+  /**
+   * Merges the given {@link LabelIndexLookup} with this.
+   *
+   * <p>The mappings of the given {@link LabelIndexLookup} replace existing
+   * mappings of this lookup. The mappings of its children get flattened into
+   * this lookup, but do not replace any existing mappings.
+   *
+   * @param labelIndexLookup a {@link LabelIndexLookup}; never null.
+   */
+  @Override
+  public void mergeWith(LabelIndexLookup labelIndexLookup) {
+    Objects.requireNonNull(labelIndexLookup);
+
+    if (labelIndexLookup instanceof IdentityLabelIndexLookup) {
+      var other = (IdentityLabelIndexLookup) labelIndexLookup;
+      if (other.labels != null) {
+        for (int slot = 0; slot < other.labels.length; slot++) {
+          if (other.labels[slot] != null) {
+            putIndex(other.labels[slot], other.indices[slot]);
+          }
+        }
+      }
+    }
+    else {
+      putAll(labelIndexLookup.getAllLabelIndices());
+    }
+
+    for (LabelIndexLookup child : labelIndexLookup.getChildren()) {
+      mergeChild(child);
+    }
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private void mergeChild(LabelIndexLookup child) {
+    child.getAllLabelIndices().forEach((label, index) -> {
+      if (labels == null || labels[slotOf(label)] != label) {
+        put(label, index);
+      }
+    });
+
+    for (LabelIndexLookup grandchild : child.getChildren()) {
+      mergeChild(grandchild);
+    }
+  }
+
+  private void put(Label label, Integer index) {
+    Objects.requireNonNull(label);
+
+    putIndex(label, index != null ? index : NULL_INDEX);
+  }
+
+  private void putIndex(Label label, int index) {
+    if (labels == null) {
+      labels = new Label[DEFAULT_CAPACITY];
+      indices = new int[DEFAULT_CAPACITY];
+    }
+
+    int slot = slotOf(label);
+    if (labels[slot] == null) {
+      labels[slot] = label;
+      size++;
+    }
+    indices[slot] = index;
+    version = LabelIndexLookupVersions.next();
+
+    // Keep the load factor below 0.5
+    if (size * 2 > labels.length) {
+      resize();
+    }
+  }
+
+  /**
+   * Finds the slot of the given {@link Label}, which is either the slot
+   * containing the {@link Label} or the first empty slot of its probe
+   * sequence.
+   */
+  private int slotOf(Label label) {
+    int mask = labels.length - 1;
+    int slot = mix(System.identityHashCode(label)) & mask;
+    while (labels[slot] != null && labels[slot] != label) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  private void resize() {
+    Label[] oldLabels = labels;
+    int[] oldIndices = indices;
+
+    labels = new Label[oldLabels.length * 2];
+    indices = new int[oldLabels.length * 2];
+    for (int oldSlot = 0; oldSlot < oldLabels.length; oldSlot++) {
+      if (oldLabels[oldSlot] != null) {
+        int slot = slotOf(oldLabels[oldSlot]);
+        labels[slot] = oldLabels[oldSlot];
+        indices[slot] = oldIndices[oldSlot];
+      }
+    }
+  }
+
+  /**
+   * Spreads the bits of the identity hash code, because linear probing
+   * requires a good distribution in the lower bits.
+   */
+  private static int mix(int hash) {
+    int result = hash * 0x9E3779B9;
+    return result ^ (result >>> 16);
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
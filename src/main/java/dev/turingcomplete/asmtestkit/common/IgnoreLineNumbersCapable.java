@@ -17,7 +17,11 @@ public interface IgnoreLineNumbersCapable<S> {
    * Exclude {@link LineNumberNode}s (and its associated {@link LabelNode}s)
    * from the comparison.
    *
-   * @return {@code this} {@link S}; never null.
+   * <p>Mutable entities (e.g., assertions) return {@code this}. Immutable
+   * entities (e.g., comparators) return a derived instance, which may be
+   * cached.
+   *
+   * @return an {@link S} which excludes line numbers; never null.
    */
   S ignoreLineNumbers();
 
@@ -11,9 +11,34 @@ import java.util.Optional;
  */
 public interface LabelIndexLookup {
   // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  /**
+   * The result of {@link #findIndex(Label)} if there is no index for a
+   * {@link Label}.
+   */
+  int UNKNOWN_INDEX = Integer.MIN_VALUE;
+
+  /**
+   * The result of {@link #version()} if the modifications of a
+   * {@link LabelIndexLookup} are not tracked.
+   */
+  long UNVERSIONED = -1;
+
   // -- Initialization ---------------------------------------------------------------------------------------------- //
   // -- Exposed Methods --------------------------------------------------------------------------------------------- //
 
+  /**
+   * Looks up the index for the given {@link Label} without boxing the
+   * result.
+   *
+   * @param label a {@link Label}; may be null.
+   * @return the index of {@code label} or {@link #UNKNOWN_INDEX} if there
+   * is none.
+   */
+  default int findIndex(Label label) {
+    return find(label).orElse(UNKNOWN_INDEX);
+  }
+
   /**
    * Looks up the index for the given {@link Label}.
    *
@@ -81,6 +106,23 @@ public interface LabelIndexLookup {
    */
   void mergeWith(LabelIndexLookup labelIndexLookup);
 
+  /**
+   * Gets the version of the mappings of this lookup.
+   *
+   * <p>The version changes with each modification of this lookup or of a
+   * lookup it depends on (e.g., a child). Therefore, anything derived from
+   * the mappings (e.g., a rendered instruction) is still valid as long as the
+   * version stays the same.
+   *
+   * <p>The default implementation does not track modifications.
+   *
+   * @return the version; or {@link #UNVERSIONED} if the modifications are not
+   * tracked.
+   */
+  default long version() {
+    return UNVERSIONED;
+  }
+
   // -- Private Methods --------------------------------------------------------------------------------------------- //
   // -- Inner Type -------------------------------------------------------------------------------------------------- //
 }
@@ -0,0 +1,61 @@
+package dev.turingcomplete.asmtestkit.common;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Creates the versions of {@link LabelIndexLookup}s.
+ *
+ * <p>The versions are taken from one global, strictly increasing counter.
+ * Therefore, the maximum of the versions of a {@link LabelIndexLookup} and
+ * all lookups it depends on (e.g., its children) increases with each
+ * modification of any of them, including the removal of a child.
+ */
+final class LabelIndexLookupVersions {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final AtomicLong LAST_VERSION = new AtomicLong();
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  private LabelIndexLookupVersions() {
+    throw new UnsupportedOperationException();
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Creates a new version for a modification.
+   *
+   * @return a version, which is greater than all previously created ones.
+   */
+  static long next() {
+    return LAST_VERSION.incrementAndGet();
+  }
+
+  /**
+   * Combines the given own version with the versions of the given
+   * {@link LabelIndexLookup}s.
+   *
+   * @param version           the own version of a {@link LabelIndexLookup}.
+   * @param labelIndexLookups the {@link LabelIndexLookup}s the owner depends
+   *                          on; never null.
+   * @return the combined version; or {@link LabelIndexLookup#UNVERSIONED} if
+   * one of the {@code labelIndexLookups} is unversioned.
+   */
+  static long combine(long version, List<LabelIndexLookup> labelIndexLookups) {
+    long result = version;
+    for (LabelIndexLookup labelIndexLookup : labelIndexLookups) {
+      long otherVersion = labelIndexLookup.version();
+      if (otherVersion == LabelIndexLookup.UNVERSIONED) {
+        return LabelIndexLookup.UNVERSIONED;
+      }
+      result = Math.max(result, otherVersion);
+    }
+    return result;
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -0,0 +1,228 @@
+package dev.turingcomplete.asmtestkit.common;
+
+import org.objectweb.asm.Label;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A {@link LabelIndexLookup} which represents a scope (e.g., a single method)
+ * that falls back to a parent {@link LabelIndexLookup}.
+ *
+ * <p>All modifications only affect the own mappings of this scope, and the
+ * parent is never copied. Therefore, creating a nested scope is O(1), and
+ * the memory of a scope is proportional to the {@link Label}s that were
+ * added to it.
+ *
+ * <p>A lookup first checks the own mappings (including the children of this
+ * scope) and then the parent.
+ *
+ * <p>This class is not thread-safe.
+ */
+public final class ScopedLabelIndexLookup implements LabelIndexLookup {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private LabelIndexLookup parent;
+
+  /**
+   * Lazily initialized to reduce the memory footprint for scopes that only
+   * read from the parent.
+   */
+  private IdentityLabelIndexLookup scope;
+
+  /**
+   * The version of the replacements of the {@link #parent} and the
+   * {@link #scope}. The modifications of the {@code scope} itself are tracked
+   * by its own version.
+   */
+  private long version = LabelIndexLookupVersions.next();
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  private ScopedLabelIndexLookup(LabelIndexLookup parent) {
+    this.parent = parent;
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Creates a new {@link ScopedLabelIndexLookup} without a parent.
+   *
+   * @return a new {@link ScopedLabelIndexLookup}; never null.
+   */
+  public static ScopedLabelIndexLookup create() {
+    return new ScopedLabelIndexLookup(null);
+  }
+
+  /**
+   * Creates a new {@link ScopedLabelIndexLookup} with the given parent.
+   *
+   * @param parent the parent {@link LabelIndexLookup}; never null.
+   * @return a new {@link ScopedLabelIndexLookup}; never null.
+   */
+  public static ScopedLabelIndexLookup create(LabelIndexLookup parent) {
+    return new ScopedLabelIndexLookup(Objects.requireNonNull(parent));
+  }
+
+  /**
+   * Gets the parent of this scope.
+   *
+   * @return the parent {@link LabelIndexLookup}; may be null.
+   */
+  public LabelIndexLookup parent() {
+    return parent;
+  }
+
+  /**
+   * Sets the parent of this scope, which replaces an existing parent.
+   *
+   * @param parent the parent {@link LabelIndexLookup}; never null.
+   * @throws IllegalArgumentException if {@code parent} is this scope or a
+   *                                  scope that has this scope as a parent.
+   */
+  public void useParent(LabelIndexLookup parent) {
+    Objects.requireNonNull(parent);
+
+    if (parent instanceof ScopedLabelIndexLookup && ((ScopedLabelIndexLookup) parent).isWithin(this)) {
+      throw new IllegalArgumentException("A scope can't be its own parent.");
+    }
+
+    this.parent = parent;
+    version = LabelIndexLookupVersions.next();
+  }
+
+  /**
+   * Checks whether this scope is the given {@link LabelIndexLookup} or is
+   * nested in it.
+   *
+   * @param labelIndexLookup a {@link LabelIndexLookup}; never null.
+   * @return true if {@code labelIndexLookup} is this scope or one of its
+   * parents.
+   */
+  public boolean isWithin(LabelIndexLookup labelIndexLookup) {
+    Objects.requireNonNull(labelIndexLookup);
+
+    LabelIndexLookup current = this;
+    while (current != null) {
+      if (current == labelIndexLookup) {
+        return true;
+      }
+      current = current instanceof ScopedLabelIndexLookup ? ((ScopedLabelIndexLookup) current).parent : null;
+    }
+    return false;
+  }
+
+  @Override
+  public int findIndex(Label label) {
+    if (scope != null) {
+      int index = scope.findIndex(label);
+      if (index != UNKNOWN_INDEX) {
+        return index;
+      }
+    }
+
+    return parent != null ? parent.findIndex(label) : UNKNOWN_INDEX;
+  }
+
+  @Override
+  public Optional<Integer> find(Label label) {
+    int index = findIndex(label);
+    return index == UNKNOWN_INDEX ? Optional.empty() : Optional.of(index);
+  }
+
+  @Override
+  public void putAll(Map<Label, Integer> labelIndices) {
+    Objects.requireNonNull(labelIndices);
+
+    if (!labelIndices.isEmpty()) {
+      scope().putAll(labelIndices);
+    }
+  }
+
+  @Override
+  public void putIfUnknown(Label label, Integer index) {
+    Objects.requireNonNull(label);
+
+    if (parent == null || parent.findIndex(label) == UNKNOWN_INDEX) {
+      scope().putIfUnknown(label, index);
+    }
+  }
+
+  /**
+   * Clears all {@link Label} indices of this scope, the parent is not
+   * affected.
+   */
+  @Override
+  public void clearLabelIndices() {
+    if (scope != null) {
+      scope.clearLabelIndices();
+    }
+  }
+
+  /**
+   * Gets all {@link Label} to index mappings of this scope, without the
+   * mappings of the parent.
+   *
+   * @return a {@link Map} with a mapping of {@link Label} to an {@link Integer}
+   * index; never null.
+   */
+  @Override
+  public Map<Label, Integer> getAllLabelIndices() {
+    return scope != null ? scope.getAllLabelIndices() : Map.of();
+  }
+
+  @Override
+  public void addChild(LabelIndexLookup childLabelIndexLookup) {
+    Objects.requireNonNull(childLabelIndexLookup);
+
+    scope().addChild(childLabelIndexLookup);
+  }
+
+  @Override
+  public List<LabelIndexLookup> getChildren() {
+    return scope != null ? scope.getChildren() : List.of();
+  }
+
+  @Override
+  public void clearChildren() {
+    if (scope != null) {
+      scope.clearChildren();
+    }
+  }
+
+  @Override
+  public void mergeWith(LabelIndexLookup labelIndexLookup) {
+    Objects.requireNonNull(labelIndexLookup);
+
+    scope().mergeWith(labelIndexLookup);
+  }
+
+  @Override
+  public long version() {
+    long result = version;
+    if (scope != null) {
+      long scopeVersion = scope.version();
+      if (scopeVersion == UNVERSIONED) {
+        return UNVERSIONED;
+      }
+      result = Math.max(result, scopeVersion);
+    }
+
+    return parent != null ? LabelIndexLookupVersions.combine(result, List.of(parent)) : result;
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private IdentityLabelIndexLookup scope() {
+    if (scope == null) {
+      scope = IdentityLabelIndexLookup.create();
+    }
+
+    return scope;
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -0,0 +1,212 @@
+package dev.turingcomplete.asmtestkit.common._internal;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * A thread-safe registry of lazily initialized values keyed by a
+ * {@link Class}.
+ *
+ * <p>The registrations are kept in an immutable snapshot. A registration
+ * copies the current snapshot and publishes the new one atomically, so
+ * lookups are a single lock-free read of the current snapshot and never
+ * see a partially updated registry.
+ *
+ * <p>Each snapshot resolves the value for a concrete {@link Class} once
+ * and caches the result in a {@link ClassValue}. A resolution contains the
+ * value registered for exactly this class and the value of the most
+ * specific registered supertype. Publishing a new snapshot discards all
+ * cached resolutions.
+ *
+ * <p>The most specific supertype is selected deterministically: a registered
+ * subtype always wins over its registered supertypes. Between unrelated
+ * registered supertypes (e.g., two interfaces), the one with the shorter
+ * distance in the type hierarchy wins, and if the distance is also equal,
+ * the one that was registered first.
+ *
+ * @param <V> the type of the values.
+ */
+public final class ClassRegistry<V> {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final AtomicReference<Snapshot<V>> snapshot = new AtomicReference<>(new Snapshot<>(Collections.emptyMap()));
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  private ClassRegistry() {
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Creates a new empty {@link ClassRegistry}.
+   *
+   * @param <V> the type of the values.
+   * @return a new {@link ClassRegistry}; never null.
+   */
+  public static <V> ClassRegistry<V> create() {
+    return new ClassRegistry<>();
+  }
+
+  /**
+   * Registers a lazily initialized value for the given {@link Class}.
+   *
+   * <p>If there is already a registered value for {@code key}, it will be
+   * replaced, but keeps its position in the registration order.
+   *
+   * @param key           the {@link Class} to register the value for;
+   *                      never null.
+   * @param valueSupplier a {@link Supplier} which provides the value on
+   *                      first access; never null. The provided value must
+   *                      not be null.
+   */
+  public void register(Class<?> key, Supplier<? extends V> valueSupplier) {
+    Objects.requireNonNull(key);
+    Objects.requireNonNull(valueSupplier);
+
+    snapshot.updateAndGet(currentSnapshot -> {
+      var newEntries = new LinkedHashMap<>(currentSnapshot.entries);
+      newEntries.put(key, new Entry<>(valueSupplier));
+      return new Snapshot<>(newEntries);
+    });
+  }
+
+  /**
+   * Finds the value that was registered for exactly the given {@link Class}.
+   *
+   * @param type the {@link Class} to look up; never null.
+   * @return the registered value; may be null if there is none.
+   */
+  public V findExact(Class<?> type) {
+    Entry<V> entry = snapshot.get().resolutions.get(Objects.requireNonNull(type)).exact;
+    return entry != null ? entry.get() : null;
+  }
+
+  /**
+   * Finds the value that was registered for exactly the given {@link Class}
+   * or, if there is none, for a supertype of it.
+   *
+   * @param type the {@link Class} to look up; never null.
+   * @return the registered value; may be null if there is none.
+   */
+  public V find(Class<?> type) {
+    Entry<V> entry = snapshot.get().resolutions.get(Objects.requireNonNull(type)).assignable;
+    return entry != null ? entry.get() : null;
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  private static final class Snapshot<V> {
+
+    private final Map<Class<?>, Entry<V>>   entries;
+    private final ClassValue<Resolution<V>> resolutions;
+
+    Snapshot(Map<Class<?>, Entry<V>> entries) {
+      this.entries = Collections.unmodifiableMap(entries);
+      this.resolutions = new ClassValue<>() {
+        @Override
+        protected Resolution<V> computeValue(Class<?> type) {
+          return resolve(type);
+        }
+      };
+    }
+
+    private Resolution<V> resolve(Class<?> type) {
+      Entry<V> exact = entries.get(type);
+      if (exact != null) {
+        return new Resolution<>(exact, exact);
+      }
+
+      List<Class<?>> candidates = entries.keySet().stream()
+                                         .filter(key -> key.isAssignableFrom(type))
+                                         .collect(Collectors.toList());
+
+      // A registered subtype always wins over its registered supertypes. For
+      // unrelated candidates (e.g., two interfaces), the one which is closer
+      // in the type hierarchy wins, and on a tie the one which was registered
+      // first (the stream is ordered by the registration order).
+      Entry<V> mostSpecific = candidates.stream()
+                                        .filter(candidate -> candidates.stream().noneMatch(other -> other != candidate && candidate.isAssignableFrom(other)))
+                                        .min(Comparator.comparingInt(candidate -> hierarchyDistance(type, candidate)))
+                                        .map(entries::get)
+                                        .orElse(null);
+      return new Resolution<>(null, mostSpecific);
+    }
+
+    /**
+     * Calculates the minimal number of steps from {@code type} to its
+     * supertype {@code superType} in the type hierarchy.
+     */
+    private static int hierarchyDistance(Class<?> type, Class<?> superType) {
+      if (type == superType) {
+        return 0;
+      }
+
+      if (type.isInterface() && superType == Object.class) {
+        return 1;
+      }
+
+      int distance = Integer.MAX_VALUE;
+      Class<?> superclass = type.getSuperclass();
+      if (superclass != null && superType.isAssignableFrom(superclass)) {
+        distance = hierarchyDistance(superclass, superType);
+      }
+      for (Class<?> anInterface : type.getInterfaces()) {
+        if (superType.isAssignableFrom(anInterface)) {
+          distance = Math.min(distance, hierarchyDistance(anInterface, superType));
+        }
+      }
+
+      return distance + 1;
+    }
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  private static final class Resolution<V> {
+
+    private final Entry<V> exact;
+    private final Entry<V> assignable;
+
+    Resolution(Entry<V> exact, Entry<V> assignable) {
+      this.exact = exact;
+      this.assignable = assignable;
+    }
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  private static final class Entry<V> {
+
+    private final Supplier<? extends V> valueSupplier;
+    private volatile V value;
+
+    Entry(Supplier<? extends V> valueSupplier) {
+      this.valueSupplier = valueSupplier;
+    }
+
+    V get() {
+      V result = value;
+      if (result == null) {
+        synchronized (this) {
+          result = value;
+          if (result == null) {
+            result = Objects.requireNonNull(valueSupplier.get());
+            value = result;
+          }
+        }
+      }
+
+      return result;
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package dev.turingcomplete.asmtestkit.common._internal;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A thread-safe and bounded cache, which maps keys to values computed by a
+ * fixed {@link Function}.
+ *
+ * <p>The cache is intended for small, frequently recurring values like type
+ * names. If it reaches its maximum size, all entries get discarded, which
+ * bounds the memory without the bookkeeping of an eviction policy. A
+ * discarded value gets simply recomputed on the next access, so the
+ * {@link Function} must be free of side effects.
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the values.
+ */
+public final class InternCache<K, V> {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final ConcurrentHashMap<K, V>          values = new ConcurrentHashMap<>();
+  private final Function<? super K, ? extends V> valueFunction;
+  private final int                              maxSize;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  private InternCache(Function<? super K, ? extends V> valueFunction, int maxSize) {
+    this.valueFunction = valueFunction;
+    this.maxSize = maxSize;
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Creates a new {@link InternCache}.
+   *
+   * @param valueFunction a {@link Function} which computes the value of a
+   *                      key; never null. The computed value must not be
+   *                      null.
+   * @param maxSize       the maximum number of entries; must be positive.
+   * @param <K>           the type of the keys.
+   * @param <V>           the type of the values.
+   * @return a new {@link InternCache}; never null.
+   */
+  public static <K, V> InternCache<K, V> create(Function<? super K, ? extends V> valueFunction, int maxSize) {
+    Objects.requireNonNull(valueFunction);
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("The maximum size must be positive: " + maxSize);
+    }
+
+    return new InternCache<>(valueFunction, maxSize);
+  }
+
+  /**
+   * Gets the cached value of the given key or computes and caches it.
+   *
+   * @param key the key; never null.
+   * @return the value; never null.
+   */
+  public V get(K key) {
+    V value = values.get(Objects.requireNonNull(key));
+    if (value != null) {
+      return value;
+    }
+
+    value = Objects.requireNonNull(valueFunction.apply(key));
+    if (values.size() >= maxSize) {
+      values.clear();
+    }
+    V existingValue = values.putIfAbsent(key, value);
+    return existingValue != null ? existingValue : value;
+  }
+
+  /**
+   * Gets the current number of entries.
+   *
+   * @return the number of entries.
+   */
+  public int size() {
+    return values.size();
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
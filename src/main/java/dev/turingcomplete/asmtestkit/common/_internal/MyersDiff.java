@@ -0,0 +1,188 @@
+package dev.turingcomplete.asmtestkit.common._internal;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Objects;
+
+/**
+ * Computes a shortest edit script between two sequences of {@code int}
+ * symbols with the O(ND) difference algorithm by Eugene W. Myers.
+ *
+ * <p>The linear space variant gets used: the sequences get divided at the
+ * middle snake of a shortest edit path, and both halves get solved
+ * recursively. Thus, the running time is O((N+M)D) and the memory is
+ * O(N+M), where N and M are the lengths of the sequences and D is the
+ * number of deleted and inserted symbols.
+ *
+ * <p>Equal elements should be mapped to equal symbols beforehand (e.g., by
+ * interning them), so that the algorithm only has to compare {@code int}s.
+ */
+public final class MyersDiff {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  private MyersDiff() {
+    throw new UnsupportedOperationException();
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Computes a shortest edit script, which transforms the {@code first}
+   * sequence into the {@code second} one.
+   *
+   * <p>All symbols which are not marked as deleted or inserted form a
+   * longest common subsequence of both sequences.
+   *
+   * @param first    the first sequence of symbols; never null.
+   * @param second   the second sequence of symbols; never null.
+   * @param deleted  a {@link BitSet} in which the indices of the symbols
+   *                 of {@code first}, which must be deleted, will be set;
+   *                 never null.
+   * @param inserted a {@link BitSet} in which the indices of the symbols
+   *                 of {@code second}, which must be inserted, will be set;
+   *                 never null.
+   */
+  public static void diff(int[] first, int[] second, BitSet deleted, BitSet inserted) {
+    Objects.requireNonNull(first);
+    Objects.requireNonNull(second);
+    Objects.requireNonNull(deleted);
+    Objects.requireNonNull(inserted);
+
+    diff(first, 0, first.length, second, 0, second.length, deleted, inserted);
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private static void diff(int[] first, int firstStart, int firstEnd,
+                           int[] second, int secondStart, int secondEnd,
+                           BitSet deleted, BitSet inserted) {
+
+    // Skip the common prefix and suffix
+    while (firstStart < firstEnd && secondStart < secondEnd && first[firstStart] == second[secondStart]) {
+      firstStart++;
+      secondStart++;
+    }
+    while (firstStart < firstEnd && secondStart < secondEnd && first[firstEnd - 1] == second[secondEnd - 1]) {
+      firstEnd--;
+      secondEnd--;
+    }
+
+    if (firstStart == firstEnd) {
+      inserted.set(secondStart, secondEnd);
+      return;
+    }
+    if (secondStart == secondEnd) {
+      deleted.set(firstStart, firstEnd);
+      return;
+    }
+
+    long split = findMiddleSnake(first, firstStart, firstEnd, second, secondStart, secondEnd);
+    if (split < 0) {
+      // No common symbols
+      deleted.set(firstStart, firstEnd);
+      inserted.set(secondStart, secondEnd);
+      return;
+    }
+
+    int firstSplit = firstStart + (int) (split >>> 32);
+    int secondSplit = secondStart + (int) split;
+    diff(first, firstStart, firstSplit, second, secondStart, secondSplit, deleted, inserted);
+    diff(first, firstSplit, firstEnd, second, secondSplit, secondEnd, deleted, inserted);
+  }
+
+  /**
+   * Searches the forward and the reverse path simultaneously until they
+   * overlap.
+   *
+   * @return the relative split point with the index of {@code first} in the
+   * upper and the index of {@code second} in the lower 32 bits; or
+   * {@code -1} if the sequences have no common symbols.
+   */
+  private static long findMiddleSnake(int[] first, int firstStart, int firstEnd,
+                                      int[] second, int secondStart, int secondEnd) {
+
+    int firstLength = firstEnd - firstStart;
+    int secondLength = secondEnd - secondStart;
+    int maxD = (firstLength + secondLength + 1) / 2;
+    int offset = maxD;
+    int[] forward = new int[2 * maxD + 2];
+    int[] reverse = new int[2 * maxD + 2];
+    Arrays.fill(forward, -1);
+    Arrays.fill(reverse, -1);
+    forward[offset + 1] = 0;
+    reverse[offset + 1] = 0;
+
+    int delta = firstLength - secondLength;
+    // If the delta is odd, the paths overlap during the forward search
+    boolean checkOverlapForward = (delta % 2 != 0);
+
+    // Diagonals which were left through the end of one sequence don't have
+    // to be searched anymore
+    int forwardKStart = 0;
+    int forwardKEnd = 0;
+    int reverseKStart = 0;
+    int reverseKEnd = 0;
+
+    for (int d = 0; d < maxD; d++) {
+      for (int k = -d + forwardKStart; k <= d - forwardKEnd; k += 2) {
+        int kOffset = offset + k;
+        int x = (k == -d || (k != d && forward[kOffset - 1] < forward[kOffset + 1])) ? forward[kOffset + 1] : forward[kOffset - 1] + 1;
+        int y = x - k;
+        while (x < firstLength && y < secondLength && first[firstStart + x] == second[secondStart + y]) {
+          x++;
+          y++;
+        }
+        forward[kOffset] = x;
+
+        if (x > firstLength) {
+          forwardKEnd += 2;
+        }
+        else if (y > secondLength) {
+          forwardKStart += 2;
+        }
+        else if (checkOverlapForward) {
+          int reverseKOffset = offset + delta - k;
+          if (reverseKOffset >= 0 && reverseKOffset < reverse.length && reverse[reverseKOffset] != -1
+              && x >= firstLength - reverse[reverseKOffset]) {
+            return ((long) x << 32) | y;
+          }
+        }
+      }
+
+      for (int k = -d + reverseKStart; k <= d - reverseKEnd; k += 2) {
+        int kOffset = offset + k;
+        int x = (k == -d || (k != d && reverse[kOffset - 1] < reverse[kOffset + 1])) ? reverse[kOffset + 1] : reverse[kOffset - 1] + 1;
+        int y = x - k;
+        while (x < firstLength && y < secondLength
+               && first[firstStart + firstLength - x - 1] == second[secondStart + secondLength - y - 1]) {
+          x++;
+          y++;
+        }
+        reverse[kOffset] = x;
+
+        if (x > firstLength) {
+          reverseKEnd += 2;
+        }
+        else if (y > secondLength) {
+          reverseKStart += 2;
+        }
+        else if (!checkOverlapForward) {
+          int forwardKOffset = offset + delta - k;
+          if (forwardKOffset >= 0 && forwardKOffset < forward.length && forward[forwardKOffset] != -1) {
+            int forwardX = forward[forwardKOffset];
+            int forwardY = offset + forwardX - forwardKOffset;
+            if (forwardX >= firstLength - x) {
+              return ((long) forwardX << 32) | forwardY;
+            }
+          }
+        }
+      }
+    }
+
+    return -1;
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -1,23 +1,32 @@
 package dev.turingcomplete.asmtestkit.comparator;
 
 import dev.turingcomplete.asmtestkit.common.LabelIndexLookup;
+import dev.turingcomplete.asmtestkit.comparator._internal.AnnotationValueComparator;
+import dev.turingcomplete.asmtestkit.comparator._internal.ComparatorUtils;
+import org.objectweb.asm.Type;
 import org.objectweb.asm.tree.AnnotationNode;
 
-import java.util.Comparator;
-import java.util.Map;
-import java.util.Objects;
-
-import static dev.turingcomplete.asmtestkit.asmutils.AnnotationNodeUtils.convertAnnotationNodeValuesToMap;
-
 /**
  * A base class for a comparison function to order {@link AnnotationNode}s or
  * its subtypes.
+ *
+ * <p>The {@link AnnotationNode}s are ordered by their descriptors and then
+ * structurally by their values (see {@link AnnotationValueComparator}),
+ * without creating their textual representations. The order of the values
+ * is not taken into account.
  */
 public abstract class AbstractAnnotationNodeComparator<S extends AbstractAnnotationNodeComparator<S, T>, T extends AnnotationNode>
         extends AbstractWithLabelIndexAsmComparator<T> {
 
   // -- Class Fields ------------------------------------------------------------------------------------------------ //
   // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Lazily initialized, because the registered comparators may not be
+   * available during the construction.
+   */
+  private volatile AnnotationValueComparator annotationValueComparator;
+
   // -- Initialization ---------------------------------------------------------------------------------------------- //
 
   protected AbstractAnnotationNodeComparator(Class<?> selfType, Class<?> elementType) {
@@ -28,20 +37,25 @@ public abstract class AbstractAnnotationNodeComparator<S extends AbstractAnnotat
 
   @Override
   protected int doCompare(T first, T second, LabelIndexLookup labelIndexLookup) {
-    int descResult = Comparator.comparing((AnnotationNode annotationNode) -> annotationNode.desc)
-                               .compare(first, second);
-
-    if (descResult == 0) {
-      Map<Object, Object> firstValues = first != null ? convertAnnotationNodeValuesToMap(first.values) : Map.of();
-      Map<Object, Object> secondValues = second != null ? convertAnnotationNodeValuesToMap(second.values) : Map.of();
-      if (Objects.deepEquals(firstValues, secondValues)) {
-        return 0;
-      }
+    int descResult = ComparatorUtils.STRING_COMPARATOR.compare(first.desc, second.desc);
+    if (descResult != 0) {
+      return descResult;
     }
 
-    return asmRepresentations.toStringOf(first).compareTo(asmRepresentations.toStringOf(second));
+    return annotationValueComparator().compareValues(first.values, second.values);
   }
 
   // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private AnnotationValueComparator annotationValueComparator() {
+    AnnotationValueComparator result = annotationValueComparator;
+    if (result == null) {
+      result = AnnotationValueComparator.create(asmComparators.elementComparator(Type.class),
+                                                asmComparators.elementComparator(AnnotationNode.class));
+      annotationValueComparator = result;
+    }
+    return result;
+  }
+
   // -- Inner Type -------------------------------------------------------------------------------------------------- //
 }
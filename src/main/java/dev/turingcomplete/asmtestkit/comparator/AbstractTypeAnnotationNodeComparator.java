@@ -1,7 +1,6 @@
 package dev.turingcomplete.asmtestkit.comparator;
 
 import dev.turingcomplete.asmtestkit.common.LabelIndexLookup;
-import dev.turingcomplete.asmtestkit.representation.AbstractTypeAnnotationNodeRepresentation;
 import dev.turingcomplete.asmtestkit.comparator._internal.ComparatorUtils;
 import org.objectweb.asm.TypePath;
 import org.objectweb.asm.tree.TypeAnnotationNode;
@@ -13,8 +12,8 @@ import java.util.Comparator;
  *
  * <p>Two {@code TypeAnnotationNode}s will be considered as equal if their
  * descriptors, values (order is ignored), type references, and type paths are
- * equal. If their values are not equal they will be ordered based on the
- * lexicographical order of their {@link AbstractTypeAnnotationNodeRepresentation}s.
+ * equal. Otherwise, they will be ordered by the first non-matching of these
+ * components.
  */
 public abstract class AbstractTypeAnnotationNodeComparator<S extends AbstractTypeAnnotationNodeComparator<S, T>, T extends TypeAnnotationNode>
         extends AbstractAnnotationNodeComparator<S, T> {
@@ -1,6 +1,6 @@
 package dev.turingcomplete.asmtestkit.comparator;
 
-import dev.turingcomplete.asmtestkit.common.DefaultLabelIndexLookup;
+import dev.turingcomplete.asmtestkit.common.IdentityLabelIndexLookup;
 import dev.turingcomplete.asmtestkit.common.LabelIndexLookup;
 
 import java.util.Comparator;
@@ -36,7 +36,7 @@ public abstract class AbstractWithLabelIndexAsmComparator<T> extends AsmComparat
 
   @Override
   protected int doCompare(T first, T second) {
-    return doCompare(first, second, DefaultLabelIndexLookup.create());
+    return doCompare(first, second, IdentityLabelIndexLookup.create());
   }
 
   /**
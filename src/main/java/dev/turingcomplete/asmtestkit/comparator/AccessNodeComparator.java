@@ -47,6 +47,15 @@ public class AccessNodeComparator extends AsmComparator<AccessNode> {
     return Integer.compare(first.access(), second.access());
   }
 
+  /**
+   * The {@link AccessNode}s usually get created for each comparison, and the
+   * comparison is cheaper than a lookup of a memoized result.
+   */
+  @Override
+  protected boolean isMemoizable() {
+    return false;
+  }
+
   // -- Private Methods --------------------------------------------------------------------------------------------- //
   // -- Inner Type -------------------------------------------------------------------------------------------------- //
 }
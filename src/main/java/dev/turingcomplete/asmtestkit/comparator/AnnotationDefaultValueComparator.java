@@ -1,8 +1,9 @@
 package dev.turingcomplete.asmtestkit.comparator;
 
-import dev.turingcomplete.asmtestkit.comparator._internal.ComparatorUtils;
+import dev.turingcomplete.asmtestkit.comparator._internal.AnnotationValueComparator;
 import dev.turingcomplete.asmtestkit.comparator._internal.IterableComparator;
 import dev.turingcomplete.asmtestkit.node.AnnotationDefaultNode;
+import org.objectweb.asm.Type;
 import org.objectweb.asm.tree.AnnotationNode;
 
 import java.util.Comparator;
@@ -10,12 +11,9 @@ import java.util.Comparator;
 /**
  * A comparison function to order {@link AnnotationDefaultNode}s.
  *
- * <p>Two {@code AnnotationDefaultValue}s will be considered as equal if:
- * <ul>
- *   <li>In case of an {@link AnnotationNode}: delegates the comparison to
- *   {@link AnnotationNodeComparator};
- *   <li>Otherwise: If they have the same {@link Object#hashCode()} value.
- * </ul>
+ * <p>The values get compared structurally (see
+ * {@link AnnotationValueComparator}). The comparison of {@link AnnotationNode}
+ * values gets delegated to the {@link AnnotationNodeComparator}.
  */
 public class AnnotationDefaultValueComparator extends AsmComparator<AnnotationDefaultNode> {
   // -- Class Fields ------------------------------------------------------------------------------------------------ //
@@ -32,6 +30,13 @@ public class AnnotationDefaultValueComparator extends AsmComparator<AnnotationDe
   public static final Comparator<Iterable<? extends AnnotationDefaultNode>> ITERABLE_INSTANCE = new IterableComparator<>(INSTANCE);
 
   // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Lazily initialized, because the registered comparators may not be
+   * available during the construction.
+   */
+  private volatile AnnotationValueComparator annotationValueComparator;
+
   // -- Initialization ---------------------------------------------------------------------------------------------- //
 
   protected AnnotationDefaultValueComparator() {
@@ -51,17 +56,30 @@ public class AnnotationDefaultValueComparator extends AsmComparator<AnnotationDe
 
   @Override
   protected int doCompare(AnnotationDefaultNode first, AnnotationDefaultNode second) {
-    Object firstValue = first.value();
-    Object secondValue = second.value();
-
-    if (firstValue instanceof AnnotationNode && secondValue instanceof AnnotationNode) {
-      return asmComparators.elementComparator(AnnotationNode.class)
-                           .compare((AnnotationNode) firstValue, (AnnotationNode) secondValue);
-    }
+    return annotationValueComparator().compare(first.value(), second.value());
+  }
 
-    return ComparatorUtils.OBJECT_COMPARATOR.compare(firstValue, secondValue);
+  /**
+   * The {@link AnnotationDefaultNode}s usually get created for each
+   * comparison (see {@link AnnotationDefaultNode#createOrNull(Object)}), so
+   * a memoized result would never get reused.
+   */
+  @Override
+  protected boolean isMemoizable() {
+    return false;
   }
 
   // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private AnnotationValueComparator annotationValueComparator() {
+    AnnotationValueComparator result = annotationValueComparator;
+    if (result == null) {
+      result = AnnotationValueComparator.create(asmComparators.elementComparator(Type.class),
+                                                asmComparators.elementComparator(AnnotationNode.class));
+      annotationValueComparator = result;
+    }
+    return result;
+  }
+
   // -- Inner Type -------------------------------------------------------------------------------------------------- //
 }
@@ -1,7 +1,6 @@
 package dev.turingcomplete.asmtestkit.comparator;
 
 import dev.turingcomplete.asmtestkit.comparator._internal.WithLabelIndexIterableAsmComparator;
-import dev.turingcomplete.asmtestkit.representation.AnnotationNodeRepresentation;
 import org.objectweb.asm.tree.AnnotationNode;
 
 import java.util.Comparator;
@@ -10,9 +9,8 @@ import java.util.Comparator;
  * A comparison function to order {@link AnnotationNode}s.
  *
  * <p>Two {@code AnnotationNode}s will be considered as equal if their
- * descriptors and values (order is ignored) are equal. If their values are not
- * equal they will be ordered based on the lexicographical order of their
- * {@link AnnotationNodeRepresentation}s.
+ * descriptors and values (order is ignored) are equal. Otherwise, they will
+ * be ordered by their descriptors and then structurally by their values.
  */
 public class AnnotationNodeComparator extends AbstractAnnotationNodeComparator<AnnotationNodeComparator, AnnotationNode> {
   // -- Class Fields ------------------------------------------------------------------------------------------------ //
@@ -8,12 +8,17 @@ import org.assertj.core.internal.DescribableComparator;
 
 import java.util.Comparator;
 import java.util.Objects;
+import java.util.function.Function;
 
 /**
  * Base class for an ASM nodes {@link Comparator}.
  *
  * <p>Implementations should implement {@link #doCompare(Object, Object)}.
  *
+ * <p>Implementations should be immutable, so that a single instance can be
+ * shared by concurrent comparisons. Configuration methods should return a
+ * derived instance instead of modifying {@code this}.
+ *
  * @param <T> the type of the ASM node.
  */
 public abstract class AsmComparator<T> extends DescribableComparator<T> {
@@ -24,8 +29,14 @@ public abstract class AsmComparator<T> extends DescribableComparator<T> {
   private final Class<?> selfType;
   private final Class<T> elementType;
 
-  protected AsmRepresentations asmRepresentations = DefaultAsmRepresentations.INSTANCE;
-  protected AsmComparators     asmComparators     = DefaultAsmComparators.INSTANCE;
+  protected final AsmRepresentations asmRepresentations = DefaultAsmRepresentations.INSTANCE;
+  protected final AsmComparators     asmComparators     = DefaultAsmComparators.INSTANCE;
+
+  /**
+   * The identity of this {@link Function} is the key for the memoized
+   * canonical {@link String}s in a {@link ComparisonContext}.
+   */
+  private final Function<Object, String> canonicalizer = object -> asmRepresentations.toStringOf(object);
 
   // -- Initialization ---------------------------------------------------------------------------------------------- //
 
@@ -69,7 +80,15 @@ public abstract class AsmComparator<T> extends DescribableComparator<T> {
       return -1;
     }
 
-    return doCompare(elementType.cast(first), elementType.cast(second));
+    T firstElement = elementType.cast(first);
+    T secondElement = elementType.cast(second);
+
+    ComparisonContext context = ComparisonContext.current();
+    if (context != null && isMemoizable()) {
+      return context.compare(this, firstElement, secondElement, () -> doCompare(firstElement, secondElement));
+    }
+
+    return doCompare(firstElement, secondElement);
   }
 
   /**
@@ -85,6 +104,33 @@ public abstract class AsmComparator<T> extends DescribableComparator<T> {
    */
   protected abstract int doCompare(T first, T second);
 
+  /**
+   * Whether the results of this comparator may be memoized in an active
+   * {@link ComparisonContext}.
+   *
+   * @return true by default.
+   */
+  protected boolean isMemoizable() {
+    return true;
+  }
+
+  /**
+   * Creates the {@link String} representation of the given object via
+   * {@link #asmRepresentations}, which gets memoized in the active
+   * {@link ComparisonContext}.
+   *
+   * @param object the object; may be null.
+   * @return the {@link String} representation; never null.
+   */
+  protected String toCanonicalString(Object object) {
+    ComparisonContext context = ComparisonContext.current();
+    if (context != null && object != null) {
+      return context.canonicalString(object, canonicalizer);
+    }
+
+    return asmRepresentations.toStringOf(object);
+  }
+
   @Override
   public String description() {
     return getClass().getSimpleName();
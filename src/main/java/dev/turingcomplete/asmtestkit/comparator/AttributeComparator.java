@@ -1,17 +1,23 @@
 package dev.turingcomplete.asmtestkit.comparator;
 
-import dev.turingcomplete.asmtestkit.comparator._internal.IterableComparator;
-import dev.turingcomplete.asmtestkit.representation.AttributeRepresentation;
+import dev.turingcomplete.asmtestkit.asmutils.AttributeUtils;
+import dev.turingcomplete.asmtestkit.comparator._internal.BucketedIterableComparator;
 import org.objectweb.asm.Attribute;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.function.Function;
 
 /**
  * A comparison function to order {@link Attribute}s.
  *
- * <p>Two {@code Attribute}s will be considered as equal if their
- * {@link AttributeRepresentation}s are equal. Otherwise, they will be ordered
- * based on the lexicographical order of their {@code AttributeRepresentation}.
+ * <p>Two {@code Attribute}s will be considered as equal if their types and
+ * their contents (see {@link AttributeUtils#readContent(Attribute)}) are
+ * equal. Otherwise, they will be ordered based on the lexicographical order
+ * of their types and then of their contents.
+ *
+ * <p>The {@code Attribute}s get not rendered for the comparison.
  */
 public class AttributeComparator extends AsmComparator<Attribute> {
   // -- Class Fields ------------------------------------------------------------------------------------------------ //
@@ -23,11 +29,22 @@ public class AttributeComparator extends AsmComparator<Attribute> {
 
   /**
    * A reusable {@link Comparator} instance for an {@link Iterable} of
-   * {@link Attribute}s.
+   * {@link Attribute}s, which puts the {@code Attribute}s into buckets by
+   * their {@link AttributeUtils#contentHash(Attribute)} before comparing
+   * them.
    */
-  public static final Comparator<Iterable<? extends Attribute>> ITERABLE_INSTANCE = new IterableComparator<>(INSTANCE);
+  public static final Comparator<Iterable<? extends Attribute>> ITERABLE_INSTANCE = new BucketedIterableComparator<>(INSTANCE, AttributeUtils::contentHash);
 
   // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Maps the content bytes one-to-one to {@code char}s, so that the
+   * {@link String} order equals the unsigned order of the bytes. The identity
+   * of this {@link Function} is the key for the memoized content in a
+   * {@link ComparisonContext}.
+   */
+  private final Function<Attribute, String> contentReader = attribute -> new String(AttributeUtils.readContent(attribute), StandardCharsets.ISO_8859_1);
+
   // -- Initialization ---------------------------------------------------------------------------------------------- //
 
   protected AttributeComparator() {
@@ -47,7 +64,17 @@ public class AttributeComparator extends AsmComparator<Attribute> {
 
   @Override
   public int doCompare(Attribute first, Attribute second) {
-    return asmRepresentations.toStringOf(first).compareTo(asmRepresentations.toStringOf(second));
+    int typeResult = first.type.compareTo(second.type);
+    if (typeResult != 0) {
+      return typeResult;
+    }
+
+    ComparisonContext context = ComparisonContext.current();
+    if (context != null) {
+      return context.canonicalString(first, contentReader).compareTo(context.canonicalString(second, contentReader));
+    }
+
+    return Arrays.compareUnsigned(AttributeUtils.readContent(first), AttributeUtils.readContent(second));
   }
 
   // -- Private Methods --------------------------------------------------------------------------------------------- //
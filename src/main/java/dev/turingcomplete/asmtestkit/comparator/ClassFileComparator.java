@@ -0,0 +1,286 @@
+package dev.turingcomplete.asmtestkit.comparator;
+
+import dev.turingcomplete.asmtestkit.common.IgnoreLineNumbersCapable;
+import dev.turingcomplete.asmtestkit.comparator._internal.ComparatorUtils;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.ClassNode;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * A comparison function to order raw class files.
+ *
+ * <p>The comparison avoids building {@link ClassNode}s as long as possible:
+ * <ol>
+ *   <li>Identical bytes are equal.</li>
+ *   <li>Otherwise, both class files get normalized (see
+ *   {@link #normalize(byte[])}) and equal normalized bytes are equal.</li>
+ *   <li>Only if the normalized bytes differ, both class files get read into
+ *   {@link ClassNode}s and the result of the {@link ClassNodeComparator}
+ *   determines the order.</li>
+ * </ol>
+ *
+ * <p>An instance is immutable. {@link #ignoreLineNumbers()} and
+ * {@link #ignoreSourceFile()} return a derived instance.
+ */
+public class ClassFileComparator
+        implements Comparator<byte[]>, IgnoreLineNumbersCapable<ClassFileComparator> {
+
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  /**
+   * A reusable {@link ClassFileComparator} instance.
+   */
+  public static final ClassFileComparator INSTANCE = create();
+
+  /**
+   * A reusable {@link ClassFileComparator} instance, which excludes the
+   * {@code LineNumberTable} attributes from the comparison.
+   */
+  public static final ClassFileComparator INSTANCE_IGNORE_LINE_NUMBERS = INSTANCE.ignoreLineNumbers();
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final boolean ignoreLineNumbers;
+  private final boolean ignoreSourceFile;
+
+  /**
+   * Lazily initialized derived instances of {@link #ignoreLineNumbers()} and
+   * {@link #ignoreSourceFile()}.
+   */
+  private volatile ClassFileComparator ignoreLineNumbersComparator;
+  private volatile ClassFileComparator ignoreSourceFileComparator;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  protected ClassFileComparator(boolean ignoreLineNumbers, boolean ignoreSourceFile) {
+    this.ignoreLineNumbers = ignoreLineNumbers;
+    this.ignoreSourceFile = ignoreSourceFile;
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Creates a new {@link ClassFileComparator} instance.
+   *
+   * @return a new {@link ClassFileComparator}; never null;
+   */
+  public static ClassFileComparator create() {
+    return new ClassFileComparator(false, false);
+  }
+
+  /**
+   * Excludes the {@code LineNumberTable} attributes from the comparison.
+   *
+   * <p>{@code this} {@link ClassFileComparator} stays unchanged.
+   *
+   * @return a {@link ClassFileComparator} which excludes line numbers; never
+   * null. Repeated calls return the same instance.
+   */
+  @Override
+  public ClassFileComparator ignoreLineNumbers() {
+    if (ignoreLineNumbers) {
+      return this;
+    }
+
+    ClassFileComparator result = ignoreLineNumbersComparator;
+    if (result == null) {
+      result = createDerived(true, ignoreSourceFile);
+      ignoreLineNumbersComparator = result;
+    }
+    return result;
+  }
+
+  /**
+   * Excludes the {@code SourceFile} and {@code SourceDebugExtension}
+   * attributes from the comparison.
+   *
+   * <p>{@code this} {@link ClassFileComparator} stays unchanged.
+   *
+   * @return a {@link ClassFileComparator} which excludes the source file;
+   * never null. Repeated calls return the same instance.
+   */
+  public ClassFileComparator ignoreSourceFile() {
+    if (ignoreSourceFile) {
+      return this;
+    }
+
+    ClassFileComparator result = ignoreSourceFileComparator;
+    if (result == null) {
+      result = createDerived(ignoreLineNumbers, true);
+      ignoreSourceFileComparator = result;
+    }
+    return result;
+  }
+
+  /**
+   * Creates a derived instance of {@code this} {@link ClassFileComparator}
+   * with the given configuration, which gets used by the configuration
+   * methods (e.g., {@link #ignoreLineNumbers()}).
+   *
+   * <p>A subclass should override this method to return an instance of
+   * itself, so that the derived instances keep its overridden methods.
+   *
+   * @param ignoreLineNumbers whether to exclude the {@code LineNumberTable}
+   *                          attributes.
+   * @param ignoreSourceFile  whether to exclude the {@code SourceFile} and
+   *                          {@code SourceDebugExtension} attributes.
+   * @return a new {@link ClassFileComparator}; never null.
+   */
+  protected ClassFileComparator createDerived(boolean ignoreLineNumbers, boolean ignoreSourceFile) {
+    return new ClassFileComparator(ignoreLineNumbers, ignoreSourceFile);
+  }
+
+  /**
+   * Determines the order of the given class files.
+   *
+   * @param first  the content of a class file; may be null.
+   * @param second the content of a class file; may be null.
+   * @return an {@code int} indicating the order of {@code first} and
+   * {@code second}.
+   */
+  @Override
+  public int compare(byte[] first, byte[] second) {
+    Integer nullCheckResult = ComparatorUtils.compareNullCheck(first, second);
+    if (nullCheckResult != null) {
+      return nullCheckResult;
+    }
+
+    if (Arrays.equals(first, second)) {
+      return 0;
+    }
+
+    if (Arrays.equals(normalize(first), normalize(second))) {
+      return 0;
+    }
+
+    return compareClassNodes(first, second);
+  }
+
+  /**
+   * Determines the order of the remaining bytes of the given
+   * {@link ByteBuffer}s, which contain class files.
+   *
+   * <p>The positions of the {@link ByteBuffer}s stay unchanged.
+   *
+   * @param first  the content of a class file; may be null.
+   * @param second the content of a class file; may be null.
+   * @return an {@code int} indicating the order of {@code first} and
+   * {@code second}.
+   */
+  public int compare(ByteBuffer first, ByteBuffer second) {
+    Integer nullCheckResult = ComparatorUtils.compareNullCheck(first, second);
+    if (nullCheckResult != null) {
+      return nullCheckResult;
+    }
+
+    // Compares the remaining bytes without copying them
+    if (first.equals(second)) {
+      return 0;
+    }
+
+    return compare(toByteArray(first), toByteArray(second));
+  }
+
+  /**
+   * Normalizes the given class file.
+   *
+   * <p>The class file gets rewritten without copying its constant pool.
+   * Therefore, the entries of the constant pool are in the order of their
+   * first usage, and two class files that only differ in the order of their
+   * constant pool are normalized to the same bytes. Depending on the
+   * configuration of this {@link ClassFileComparator}, the
+   * {@code LineNumberTable}, {@code SourceFile} and
+   * {@code SourceDebugExtension} attributes get removed.
+   *
+   * <p>Unknown (i.e., non-standard) attributes get copied with their raw
+   * content. Indices into the constant pool in such a content still refer to
+   * the original constant pool. Therefore, the normalized class file is not
+   * safe to be read or loaded if it contains such attributes. The result of
+   * {@link #compare(byte[], byte[])} is not affected, since the
+   * {@link AttributeComparator} compares the raw contents as well.
+   *
+   * @param classFile the content of a class file; never null.
+   * @return the normalized class file; never null.
+   */
+  public byte[] normalize(byte[] classFile) {
+    Objects.requireNonNull(classFile);
+
+    var classWriter = new ClassWriter(0);
+    new ClassReader(classFile).accept(new NormalizingClassVisitor(classWriter), 0);
+    return classWriter.toByteArray();
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private int compareClassNodes(byte[] first, byte[] second) {
+    ClassNode firstClassNode = readClassNode(first);
+    ClassNode secondClassNode = readClassNode(second);
+
+    ClassNodeComparator classNodeComparator = ignoreLineNumbers ? ClassNodeComparator.INSTANCE_IGNORE_LINE_NUMBERS : ClassNodeComparator.INSTANCE;
+    return classNodeComparator.compare(firstClassNode, secondClassNode);
+  }
+
+  private ClassNode readClassNode(byte[] classFile) {
+    var classNode = new ClassNode();
+    new ClassReader(classFile).accept(classNode, 0);
+
+    if (ignoreSourceFile) {
+      classNode.sourceFile = null;
+      classNode.sourceDebug = null;
+    }
+
+    return classNode;
+  }
+
+  private static byte[] toByteArray(ByteBuffer byteBuffer) {
+    if (byteBuffer.hasArray() && byteBuffer.arrayOffset() == 0 && byteBuffer.position() == 0
+        && byteBuffer.remaining() == byteBuffer.array().length) {
+
+      return byteBuffer.array();
+    }
+
+    var bytes = new byte[byteBuffer.remaining()];
+    byteBuffer.duplicate().get(bytes);
+    return bytes;
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  private class NormalizingClassVisitor extends ClassVisitor {
+
+    NormalizingClassVisitor(ClassVisitor classVisitor) {
+      super(Opcodes.ASM9, classVisitor);
+    }
+
+    @Override
+    public void visitSource(String source, String debug) {
+      if (!ignoreSourceFile) {
+        super.visitSource(source, debug);
+      }
+    }
+
+    @Override
+    public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+      MethodVisitor methodVisitor = super.visitMethod(access, name, descriptor, signature, exceptions);
+      if (!ignoreLineNumbers) {
+        return methodVisitor;
+      }
+
+      return new MethodVisitor(Opcodes.ASM9, methodVisitor) {
+        @Override
+        public void visitLineNumber(int line, Label start) {
+          // Skip line numbers
+        }
+      };
+    }
+  }
+}
@@ -1,12 +1,14 @@
 package dev.turingcomplete.asmtestkit.comparator;
 
-import dev.turingcomplete.asmtestkit.asmutils.InsnListUtils;
 import dev.turingcomplete.asmtestkit.asmutils.MethodNodeUtils;
 import dev.turingcomplete.asmtestkit.asmutils.TypeUtils;
 import dev.turingcomplete.asmtestkit.common.LabelIndexLookup;
 import dev.turingcomplete.asmtestkit.common.IgnoreLineNumbersCapable;
 import dev.turingcomplete.asmtestkit.comparator._internal.ComparatorUtils;
 import dev.turingcomplete.asmtestkit.comparator._internal.IterableComparator;
+import dev.turingcomplete.asmtestkit.comparator._internal.ParallelIterableComparator;
+import dev.turingcomplete.asmtestkit.fingerprint.AsmFingerprint;
+import dev.turingcomplete.asmtestkit.fingerprint.AsmFingerprints;
 import dev.turingcomplete.asmtestkit.node.AccessNode;
 import org.objectweb.asm.Attribute;
 import org.objectweb.asm.Type;
@@ -21,9 +23,14 @@ import org.objectweb.asm.tree.TypeAnnotationNode;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static dev.turingcomplete.asmtestkit.comparator._internal.ComparatorUtils.sizeOrMinusOne;
+
 /**
  * A comparison function to order {@link ClassNode}s.
  *
@@ -37,6 +44,31 @@ public class ClassNodeComparator
 
   // -- Class Fields ------------------------------------------------------------------------------------------------ //
 
+  /**
+   * Shared by all instances, so that the fingerprints memoized in a
+   * {@link ComparisonContext} get reused by all of them.
+   */
+  private static final Function<ClassNode, AsmFingerprint> FINGERPRINTER = AsmFingerprints.INSTANCE::fingerprint;
+
+  /**
+   * Compares the scalars and sizes of two {@link ClassNode}s, which must be
+   * equal if the full comparison considers the classes as equal.
+   */
+  private static final Comparator<ClassNode> CHEAP_COMPARATOR =
+          Comparator.comparingInt((ClassNode classNode) -> classNode.version)
+                    .thenComparingInt((ClassNode classNode) -> classNode.access)
+                    .thenComparingInt((ClassNode classNode) -> sizeOrMinusOne(classNode.methods))
+                    .thenComparingInt((ClassNode classNode) -> sizeOrMinusOne(classNode.fields))
+                    .thenComparingInt((ClassNode classNode) -> namesCount(classNode.interfaces))
+                    .thenComparingInt((ClassNode classNode) -> sizeOrMinusOne(classNode.innerClasses))
+                    .thenComparingInt((ClassNode classNode) -> namesCount(classNode.nestMembers))
+                    .thenComparingInt((ClassNode classNode) -> namesCount(classNode.permittedSubclasses))
+                    .thenComparingInt((ClassNode classNode) -> sizeOrMinusOne(classNode.visibleAnnotations))
+                    .thenComparingInt((ClassNode classNode) -> sizeOrMinusOne(classNode.invisibleAnnotations))
+                    .thenComparingInt((ClassNode classNode) -> sizeOrMinusOne(classNode.visibleTypeAnnotations))
+                    .thenComparingInt((ClassNode classNode) -> sizeOrMinusOne(classNode.invisibleTypeAnnotations))
+                    .thenComparingInt((ClassNode classNode) -> sizeOrMinusOne(classNode.attrs));
+
   /**
    * A reusable {@link ClassNodeComparator} instance.
    */
@@ -46,7 +78,7 @@ public class ClassNodeComparator
    * A reusable {@link ClassNodeComparator} instance, which excludes line numbers
    * from the comparison.
    */
-  public static final ClassNodeComparator INSTANCE_IGNORE_LINE_NUMBERS = create().ignoreLineNumbers();
+  public static final ClassNodeComparator INSTANCE_IGNORE_LINE_NUMBERS = INSTANCE.ignoreLineNumbers();
 
   /**
    * A reusable {@link Comparator} instance for an {@link Iterable} of
@@ -60,14 +92,58 @@ public class ClassNodeComparator
    */
   public static final Comparator<Iterable<? extends ClassNode>> ITERABLE_INSTANCE_IGNORE_LINE_NUMBERS = new IterableComparator<>(INSTANCE_IGNORE_LINE_NUMBERS);
 
+  /**
+   * A reusable {@link Comparator} instance for an {@link Iterable} of
+   * {@link ClassNode}s, which compares the classes in parallel on the
+   * {@link ForkJoinPool#commonPool()}.
+   *
+   * @see #createParallelIterableComparator(Executor)
+   */
+  public static final Comparator<Iterable<? extends ClassNode>> PARALLEL_ITERABLE_INSTANCE = INSTANCE.createParallelIterableComparator(ForkJoinPool.commonPool());
+
+  /**
+   * A reusable {@link Comparator} instance for an {@link Iterable} of
+   * {@link ClassNode}s, which compares the classes in parallel on the
+   * {@link ForkJoinPool#commonPool()} and excludes line numbers from the
+   * comparison.
+   *
+   * @see #createParallelIterableComparator(Executor)
+   */
+  public static final Comparator<Iterable<? extends ClassNode>> PARALLEL_ITERABLE_INSTANCE_IGNORE_LINE_NUMBERS = INSTANCE_IGNORE_LINE_NUMBERS.createParallelIterableComparator(ForkJoinPool.commonPool());
+
   // -- Instance Fields --------------------------------------------------------------------------------------------- //
 
-  private boolean ignoreLineNumbers = false;
+  private final boolean         ignoreLineNumbers;
+  /**
+   * If null, the methods get compared sequentially.
+   */
+  private final Executor        methodsExecutor;
+  private final boolean         cheapFirst;
+
+  /**
+   * Lazily initialized derived instances of {@link #ignoreLineNumbers()},
+   * {@link #compareMethodsInParallel()} and {@link #compareCheapFirst()}.
+   */
+  private volatile ClassNodeComparator ignoreLineNumbersComparator;
+  private volatile ClassNodeComparator compareMethodsInParallelComparator;
+  private volatile ClassNodeComparator compareCheapFirstComparator;
 
   // -- Initialization ---------------------------------------------------------------------------------------------- //
 
   protected ClassNodeComparator() {
+    this(false, null);
+  }
+
+  protected ClassNodeComparator(boolean ignoreLineNumbers, Executor methodsExecutor) {
+    this(ignoreLineNumbers, methodsExecutor, false);
+  }
+
+  protected ClassNodeComparator(boolean ignoreLineNumbers, Executor methodsExecutor, boolean cheapFirst) {
     super(ClassNodeComparator.class, ClassNode.class);
+
+    this.ignoreLineNumbers = ignoreLineNumbers;
+    this.methodsExecutor = methodsExecutor;
+    this.cheapFirst = cheapFirst;
   }
 
   // -- Exposed Methods --------------------------------------------------------------------------------------------- //
@@ -85,17 +161,186 @@ public class ClassNodeComparator
    * Exclude {@link LineNumberNode}s (and its associated {@link LabelNode}s)
    * from the comparison.
    *
-   * @return {@code this} {@link ClassNodeComparator}; never null.
+   * <p>{@code this} {@link ClassNodeComparator} stays unchanged.
+   *
+   * @return a {@link ClassNodeComparator} which excludes line numbers; never
+   * null. Repeated calls return the same instance.
    */
   @Override
   public ClassNodeComparator ignoreLineNumbers() {
-    this.ignoreLineNumbers = true;
+    if (ignoreLineNumbers) {
+      return this;
+    }
+
+    ClassNodeComparator result = ignoreLineNumbersComparator;
+    if (result == null) {
+      result = createDerived(true, methodsExecutor, cheapFirst);
+      ignoreLineNumbersComparator = result;
+    }
+    return result;
+  }
+
+  /**
+   * Compares the {@link ClassNode#methods} in parallel on the
+   * {@link ForkJoinPool#commonPool()}.
+   *
+   * <p>{@code this} {@link ClassNodeComparator} stays unchanged.
+   *
+   * @return a {@link ClassNodeComparator} which compares the methods in
+   * parallel; never null. Repeated calls return the same instance.
+   * @see #compareMethodsInParallel(Executor)
+   */
+  public ClassNodeComparator compareMethodsInParallel() {
+    if (methodsExecutor == ForkJoinPool.commonPool()) {
+      return this;
+    }
+
+    ClassNodeComparator result = compareMethodsInParallelComparator;
+    if (result == null) {
+      result = createDerived(ignoreLineNumbers, ForkJoinPool.commonPool(), cheapFirst);
+      compareMethodsInParallelComparator = result;
+    }
+    return result;
+  }
+
+  /**
+   * Compares the {@link ClassNode#methods} in parallel on the given
+   * {@link Executor}.
+   *
+   * <p>The methods get paired by their name and descriptor and each pair
+   * gets compared independently. See
+   * {@link MethodNodeComparator#createParallelIterableComparator(Executor)}.
+   *
+   * <p>{@code this} {@link ClassNodeComparator} stays unchanged.
+   *
+   * @param executor the {@link Executor} to run the comparison tasks on;
+   *                 never null.
+   * @return a new {@link ClassNodeComparator} which compares the methods in
+   * parallel; never null.
+   */
+  public ClassNodeComparator compareMethodsInParallel(Executor executor) {
+    return createDerived(ignoreLineNumbers, Objects.requireNonNull(executor), cheapFirst);
+  }
+
+  /**
+   * Compares the cheap scalars and sizes first (e.g., the number of methods
+   * and fields or the number of annotations) and only if they are all equal,
+   * the expensive structural components.
+   *
+   * <p>If the cheap components are equal and line numbers are not excluded,
+   * differing {@link AsmFingerprint}s rule out the equality of the classes
+   * without the full comparison.
+   *
+   * <p>Two {@link ClassNode}s are equal in exactly the same cases as without
+   * this mode, and the order is still total and deterministic. But unequal
+   * classes may be ordered differently, since the first non-matching cheap
+   * component or the fingerprints decide the order.
+   *
+   * <p>{@code this} {@link ClassNodeComparator} stays unchanged.
+   *
+   * @return a {@link ClassNodeComparator} which compares the cheap components
+   * first; never null. Repeated calls return the same instance.
+   * @see #compareCheap(ClassNode, ClassNode)
+   */
+  public ClassNodeComparator compareCheapFirst() {
+    if (cheapFirst) {
+      return this;
+    }
 
-    return this;
+    ClassNodeComparator result = compareCheapFirstComparator;
+    if (result == null) {
+      result = createDerived(ignoreLineNumbers, methodsExecutor, true);
+      compareCheapFirstComparator = result;
+    }
+    return result;
+  }
+
+  /**
+   * Compares only the cheap scalars and sizes of the given
+   * {@link ClassNode}s.
+   *
+   * <p>A non-zero result implies that {@link #compare(Object, Object)} would
+   * not consider the classes as equal. A zero result is inconclusive.
+   *
+   * @param first  the first {@link ClassNode}; never null.
+   * @param second the second {@link ClassNode}; never null.
+   * @return an {@code int} indicating the order of the cheap components of
+   * {@code first} and {@code second}.
+   */
+  public int compareCheap(ClassNode first, ClassNode second) {
+    return CHEAP_COMPARATOR.compare(Objects.requireNonNull(first), Objects.requireNonNull(second));
+  }
+
+  /**
+   * Creates a {@link Comparator} for an {@link Iterable} of {@link ClassNode}s,
+   * which pairs the classes by their name and compares each pair in parallel
+   * with {@code this} {@link ClassNodeComparator}.
+   *
+   * <p>Each pair gets its own {@link LabelIndexLookup}. The result is
+   * deterministic and independent of the execution order.
+   *
+   * @param executor the {@link Executor} to run the comparison tasks on;
+   *                 never null.
+   * @return a new {@link WithLabelIndexAsmComparator}; never null.
+   */
+  public WithLabelIndexAsmComparator<Iterable<? extends ClassNode>> createParallelIterableComparator(Executor executor) {
+    return ParallelIterableComparator.create(this, (ClassNode classNode) -> classNode.name, executor);
+  }
+
+  /**
+   * Creates a derived instance of {@code this} {@link ClassNodeComparator} with the
+   * given configuration, which gets used by the configuration methods (e.g.,
+   * {@link #ignoreLineNumbers()}).
+   *
+   * <p>A subclass should override this method to return an instance of
+   * itself, so that the derived instances keep its overridden methods.
+   *
+   * @param ignoreLineNumbers whether to exclude line numbers.
+   * @param methodsExecutor   the {@link Executor} to compare the methods in
+   *                          parallel; may be null to compare them
+   *                          sequentially.
+   * @param cheapFirst        whether to compare the cheap components first.
+   * @return a new {@link ClassNodeComparator}; never null.
+   */
+  protected ClassNodeComparator createDerived(boolean ignoreLineNumbers, Executor methodsExecutor, boolean cheapFirst) {
+    return new ClassNodeComparator(ignoreLineNumbers, methodsExecutor, cheapFirst);
   }
 
   @Override
   protected int doCompare(ClassNode first, ClassNode second, LabelIndexLookup labelIndexLookup) {
+    if (cheapFirst) {
+      int cheapResult = CHEAP_COMPARATOR.compare(first, second);
+      if (cheapResult != 0) {
+        return cheapResult;
+      }
+    }
+
+    try (ComparisonContext context = ComparisonContext.open()) {
+      // Without line numbers, copies of the methods get compared, which may
+      // be equal despite differing original methods (e.g., a null and an
+      // empty list of parameters).
+      if (cheapFirst && !ignoreLineNumbers) {
+        int fingerprintResult = context.fingerprint(first, FINGERPRINTER).compareTo(context.fingerprint(second, FINGERPRINTER));
+        if (fingerprintResult != 0) {
+          return fingerprintResult;
+        }
+      }
+
+      return doCompareInContext(first, second, labelIndexLookup);
+    }
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * The names get compared via {@link TypeUtils#namesToTypes(List)}, which
+   * maps a null {@link List} to an empty one.
+   */
+  private static int namesCount(List<String> names) {
+    return names != null ? names.size() : 0;
+  }
+
+  private int doCompareInContext(ClassNode first, ClassNode second, LabelIndexLookup labelIndexLookup) {
     var classNodeComparator = Comparator.comparing((ClassNode classNode) -> classNode.version, ComparatorUtils.INTEGER_COMPARATOR)
                                         .thenComparing((ClassNode classNode) -> AccessNode.forClass(classNode.access), asmComparators.elementComparator(AccessNode.class))
                                         .thenComparing((ClassNode classNode) -> TypeUtils.nameToTypeElseNull(classNode.name), asmComparators.elementComparator(Type.class))
@@ -118,18 +363,19 @@ public class ClassNodeComparator
                                         .thenComparing((ClassNode classNode) -> TypeUtils.namesToTypes(classNode.permittedSubclasses), asmComparators.iterableComparator(Type.class))
                                         .thenComparing((ClassNode classNode) -> classNode.fields, asmComparators.iterableComparator(FieldNode.class));
 
-    Comparator<? super Iterable<? extends MethodNode>> methodNodeComparator = asmComparators.iterableComparator(MethodNode.class);
+    Comparator<? super Iterable<? extends MethodNode>> methodNodeComparator = methodsExecutor != null
+            ? ParallelIterableComparator.create(asmComparators.elementComparator(MethodNode.class), (MethodNode methodNode) -> methodNode.name + methodNode.desc, methodsExecutor)
+            : asmComparators.iterableComparator(MethodNode.class);
     if (ignoreLineNumbers) {
-      classNodeComparator.thenComparing(new MethodNodesComparatorWithFilteredLineNumbers(labelIndexLookup, methodNodeComparator));
+      classNodeComparator = classNodeComparator.thenComparing(new MethodNodesComparatorWithFilteredLineNumbers(labelIndexLookup, methodNodeComparator));
     }
     else {
-      classNodeComparator.thenComparing((ClassNode classNode) -> classNode.methods, methodNodeComparator);
+      classNodeComparator = classNodeComparator.thenComparing((ClassNode classNode) -> classNode.methods, methodNodeComparator);
     }
 
     return classNodeComparator.compare(first, second);
   }
 
-  // -- Private Methods --------------------------------------------------------------------------------------------- //
   // -- Inner Type -------------------------------------------------------------------------------------------------- //
 
   private static class MethodNodesComparatorWithFilteredLineNumbers implements Comparator<ClassNode> {
@@ -153,7 +399,7 @@ public class ClassNodeComparator
     private Function<MethodNode, MethodNode> getMethodNodeMethodNodeFunction() {
       return methodNode -> {
         // Filter line numbers
-        MethodNode methodNodePrepared = InsnListUtils.copyWithFilteredLineNumbers(methodNode);
+        MethodNode methodNodePrepared = MethodNodeComparator.copyWithFilteredLineNumbers(methodNode);
 
         // Collect label indices
         // Because of the line number filtering, we may have to overwrite existing
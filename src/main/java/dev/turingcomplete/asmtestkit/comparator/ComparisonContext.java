@@ -0,0 +1,238 @@
+package dev.turingcomplete.asmtestkit.comparator;
+
+import dev.turingcomplete.asmtestkit.fingerprint.AsmFingerprint;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Memoizes comparison results, canonical representations and fingerprints of
+ * nodes for the duration of a single top-level comparison.
+ *
+ * <p>During a comparison of large nodes, the same sub-structures get compared
+ * many times, for example, the elements of an {@link Iterable} while it gets
+ * sorted. An active context remembers the result for each pair of node
+ * identities per comparator and the canonical {@link String}, the
+ * {@link AsmFingerprint} and the prepared copy of each node identity per
+ * function.
+ *
+ * <p>The results are keyed by node identity, so only the comparisons of
+ * nodes which live longer than a single comparison can be reused. Prepared
+ * copies (e.g., a {@link org.objectweb.asm.tree.MethodNode} without line
+ * numbers) should therefore be created via {@link #copy(Object, UnaryOperator)}
+ * and comparators of short-lived value objects (e.g., an
+ * {@link dev.turingcomplete.asmtestkit.node.AccessNode}) should not be
+ * memoized at all (see {@link AsmComparator#isMemoizable()}).
+ *
+ * <p>A context is bound to the current thread and gets activated via
+ * {@link #open()}. Nested calls of {@link #open()} reuse the active context.
+ * After the outermost context gets closed, all memoized values are released:
+ * <pre>{@code
+ * try (ComparisonContext ignored = ComparisonContext.open()) {
+ *   ClassNodeComparator.INSTANCE.compare(first, second);
+ * }
+ * }</pre>
+ *
+ * <p>The {@link ClassNodeComparator} and the {@link MethodNodeComparator}
+ * open a context for each comparison. Comparisons that run on other threads
+ * (e.g., {@link ClassNodeComparator#compareMethodsInParallel()}) don't see
+ * the context of the calling thread and are not memoized.
+ *
+ * <p>The nodes must not be modified while a context is active.
+ */
+public final class ComparisonContext implements AutoCloseable {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final ThreadLocal<ComparisonContext> ACTIVE_CONTEXT = new ThreadLocal<>();
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final Map<IdentityKey, Integer>                results        = new HashMap<>();
+  private final Map<Function<?, ?>, Map<Object, Object>> memoizedValues = new IdentityHashMap<>();
+
+  private int openCount = 1;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  private ComparisonContext() {
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Activates a {@link ComparisonContext} for the current thread.
+   *
+   * <p>If there is already an active context, it gets reused and will only be
+   * released after the outermost {@link #close()}.
+   *
+   * @return the active {@link ComparisonContext}, which must be closed; never
+   * null.
+   */
+  public static ComparisonContext open() {
+    ComparisonContext context = ACTIVE_CONTEXT.get();
+    if (context != null) {
+      context.openCount++;
+      return context;
+    }
+
+    context = new ComparisonContext();
+    ACTIVE_CONTEXT.set(context);
+    return context;
+  }
+
+  /**
+   * Gets the active {@link ComparisonContext} of the current thread.
+   *
+   * @return the active {@link ComparisonContext}; may be null if there is
+   * none.
+   */
+  public static ComparisonContext current() {
+    return ACTIVE_CONTEXT.get();
+  }
+
+  /**
+   * Gets the memoized result of the comparison of the given nodes by the given
+   * comparator or computes and memoizes it.
+   *
+   * @param comparator the comparator which compares the nodes; never null.
+   * @param first      the first node; never null.
+   * @param second     the second node; never null.
+   * @param comparison computes the result if there is no memoized one; never
+   *                   null.
+   * @return the comparison result.
+   */
+  public int compare(Object comparator, Object first, Object second, IntSupplier comparison) {
+    Objects.requireNonNull(comparator);
+    Objects.requireNonNull(comparison);
+
+    var key = new IdentityKey(comparator, Objects.requireNonNull(first), Objects.requireNonNull(second));
+    Integer result = results.get(key);
+    if (result == null) {
+      // Not using 'computeIfAbsent' because nested comparisons modify the map
+      result = comparison.getAsInt();
+      results.put(key, result);
+    }
+    return result;
+  }
+
+  /**
+   * Gets the memoized canonical {@link String} of the given node or computes
+   * and memoizes it.
+   *
+   * <p>The values are memoized per identity of {@code canonicalizer}, so the
+   * same {@link Function} instance should be used for each call.
+   *
+   * @param node          the node; never null.
+   * @param canonicalizer creates the canonical {@link String} if there is no
+   *                      memoized one; never null.
+   * @param <T>           the type of the node.
+   * @return the canonical {@link String}; may be null if {@code canonicalizer}
+   * returns null.
+   */
+  public <T> String canonicalString(T node, Function<? super T, String> canonicalizer) {
+    return memoize(node, canonicalizer);
+  }
+
+  /**
+   * Gets the memoized {@link AsmFingerprint} of the given node or computes
+   * and memoizes it.
+   *
+   * <p>The values are memoized per identity of {@code fingerprinter}, so the
+   * same {@link Function} instance should be used for each call.
+   *
+   * @param node          the node; never null.
+   * @param fingerprinter creates the {@link AsmFingerprint} if there is no
+   *                      memoized one; never null.
+   * @param <T>           the type of the node.
+   * @return the {@link AsmFingerprint}; never null.
+   */
+  public <T> AsmFingerprint fingerprint(T node, Function<? super T, AsmFingerprint> fingerprinter) {
+    return Objects.requireNonNull(memoize(node, fingerprinter));
+  }
+
+  /**
+   * Gets the memoized copy of the given node or creates and memoizes it.
+   *
+   * <p>Since the comparison results are keyed by node identity, the
+   * comparisons of a copy can only be reused if the same copy gets used each
+   * time. The copies are memoized per identity of {@code copier}, so the
+   * same {@link UnaryOperator} instance should be used for each call.
+   *
+   * @param node   the original node; never null.
+   * @param copier creates the copy if there is no memoized one; never null.
+   * @param <T>    the type of the node.
+   * @return the copy; never null.
+   */
+  public <T> T copy(T node, UnaryOperator<T> copier) {
+    return Objects.requireNonNull(memoize(node, copier));
+  }
+
+  /**
+   * Closes this context. If this is the outermost {@link #open()}, all
+   * memoized values get released and the context gets deactivated.
+   */
+  @Override
+  public void close() {
+    if (--openCount == 0) {
+      results.clear();
+      memoizedValues.clear();
+      ACTIVE_CONTEXT.remove();
+    }
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private <T, R> R memoize(T node, Function<? super T, R> function) {
+    Objects.requireNonNull(node);
+    Objects.requireNonNull(function);
+
+    Map<Object, Object> nodeToValue = memoizedValues.computeIfAbsent(function, key -> new IdentityHashMap<>());
+    if (nodeToValue.containsKey(node)) {
+      //noinspection unchecked
+      return (R) nodeToValue.get(node);
+    }
+
+    R value = function.apply(node);
+    nodeToValue.put(node, value);
+    return value;
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  private static final class IdentityKey {
+
+    private final Object comparator;
+    private final Object first;
+    private final Object second;
+    private final int    hashCode;
+
+    IdentityKey(Object comparator, Object first, Object second) {
+      this.comparator = comparator;
+      this.first = first;
+      this.second = second;
+      this.hashCode = 31 * (31 * System.identityHashCode(comparator) + System.identityHashCode(first)) + System.identityHashCode(second);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof IdentityKey)) {
+        return false;
+      }
+      var that = (IdentityKey) o;
+      return comparator == that.comparator && first == that.first && second == that.second;
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
@@ -1,7 +1,9 @@
 package dev.turingcomplete.asmtestkit.comparator;
 
+import dev.turingcomplete.asmtestkit.common._internal.ClassRegistry;
 import dev.turingcomplete.asmtestkit.node.AccessNode;
 import dev.turingcomplete.asmtestkit.node.AnnotationDefaultNode;
+import dev.turingcomplete.asmtestkit.node.PackedInsnList;
 import org.objectweb.asm.Attribute;
 import org.objectweb.asm.Type;
 import org.objectweb.asm.TypePath;
@@ -20,8 +22,6 @@ import org.objectweb.asm.tree.TryCatchBlockNode;
 import org.objectweb.asm.tree.TypeAnnotationNode;
 
 import java.util.Comparator;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 import java.util.function.Supplier;
 
@@ -33,7 +33,11 @@ public final class DefaultAsmComparators implements AsmComparators {
    */
   public static final DefaultAsmComparators INSTANCE = create();
 
-  private static final Map<Class<?>, Container<?>> ASM_COMPARATORS = new HashMap<>();
+  /**
+   * Thread-safe, because the registrations may be accessed and extended
+   * concurrently (e.g., with parallel JUnit test execution).
+   */
+  private static final ClassRegistry<Container<?>> ASM_COMPARATORS = ClassRegistry.create();
 
   // -- Instance Fields --------------------------------------------------------------------------------------------- //
   // -- Initialization ---------------------------------------------------------------------------------------------- //
@@ -49,6 +53,7 @@ public final class DefaultAsmComparators implements AsmComparators {
     registerAsmComparator(FieldNode.class, () -> FieldNodeComparator.INSTANCE, () -> FieldNodeComparator.ITERABLE_INSTANCE);
     registerAsmComparator(AbstractInsnNode.class, () -> InstructionComparator.INSTANCE, () -> InsnListComparator.INSTANCE);
     registerAsmComparator(LabelNode.class, () -> LabelNodeComparator.INSTANCE, () -> LabelNodeComparator.ITERABLE_INSTANCE);
+    registerAsmComparator(PackedInsnList.class, () -> PackedInsnListComparator.INSTANCE, () -> PackedInsnListComparator.ITERABLE_INSTANCE);
     registerAsmComparator(MethodNode.class, () -> MethodNodeComparator.INSTANCE, () -> MethodNodeComparator.ITERABLE_INSTANCE);
     registerAsmComparator(LocalVariableNode.class, () -> LocalVariableNodeComparator.INSTANCE, () -> LocalVariableNodeComparator.ITERABLE_INSTANCE);
     registerAsmComparator(ParameterNode.class, () -> ParameterNodeComparator.INSTANCE, () -> ParameterNodeComparator.ITERABLE_INSTANCE);
@@ -77,24 +82,26 @@ public final class DefaultAsmComparators implements AsmComparators {
   public <T> Comparator<T> elementComparator(Class<T> elementClass) {
     Objects.requireNonNull(elementClass);
 
-    if (!ASM_COMPARATORS.containsKey(elementClass)) {
+    Container<?> container = ASM_COMPARATORS.findExact(elementClass);
+    if (container == null) {
       throw new IllegalArgumentException("No element comparator for: " + elementClass.getName());
     }
 
     //noinspection unchecked
-    return (Comparator<T>) ASM_COMPARATORS.get(elementClass).elementComparator();
+    return (Comparator<T>) container.elementComparator();
   }
 
   @Override
   public <T> Comparator<? super Iterable<? extends T>> iterableComparator(Class<T> elementClass) {
     Objects.requireNonNull(elementClass);
 
-    if (!ASM_COMPARATORS.containsKey(elementClass)) {
+    Container<?> container = ASM_COMPARATORS.findExact(elementClass);
+    if (container == null) {
       throw new IllegalArgumentException("No iterable comparator for: " + elementClass.getName());
     }
 
     //noinspection unchecked
-    return (Comparator<? super Iterable<? extends T>>) ASM_COMPARATORS.get(elementClass).iterableComparator();
+    return (Comparator<? super Iterable<? extends T>>) container.iterableComparator();
   }
 
   public static <T> void registerAsmComparator(Class<? extends T> elementClass,
@@ -105,19 +112,26 @@ public final class DefaultAsmComparators implements AsmComparators {
     Objects.requireNonNull(comparator);
     Objects.requireNonNull(iterableComparator);
 
-    ASM_COMPARATORS.put(elementClass, new Container<>(comparator, iterableComparator));
+    var container = new Container<>(comparator, iterableComparator);
+    ASM_COMPARATORS.register(elementClass, () -> container);
   }
 
   // -- Private Methods --------------------------------------------------------------------------------------------- //
   // -- Inner Type -------------------------------------------------------------------------------------------------- //
 
+  /**
+   * The comparators are lazily initialized. A concurrent first access may
+   * call a supplier more than once, which is harmless, because the suppliers
+   * return shared stateless instances, and the {@code volatile} fields
+   * guarantee a safe publication of the result.
+   */
   private static class Container<T> {
 
-    private       Comparator<? extends T>           elementComparator;
-    private final Supplier<Comparator<? extends T>> elementComparatorSupplier;
+    private volatile Comparator<? extends T>           elementComparator;
+    private final    Supplier<Comparator<? extends T>> elementComparatorSupplier;
 
-    private       Comparator<Iterable<? extends T>>           iterableComparator;
-    private final Supplier<Comparator<Iterable<? extends T>>> iterableComparatorSupplier;
+    private volatile Comparator<Iterable<? extends T>>           iterableComparator;
+    private final    Supplier<Comparator<Iterable<? extends T>>> iterableComparatorSupplier;
 
     Container(Supplier<Comparator<? extends T>> elementComparatorSupplier,
               Supplier<Comparator<Iterable<? extends T>>> iterableComparatorSupplier) {
@@ -127,19 +141,23 @@ public final class DefaultAsmComparators implements AsmComparators {
     }
 
     public Comparator<? extends T> elementComparator() {
-      if (elementComparator == null) {
-        elementComparator = Objects.requireNonNull(elementComparatorSupplier.get());
+      Comparator<? extends T> result = elementComparator;
+      if (result == null) {
+        result = Objects.requireNonNull(elementComparatorSupplier.get());
+        elementComparator = result;
       }
 
-      return elementComparator;
+      return result;
     }
 
     public Comparator<? extends Iterable<? extends T>> iterableComparator() {
-      if (iterableComparator == null) {
-        iterableComparator = Objects.requireNonNull(iterableComparatorSupplier.get());
+      Comparator<Iterable<? extends T>> result = iterableComparator;
+      if (result == null) {
+        result = Objects.requireNonNull(iterableComparatorSupplier.get());
+        iterableComparator = result;
       }
 
-      return iterableComparator;
+      return result;
     }
   }
 }
@@ -1,6 +1,6 @@
 package dev.turingcomplete.asmtestkit.comparator;
 
-import dev.turingcomplete.asmtestkit.common.DefaultLabelIndexLookup;
+import dev.turingcomplete.asmtestkit.common.IdentityLabelIndexLookup;
 import dev.turingcomplete.asmtestkit.common.LabelIndexLookup;
 import dev.turingcomplete.asmtestkit.common.IgnoreLineNumbersCapable;
 import org.objectweb.asm.tree.AbstractInsnNode;
@@ -37,16 +37,27 @@ public class InsnListComparator
    * A reusable {@link InsnListComparator} instance, which excludes line numbers
    * from the comparison.
    */
-  public static final InsnListComparator INSTANCE_IGNORE_LINE_NUMBERS = create().ignoreLineNumbers();
+  public static final InsnListComparator INSTANCE_IGNORE_LINE_NUMBERS = INSTANCE.ignoreLineNumbers();
 
   // -- Instance Fields --------------------------------------------------------------------------------------------- //
 
-  private boolean ignoreLineNumbers = false;
+  private final boolean ignoreLineNumbers;
+
+  /**
+   * Lazily initialized derived instance of {@link #ignoreLineNumbers()}.
+   */
+  private volatile InsnListComparator ignoreLineNumbersComparator;
 
   // -- Initialization ---------------------------------------------------------------------------------------------- //
 
   protected InsnListComparator() {
+    this(false);
+  }
+
+  protected InsnListComparator(boolean ignoreLineNumbers) {
     super(InsnListComparator.class, Iterable.class);
+
+    this.ignoreLineNumbers = ignoreLineNumbers;
   }
 
   // -- Exposed Methods --------------------------------------------------------------------------------------------- //
@@ -64,18 +75,43 @@ public class InsnListComparator
    * Exclude {@link LineNumberNode}s (and its associated {@link LabelNode}s)
    * from the comparison.
    *
-   * @return {@code this} {@link InsnListComparator}; never null.
+   * <p>{@code this} {@link InsnListComparator} stays unchanged.
+   *
+   * @return an {@link InsnListComparator} which excludes line numbers; never
+   * null. Repeated calls return the same instance.
    */
   @Override
   public InsnListComparator ignoreLineNumbers() {
-    this.ignoreLineNumbers = true;
+    if (ignoreLineNumbers) {
+      return this;
+    }
+
+    InsnListComparator result = ignoreLineNumbersComparator;
+    if (result == null) {
+      result = createDerived(true);
+      ignoreLineNumbersComparator = result;
+    }
+    return result;
+  }
 
-    return this;
+  /**
+   * Creates a derived instance of {@code this} {@link InsnListComparator} with the
+   * given configuration, which gets used by the configuration methods (e.g.,
+   * {@link #ignoreLineNumbers()}).
+   *
+   * <p>A subclass should override this method to return an instance of
+   * itself, so that the derived instances keep its overridden methods.
+   *
+   * @param ignoreLineNumbers whether to exclude line numbers.
+   * @return a new {@link InsnListComparator}; never null.
+   */
+  protected InsnListComparator createDerived(boolean ignoreLineNumbers) {
+    return new InsnListComparator(ignoreLineNumbers);
   }
 
   @Override
   protected int doCompare(Iterable<? extends AbstractInsnNode> first, Iterable<? extends AbstractInsnNode> second) {
-    DefaultLabelIndexLookup labelIndexLookup = DefaultLabelIndexLookup.create(extractLabelIndices(first));
+    IdentityLabelIndexLookup labelIndexLookup = IdentityLabelIndexLookup.create(extractLabelIndices(first));
     labelIndexLookup.putAll(extractLabelIndices(second));
     return doCompare(first, second, labelIndexLookup);
   }
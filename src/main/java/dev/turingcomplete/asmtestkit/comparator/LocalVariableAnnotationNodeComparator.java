@@ -1,11 +1,10 @@
 package dev.turingcomplete.asmtestkit.comparator;
 
-import dev.turingcomplete.asmtestkit.common.DefaultLabelIndexLookup;
+import dev.turingcomplete.asmtestkit.common.IdentityLabelIndexLookup;
 import dev.turingcomplete.asmtestkit.common.LabelIndexLookup;
 import dev.turingcomplete.asmtestkit.comparator._internal.ComparatorUtils;
 import dev.turingcomplete.asmtestkit.comparator._internal.IterableComparator;
 import dev.turingcomplete.asmtestkit.comparator._internal.WithLabelIndexIterableAsmComparator;
-import dev.turingcomplete.asmtestkit.representation.AbstractTypeAnnotationNodeRepresentation;
 import org.objectweb.asm.tree.LabelNode;
 import org.objectweb.asm.tree.LocalVariableAnnotationNode;
 
@@ -16,9 +15,8 @@ import java.util.Comparator;
  *
  * <p>Two {@code LocalVariableAnnotationNode}s will be considered as equal if
  * their descriptors, values (order is ignored), type references, type paths,
- * start labels, end labels and indices are equal. If their values are not equal
- * they will be ordered based on the lexicographical order of their
- * {@link AbstractTypeAnnotationNodeRepresentation}s.
+ * start labels, end labels and indices are equal. Otherwise, they will be
+ * ordered by the first non-matching of these components.
  */
 public class LocalVariableAnnotationNodeComparator
         extends AbstractTypeAnnotationNodeComparator<LocalVariableAnnotationNodeComparator, LocalVariableAnnotationNode>
@@ -57,7 +55,7 @@ public class LocalVariableAnnotationNodeComparator
 
   @Override
   protected int doCompare(LocalVariableAnnotationNode first, LocalVariableAnnotationNode second) {
-    return doCompare(first, second, DefaultLabelIndexLookup.create());
+    return doCompare(first, second, IdentityLabelIndexLookup.create());
   }
 
   @Override
@@ -1,11 +1,14 @@
 package dev.turingcomplete.asmtestkit.comparator;
 
 import dev.turingcomplete.asmtestkit.asmutils.InsnListUtils;
-import dev.turingcomplete.asmtestkit.common.DefaultLabelIndexLookup;
+import dev.turingcomplete.asmtestkit.common.IdentityLabelIndexLookup;
 import dev.turingcomplete.asmtestkit.common.LabelIndexLookup;
 import dev.turingcomplete.asmtestkit.common.IgnoreLineNumbersCapable;
 import dev.turingcomplete.asmtestkit.comparator._internal.IterableComparator;
+import dev.turingcomplete.asmtestkit.comparator._internal.ParallelIterableComparator;
 import dev.turingcomplete.asmtestkit.comparator._internal.WithLabelIndexIterableAsmComparator;
+import dev.turingcomplete.asmtestkit.fingerprint.AsmFingerprint;
+import dev.turingcomplete.asmtestkit.fingerprint.AsmFingerprints;
 import dev.turingcomplete.asmtestkit.node.AccessNode;
 import dev.turingcomplete.asmtestkit.node.AnnotationDefaultNode;
 import org.objectweb.asm.Attribute;
@@ -22,11 +25,17 @@ import org.objectweb.asm.tree.TryCatchBlockNode;
 import org.objectweb.asm.tree.TypeAnnotationNode;
 
 import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 import static dev.turingcomplete.asmtestkit.asmutils.MethodNodeUtils.extractLabelIndices;
 import static dev.turingcomplete.asmtestkit.assertion._internal.AssertUtils.getFromObjectElseNull;
 import static dev.turingcomplete.asmtestkit.comparator._internal.ComparatorUtils.INTEGER_COMPARATOR;
 import static dev.turingcomplete.asmtestkit.comparator._internal.ComparatorUtils.STRING_COMPARATOR;
+import static dev.turingcomplete.asmtestkit.comparator._internal.ComparatorUtils.sizeOrMinusOne;
 import static org.assertj.core.util.Lists.newArrayList;
 
 /**
@@ -42,6 +51,37 @@ public class MethodNodeComparator
 
   // -- Class Fields ------------------------------------------------------------------------------------------------ //
 
+  /**
+   * Shared by all instances, so that the fingerprints memoized in a
+   * {@link ComparisonContext} get reused by all of them.
+   */
+  private static final Function<MethodNode, AsmFingerprint> FINGERPRINTER                     = AsmFingerprints.INSTANCE::fingerprint;
+  private static final Function<MethodNode, AsmFingerprint> FINGERPRINTER_IGNORE_LINE_NUMBERS = AsmFingerprints.INSTANCE_IGNORE_LINE_NUMBERS::fingerprint;
+
+  /**
+   * Shared with the {@link ClassNodeComparator}, so that each method gets
+   * only copied once per {@link ComparisonContext}.
+   */
+  private static final UnaryOperator<MethodNode> LINE_NUMBERS_FILTER = InsnListUtils::copyWithFilteredLineNumbers;
+
+  /**
+   * Compares the scalars and sizes of two {@link MethodNode}s, which must be
+   * equal if the full comparison considers the methods as equal.
+   */
+  private static final Comparator<MethodNode> CHEAP_COMPARATOR =
+          Comparator.comparingInt((MethodNode methodNode) -> methodNode.instructions != null ? methodNode.instructions.size() : -1)
+                    .thenComparingInt((MethodNode methodNode) -> methodNode.maxStack)
+                    .thenComparingInt((MethodNode methodNode) -> methodNode.maxLocals)
+                    .thenComparingInt((MethodNode methodNode) -> sizeOrMinusOne(methodNode.tryCatchBlocks))
+                    .thenComparingInt((MethodNode methodNode) -> sizeOrMinusOne(methodNode.localVariables))
+                    .thenComparingInt((MethodNode methodNode) -> sizeOrMinusOne(methodNode.exceptions))
+                    .thenComparingInt((MethodNode methodNode) -> sizeOrMinusOne(methodNode.parameters))
+                    .thenComparingInt((MethodNode methodNode) -> sizeOrMinusOne(methodNode.visibleAnnotations))
+                    .thenComparingInt((MethodNode methodNode) -> sizeOrMinusOne(methodNode.invisibleAnnotations))
+                    .thenComparingInt((MethodNode methodNode) -> sizeOrMinusOne(methodNode.visibleTypeAnnotations))
+                    .thenComparingInt((MethodNode methodNode) -> sizeOrMinusOne(methodNode.invisibleTypeAnnotations))
+                    .thenComparingInt((MethodNode methodNode) -> sizeOrMinusOne(methodNode.attrs));
+
   /**
    * A reusable {@link MethodNodeComparator} instance.
    */
@@ -51,7 +91,7 @@ public class MethodNodeComparator
    * A reusable {@link MethodNodeComparator} instance, which excludes line numbers
    * from the comparison.
    */
-  public static final MethodNodeComparator INSTANCE_IGNORE_LINE_NUMBERS = create().ignoreLineNumbers();
+  public static final MethodNodeComparator INSTANCE_IGNORE_LINE_NUMBERS = INSTANCE.ignoreLineNumbers();
 
   /**
    * A reusable {@link Comparator} instance for an {@link Iterable} of
@@ -65,14 +105,54 @@ public class MethodNodeComparator
    */
   public static final Comparator<Iterable<? extends MethodNode>> ITERABLE_INSTANCE_IGNORE_LINE_NUMBERS = WithLabelIndexIterableAsmComparator.create(INSTANCE_IGNORE_LINE_NUMBERS);
 
+  /**
+   * A reusable {@link Comparator} instance for an {@link Iterable} of
+   * {@link MethodNode}s, which compares the methods in parallel on the
+   * {@link ForkJoinPool#commonPool()}.
+   *
+   * @see #createParallelIterableComparator(Executor)
+   */
+  public static final Comparator<Iterable<? extends MethodNode>> PARALLEL_ITERABLE_INSTANCE = INSTANCE.createParallelIterableComparator(ForkJoinPool.commonPool());
+
+  /**
+   * A reusable {@link Comparator} instance for an {@link Iterable} of
+   * {@link MethodNode}s, which compares the methods in parallel on the
+   * {@link ForkJoinPool#commonPool()} and excludes line numbers from the
+   * comparison.
+   *
+   * @see #createParallelIterableComparator(Executor)
+   */
+  public static final Comparator<Iterable<? extends MethodNode>> PARALLEL_ITERABLE_INSTANCE_IGNORE_LINE_NUMBERS = INSTANCE_IGNORE_LINE_NUMBERS.createParallelIterableComparator(ForkJoinPool.commonPool());
+
   // -- Instance Fields --------------------------------------------------------------------------------------------- //
 
-  private boolean ignoreLineNumbers = false;
+  private final boolean                ignoreLineNumbers;
+  private final boolean                cheapFirst;
+  private final Function<MethodNode, AsmFingerprint> fingerprinter;
+
+  /**
+   * Lazily initialized derived instances of {@link #ignoreLineNumbers()} and
+   * {@link #compareCheapFirst()}.
+   */
+  private volatile MethodNodeComparator ignoreLineNumbersComparator;
+  private volatile MethodNodeComparator compareCheapFirstComparator;
 
   // -- Initialization ---------------------------------------------------------------------------------------------- //
 
   protected MethodNodeComparator() {
+    this(false);
+  }
+
+  protected MethodNodeComparator(boolean ignoreLineNumbers) {
+    this(ignoreLineNumbers, false);
+  }
+
+  protected MethodNodeComparator(boolean ignoreLineNumbers, boolean cheapFirst) {
     super(MethodNodeComparator.class, MethodNode.class);
+
+    this.ignoreLineNumbers = ignoreLineNumbers;
+    this.cheapFirst = cheapFirst;
+    this.fingerprinter = ignoreLineNumbers ? FINGERPRINTER_IGNORE_LINE_NUMBERS : FINGERPRINTER;
   }
 
   // -- Exposed Methods --------------------------------------------------------------------------------------------- //
@@ -90,26 +170,148 @@ public class MethodNodeComparator
    * Exclude {@link LineNumberNode}s (and its associated {@link LabelNode}s)
    * from the comparison.
    *
-   * @return {@code this} {@link MethodNodeComparator}; never null.
+   * <p>{@code this} {@link MethodNodeComparator} stays unchanged.
+   *
+   * @return a {@link MethodNodeComparator} which excludes line numbers; never
+   * null. Repeated calls return the same instance.
    */
   @Override
   public MethodNodeComparator ignoreLineNumbers() {
-    this.ignoreLineNumbers = true;
+    if (ignoreLineNumbers) {
+      return this;
+    }
 
-    return this;
+    MethodNodeComparator result = ignoreLineNumbersComparator;
+    if (result == null) {
+      result = createDerived(true, cheapFirst);
+      ignoreLineNumbersComparator = result;
+    }
+    return result;
+  }
+
+  /**
+   * Compares the cheap scalars and sizes first (e.g., the number of
+   * instructions, {@link MethodNode#maxStack}, {@link MethodNode#maxLocals}
+   * or the number of annotations) and only if they are all equal, the
+   * expensive structural components.
+   *
+   * <p>If the cheap components are equal, differing {@link AsmFingerprint}s
+   * rule out the equality of the methods without the full comparison.
+   *
+   * <p>Two {@link MethodNode}s are equal in exactly the same cases as without
+   * this mode, and the order is still total and deterministic. But unequal
+   * methods may be ordered differently, since the first non-matching cheap
+   * component or the fingerprints decide the order.
+   *
+   * <p>{@code this} {@link MethodNodeComparator} stays unchanged.
+   *
+   * @return a {@link MethodNodeComparator} which compares the cheap
+   * components first; never null. Repeated calls return the same instance.
+   * @see #compareCheap(MethodNode, MethodNode)
+   */
+  public MethodNodeComparator compareCheapFirst() {
+    if (cheapFirst) {
+      return this;
+    }
+
+    MethodNodeComparator result = compareCheapFirstComparator;
+    if (result == null) {
+      result = createDerived(ignoreLineNumbers, true);
+      compareCheapFirstComparator = result;
+    }
+    return result;
+  }
+
+  /**
+   * Compares only the cheap scalars and sizes of the given
+   * {@link MethodNode}s.
+   *
+   * <p>A non-zero result implies that {@link #compare(Object, Object)} would
+   * not consider the methods as equal. A zero result is inconclusive.
+   *
+   * <p>If line numbers are excluded, the cheap components of the copies
+   * without line numbers get compared, which are also used by the full
+   * comparison.
+   *
+   * @param first  the first {@link MethodNode}; never null.
+   * @param second the second {@link MethodNode}; never null.
+   * @return an {@code int} indicating the order of the cheap components of
+   * {@code first} and {@code second}.
+   */
+  public int compareCheap(MethodNode first, MethodNode second) {
+    Objects.requireNonNull(first);
+    Objects.requireNonNull(second);
+
+    try (ComparisonContext ignored = ComparisonContext.open()) {
+      return CHEAP_COMPARATOR.compare(filterLineNumbers(first), filterLineNumbers(second));
+    }
+  }
+
+  /**
+   * Creates a {@link Comparator} for an {@link Iterable} of {@link MethodNode}s,
+   * which pairs the methods by their name and descriptor and compares each
+   * pair in parallel with {@code this} {@link MethodNodeComparator}.
+   *
+   * <p>Each pair gets its own {@link LabelIndexLookup}. The result is
+   * deterministic and independent of the execution order.
+   *
+   * @param executor the {@link Executor} to run the comparison tasks on;
+   *                 never null.
+   * @return a new {@link WithLabelIndexAsmComparator}; never null.
+   */
+  public WithLabelIndexAsmComparator<Iterable<? extends MethodNode>> createParallelIterableComparator(Executor executor) {
+    return ParallelIterableComparator.create(this, (MethodNode methodNode) -> methodNode.name + methodNode.desc, executor);
+  }
+
+  /**
+   * Creates a derived instance of {@code this} {@link MethodNodeComparator} with the
+   * given configuration, which gets used by the configuration methods (e.g.,
+   * {@link #ignoreLineNumbers()}).
+   *
+   * <p>A subclass should override this method to return an instance of
+   * itself, so that the derived instances keep its overridden methods.
+   *
+   * @param ignoreLineNumbers whether to exclude line numbers.
+   * @param cheapFirst        whether to compare the cheap components first.
+   * @return a new {@link MethodNodeComparator}; never null.
+   */
+  protected MethodNodeComparator createDerived(boolean ignoreLineNumbers, boolean cheapFirst) {
+    return new MethodNodeComparator(ignoreLineNumbers, cheapFirst);
   }
 
   @Override
   protected int doCompare(MethodNode first, MethodNode second) {
-    return doCompare(first, second, DefaultLabelIndexLookup.create());
+    return doCompare(first, second, IdentityLabelIndexLookup.create());
   }
 
   @Override
   protected int doCompare(MethodNode first, MethodNode second, LabelIndexLookup labelIndexLookup) {
-    // Filter line numbers if needed
-    first = filterLineNumbers(first);
-    second = filterLineNumbers(second);
+    try (ComparisonContext context = ComparisonContext.open()) {
+      MethodNode firstPrepared = filterLineNumbers(first);
+      MethodNode secondPrepared = filterLineNumbers(second);
+
+      if (cheapFirst) {
+        int cheapResult = CHEAP_COMPARATOR.compare(firstPrepared, secondPrepared);
+        if (cheapResult != 0) {
+          return cheapResult;
+        }
 
+        // Differing fingerprints rule out equality. They get memoized, so
+        // that each node gets only hashed once, even if it gets compared many
+        // times (e.g., while sorting).
+        int fingerprintResult = context.fingerprint(firstPrepared, fingerprinter).compareTo(context.fingerprint(secondPrepared, fingerprinter));
+        if (fingerprintResult != 0) {
+          return fingerprintResult;
+        }
+      }
+
+      return doCompareInContext(firstPrepared, secondPrepared, labelIndexLookup);
+    }
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private int doCompareInContext(MethodNode first, MethodNode second, LabelIndexLookup labelIndexLookup) {
     // Collect label indices
     // Because of the line number filtering, we may have to overwrite existing
     // indices here as they may have changed.
@@ -141,16 +343,28 @@ public class MethodNodeComparator
                                       .compare(first, second);
   }
 
-  // -- Private Methods --------------------------------------------------------------------------------------------- //
-
   private MethodNode filterLineNumbers(MethodNode methodNode) {
     if (ignoreLineNumbers) {
-      return InsnListUtils.copyWithFilteredLineNumbers(methodNode);
+      return copyWithFilteredLineNumbers(methodNode);
     }
     else {
       return methodNode;
     }
   }
 
+  /**
+   * Creates a copy of the given {@link MethodNode} without line numbers,
+   * which gets memoized in the active {@link ComparisonContext}, so that
+   * the comparisons of the copy can be reused.
+   */
+  static MethodNode copyWithFilteredLineNumbers(MethodNode methodNode) {
+    ComparisonContext context = ComparisonContext.current();
+    if (context != null) {
+      return context.copy(methodNode, LINE_NUMBERS_FILTER);
+    }
+
+    return InsnListUtils.copyWithFilteredLineNumbers(methodNode);
+  }
+
   // -- Inner Type -------------------------------------------------------------------------------------------------- //
 }
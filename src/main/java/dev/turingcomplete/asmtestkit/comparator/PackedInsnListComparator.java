@@ -0,0 +1,114 @@
+package dev.turingcomplete.asmtestkit.comparator;
+
+import dev.turingcomplete.asmtestkit.comparator._internal.AnnotationValueComparator;
+import dev.turingcomplete.asmtestkit.comparator._internal.IterableComparator;
+import dev.turingcomplete.asmtestkit.node.PackedInsnList;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AnnotationNode;
+import org.objectweb.asm.tree.InsnList;
+
+import java.util.Comparator;
+
+/**
+ * A comparison function to order {@link PackedInsnList}s.
+ *
+ * <p>The comparison runs directly on the encoded instructions, without
+ * unpacking them into an {@link InsnList}. Constants of the same
+ * {@link PackedInsnList.ConstantTable} are equal if their indices are equal.
+ * Otherwise, they get compared by their values (see
+ * {@link AnnotationValueComparator}).
+ *
+ * <p>Like in the {@link InsnListComparator}, two labels are considered as
+ * equal if they have the same index, which is the order of their occurrence
+ * in the instructions.
+ */
+public class PackedInsnListComparator extends AsmComparator<PackedInsnList> {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  /**
+   * A reusable {@link PackedInsnListComparator} instance.
+   */
+  public static final PackedInsnListComparator INSTANCE = new PackedInsnListComparator();
+
+  /**
+   * A reusable {@link Comparator} instance for an {@link Iterable} of
+   * {@link PackedInsnList}s.
+   */
+  public static final Comparator<Iterable<? extends PackedInsnList>> ITERABLE_INSTANCE = new IterableComparator<>(INSTANCE);
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Lazily initialized, because the registered comparators may not be
+   * available during the construction.
+   */
+  private volatile AnnotationValueComparator constantComparator;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  protected PackedInsnListComparator() {
+    super(PackedInsnListComparator.class, PackedInsnList.class);
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Creates a new {@link PackedInsnListComparator} instance.
+   *
+   * @return a new {@link PackedInsnListComparator}; never null;
+   */
+  public static PackedInsnListComparator create() {
+    return new PackedInsnListComparator();
+  }
+
+  @Override
+  protected int doCompare(PackedInsnList first, PackedInsnList second) {
+    int sizeCompare = Integer.compare(first.size(), second.size());
+    if (sizeCompare != 0) {
+      return sizeCompare;
+    }
+
+    boolean sameConstantTable = first.constantTable() == second.constantTable();
+    int length = Math.min(first.codeLength(), second.codeLength());
+    for (int i = 0; i < length; i++) {
+      int firstCode = first.codeAt(i);
+      int secondCode = second.codeAt(i);
+
+      // Both lists have the same structure up to the first difference,
+      // therefore, a constant position in one is also one in the other.
+      if (first.isConstantAt(i) && second.isConstantAt(i)) {
+        if (sameConstantTable && firstCode == secondCode) {
+          continue;
+        }
+
+        int constantCompare = constantComparator().compare(first.constantTable().get(firstCode),
+                                                           second.constantTable().get(secondCode));
+        if (constantCompare != 0) {
+          return constantCompare;
+        }
+      }
+      else if (first.isConstantAt(i) != second.isConstantAt(i)) {
+        return first.isConstantAt(i) ? 1 : -1;
+      }
+      else if (firstCode != secondCode) {
+        return Integer.compare(firstCode, secondCode);
+      }
+    }
+
+    return Integer.compare(first.codeLength(), second.codeLength());
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private AnnotationValueComparator constantComparator() {
+    AnnotationValueComparator result = constantComparator;
+    if (result == null) {
+      result = AnnotationValueComparator.create(asmComparators.elementComparator(Type.class),
+                                                asmComparators.elementComparator(AnnotationNode.class));
+      constantComparator = result;
+    }
+    return result;
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -1,7 +1,6 @@
 package dev.turingcomplete.asmtestkit.comparator;
 
 import dev.turingcomplete.asmtestkit.comparator._internal.WithLabelIndexIterableAsmComparator;
-import dev.turingcomplete.asmtestkit.representation.AbstractTypeAnnotationNodeRepresentation;
 import org.objectweb.asm.tree.TypeAnnotationNode;
 
 import java.util.Comparator;
@@ -11,8 +10,8 @@ import java.util.Comparator;
  *
  * <p>Two {@code TypeAnnotationNode}s will be considered as equal if their
  * descriptors, values (order is ignored), type references, and type paths are
- * equal. If their values are not equal they will be ordered based on the
- * lexicographical order of their {@link AbstractTypeAnnotationNodeRepresentation}s.
+ * equal. Otherwise, they will be ordered by the first non-matching of these
+ * components.
  */
 public class TypeAnnotationNodeComparator
         extends AbstractTypeAnnotationNodeComparator<TypeAnnotationNodeComparator, TypeAnnotationNode> {
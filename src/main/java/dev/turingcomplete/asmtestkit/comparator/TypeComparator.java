@@ -1,7 +1,6 @@
 package dev.turingcomplete.asmtestkit.comparator;
 
 import dev.turingcomplete.asmtestkit.comparator._internal.IterableComparator;
-import dev.turingcomplete.asmtestkit.representation.TypeRepresentation;
 import org.objectweb.asm.Type;
 
 import java.util.Comparator;
@@ -9,9 +8,11 @@ import java.util.Comparator;
 /**
  * A comparison function to order {@link Type}s.
  *
- * <p>Two {@code TypePath}s will be considered as equal if their
- * {@link TypeRepresentation}s are equal. Otherwise, they will be ordered
- * based on the lexicographical order of their {@code TypeRepresentation}.
+ * <p>Two {@code Type}s will be considered as equal if they are equal by
+ * {@link Type#equals(Object)}, which compares the descriptors without creating
+ * any {@link String}s. Otherwise, they will be ordered by their sort (see
+ * {@link Type#getSort()}) and then based on the lexicographical order of their
+ * descriptors.
  */
 public class TypeComparator extends AsmComparator<Type> {
   // -- Class Fields ------------------------------------------------------------------------------------------------ //
@@ -47,7 +48,24 @@ public class TypeComparator extends AsmComparator<Type> {
 
   @Override
   protected int doCompare(Type first, Type second) {
-    return asmRepresentations.toStringOf(first).compareTo(asmRepresentations.toStringOf(second));
+    if (first.equals(second)) {
+      return 0;
+    }
+
+    int sortResult = Integer.compare(first.getSort(), second.getSort());
+    if (sortResult != 0) {
+      return sortResult;
+    }
+
+    return first.getDescriptor().compareTo(second.getDescriptor());
+  }
+
+  /**
+   * The comparison is cheaper than a lookup of a memoized result.
+   */
+  @Override
+  protected boolean isMemoizable() {
+    return false;
   }
 
   // -- Private Methods --------------------------------------------------------------------------------------------- //
@@ -47,7 +47,7 @@ public class TypePathComparator extends AsmComparator<TypePath> {
 
   @Override
   protected int doCompare(TypePath first, TypePath second) {
-    return asmRepresentations.toStringOf(first).compareTo(asmRepresentations.toStringOf(second));
+    return toCanonicalString(first).compareTo(toCanonicalString(second));
   }
 
   // -- Private Methods --------------------------------------------------------------------------------------------- //
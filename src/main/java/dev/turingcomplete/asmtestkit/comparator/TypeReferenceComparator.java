@@ -48,6 +48,15 @@ public class TypeReferenceComparator extends AsmComparator<TypeReference> {
     return Integer.compare(first.getValue(), second.getValue());
   }
 
+  /**
+   * The {@link TypeReference}s usually get created for each comparison, and
+   * the comparison is cheaper than a lookup of a memoized result.
+   */
+  @Override
+  protected boolean isMemoizable() {
+    return false;
+  }
+
   // -- Private Methods --------------------------------------------------------------------------------------------- //
   // -- Inner Type -------------------------------------------------------------------------------------------------- //
 }
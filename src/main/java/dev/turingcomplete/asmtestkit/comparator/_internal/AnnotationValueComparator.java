@@ -0,0 +1,319 @@
+package dev.turingcomplete.asmtestkit.comparator._internal;
+
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AnnotationNode;
+
+import java.lang.reflect.Array;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A comparison function to order annotation values, as they are stored in
+ * {@link AnnotationNode#values}, with a total order and without creating
+ * their textual representations.
+ *
+ * <p>Supported values are the primitive wrappers, {@link String}s,
+ * {@link Type}s, enum values ({@code String[]} with the descriptor and the
+ * name), nested {@link AnnotationNode}s, and arrays as {@link List}s or
+ * primitive arrays. Values of different kinds are ordered by their kind
+ * first, so, e.g., an {@link Integer} is never equal to a {@link Long}.
+ *
+ * <p>The {@link List} of {@link AnnotationNode#values} can be compared via
+ * {@link #compareValues(List, List)}, which ignores the order of the
+ * name-value pairs.
+ */
+public final class AnnotationValueComparator implements Comparator<Object> {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final int NULL_KIND            = 0;
+  private static final int BOOLEAN_KIND         = 1;
+  private static final int BYTE_KIND            = 2;
+  private static final int CHARACTER_KIND       = 3;
+  private static final int SHORT_KIND           = 4;
+  private static final int INTEGER_KIND         = 5;
+  private static final int LONG_KIND            = 6;
+  private static final int FLOAT_KIND           = 7;
+  private static final int DOUBLE_KIND          = 8;
+  private static final int STRING_KIND          = 9;
+  private static final int TYPE_KIND            = 10;
+  private static final int ENUM_KIND            = 11;
+  private static final int ANNOTATION_NODE_KIND = 12;
+  private static final int LIST_KIND            = 13;
+  private static final int ARRAY_KIND           = 14;
+  private static final int UNKNOWN_KIND         = 15;
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final Comparator<? super Type>           typeComparator;
+  private final Comparator<? super AnnotationNode> annotationNodeComparator;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  private AnnotationValueComparator(Comparator<? super Type> typeComparator,
+                                    Comparator<? super AnnotationNode> annotationNodeComparator) {
+
+    this.typeComparator = typeComparator;
+    this.annotationNodeComparator = annotationNodeComparator;
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Creates a new {@link AnnotationValueComparator} instance.
+   *
+   * @param typeComparator           the {@link Comparator} for {@link Type}
+   *                                 values; never null.
+   * @param annotationNodeComparator the {@link Comparator} for nested
+   *                                 {@link AnnotationNode} values; never null.
+   * @return a new {@link AnnotationValueComparator}; never null.
+   */
+  public static AnnotationValueComparator create(Comparator<? super Type> typeComparator,
+                                                 Comparator<? super AnnotationNode> annotationNodeComparator) {
+
+    return new AnnotationValueComparator(Objects.requireNonNull(typeComparator),
+                                         Objects.requireNonNull(annotationNodeComparator));
+  }
+
+  /**
+   * Compares two {@link List}s of alternating names and values (see
+   * {@link AnnotationNode#values}).
+   *
+   * <p>The order of the name-value pairs is not taken into account. The
+   * {@link List}s are ordered by their number of pairs first, and then by the
+   * first non-matching pair, if the pairs are sorted by their names.
+   *
+   * @param first  the first {@link List} of names and values; may be null,
+   *               which is equal to an empty {@link List}.
+   * @param second the second {@link List} of names and values; may be null,
+   *               which is equal to an empty {@link List}.
+   * @return an {@code int} indicating the order of {@code first} and
+   * {@code second}.
+   */
+  public int compareValues(List<Object> first, List<Object> second) {
+    int firstPairs = first != null ? first.size() / 2 : 0;
+    int secondPairs = second != null ? second.size() / 2 : 0;
+    if (firstPairs != secondPairs) {
+      return Integer.compare(firstPairs, secondPairs);
+    }
+    if (firstPairs == 0) {
+      return 0;
+    }
+
+    int[] firstOrder = sortPairsByName(first, firstPairs);
+    int[] secondOrder = sortPairsByName(second, secondPairs);
+    for (int i = 0; i < firstPairs; i++) {
+      int firstPair = firstOrder != null ? firstOrder[i] : i;
+      int secondPair = secondOrder != null ? secondOrder[i] : i;
+
+      int nameResult = ComparatorUtils.STRING_COMPARATOR.compare((String) first.get(firstPair * 2), (String) second.get(secondPair * 2));
+      if (nameResult != 0) {
+        return nameResult;
+      }
+
+      int valueResult = compare(first.get(firstPair * 2 + 1), second.get(secondPair * 2 + 1));
+      if (valueResult != 0) {
+        return valueResult;
+      }
+    }
+
+    return 0;
+  }
+
+  @Override
+  public int compare(Object first, Object second) {
+    if (first == second) {
+      return 0;
+    }
+
+    int firstKind = kindOf(first);
+    int kindResult = Integer.compare(firstKind, kindOf(second));
+    if (kindResult != 0) {
+      return kindResult;
+    }
+
+    switch (firstKind) {
+      case BOOLEAN_KIND:
+        return Boolean.compare((Boolean) first, (Boolean) second);
+      case BYTE_KIND:
+        return Byte.compare((Byte) first, (Byte) second);
+      case CHARACTER_KIND:
+        return Character.compare((Character) first, (Character) second);
+      case SHORT_KIND:
+        return Short.compare((Short) first, (Short) second);
+      case INTEGER_KIND:
+        return Integer.compare((Integer) first, (Integer) second);
+      case LONG_KIND:
+        return Long.compare((Long) first, (Long) second);
+      case FLOAT_KIND:
+        return Float.compare((Float) first, (Float) second);
+      case DOUBLE_KIND:
+        return Double.compare((Double) first, (Double) second);
+      case STRING_KIND:
+        return ((String) first).compareTo((String) second);
+      case TYPE_KIND:
+        return typeComparator.compare((Type) first, (Type) second);
+      case ENUM_KIND:
+        return compareEnums((String[]) first, (String[]) second);
+      case ANNOTATION_NODE_KIND:
+        return annotationNodeComparator.compare((AnnotationNode) first, (AnnotationNode) second);
+      case LIST_KIND:
+        return compareLists((List<?>) first, (List<?>) second);
+      case ARRAY_KIND:
+        return compareArrays(first, second);
+      case UNKNOWN_KIND:
+        return compareUnknown(first, second);
+      default: // NULL_KIND, both are null
+        return 0;
+    }
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private static int kindOf(Object value) {
+    if (value == null) {
+      return NULL_KIND;
+    }
+    else if (value instanceof String) {
+      return STRING_KIND;
+    }
+    else if (value instanceof Integer) {
+      return INTEGER_KIND;
+    }
+    else if (value instanceof Type) {
+      return TYPE_KIND;
+    }
+    else if (value instanceof String[]) {
+      return ENUM_KIND;
+    }
+    else if (value instanceof AnnotationNode) {
+      return ANNOTATION_NODE_KIND;
+    }
+    else if (value instanceof List) {
+      return LIST_KIND;
+    }
+    else if (value instanceof Boolean) {
+      return BOOLEAN_KIND;
+    }
+    else if (value instanceof Long) {
+      return LONG_KIND;
+    }
+    else if (value instanceof Byte) {
+      return BYTE_KIND;
+    }
+    else if (value instanceof Character) {
+      return CHARACTER_KIND;
+    }
+    else if (value instanceof Short) {
+      return SHORT_KIND;
+    }
+    else if (value instanceof Float) {
+      return FLOAT_KIND;
+    }
+    else if (value instanceof Double) {
+      return DOUBLE_KIND;
+    }
+    else if (value.getClass().isArray()) {
+      return ARRAY_KIND;
+    }
+
+    return UNKNOWN_KIND;
+  }
+
+  private static int compareEnums(String[] first, String[] second) {
+    int length = Math.min(first.length, second.length);
+    for (int i = 0; i < length; i++) {
+      int result = ComparatorUtils.STRING_COMPARATOR.compare(first[i], second[i]);
+      if (result != 0) {
+        return result;
+      }
+    }
+
+    return Integer.compare(first.length, second.length);
+  }
+
+  private int compareLists(List<?> first, List<?> second) {
+    if (first.size() != second.size()) {
+      return Integer.compare(first.size(), second.size());
+    }
+
+    for (int i = 0; i < first.size(); i++) {
+      int result = compare(first.get(i), second.get(i));
+      if (result != 0) {
+        return result;
+      }
+    }
+
+    return 0;
+  }
+
+  private int compareArrays(Object first, Object second) {
+    int componentTypeResult = first.getClass().getName().compareTo(second.getClass().getName());
+    if (componentTypeResult != 0) {
+      return componentTypeResult;
+    }
+
+    int firstLength = Array.getLength(first);
+    int secondLength = Array.getLength(second);
+    if (firstLength != secondLength) {
+      return Integer.compare(firstLength, secondLength);
+    }
+
+    for (int i = 0; i < firstLength; i++) {
+      int result = compare(Array.get(first, i), Array.get(second, i));
+      if (result != 0) {
+        return result;
+      }
+    }
+
+    return 0;
+  }
+
+  /**
+   * Values that are not allowed in annotations are equal if they are equal
+   * by {@link Object#equals(Object)}. Otherwise, they are ordered by their
+   * class names and then by their hash codes.
+   */
+  private static int compareUnknown(Object first, Object second) {
+    if (first.equals(second)) {
+      return 0;
+    }
+
+    int classNameResult = first.getClass().getName().compareTo(second.getClass().getName());
+    if (classNameResult != 0) {
+      return classNameResult;
+    }
+
+    return ComparatorUtils.OBJECT_COMPARATOR.compare(first, second);
+  }
+
+  /**
+   * Sorts the pair indices of the given names and values by the names.
+   *
+   * @return the sorted pair indices; or null, if the pairs are already sorted.
+   */
+  private static int[] sortPairsByName(List<Object> values, int pairs) {
+    boolean sorted = true;
+    for (int i = 1; i < pairs && sorted; i++) {
+      sorted = ComparatorUtils.STRING_COMPARATOR.compare((String) values.get((i - 1) * 2), (String) values.get(i * 2)) <= 0;
+    }
+    if (sorted) {
+      return null;
+    }
+
+    // Insertion sort, because annotations have only a few values
+    var order = new int[pairs];
+    for (int i = 0; i < pairs; i++) {
+      int j = i;
+      String name = (String) values.get(i * 2);
+      while (j > 0 && ComparatorUtils.STRING_COMPARATOR.compare((String) values.get(order[j - 1] * 2), name) > 0) {
+        order[j] = order[j - 1];
+        j--;
+      }
+      order[j] = i;
+    }
+    return order;
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -0,0 +1,96 @@
+package dev.turingcomplete.asmtestkit.comparator._internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.ToLongFunction;
+
+import static dev.turingcomplete.asmtestkit.comparator._internal.ComparatorUtils.compareNullCheck;
+
+/**
+ * A comparison function to order {@link Iterable}s of {@link T}s, which puts
+ * the elements into buckets by a content hash before comparing them.
+ *
+ * <p>Equal elements must have an equal hash. If the hashes of both
+ * {@link Iterable}s are equal, only the elements within the same bucket get
+ * compared, which avoids sorting all elements with a possibly expensive
+ * elements {@link Comparator}. The buckets are only used to detect equal
+ * {@link Iterable}s. In all other cases, the result is the one of the
+ * {@link IterableComparator}, so that the order is consistent (e.g., if this
+ * comparator is used for sorting).
+ *
+ * <p>Like the {@link IterableComparator}, the order of the elements is not
+ * taken into account.
+ */
+public class BucketedIterableComparator<T> extends IterableComparator<T> {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final ToLongFunction<? super T> hashFunction;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  public BucketedIterableComparator(Comparator<T> elementsComparator, ToLongFunction<? super T> hashFunction) {
+    super(elementsComparator);
+
+    this.hashFunction = Objects.requireNonNull(hashFunction);
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  @Override
+  public int compare(Iterable<? extends T> first, Iterable<? extends T> second) {
+    Integer nullCheckResult = compareNullCheck(first, second);
+    if (nullCheckResult != null) {
+      return nullCheckResult;
+    }
+
+    Map<Long, List<T>> firstBuckets = toBuckets(first);
+    Map<Long, List<T>> secondBuckets = toBuckets(second);
+
+    if (Arrays.equals(bucketSizes(firstBuckets), bucketSizes(secondBuckets)) && haveEqualBuckets(firstBuckets, secondBuckets)) {
+      return 0;
+    }
+
+    return super.compare(first, second);
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private boolean haveEqualBuckets(Map<Long, List<T>> firstBuckets, Map<Long, List<T>> secondBuckets) {
+    for (Map.Entry<Long, List<T>> firstBucket : firstBuckets.entrySet()) {
+      if (super.compare(firstBucket.getValue(), secondBuckets.get(firstBucket.getKey())) != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private Map<Long, List<T>> toBuckets(Iterable<? extends T> elements) {
+    var buckets = new TreeMap<Long, List<T>>();
+    for (T element : elements) {
+      long hash = element != null ? hashFunction.applyAsLong(element) : 0;
+      buckets.computeIfAbsent(hash, key -> new ArrayList<>()).add(element);
+    }
+    return buckets;
+  }
+
+  /**
+   * Creates an array of the alternating hashes and sizes of the buckets.
+   */
+  private static long[] bucketSizes(Map<Long, ? extends List<?>> buckets) {
+    var bucketSizes = new long[buckets.size() * 2];
+    int i = 0;
+    for (Map.Entry<Long, ? extends List<?>> bucket : buckets.entrySet()) {
+      bucketSizes[i++] = bucket.getKey();
+      bucketSizes[i++] = bucket.getValue().size();
+    }
+    return bucketSizes;
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
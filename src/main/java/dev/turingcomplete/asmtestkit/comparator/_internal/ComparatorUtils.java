@@ -1,6 +1,8 @@
 package dev.turingcomplete.asmtestkit.comparator._internal;
 
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
 
 public final class ComparatorUtils {
   // -- Class Fields ------------------------------------------------------------------------------------------------ //
@@ -49,6 +51,41 @@ public final class ComparatorUtils {
     return null;
   }
 
+  /**
+   * Gets the size of the given {@link Collection} as a cheap comparison key.
+   *
+   * <p>Like {@link #compareNullCheck(Object, Object)}, a null
+   * {@code Collection} gets distinguished from an empty one.
+   *
+   * @param collection the {@link Collection}; may be null.
+   * @return the size of the {@code collection}; or {@code -1} if it is null.
+   */
+  public static int sizeOrMinusOne(Collection<?> collection) {
+    return collection != null ? collection.size() : -1;
+  }
+
+  /**
+   * Searches the first position at which the given {@link List}s differ.
+   *
+   * @param first      the first {@link List}; never null.
+   * @param second     the second {@link List}; never null.
+   * @param comparator the {@link Comparator} for the elements; never null.
+   * @param <T>        the type of the elements.
+   * @return the index of the first pair of elements that are not equal by the
+   * {@code comparator}; the size of the shorter {@code List} if it is a prefix
+   * of the other one; or {@code -1} if both {@code List}s are equal.
+   */
+  public static <T> int indexOfFirstDifference(List<? extends T> first, List<? extends T> second, Comparator<? super T> comparator) {
+    int commonSize = Math.min(first.size(), second.size());
+    for (int i = 0; i < commonSize; i++) {
+      if (comparator.compare(first.get(i), second.get(i)) != 0) {
+        return i;
+      }
+    }
+
+    return first.size() != second.size() ? commonSize : -1;
+  }
+
   // -- Private Methods --------------------------------------------------------------------------------------------- //
   // -- Inner Type -------------------------------------------------------------------------------------------------- //
 
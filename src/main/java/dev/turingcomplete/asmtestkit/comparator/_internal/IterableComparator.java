@@ -1,10 +1,9 @@
 package dev.turingcomplete.asmtestkit.comparator._internal;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
-import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 import static dev.turingcomplete.asmtestkit.comparator._internal.ComparatorUtils.compareNullCheck;
 
@@ -13,6 +12,10 @@ import static dev.turingcomplete.asmtestkit.comparator._internal.ComparatorUtils
  *
  * <p>The order of the elements are not taking into account. This gets archives
  * by ordering the {@link Iterable}s before comparing their elements.
+ *
+ * <p>Equal {@link Iterable}s usually have their elements in the same order.
+ * Therefore, the elements get first compared in their given order, which
+ * takes linear time, and only get sorted if this finds a difference.
  */
 public class IterableComparator<T> implements Comparator<Iterable<? extends T>> {
   // -- Class Fields ------------------------------------------------------------------------------------------------ //
@@ -35,17 +38,34 @@ public class IterableComparator<T> implements Comparator<Iterable<? extends T>>
       return nullCheckResult;
     }
 
-    List<T> firstSorted = StreamSupport.stream(first.spliterator(), false).sorted(elementsComparator).collect(Collectors.toList());
-    List<T> secondSorted = StreamSupport.stream(second.spliterator(), false).sorted(elementsComparator).collect(Collectors.toList());
+    return compareElements(first, second, elementsComparator);
+  }
+
+  /**
+   * Compares the elements of the given non-null {@link Iterable}s without
+   * taking their order into account.
+   *
+   * @param first      the first {@link Iterable}; never null.
+   * @param second     the second {@link Iterable}; never null.
+   * @param comparator the {@link Comparator} for the elements; never null.
+   * @return the comparison result.
+   */
+  protected int compareElements(Iterable<? extends T> first, Iterable<? extends T> second, Comparator<? super T> comparator) {
+    List<T> firstElements = toList(first);
+    List<T> secondElements = toList(second);
+    if (firstElements.size() != secondElements.size()) {
+      return firstElements.size() - secondElements.size();
+    }
 
-    if (firstSorted.size() != secondSorted.size()) {
-      return firstSorted.size() - secondSorted.size();
+    // Linear check for the common case of equal elements in the same order
+    if (ComparatorUtils.indexOfFirstDifference(firstElements, secondElements, comparator) == -1) {
+      return 0;
     }
 
-    Iterator<T> secondSortedIterator = secondSorted.iterator();
-    for (T firstElement : firstSorted) {
-      T selectElement = secondSortedIterator.next();
-      int result = elementsComparator.compare(firstElement, selectElement);
+    firstElements.sort(comparator);
+    secondElements.sort(comparator);
+    for (int i = 0; i < firstElements.size(); i++) {
+      int result = comparator.compare(firstElements.get(i), secondElements.get(i));
       if (result != 0) {
         return result;
       }
@@ -55,5 +75,17 @@ public class IterableComparator<T> implements Comparator<Iterable<? extends T>>
   }
 
   // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Creates a mutable copy of the given {@link Iterable}.
+   */
+  private List<T> toList(Iterable<? extends T> elements) {
+    List<T> result = elements instanceof Collection ? new ArrayList<>(((Collection<? extends T>) elements).size()) : new ArrayList<>();
+    for (T element : elements) {
+      result.add(element);
+    }
+    return result;
+  }
+
   // -- Inner Type -------------------------------------------------------------------------------------------------- //
 }
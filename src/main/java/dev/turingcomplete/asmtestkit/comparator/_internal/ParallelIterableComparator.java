@@ -0,0 +1,208 @@
+package dev.turingcomplete.asmtestkit.comparator._internal;
+
+import dev.turingcomplete.asmtestkit.common.IdentityLabelIndexLookup;
+import dev.turingcomplete.asmtestkit.common.LabelIndexLookup;
+import dev.turingcomplete.asmtestkit.comparator.WithLabelIndexAsmComparator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import static dev.turingcomplete.asmtestkit.comparator._internal.ComparatorUtils.compareNullCheck;
+
+/**
+ * A comparison function to order {@link Iterable}s of {@link T}s, which
+ * compares the elements in parallel.
+ *
+ * <p>The elements of both {@link Iterable}s are paired by a key (e.g., the
+ * name and descriptor of a method). If both {@link Iterable}s have the same
+ * keys, each pair gets compared independently as a task on the given
+ * {@link Executor}. The result is the first non-zero result in the order of
+ * the keys, which makes the result independent of the execution order.
+ *
+ * <p>Each task uses its own {@link LabelIndexLookup}, so no mutable state
+ * is shared between the tasks. After all tasks are finished, the
+ * {@link LabelIndexLookup}s of the tasks are added as children to the
+ * {@link LabelIndexLookup} given to {@link #compare(Iterable, Iterable, LabelIndexLookup)}.
+ *
+ * <p>Like the {@link IterableComparator}, the order of the elements is not
+ * taken into account.
+ */
+public class ParallelIterableComparator<T> implements WithLabelIndexAsmComparator<Iterable<? extends T>> {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final Comparator<T>                            elementsComparator;
+  private final WithLabelIndexIterableAsmComparator<T> groupComparator;
+  private final Function<? super T, String>              pairingKeyExtractor;
+  private final Executor                                 executor;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  protected ParallelIterableComparator(Comparator<T> elementsComparator,
+                                       Function<? super T, String> pairingKeyExtractor,
+                                       Executor executor) {
+
+    this.elementsComparator = Objects.requireNonNull(elementsComparator);
+    this.groupComparator = WithLabelIndexIterableAsmComparator.create(elementsComparator);
+    this.pairingKeyExtractor = Objects.requireNonNull(pairingKeyExtractor);
+    this.executor = Objects.requireNonNull(executor);
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Creates a new {@link ParallelIterableComparator} instance.
+   *
+   * @param elementsComparator  the {@link Comparator} for a single element;
+   *                            never null.
+   * @param pairingKeyExtractor a {@link Function} which extracts the key,
+   *                            by which the elements get paired; never null.
+   * @param executor            the {@link Executor} to run the comparison
+   *                            tasks on; never null.
+   * @return a new {@link ParallelIterableComparator}; never null;
+   */
+  public static <T> ParallelIterableComparator<T> create(Comparator<T> elementsComparator,
+                                                         Function<? super T, String> pairingKeyExtractor,
+                                                         Executor executor) {
+
+    return new ParallelIterableComparator<>(elementsComparator, pairingKeyExtractor, executor);
+  }
+
+  @Override
+  public int compare(Iterable<? extends T> first, Iterable<? extends T> second) {
+    return doCompare(first, second, null);
+  }
+
+  @Override
+  public int compare(Iterable<? extends T> first, Iterable<? extends T> second, LabelIndexLookup labelIndexLookup) {
+    return doCompare(first, second, Objects.requireNonNull(labelIndexLookup));
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private int doCompare(Iterable<? extends T> first, Iterable<? extends T> second, LabelIndexLookup labelIndexLookup) {
+    Integer nullCheckResult = compareNullCheck(first, second);
+    if (nullCheckResult != null) {
+      return nullCheckResult;
+    }
+
+    TreeMap<String, List<T>> firstGroups = groupByPairingKey(first);
+    TreeMap<String, List<T>> secondGroups = groupByPairingKey(second);
+
+    int sizeResult = Integer.compare(countElements(firstGroups), countElements(secondGroups));
+    if (sizeResult != 0) {
+      return sizeResult;
+    }
+
+    // Both must have the same keys with the same number of elements,
+    // otherwise, the first difference decides.
+    Iterator<Map.Entry<String, List<T>>> secondGroupsIterator = secondGroups.entrySet().iterator();
+    for (Map.Entry<String, List<T>> firstGroup : firstGroups.entrySet()) {
+      if (!secondGroupsIterator.hasNext()) {
+        return 1;
+      }
+
+      Map.Entry<String, List<T>> secondGroup = secondGroupsIterator.next();
+      int keyResult = firstGroup.getKey().compareTo(secondGroup.getKey());
+      if (keyResult != 0) {
+        return keyResult;
+      }
+
+      int groupSizeResult = Integer.compare(firstGroup.getValue().size(), secondGroup.getValue().size());
+      if (groupSizeResult != 0) {
+        return groupSizeResult;
+      }
+    }
+    if (secondGroupsIterator.hasNext()) {
+      return -1;
+    }
+
+    // Compare each pair independently
+    List<ComparisonTask> tasks = new ArrayList<>(firstGroups.size());
+    for (Map.Entry<String, List<T>> firstGroup : firstGroups.entrySet()) {
+      var task = new ComparisonTask(firstGroup.getValue(), secondGroups.get(firstGroup.getKey()));
+      task.future = CompletableFuture.supplyAsync(task::compare, executor);
+      tasks.add(task);
+    }
+
+    int result = 0;
+    for (ComparisonTask task : tasks) {
+      int taskResult = join(task.future);
+      if (result == 0) {
+        result = taskResult;
+      }
+      if (labelIndexLookup != null) {
+        labelIndexLookup.addChild(task.labelIndexLookup);
+      }
+    }
+    return result;
+  }
+
+  private TreeMap<String, List<T>> groupByPairingKey(Iterable<? extends T> elements) {
+    TreeMap<String, List<T>> groups = new TreeMap<>();
+    for (T element : elements) {
+      String pairingKey = element != null ? Objects.toString(pairingKeyExtractor.apply(element)) : "";
+      groups.computeIfAbsent(pairingKey, key -> new ArrayList<>(1)).add(element);
+    }
+    return groups;
+  }
+
+  private int countElements(Map<String, List<T>> groups) {
+    return groups.values().stream().mapToInt(List::size).sum();
+  }
+
+  private int join(CompletableFuture<Integer> future) {
+    try {
+      return future.join();
+    }
+    catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw e;
+    }
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  private class ComparisonTask {
+
+    private final List<T>          firstElements;
+    private final List<T>          secondElements;
+    private final LabelIndexLookup labelIndexLookup = IdentityLabelIndexLookup.create();
+
+    private CompletableFuture<Integer> future;
+
+    ComparisonTask(List<T> firstElements, List<T> secondElements) {
+      this.firstElements = firstElements;
+      this.secondElements = secondElements;
+    }
+
+    @SuppressWarnings("unchecked")
+    int compare() {
+      if (firstElements.size() != 1) {
+        // Multiple elements with the same key are compared in any order
+        return groupComparator.compare(firstElements, secondElements, labelIndexLookup);
+      }
+
+      T firstElement = firstElements.get(0);
+      T secondElement = secondElements.get(0);
+      return elementsComparator instanceof WithLabelIndexAsmComparator
+              ? ((WithLabelIndexAsmComparator<T>) elementsComparator).compare(firstElement, secondElement, labelIndexLookup)
+              : elementsComparator.compare(firstElement, secondElement);
+    }
+  }
+}
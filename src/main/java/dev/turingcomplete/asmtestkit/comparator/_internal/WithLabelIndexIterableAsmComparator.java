@@ -4,11 +4,7 @@ import dev.turingcomplete.asmtestkit.common.LabelIndexLookup;
 import dev.turingcomplete.asmtestkit.comparator.WithLabelIndexAsmComparator;
 
 import java.util.Comparator;
-import java.util.Iterator;
-import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 import static dev.turingcomplete.asmtestkit.comparator._internal.ComparatorUtils.compareNullCheck;
 
@@ -41,25 +37,12 @@ public class WithLabelIndexIterableAsmComparator<T> extends IterableComparator<T
       return nullCheckResult;
     }
 
-    List<T> firstSorted = StreamSupport.stream(first.spliterator(), false).sorted(elementsComparator).collect(Collectors.toList());
-    List<T> secondSorted = StreamSupport.stream(second.spliterator(), false).sorted(elementsComparator).collect(Collectors.toList());
-
-    if (firstSorted.size() != secondSorted.size()) {
-      return firstSorted.size() - secondSorted.size();
-    }
-
-    Iterator<T> secondSortedIterator = secondSorted.iterator();
-    for (T firstElement : firstSorted) {
-      T selectElement = secondSortedIterator.next();
-      int result = elementsComparator instanceof WithLabelIndexAsmComparator
-              ? ((WithLabelIndexAsmComparator<T>) elementsComparator).compare(firstElement, selectElement, labelIndexLookup)
-              : elementsComparator.compare(firstElement, selectElement);
-      if (result != 0) {
-        return result;
-      }
-    }
-
-    return 0;
+    // The elements get also sorted with the label indices, instead of an
+    // order of the label identities which differs between both iterables
+    Comparator<T> comparator = elementsComparator instanceof WithLabelIndexAsmComparator
+            ? (firstElement, secondElement) -> ((WithLabelIndexAsmComparator<T>) elementsComparator).compare(firstElement, secondElement, labelIndexLookup)
+            : elementsComparator;
+    return compareElements(first, second, comparator);
   }
 
   // -- Private Methods --------------------------------------------------------------------------------------------- //
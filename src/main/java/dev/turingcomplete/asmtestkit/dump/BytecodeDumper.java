@@ -0,0 +1,625 @@
+package dev.turingcomplete.asmtestkit.dump;
+
+import dev.turingcomplete.asmtestkit.representation.ClassNodeRepresentation;
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.ClassNode;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Dumps the text representation of every class in a JAR file or a directory
+ * into one text file per class, for example, to diff the bytecode of two
+ * releases.
+ *
+ * <p>The class files get read and parsed in parallel and each class gets
+ * rendered by a {@link ClassNodeRepresentation} directly into a buffered
+ * file channel. The number of classes in flight is bounded, so the memory
+ * usage does not depend on the number of classes.
+ *
+ * <p>A class file {@code foo/bar/MyClass.class} gets dumped into
+ * {@code <output directory>/foo/bar/MyClass.txt}.
+ *
+ * <p>In the incremental mode (see {@link #incremental()}), the SHA-256 hash
+ * of each class file gets stored in the file {@value #INDEX_FILE_NAME} in the
+ * output directory. A subsequent dump skips all classes whose hash did not
+ * change and removes the dumps of classes which no longer exist. The index
+ * also stores the configuration of the dump (the parsing options, the
+ * {@link ClassNodeRepresentation} and the version of this library). If the
+ * configuration has changed, all classes get dumped again. A dump which is
+ * not incremental deletes the index, since it does not keep it up to date.
+ *
+ * <p>Command line usage:
+ * <pre>{@code
+ * java dev.turingcomplete.asmtestkit.dump.BytecodeDumper [--incremental] [--threads <n>] <jar or directory> <output directory>
+ * }</pre>
+ */
+public final class BytecodeDumper {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  /**
+   * The name of the file in the output directory, which stores the hashes of
+   * the dumped class files.
+   */
+  public static final String INDEX_FILE_NAME = ".bytecode-dump-index";
+
+  private static final String CLASS_FILE_EXTENSION = ".class";
+  private static final String DUMP_FILE_EXTENSION  = ".txt";
+  private static final String HASH_ALGORITHM       = "SHA-256";
+  private static final String INDEX_STAMP_PREFIX   = "# ";
+
+  /**
+   * The number of classes in flight per thread.
+   */
+  private static final int CLASSES_IN_FLIGHT_PER_THREAD = 4;
+
+  private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private ClassNodeRepresentation classNodeRepresentation = ClassNodeRepresentation.create().disableConcurrentRendering();
+  private int                     threads                 = Runtime.getRuntime().availableProcessors();
+  private int                     parsingOptions          = 0;
+  private boolean                 incremental             = false;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  private BytecodeDumper() {
+  }
+
+  /**
+   * Creates a new {@link BytecodeDumper} instance.
+   *
+   * @return a new {@link BytecodeDumper}; never null.
+   */
+  public static BytecodeDumper create() {
+    return new BytecodeDumper();
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Dumps the classes of a JAR file or directory.
+   *
+   * @param args the command line arguments, see {@link BytecodeDumper}.
+   * @throws IOException if a class could not be read or written.
+   */
+  public static void main(String... args) throws IOException {
+    var bytecodeDumper = BytecodeDumper.create();
+    var paths = new ArrayList<Path>();
+    for (int i = 0; i < args.length; i++) {
+      if ("--incremental".equals(args[i])) {
+        bytecodeDumper.incremental();
+      }
+      else if ("--threads".equals(args[i]) && i + 1 < args.length) {
+        bytecodeDumper.useThreads(Integer.parseInt(args[++i]));
+      }
+      else {
+        paths.add(Paths.get(args[i]));
+      }
+    }
+
+    if (paths.size() != 2) {
+      System.err.println("Usage: " + BytecodeDumper.class.getName() + " [--incremental] [--threads <n>] <jar or directory> <output directory>");
+      System.exit(2);
+    }
+
+    long start = System.nanoTime();
+    Result result = bytecodeDumper.dump(paths.get(0), paths.get(1));
+    System.out.println(result + " in " + (System.nanoTime() - start) / 1_000_000 + " ms.");
+  }
+
+  /**
+   * Sets the {@link ClassNodeRepresentation} to render the classes.
+   *
+   * <p>By default, a {@link ClassNodeRepresentation} which renders each
+   * class on a single thread gets used, since the classes are already
+   * rendered in parallel.
+   *
+   * @param classNodeRepresentation the {@link ClassNodeRepresentation}; never
+   *                                null.
+   * @return {@code this} {@link BytecodeDumper}; never null.
+   */
+  public BytecodeDumper useClassNodeRepresentation(ClassNodeRepresentation classNodeRepresentation) {
+    this.classNodeRepresentation = Objects.requireNonNull(classNodeRepresentation);
+
+    return this;
+  }
+
+  /**
+   * Sets the number of threads which read, parse and render the classes.
+   *
+   * <p>By default, the number of available processors gets used.
+   *
+   * @param threads the number of threads; must be positive.
+   * @return {@code this} {@link BytecodeDumper}; never null.
+   */
+  public BytecodeDumper useThreads(int threads) {
+    if (threads <= 0) {
+      throw new IllegalArgumentException("Threads must be positive: " + threads);
+    }
+
+    this.threads = threads;
+
+    return this;
+  }
+
+  /**
+   * Sets the parsing options for the {@link ClassReader}.
+   *
+   * @param parsingOptions the parsing options; see
+   *                       {@link ClassReader#accept(org.objectweb.asm.ClassVisitor, int)}.
+   * @return {@code this} {@link BytecodeDumper}; never null.
+   */
+  public BytecodeDumper useParsingOptions(int parsingOptions) {
+    this.parsingOptions = parsingOptions;
+
+    return this;
+  }
+
+  /**
+   * Only dumps classes which have changed since the previous dump into the
+   * same output directory.
+   *
+   * @return {@code this} {@link BytecodeDumper}; never null.
+   */
+  public BytecodeDumper incremental() {
+    this.incremental = true;
+
+    return this;
+  }
+
+  /**
+   * Dumps all classes of the given JAR file or directory into the given
+   * output directory.
+   *
+   * @param input           a JAR (or any other ZIP) file or a directory;
+   *                        never null.
+   * @param outputDirectory the directory to write the dumps to, which gets
+   *                        created if it does not exist; never null.
+   * @return the {@link Result} of the dump; never null.
+   * @throws IOException if a class could not be read or written.
+   */
+  public Result dump(Path input, Path outputDirectory) throws IOException {
+    Objects.requireNonNull(input);
+    Objects.requireNonNull(outputDirectory);
+
+    Path normalizedOutputDirectory = outputDirectory.toAbsolutePath().normalize();
+    Files.createDirectories(normalizedOutputDirectory);
+
+    String configurationStamp = incremental ? configurationStamp() : null;
+    Index previousIndex = incremental ? readIndex(normalizedOutputDirectory) : Index.EMPTY;
+    // A dump with another configuration may render unchanged classes differently
+    Map<String, String> previousHashes = incremental && configurationStamp.equals(previousIndex.configurationStamp) ? previousIndex.hashes : Map.of();
+    var dump = new Dump(normalizedOutputDirectory, previousHashes);
+
+    if (Files.isDirectory(input)) {
+      dumpDirectory(input, dump);
+    }
+    else {
+      dumpZipFile(input, dump);
+    }
+
+    int removedClasses = 0;
+    if (incremental) {
+      removedClasses = removeObsoleteDumps(normalizedOutputDirectory, previousIndex.hashes, dump.hashes);
+      writeIndex(normalizedOutputDirectory, configurationStamp, dump.hashes);
+    }
+    else {
+      // The hashes of the overwritten dumps would be stale for a subsequent incremental dump
+      Files.deleteIfExists(normalizedOutputDirectory.resolve(INDEX_FILE_NAME));
+    }
+
+    return new Result(dump.dumpedClasses.get(), dump.unchangedClasses.get(), removedClasses);
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private void dumpDirectory(Path directory, Dump dump) throws IOException {
+    List<Path> classFiles;
+    try (Stream<Path> files = Files.walk(directory)) {
+      classFiles = files.filter(file -> file.getFileName().toString().endsWith(CLASS_FILE_EXTENSION))
+                        .filter(Files::isRegularFile)
+                        .collect(Collectors.toList());
+    }
+
+    dump.run(classFiles, classFile -> directory.relativize(classFile).toString().replace('\\', '/'), Files::readAllBytes);
+  }
+
+  private void dumpZipFile(Path file, Dump dump) throws IOException {
+    try (var zipFile = new ZipFile(file.toFile())) {
+      var classEntries = new ArrayList<ZipEntry>();
+      Enumeration<? extends ZipEntry> entries = zipFile.entries();
+      while (entries.hasMoreElements()) {
+        ZipEntry entry = entries.nextElement();
+        if (!entry.isDirectory() && entry.getName().endsWith(CLASS_FILE_EXTENSION)) {
+          classEntries.add(entry);
+        }
+      }
+
+      // A ZipFile can be read by multiple threads concurrently
+      dump.run(classEntries, ZipEntry::getName, entry -> {
+        try (InputStream inputStream = zipFile.getInputStream(entry)) {
+          return inputStream.readAllBytes();
+        }
+      });
+    }
+  }
+
+  private void dumpClass(String classFileName, byte[] classFile, Dump dump) throws IOException {
+    String hash = incremental ? hash(classFile) : null;
+    Path dumpFile = dump.resolveDumpFile(classFileName);
+
+    if (hash != null) {
+      dump.hashes.put(classFileName, hash);
+      if (hash.equals(dump.previousHashes.get(classFileName)) && Files.exists(dumpFile)) {
+        dump.unchangedClasses.incrementAndGet();
+        return;
+      }
+    }
+
+    var classNode = new ClassNode();
+    new ClassReader(classFile).accept(classNode, parsingOptions);
+
+    Files.createDirectories(dumpFile.getParent());
+    try (Writer writer = newDumpFileWriter(dumpFile)) {
+      classNodeRepresentation.appendTo(classNode, writer, "", null);
+    }
+    dump.dumpedClasses.incrementAndGet();
+  }
+
+  /**
+   * Creates a buffered {@link Writer} on a {@link FileChannel}. Strings in
+   * class files may contain unpaired surrogates, which get replaced instead of
+   * failing the dump.
+   */
+  private static Writer newDumpFileWriter(Path dumpFile) throws IOException {
+    CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+                                                   .onMalformedInput(CodingErrorAction.REPLACE)
+                                                   .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    FileChannel channel = FileChannel.open(dumpFile, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+    return new BufferedWriter(Channels.newWriter(channel, encoder, WRITE_BUFFER_SIZE), WRITE_BUFFER_SIZE);
+  }
+
+  private static String hash(byte[] bytes) {
+    byte[] digest;
+    try {
+      digest = MessageDigest.getInstance(HASH_ALGORITHM).digest(bytes);
+    }
+    catch (NoSuchAlgorithmException e) {
+      // Can't happen, every Java platform must support SHA-256
+      throw new IllegalStateException(e);
+    }
+
+    var hash = new char[digest.length * 2];
+    for (int i = 0; i < digest.length; i++) {
+      hash[i * 2] = HEX_DIGITS[(digest[i] >> 4) & 0xF];
+      hash[i * 2 + 1] = HEX_DIGITS[digest[i] & 0xF];
+    }
+    return new String(hash);
+  }
+
+  /**
+   * Creates a stamp of all settings which affect the content of the dumps.
+   *
+   * <p>The configuration of the {@link ClassNodeRepresentation} is spread
+   * over the representations of the nested elements. Therefore, it gets
+   * captured by the hash of the rendered {@link #createConfigurationProbe()}.
+   */
+  private String configurationStamp() throws IOException {
+    var probeRepresentation = new StringBuilder();
+    classNodeRepresentation.appendTo(createConfigurationProbe(), probeRepresentation, "", null);
+
+    String version = BytecodeDumper.class.getPackage().getImplementationVersion();
+    return "parsingOptions=" + parsingOptions +
+           ", representation=" + classNodeRepresentation.getClass().getName() +
+           ", probe=" + hash(probeRepresentation.toString().getBytes(StandardCharsets.UTF_8)) +
+           ", version=" + (version != null ? version : "unknown");
+  }
+
+  /**
+   * Creates a {@link ClassNode} which contains the configurable parts of a
+   * representation, like types, annotation values, opcodes, line numbers and
+   * local variables.
+   */
+  private static ClassNode createConfigurationProbe() {
+    var classNode = new ClassNode();
+    classNode.visit(Opcodes.V11, Opcodes.ACC_PUBLIC, "Probe", null, "java/lang/Object", new String[]{"java/lang/Runnable"});
+
+    AnnotationVisitor annotationVisitor = classNode.visitAnnotation("Ljava/lang/Deprecated;", true);
+    annotationVisitor.visit("since", "1");
+    annotationVisitor.visitEnd();
+
+    classNode.visitField(Opcodes.ACC_PRIVATE, "field", "Ljava/lang/String;", null, null).visitEnd();
+
+    MethodVisitor methodVisitor = classNode.visitMethod(Opcodes.ACC_PUBLIC, "run", "()V", null, null);
+    methodVisitor.visitCode();
+    var start = new Label();
+    var end = new Label();
+    methodVisitor.visitLabel(start);
+    methodVisitor.visitLineNumber(1, start);
+    methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+    methodVisitor.visitFieldInsn(Opcodes.GETFIELD, "Probe", "field", "Ljava/lang/String;");
+    methodVisitor.visitInsn(Opcodes.POP);
+    methodVisitor.visitInsn(Opcodes.RETURN);
+    methodVisitor.visitLabel(end);
+    methodVisitor.visitLocalVariable("this", "LProbe;", null, start, end, 0);
+    methodVisitor.visitMaxs(1, 1);
+    methodVisitor.visitEnd();
+
+    classNode.visitEnd();
+    return classNode;
+  }
+
+  private static Index readIndex(Path outputDirectory) throws IOException {
+    Path indexFile = outputDirectory.resolve(INDEX_FILE_NAME);
+    if (!Files.exists(indexFile)) {
+      return Index.EMPTY;
+    }
+
+    String configurationStamp = null;
+    var hashes = new HashMap<String, String>();
+    for (String line : Files.readAllLines(indexFile, StandardCharsets.UTF_8)) {
+      if (line.startsWith(INDEX_STAMP_PREFIX)) {
+        configurationStamp = line.substring(INDEX_STAMP_PREFIX.length());
+        continue;
+      }
+
+      int separator = line.indexOf(' ');
+      if (separator > 0) {
+        hashes.put(line.substring(separator + 1), line.substring(0, separator));
+      }
+    }
+    return new Index(configurationStamp, hashes);
+  }
+
+  private static void writeIndex(Path outputDirectory, String configurationStamp, Map<String, String> hashes) throws IOException {
+    try (BufferedWriter writer = Files.newBufferedWriter(outputDirectory.resolve(INDEX_FILE_NAME), StandardCharsets.UTF_8)) {
+      writer.write(INDEX_STAMP_PREFIX);
+      writer.write(configurationStamp);
+      writer.newLine();
+
+      // Sorted to create a stable file
+      for (Map.Entry<String, String> hash : new TreeMap<>(hashes).entrySet()) {
+        writer.write(hash.getValue());
+        writer.write(' ');
+        writer.write(hash.getKey());
+        writer.newLine();
+      }
+    }
+  }
+
+  private static int removeObsoleteDumps(Path outputDirectory, Map<String, String> previousHashes, Map<String, String> hashes) throws IOException {
+    int removedClasses = 0;
+    for (String classFileName : previousHashes.keySet()) {
+      if (!hashes.containsKey(classFileName) && Files.deleteIfExists(resolveDumpFile(outputDirectory, classFileName))) {
+        removedClasses++;
+      }
+    }
+    return removedClasses;
+  }
+
+  private static Path resolveDumpFile(Path outputDirectory, String classFileName) throws IOException {
+    String dumpFileName = classFileName.substring(0, classFileName.length() - CLASS_FILE_EXTENSION.length()) + DUMP_FILE_EXTENSION;
+    Path dumpFile = outputDirectory.resolve(dumpFileName).normalize();
+    if (!dumpFile.startsWith(outputDirectory)) {
+      throw new IOException("Class file '" + classFileName + "' would be dumped outside of the output directory.");
+    }
+    return dumpFile;
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  /**
+   * The result of a {@link BytecodeDumper#dump(Path, Path)}.
+   */
+  public static final class Result {
+
+    private final int dumpedClasses;
+    private final int unchangedClasses;
+    private final int removedClasses;
+
+    private Result(int dumpedClasses, int unchangedClasses, int removedClasses) {
+      this.dumpedClasses = dumpedClasses;
+      this.unchangedClasses = unchangedClasses;
+      this.removedClasses = removedClasses;
+    }
+
+    /**
+     * Gets the number of dumped classes.
+     *
+     * @return the number of dumped classes.
+     */
+    public int dumpedClasses() {
+      return dumpedClasses;
+    }
+
+    /**
+     * Gets the number of classes which were skipped in the incremental mode,
+     * because they did not change since the previous dump.
+     *
+     * @return the number of unchanged classes.
+     */
+    public int unchangedClasses() {
+      return unchangedClasses;
+    }
+
+    /**
+     * Gets the number of dumps which were removed in the incremental mode,
+     * because their classes no longer exist.
+     *
+     * @return the number of removed classes.
+     */
+    public int removedClasses() {
+      return removedClasses;
+    }
+
+    @Override
+    public String toString() {
+      return "Dumped " + dumpedClasses + " classes, " + unchangedClasses + " unchanged, " + removedClasses + " removed";
+    }
+  }
+
+  /**
+   * The content of the {@link BytecodeDumper#INDEX_FILE_NAME} file.
+   */
+  private static final class Index {
+
+    private static final Index EMPTY = new Index(null, Map.of());
+
+    /**
+     * May be null if the index was written without a stamp.
+     */
+    private final String              configurationStamp;
+    private final Map<String, String> hashes;
+
+    private Index(String configurationStamp, Map<String, String> hashes) {
+      this.configurationStamp = configurationStamp;
+      this.hashes = hashes;
+    }
+  }
+
+  /**
+   * The state of a single {@link BytecodeDumper#dump(Path, Path)}.
+   */
+  private final class Dump {
+
+    private final Path                outputDirectory;
+    private final Map<String, String> previousHashes;
+    private final Map<String, String> hashes           = new ConcurrentHashMap<>();
+    private final AtomicInteger       dumpedClasses    = new AtomicInteger();
+    private final AtomicInteger       unchangedClasses = new AtomicInteger();
+
+    private Dump(Path outputDirectory, Map<String, String> previousHashes) {
+      this.outputDirectory = outputDirectory;
+      this.previousHashes = previousHashes;
+    }
+
+    Path resolveDumpFile(String classFileName) throws IOException {
+      return BytecodeDumper.resolveDumpFile(outputDirectory, classFileName);
+    }
+
+    /**
+     * Reads and dumps the given class file sources in parallel. At most
+     * {@link BytecodeDumper#CLASSES_IN_FLIGHT_PER_THREAD} classes per thread are read but
+     * not yet written, which bounds the memory usage. After the first failed
+     * class, no further classes get submitted.
+     */
+    <S> void run(List<S> sources, Function<S, String> toClassFileName, ClassFileReader<S> classFileReader) throws IOException {
+      ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+        var thread = new Thread(runnable, "bytecode-dumper");
+        thread.setDaemon(true);
+        return thread;
+      });
+      var classesInFlight = new Semaphore(threads * CLASSES_IN_FLIGHT_PER_THREAD);
+      var tasks = new ArrayList<Future<?>>(sources.size());
+      var failed = new AtomicBoolean(false);
+      try {
+        for (S source : sources) {
+          classesInFlight.acquireUninterruptibly();
+          if (failed.get()) {
+            // The failure gets rethrown by awaiting the failed task
+            break;
+          }
+
+          tasks.add(executor.submit(() -> {
+            String classFileName = toClassFileName.apply(source);
+            try {
+              dumpClass(classFileName, classFileReader.read(source), this);
+            }
+            catch (IOException e) {
+              failed.set(true);
+              throw new UncheckedIOException(new IOException("Failed to dump class file '" + classFileName + "'.", e));
+            }
+            catch (RuntimeException e) {
+              failed.set(true);
+              throw new IllegalStateException("Failed to dump class file '" + classFileName + "'.", e);
+            }
+            finally {
+              classesInFlight.release();
+            }
+          }));
+        }
+
+        for (Future<?> task : tasks) {
+          await(task);
+        }
+      }
+      finally {
+        executor.shutdownNow();
+      }
+    }
+
+    private void await(Future<?> task) throws IOException {
+      try {
+        task.get();
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException("Interrupted while dumping classes.", e);
+      }
+      catch (ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof UncheckedIOException) {
+          throw ((UncheckedIOException) cause).getCause();
+        }
+        if (cause instanceof RuntimeException) {
+          throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+          throw (Error) cause;
+        }
+        throw new IOException(cause);
+      }
+    }
+  }
+
+  /**
+   * Reads the bytes of a class file from a source, like a {@link ZipEntry}.
+   */
+  @FunctionalInterface
+  private interface ClassFileReader<S> {
+
+    byte[] read(S source) throws IOException;
+  }
+}
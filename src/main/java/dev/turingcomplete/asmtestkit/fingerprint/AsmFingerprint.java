@@ -0,0 +1,131 @@
+package dev.turingcomplete.asmtestkit.fingerprint;
+
+import java.util.Objects;
+
+/**
+ * A 128-bit structural fingerprint of an ASM node, created by
+ * {@link AsmFingerprints}.
+ *
+ * <p>Two nodes with a different fingerprint are different in at least one
+ * component that the corresponding comparator considers. An equal
+ * fingerprint does not prove that two nodes are equal (e.g., because of a
+ * hash collision), so it can only be used to rule out equality.
+ *
+ * <p>The natural order of fingerprints has no structural meaning, but is
+ * total and deterministic.
+ */
+public final class AsmFingerprint implements Comparable<AsmFingerprint> {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final int HEX_STRING_LENGTH = 32;
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final long high;
+  private final long low;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  private AsmFingerprint(long high, long low) {
+    this.high = high;
+    this.low = low;
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Creates a new {@link AsmFingerprint} from the two 64-bit halves.
+   *
+   * @param high the upper 64 bits.
+   * @param low  the lower 64 bits.
+   * @return a new {@link AsmFingerprint}; never null.
+   */
+  public static AsmFingerprint create(long high, long low) {
+    return new AsmFingerprint(high, low);
+  }
+
+  /**
+   * Parses an {@link AsmFingerprint} from the output of {@link #toHexString()}.
+   *
+   * @param hexString a {@link String} with 32 hexadecimal characters;
+   *                  never null.
+   * @return a new {@link AsmFingerprint}; never null.
+   * @throws IllegalArgumentException if {@code hexString} is not a valid
+   *                                  fingerprint.
+   */
+  public static AsmFingerprint fromHexString(String hexString) {
+    Objects.requireNonNull(hexString);
+
+    if (hexString.length() != HEX_STRING_LENGTH) {
+      throw new IllegalArgumentException("A fingerprint must have " + HEX_STRING_LENGTH + " hexadecimal characters: " + hexString);
+    }
+
+    try {
+      return new AsmFingerprint(Long.parseUnsignedLong(hexString.substring(0, 16), 16),
+                                Long.parseUnsignedLong(hexString.substring(16), 16));
+    }
+    catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Not a valid fingerprint: " + hexString, e);
+    }
+  }
+
+  /**
+   * Gets the upper 64 bits.
+   *
+   * @return the upper 64 bits.
+   */
+  public long high() {
+    return high;
+  }
+
+  /**
+   * Gets the lower 64 bits.
+   *
+   * @return the lower 64 bits.
+   */
+  public long low() {
+    return low;
+  }
+
+  /**
+   * Creates a hexadecimal representation of this fingerprint.
+   *
+   * @return a {@link String} with 32 hexadecimal characters; never null.
+   */
+  public String toHexString() {
+    return String.format("%016x%016x", high, low);
+  }
+
+  @Override
+  public int compareTo(AsmFingerprint other) {
+    int highResult = Long.compareUnsigned(high, other.high);
+    return highResult != 0 ? highResult : Long.compareUnsigned(low, other.low);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+
+    AsmFingerprint that = (AsmFingerprint) o;
+    return high == that.high && low == that.low;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(high ^ low);
+  }
+
+  @Override
+  public String toString() {
+    return toHexString();
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
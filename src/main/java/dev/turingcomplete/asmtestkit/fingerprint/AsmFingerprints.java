@@ -0,0 +1,856 @@
+package dev.turingcomplete.asmtestkit.fingerprint;
+
+import dev.turingcomplete.asmtestkit.asmutils.AttributeUtils;
+import dev.turingcomplete.asmtestkit.assertion.option.AssertOption;
+import dev.turingcomplete.asmtestkit.assertion.option.StandardAssertOption;
+import org.objectweb.asm.Attribute;
+import org.objectweb.asm.ConstantDynamic;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.TypePath;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.AnnotationNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.FieldNode;
+import org.objectweb.asm.tree.FrameNode;
+import org.objectweb.asm.tree.IincInsnNode;
+import org.objectweb.asm.tree.InnerClassNode;
+import org.objectweb.asm.tree.IntInsnNode;
+import org.objectweb.asm.tree.InvokeDynamicInsnNode;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.LineNumberNode;
+import org.objectweb.asm.tree.LocalVariableAnnotationNode;
+import org.objectweb.asm.tree.LocalVariableNode;
+import org.objectweb.asm.tree.LookupSwitchInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.MultiANewArrayInsnNode;
+import org.objectweb.asm.tree.ParameterNode;
+import org.objectweb.asm.tree.TableSwitchInsnNode;
+import org.objectweb.asm.tree.TryCatchBlockNode;
+import org.objectweb.asm.tree.TypeAnnotationNode;
+import org.objectweb.asm.tree.TypeInsnNode;
+import org.objectweb.asm.tree.VarInsnNode;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Creates {@link AsmFingerprint}s of {@link ClassNode}s, {@link MethodNode}s
+ * and lists of instructions.
+ *
+ * <p>A fingerprint covers every component that the corresponding comparator
+ * (e.g., {@link dev.turingcomplete.asmtestkit.comparator.MethodNodeComparator})
+ * considers. Labels are normalized by their index, and collections which get
+ * compared in any order are hashed order-independent. Therefore, differing
+ * fingerprints can be used to rule out equality without a full comparison,
+ * and to deduplicate or index large amounts of nodes.
+ *
+ * <p>Equal fingerprints are no proof of equality: Labels outside of the
+ * instructions of a method are not distinguished, and comparators
+ * registered in an assertion are not taken into account.
+ *
+ * <p>An instance is immutable. {@link #ignoreLineNumbers()} and
+ * {@link #withOptions(Collection)} are creating a new instance.
+ */
+public final class AsmFingerprints {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  /**
+   * A reusable {@link AsmFingerprints} instance.
+   */
+  public static final AsmFingerprints INSTANCE = create();
+
+  /**
+   * A reusable {@link AsmFingerprints} instance, which ignores line numbers.
+   */
+  public static final AsmFingerprints INSTANCE_IGNORE_LINE_NUMBERS = create().ignoreLineNumbers();
+
+  private static final long NULL_MARKER = -1L;
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final boolean            ignoreLineNumbers;
+  private final Set<AssertOption> options;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  private AsmFingerprints(boolean ignoreLineNumbers, Set<AssertOption> options) {
+    this.ignoreLineNumbers = ignoreLineNumbers;
+    this.options = options;
+  }
+
+  /**
+   * Creates a new {@link AsmFingerprints} instance, which considers all
+   * components.
+   *
+   * @return a new {@link AsmFingerprints}; never null.
+   */
+  public static AsmFingerprints create() {
+    return new AsmFingerprints(false, Collections.emptySet());
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Creates the fingerprint of the given {@link ClassNode} with
+   * {@link #INSTANCE}.
+   *
+   * @param classNode a {@link ClassNode}; never null.
+   * @return the {@link AsmFingerprint}; never null.
+   */
+  public static AsmFingerprint of(ClassNode classNode) {
+    return INSTANCE.fingerprint(classNode);
+  }
+
+  /**
+   * Creates the fingerprint of the given {@link MethodNode} with
+   * {@link #INSTANCE}.
+   *
+   * @param methodNode a {@link MethodNode}; never null.
+   * @return the {@link AsmFingerprint}; never null.
+   */
+  public static AsmFingerprint of(MethodNode methodNode) {
+    return INSTANCE.fingerprint(methodNode);
+  }
+
+  /**
+   * Creates the fingerprint of the given instructions with {@link #INSTANCE}.
+   *
+   * @param instructions an {@link Iterable} of {@link AbstractInsnNode}s;
+   *                     never null.
+   * @return the {@link AsmFingerprint}; never null.
+   */
+  public static AsmFingerprint of(Iterable<? extends AbstractInsnNode> instructions) {
+    return INSTANCE.fingerprint(instructions);
+  }
+
+  /**
+   * Creates a new {@link AsmFingerprints} which additionally excludes
+   * {@link LineNumberNode}s (and their associated {@link LabelNode}s).
+   *
+   * @return a new {@link AsmFingerprints}; never null.
+   */
+  public AsmFingerprints ignoreLineNumbers() {
+    return new AsmFingerprints(true, options);
+  }
+
+  /**
+   * Creates a new {@link AsmFingerprints} which additionally excludes the
+   * components that are ignored by the given {@link StandardAssertOption}s.
+   * Other {@link AssertOption}s have no effect.
+   *
+   * @param options a {@link Collection} of {@link AssertOption}s; never null.
+   * @return a new {@link AsmFingerprints}; never null.
+   */
+  public AsmFingerprints withOptions(Collection<? extends AssertOption> options) {
+    Objects.requireNonNull(options);
+
+    Set<AssertOption> newOptions = new HashSet<>(this.options);
+    newOptions.addAll(options);
+    return new AsmFingerprints(ignoreLineNumbers, Collections.unmodifiableSet(newOptions));
+  }
+
+  /**
+   * Whether {@link LineNumberNode}s are excluded.
+   *
+   * @return true if line numbers are ignored.
+   */
+  public boolean isIgnoreLineNumbers() {
+    return ignoreLineNumbers;
+  }
+
+  /**
+   * Check whether the given {@link AssertOption} was set.
+   *
+   * @param option the {@link AssertOption} to check; never null.
+   * @return if the {@link AssertOption} was set.
+   */
+  public boolean hasOption(AssertOption option) {
+    return options.contains(Objects.requireNonNull(option));
+  }
+
+  /**
+   * Creates the fingerprint of the given {@link ClassNode}.
+   *
+   * @param classNode a {@link ClassNode}; never null.
+   * @return the {@link AsmFingerprint}; never null.
+   */
+  public AsmFingerprint fingerprint(ClassNode classNode) {
+    Objects.requireNonNull(classNode);
+
+    var hasher = new Hasher();
+    hashClassNode(hasher, classNode);
+    return hasher.finish();
+  }
+
+  /**
+   * Creates the fingerprint of the given {@link MethodNode}.
+   *
+   * @param methodNode a {@link MethodNode}; never null.
+   * @return the {@link AsmFingerprint}; never null.
+   */
+  public AsmFingerprint fingerprint(MethodNode methodNode) {
+    Objects.requireNonNull(methodNode);
+
+    var hasher = new Hasher();
+    hashMethodNode(hasher, methodNode);
+    return hasher.finish();
+  }
+
+  /**
+   * Creates the fingerprint of the given instructions.
+   *
+   * @param instructions an {@link Iterable} of {@link AbstractInsnNode}s;
+   *                     never null.
+   * @return the {@link AsmFingerprint}; never null.
+   */
+  public AsmFingerprint fingerprint(Iterable<? extends AbstractInsnNode> instructions) {
+    Objects.requireNonNull(instructions);
+
+    var hasher = new Hasher();
+    hashInstructions(hasher, instructions, LabelScope.create(instructions, ignoreLineNumbers, null));
+    return hasher.finish();
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private void hashClassNode(Hasher hasher, ClassNode classNode) {
+    if (!hasOption(StandardAssertOption.IGNORE_VERSION)) {
+      hasher.putInt(classNode.version);
+    }
+    if (!hasOption(StandardAssertOption.IGNORE_ACCESS)) {
+      hasher.putInt(classNode.access);
+    }
+    if (!hasOption(StandardAssertOption.IGNORE_NAME)) {
+      hasher.putString(classNode.name);
+    }
+    if (!hasOption(StandardAssertOption.IGNORE_SIGNATURE)) {
+      hasher.putString(classNode.signature);
+    }
+    if (!hasOption(StandardAssertOption.IGNORE_SUPER_NAME)) {
+      hasher.putString(classNode.superName);
+    }
+    if (!hasOption(StandardAssertOption.IGNORE_INTERFACES)) {
+      putUnordered(hasher, classNode.interfaces, Hasher::putString);
+    }
+    if (!hasOption(StandardAssertOption.IGNORE_SOURCE_FILE)) {
+      hasher.putString(classNode.sourceFile);
+    }
+    if (!hasOption(StandardAssertOption.IGNORE_SOURCE_DEBUG)) {
+      hasher.putString(classNode.sourceDebug);
+    }
+    if (!hasOption(StandardAssertOption.IGNORE_OUTER_CLASS)) {
+      hasher.putString(classNode.outerClass);
+    }
+    if (!hasOption(StandardAssertOption.IGNORE_OUTER_METHOD)) {
+      hasher.putString(classNode.outerMethod);
+    }
+    if (!hasOption(StandardAssertOption.IGNORE_OUTER_METHOD_DESCRIPTOR)) {
+      hasher.putString(classNode.outerMethodDesc);
+    }
+    hashAnnotations(hasher, classNode.visibleAnnotations, classNode.invisibleAnnotations,
+                    classNode.visibleTypeAnnotations, classNode.invisibleTypeAnnotations, classNode.attrs);
+    if (!hasOption(StandardAssertOption.IGNORE_INNER_CLASSES)) {
+      putUnordered(hasher, classNode.innerClasses, this::hashInnerClassNode);
+    }
+    if (!hasOption(StandardAssertOption.IGNORE_NEST_HOST_CLASS)) {
+      hasher.putString(classNode.nestHostClass);
+    }
+    if (!hasOption(StandardAssertOption.IGNORE_NEST_MEMBERS)) {
+      putUnordered(hasher, classNode.nestMembers, Hasher::putString);
+    }
+    if (!hasOption(StandardAssertOption.IGNORE_PERMITTED_SUBCLASSES)) {
+      putUnordered(hasher, classNode.permittedSubclasses, Hasher::putString);
+    }
+    if (!hasOption(StandardAssertOption.IGNORE_FIELDS)) {
+      putUnordered(hasher, classNode.fields, this::hashFieldNode);
+    }
+    if (!hasOption(StandardAssertOption.IGNORE_METHODS)) {
+      putUnordered(hasher, classNode.methods, this::hashMethodNode);
+    }
+  }
+
+  private void hashInnerClassNode(Hasher hasher, InnerClassNode innerClassNode) {
+    hasher.putString(innerClassNode.name)
+          .putString(innerClassNode.outerName)
+          .putString(innerClassNode.innerName)
+          .putInt(innerClassNode.access);
+  }
+
+  private void hashFieldNode(Hasher hasher, FieldNode fieldNode) {
+    if (!hasOption(StandardAssertOption.IGNORE_NAME)) {
+      hasher.putString(fieldNode.name);
+    }
+    if (!hasOption(StandardAssertOption.IGNORE_DESCRIPTOR)) {
+      hasher.putString(fieldNode.desc);
+    }
+    if (!hasOption(StandardAssertOption.IGNORE_ACCESS)) {
+      hasher.putInt(fieldNode.access);
+    }
+    if (!hasOption(StandardAssertOption.IGNORE_SIGNATURE)) {
+      hasher.putString(fieldNode.signature);
+    }
+    if (!hasOption(StandardAssertOption.IGNORE_VALUE)) {
+      hashValue(hasher, fieldNode.value);
+    }
+    hashAnnotations(hasher, fieldNode.visibleAnnotations, fieldNode.invisibleAnnotations,
+                    fieldNode.visibleTypeAnnotations, fieldNode.invisibleTypeAnnotations, fieldNode.attrs);
+  }
+
+  private void hashMethodNode(Hasher hasher, MethodNode methodNode) {
+    LabelScope labelScope = LabelScope.create(methodNode.instructions, ignoreLineNumbers, methodNode);
+
+    if (!hasOption(StandardAssertOption.IGNORE_NAME)) {
+      hasher.putString(methodNode.name);
+    }
+    if (!hasOption(StandardAssertOption.IGNORE_DESCRIPTOR)) {
+      hasher.putString(methodNode.desc);
+    }
+    if (!hasOption(StandardAssertOption.IGNORE_ACCESS)) {
+      hasher.putInt(methodNode.access);
+    }
+    if (!hasOption(StandardAssertOption.IGNORE_SIGNATURE)) {
+      hasher.putString(methodNode.signature);
+    }
+    if (!hasOption(StandardAssertOption.IGNORE_EXCEPTIONS)) {
+      putUnordered(hasher, methodNode.exceptions, Hasher::putString);
+    }
+    if (!hasOption(StandardAssertOption.IGNORE_PARAMETERS)) {
+      putUnordered(hasher, methodNode.parameters, (Hasher parameterHasher, ParameterNode parameterNode) -> {
+        parameterHasher.putInt(parameterNode.access).putString(parameterNode.name);
+      });
+    }
+    hashAnnotations(hasher, methodNode.visibleAnnotations, methodNode.invisibleAnnotations,
+                    methodNode.visibleTypeAnnotations, methodNode.invisibleTypeAnnotations, methodNode.attrs);
+    if (!hasOption(StandardAssertOption.IGNORE_VISIBLE_ANNOTABLE_PARAMETER_COUNT)) {
+      hasher.putInt(methodNode.visibleAnnotableParameterCount);
+    }
+    if (!hasOption(StandardAssertOption.IGNORE_VISIBLE_PARAMETER_ANNOTATIONS)) {
+      hashParameterAnnotations(hasher, methodNode.visibleParameterAnnotations);
+    }
+    if (!hasOption(StandardAssertOption.IGNORE_INVISIBLE_ANNOTABLE_PARAMETER_COUNT)) {
+      hasher.putInt(methodNode.invisibleAnnotableParameterCount);
+    }
+    if (!hasOption(StandardAssertOption.IGNORE_INVISIBLE_PARAMETER_ANNOTATIONS)) {
+      hashParameterAnnotations(hasher, methodNode.invisibleParameterAnnotations);
+    }
+    if (!hasOption(StandardAssertOption.IGNORE_INSTRUCTIONS)) {
+      if (methodNode.instructions == null) {
+        hasher.putLong(NULL_MARKER);
+      }
+      else {
+        hashInstructions(hasher, methodNode.instructions, labelScope);
+      }
+    }
+    if (!hasOption(StandardAssertOption.IGNORE_TRY_CATCH_BLOCKS)) {
+      putUnordered(hasher, methodNode.tryCatchBlocks, (Hasher tryCatchBlockHasher, TryCatchBlockNode tryCatchBlockNode) -> {
+        tryCatchBlockHasher.putInt(labelScope.indexOf(tryCatchBlockNode.start))
+                           .putInt(labelScope.indexOf(tryCatchBlockNode.end))
+                           .putInt(labelScope.indexOf(tryCatchBlockNode.handler))
+                           .putString(tryCatchBlockNode.type);
+        putUnordered(tryCatchBlockHasher, tryCatchBlockNode.visibleTypeAnnotations, this::hashTypeAnnotationNode);
+        putUnordered(tryCatchBlockHasher, tryCatchBlockNode.invisibleTypeAnnotations, this::hashTypeAnnotationNode);
+      });
+    }
+    if (!hasOption(StandardAssertOption.IGNORE_MAX_LOCALS)) {
+      hasher.putInt(methodNode.maxLocals);
+    }
+    if (!hasOption(StandardAssertOption.IGNORE_MAX_STACK)) {
+      hasher.putInt(methodNode.maxStack);
+    }
+    if (!hasOption(StandardAssertOption.IGNORE_LOCAL_VARIABLES)) {
+      putUnordered(hasher, methodNode.localVariables, (Hasher localVariableHasher, LocalVariableNode localVariableNode) -> {
+        localVariableHasher.putInt(localVariableNode.index)
+                           .putString(localVariableNode.name)
+                           .putString(localVariableNode.desc)
+                           .putString(localVariableNode.signature)
+                           .putInt(labelScope.indexOf(localVariableNode.start))
+                           .putInt(labelScope.indexOf(localVariableNode.end));
+      });
+    }
+    BiConsumer<Hasher, LocalVariableAnnotationNode> hashLocalVariableAnnotationNode = (localVariableAnnotationHasher, localVariableAnnotationNode) -> {
+      hashTypeAnnotationNode(localVariableAnnotationHasher, localVariableAnnotationNode);
+      putOrdered(localVariableAnnotationHasher, localVariableAnnotationNode.start, (labelHasher, labelNode) -> labelHasher.putInt(labelScope.indexOf(labelNode)));
+      putOrdered(localVariableAnnotationHasher, localVariableAnnotationNode.end, (labelHasher, labelNode) -> labelHasher.putInt(labelScope.indexOf(labelNode)));
+      putOrdered(localVariableAnnotationHasher, localVariableAnnotationNode.index, Hasher::putInt);
+    };
+    if (!hasOption(StandardAssertOption.IGNORE_VISIBLE_LOCAL_VARIABLE_ANNOTATIONS)) {
+      putUnordered(hasher, methodNode.visibleLocalVariableAnnotations, hashLocalVariableAnnotationNode);
+    }
+    if (!hasOption(StandardAssertOption.IGNORE_INVISIBLE_LOCAL_VARIABLE_ANNOTATIONS)) {
+      putUnordered(hasher, methodNode.invisibleLocalVariableAnnotations, hashLocalVariableAnnotationNode);
+    }
+    if (!hasOption(StandardAssertOption.IGNORE_ANNOTATION_DEFAULT)) {
+      hashValue(hasher, methodNode.annotationDefault);
+    }
+  }
+
+  private void hashParameterAnnotations(Hasher hasher, List<AnnotationNode>[] parameterAnnotations) {
+    if (parameterAnnotations == null) {
+      hasher.putLong(NULL_MARKER);
+      return;
+    }
+
+    hasher.putInt(parameterAnnotations.length);
+    for (List<AnnotationNode> annotations : parameterAnnotations) {
+      putUnordered(hasher, annotations, this::hashAnnotationNode);
+    }
+  }
+
+  private void hashAnnotations(Hasher hasher,
+                               List<AnnotationNode> visibleAnnotations,
+                               List<AnnotationNode> invisibleAnnotations,
+                               List<TypeAnnotationNode> visibleTypeAnnotations,
+                               List<TypeAnnotationNode> invisibleTypeAnnotations,
+                               List<Attribute> attributes) {
+
+    if (!hasOption(StandardAssertOption.IGNORE_VISIBLE_ANNOTATIONS)) {
+      putUnordered(hasher, visibleAnnotations, this::hashAnnotationNode);
+    }
+    if (!hasOption(StandardAssertOption.IGNORE_INVISIBLE_ANNOTATIONS)) {
+      putUnordered(hasher, invisibleAnnotations, this::hashAnnotationNode);
+    }
+    if (!hasOption(StandardAssertOption.IGNORE_VISIBLE_TYPE_ANNOTATIONS)) {
+      putUnordered(hasher, visibleTypeAnnotations, this::hashTypeAnnotationNode);
+    }
+    if (!hasOption(StandardAssertOption.IGNORE_INVISIBLE_TYPE_ANNOTATIONS)) {
+      putUnordered(hasher, invisibleTypeAnnotations, this::hashTypeAnnotationNode);
+    }
+    if (!hasOption(StandardAssertOption.IGNORE_ATTRIBUTES)) {
+      putUnordered(hasher, attributes, this::hashAttribute);
+    }
+  }
+
+  private void hashAnnotationNode(Hasher hasher, AnnotationNode annotationNode) {
+    hasher.putString(annotationNode.desc);
+
+    if (hasOption(StandardAssertOption.IGNORE_ANNOTATION_VALUES)) {
+      return;
+    }
+
+    // A null list gets compared like an empty list
+    List<Object> values = Objects.requireNonNullElse(annotationNode.values, List.of());
+
+    // The values get compared as a map, so the order of the pairs is irrelevant
+    int pairs = values.size() / 2;
+    long sumHigh = 0;
+    long sumLow = 0;
+    for (int i = 0; i < pairs; i++) {
+      var pairHasher = new Hasher();
+      hashValue(pairHasher, values.get(i * 2));
+      hashValue(pairHasher, values.get(i * 2 + 1));
+      AsmFingerprint pairFingerprint = pairHasher.finish();
+      sumHigh += pairFingerprint.high();
+      sumLow += pairFingerprint.low();
+    }
+    hasher.putInt(pairs).putLong(sumHigh).putLong(sumLow);
+  }
+
+  private void hashTypeAnnotationNode(Hasher hasher, TypeAnnotationNode typeAnnotationNode) {
+    hashAnnotationNode(hasher, typeAnnotationNode);
+    hasher.putInt(typeAnnotationNode.typeRef);
+    TypePath typePath = typeAnnotationNode.typePath;
+    hasher.putString(typePath != null ? typePath.toString() : null);
+  }
+
+  private void hashAttribute(Hasher hasher, Attribute attribute) {
+    // The attribute comparator compares the type and the content
+    hasher.putString(attribute.type)
+          .putLong(AttributeUtils.contentHash(attribute));
+  }
+
+  private void hashInstructions(Hasher hasher, Iterable<? extends AbstractInsnNode> instructions, LabelScope labelScope) {
+    int size = 0;
+    for (AbstractInsnNode instruction : instructions) {
+      if (labelScope.isIgnored(instruction)) {
+        continue;
+      }
+
+      hashInstruction(hasher, instruction, labelScope);
+      size++;
+    }
+    hasher.putInt(size);
+  }
+
+  private void hashInstruction(Hasher hasher, AbstractInsnNode instruction, LabelScope labelScope) {
+    hasher.putInt(instruction.getType()).putInt(instruction.getOpcode());
+
+    switch (instruction.getType()) {
+      case AbstractInsnNode.INSN:
+        break;
+      case AbstractInsnNode.INT_INSN:
+        hasher.putInt(((IntInsnNode) instruction).operand);
+        break;
+      case AbstractInsnNode.VAR_INSN:
+        hasher.putInt(((VarInsnNode) instruction).var);
+        break;
+      case AbstractInsnNode.TYPE_INSN:
+        hasher.putString(((TypeInsnNode) instruction).desc);
+        break;
+      case AbstractInsnNode.FIELD_INSN:
+        var fieldInsnNode = (FieldInsnNode) instruction;
+        hasher.putString(fieldInsnNode.owner).putString(fieldInsnNode.name).putString(fieldInsnNode.desc);
+        break;
+      case AbstractInsnNode.METHOD_INSN:
+        var methodInsnNode = (MethodInsnNode) instruction;
+        hasher.putString(methodInsnNode.owner).putString(methodInsnNode.name).putString(methodInsnNode.desc).putBoolean(methodInsnNode.itf);
+        break;
+      case AbstractInsnNode.INVOKE_DYNAMIC_INSN:
+        var invokeDynamicInsnNode = (InvokeDynamicInsnNode) instruction;
+        hasher.putString(invokeDynamicInsnNode.name).putString(invokeDynamicInsnNode.desc);
+        hashValue(hasher, invokeDynamicInsnNode.bsm);
+        hashValue(hasher, invokeDynamicInsnNode.bsmArgs);
+        break;
+      case AbstractInsnNode.JUMP_INSN:
+        hasher.putInt(labelScope.indexOf(((JumpInsnNode) instruction).label));
+        break;
+      case AbstractInsnNode.LABEL:
+        hasher.putInt(labelScope.indexOf((LabelNode) instruction));
+        break;
+      case AbstractInsnNode.LDC_INSN:
+        hashValue(hasher, ((LdcInsnNode) instruction).cst);
+        break;
+      case AbstractInsnNode.IINC_INSN:
+        var iincInsnNode = (IincInsnNode) instruction;
+        hasher.putInt(iincInsnNode.var).putInt(iincInsnNode.incr);
+        break;
+      case AbstractInsnNode.TABLESWITCH_INSN:
+        var tableSwitchInsnNode = (TableSwitchInsnNode) instruction;
+        hasher.putInt(tableSwitchInsnNode.min).putInt(tableSwitchInsnNode.max).putInt(labelScope.indexOf(tableSwitchInsnNode.dflt));
+        putOrdered(hasher, tableSwitchInsnNode.labels, (labelHasher, labelNode) -> labelHasher.putInt(labelScope.indexOf(labelNode)));
+        break;
+      case AbstractInsnNode.LOOKUPSWITCH_INSN:
+        var lookupSwitchInsnNode = (LookupSwitchInsnNode) instruction;
+        hasher.putInt(labelScope.indexOf(lookupSwitchInsnNode.dflt));
+        putOrdered(hasher, lookupSwitchInsnNode.keys, Hasher::putInt);
+        putOrdered(hasher, lookupSwitchInsnNode.labels, (labelHasher, labelNode) -> labelHasher.putInt(labelScope.indexOf(labelNode)));
+        break;
+      case AbstractInsnNode.MULTIANEWARRAY_INSN:
+        var multiANewArrayInsnNode = (MultiANewArrayInsnNode) instruction;
+        hasher.putString(multiANewArrayInsnNode.desc).putInt(multiANewArrayInsnNode.dims);
+        break;
+      case AbstractInsnNode.FRAME:
+        var frameNode = (FrameNode) instruction;
+        hasher.putInt(frameNode.type);
+        BiConsumer<Hasher, Object> hashFrameElement = (frameElementHasher, frameElement) -> {
+          if (frameElement instanceof LabelNode) {
+            frameElementHasher.putInt(labelScope.indexOf((LabelNode) frameElement));
+          }
+          else {
+            hashValue(frameElementHasher, frameElement);
+          }
+        };
+        putOrdered(hasher, frameNode.local, hashFrameElement);
+        putOrdered(hasher, frameNode.stack, hashFrameElement);
+        break;
+      case AbstractInsnNode.LINE:
+        var lineNumberNode = (LineNumberNode) instruction;
+        hasher.putInt(lineNumberNode.line).putInt(labelScope.indexOf(lineNumberNode.start));
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown instruction type: " + instruction.getType());
+    }
+
+    putOrdered(hasher, instruction.visibleTypeAnnotations, this::hashTypeAnnotationNode);
+    putOrdered(hasher, instruction.invisibleTypeAnnotations, this::hashTypeAnnotationNode);
+  }
+
+  /**
+   * Hashes constants, annotation values and field values.
+   */
+  private void hashValue(Hasher hasher, Object value) {
+    if (value == null) {
+      hasher.putLong(NULL_MARKER);
+      return;
+    }
+
+    // Includes the type, because, e.g., an Integer and a Long with the same
+    // value are not equal.
+    hasher.putString(value.getClass().getName());
+
+    if (value instanceof String) {
+      hasher.putString((String) value);
+    }
+    else if (value instanceof Float) {
+      hasher.putInt(Float.floatToIntBits((Float) value));
+    }
+    else if (value instanceof Double) {
+      hasher.putLong(Double.doubleToLongBits((Double) value));
+    }
+    else if (value instanceof Number) {
+      hasher.putLong(((Number) value).longValue());
+    }
+    else if (value instanceof Boolean) {
+      hasher.putBoolean((Boolean) value);
+    }
+    else if (value instanceof Character) {
+      hasher.putInt((Character) value);
+    }
+    else if (value instanceof Type) {
+      hasher.putString(((Type) value).getDescriptor());
+    }
+    else if (value instanceof Handle) {
+      var handle = (Handle) value;
+      hasher.putInt(handle.getTag())
+            .putString(handle.getOwner())
+            .putString(handle.getName())
+            .putString(handle.getDesc())
+            .putBoolean(handle.isInterface());
+    }
+    else if (value instanceof ConstantDynamic) {
+      var constantDynamic = (ConstantDynamic) value;
+      hasher.putString(constantDynamic.getName()).putString(constantDynamic.getDescriptor());
+      hashValue(hasher, constantDynamic.getBootstrapMethod());
+      int bootstrapMethodArgumentCount = constantDynamic.getBootstrapMethodArgumentCount();
+      hasher.putInt(bootstrapMethodArgumentCount);
+      for (int i = 0; i < bootstrapMethodArgumentCount; i++) {
+        hashValue(hasher, constantDynamic.getBootstrapMethodArgument(i));
+      }
+    }
+    else if (value instanceof AnnotationNode) {
+      hashAnnotationNode(hasher, (AnnotationNode) value);
+    }
+    else if (value instanceof List) {
+      putOrdered(hasher, (List<?>) value, this::hashValue);
+    }
+    else if (value.getClass().isArray()) {
+      // E.g., primitive arrays or the String[] of enum values
+      int length = Array.getLength(value);
+      hasher.putInt(length);
+      for (int i = 0; i < length; i++) {
+        hashValue(hasher, Array.get(value, i));
+      }
+    }
+    else {
+      hasher.putInt(value.hashCode());
+    }
+  }
+
+  private static <T> void putOrdered(Hasher hasher, List<T> elements, BiConsumer<Hasher, ? super T> hashElement) {
+    if (elements == null) {
+      hasher.putLong(NULL_MARKER);
+      return;
+    }
+
+    hasher.putInt(elements.size());
+    for (T element : elements) {
+      hashElement.accept(hasher, element);
+    }
+  }
+
+  /**
+   * Hashes the given elements independent of their order. Each element gets
+   * hashed separately and the results are summed up, which preserves
+   * duplicates.
+   */
+  private static <T> void putUnordered(Hasher hasher, Collection<T> elements, BiConsumer<Hasher, ? super T> hashElement) {
+    if (elements == null) {
+      hasher.putLong(NULL_MARKER);
+      return;
+    }
+
+    long sumHigh = 0;
+    long sumLow = 0;
+    for (T element : elements) {
+      var elementHasher = new Hasher();
+      hashElement.accept(elementHasher, element);
+      AsmFingerprint elementFingerprint = elementHasher.finish();
+      sumHigh += elementFingerprint.high();
+      sumLow += elementFingerprint.low();
+    }
+    hasher.putInt(elements.size()).putLong(sumHigh).putLong(sumLow);
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  /**
+   * Maps the {@link LabelNode}s of an instruction list to their index.
+   */
+  private static final class LabelScope {
+
+    private final Map<LabelNode, Integer> labelIndices;
+    private final boolean                 ignoreLineNumbers;
+
+    private LabelScope(Map<LabelNode, Integer> labelIndices, boolean ignoreLineNumbers) {
+      this.labelIndices = labelIndices;
+      this.ignoreLineNumbers = ignoreLineNumbers;
+    }
+
+    /**
+     * If line numbers are ignored, only labels which are referenced by
+     * anything other than a line number are indexed. This is equal to
+     * the behaviour of {@code InsnListUtils#filterLineNumbers}.
+     */
+    static LabelScope create(Iterable<? extends AbstractInsnNode> instructions, boolean ignoreLineNumbers, MethodNode methodNode) {
+      Set<LabelNode> requiredLabels = ignoreLineNumbers ? collectRequiredLabels(instructions, methodNode) : null;
+
+      Map<LabelNode, Integer> labelIndices = new IdentityHashMap<>();
+      if (instructions != null) {
+        int i = 0;
+        for (AbstractInsnNode instruction : instructions) {
+          if (instruction instanceof LabelNode && (requiredLabels == null || requiredLabels.contains(instruction))) {
+            labelIndices.put((LabelNode) instruction, i++);
+          }
+        }
+      }
+
+      return new LabelScope(labelIndices, ignoreLineNumbers);
+    }
+
+    int indexOf(LabelNode labelNode) {
+      if (labelNode == null) {
+        return (int) NULL_MARKER;
+      }
+
+      return labelIndices.getOrDefault(labelNode, Integer.MIN_VALUE);
+    }
+
+    boolean isIgnored(AbstractInsnNode instruction) {
+      if (!ignoreLineNumbers) {
+        return false;
+      }
+
+      return instruction instanceof LineNumberNode
+             || (instruction instanceof LabelNode && !labelIndices.containsKey(instruction));
+    }
+
+    private static Set<LabelNode> collectRequiredLabels(Iterable<? extends AbstractInsnNode> instructions, MethodNode methodNode) {
+      Set<LabelNode> requiredLabels = Collections.newSetFromMap(new IdentityHashMap<>());
+
+      if (instructions != null) {
+        for (AbstractInsnNode instruction : instructions) {
+          if (instruction instanceof JumpInsnNode) {
+            requiredLabels.add(((JumpInsnNode) instruction).label);
+          }
+          else if (instruction instanceof TableSwitchInsnNode) {
+            requiredLabels.add(((TableSwitchInsnNode) instruction).dflt);
+            requiredLabels.addAll(((TableSwitchInsnNode) instruction).labels);
+          }
+          else if (instruction instanceof LookupSwitchInsnNode) {
+            requiredLabels.add(((LookupSwitchInsnNode) instruction).dflt);
+            requiredLabels.addAll(((LookupSwitchInsnNode) instruction).labels);
+          }
+        }
+      }
+
+      if (methodNode != null) {
+        if (methodNode.localVariables != null) {
+          for (LocalVariableNode localVariable : methodNode.localVariables) {
+            requiredLabels.add(localVariable.start);
+            requiredLabels.add(localVariable.end);
+          }
+        }
+        if (methodNode.tryCatchBlocks != null) {
+          for (TryCatchBlockNode tryCatchBlock : methodNode.tryCatchBlocks) {
+            requiredLabels.add(tryCatchBlock.start);
+            requiredLabels.add(tryCatchBlock.end);
+            requiredLabels.add(tryCatchBlock.handler);
+          }
+        }
+        for (List<LocalVariableAnnotationNode> localVariableAnnotations : List.of(Objects.requireNonNullElse(methodNode.visibleLocalVariableAnnotations, List.<LocalVariableAnnotationNode>of()),
+                                                                                  Objects.requireNonNullElse(methodNode.invisibleLocalVariableAnnotations, List.<LocalVariableAnnotationNode>of()))) {
+          for (LocalVariableAnnotationNode localVariableAnnotation : localVariableAnnotations) {
+            if (localVariableAnnotation.start != null) {
+              requiredLabels.addAll(localVariableAnnotation.start);
+            }
+            if (localVariableAnnotation.end != null) {
+              requiredLabels.addAll(localVariableAnnotation.end);
+            }
+          }
+        }
+      }
+
+      return requiredLabels;
+    }
+  }
+
+  /**
+   * A 128-bit hash function with two 64-bit lanes, based on the mixing steps
+   * of MurmurHash3.
+   */
+  private static final class Hasher {
+
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    private long h1     = 0x9e3779b97f4a7c15L;
+    private long h2     = 0xc2b2ae3d27d4eb4fL;
+    private long length = 0;
+
+    Hasher putLong(long value) {
+      h1 ^= Long.rotateLeft(value * C1, 31) * C2;
+      h1 = Long.rotateLeft(h1, 27) + h2;
+      h1 = h1 * 5 + 0x52dce729;
+
+      h2 ^= Long.rotateLeft(value * C2, 33) * C1;
+      h2 = Long.rotateLeft(h2, 31) + h1;
+      h2 = h2 * 5 + 0x38495ab5;
+
+      length++;
+      return this;
+    }
+
+    Hasher putInt(int value) {
+      return putLong(value);
+    }
+
+    Hasher putBoolean(boolean value) {
+      return putLong(value ? 1 : 0);
+    }
+
+    Hasher putString(String value) {
+      if (value == null) {
+        return putLong(NULL_MARKER);
+      }
+
+      int stringLength = value.length();
+      putLong(stringLength);
+      int i = 0;
+      for (; i + 4 <= stringLength; i += 4) {
+        putLong(((long) value.charAt(i) << 48) | ((long) value.charAt(i + 1) << 32)
+                | ((long) value.charAt(i + 2) << 16) | value.charAt(i + 3));
+      }
+      if (i < stringLength) {
+        long remaining = 0;
+        for (; i < stringLength; i++) {
+          remaining = (remaining << 16) | value.charAt(i);
+        }
+        putLong(remaining);
+      }
+      return this;
+    }
+
+    AsmFingerprint finish() {
+      long high = h1 ^ length;
+      long low = h2 ^ length;
+      high += low;
+      low += high;
+      high = finalizationMix(high);
+      low = finalizationMix(low);
+      high += low;
+      low += high;
+      return AsmFingerprint.create(high, low);
+    }
+
+    private static long finalizationMix(long value) {
+      value ^= value >>> 33;
+      value *= 0xff51afd7ed558ccdL;
+      value ^= value >>> 33;
+      value *= 0xc4ceb9fe1a85ec53L;
+      value ^= value >>> 33;
+      return value;
+    }
+  }
+}
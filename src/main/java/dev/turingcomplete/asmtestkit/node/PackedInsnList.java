@@ -0,0 +1,623 @@
+package dev.turingcomplete.asmtestkit.node;
+
+import dev.turingcomplete.asmtestkit.asmutils.InsnListUtils;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.FrameNode;
+import org.objectweb.asm.tree.IincInsnNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.IntInsnNode;
+import org.objectweb.asm.tree.InvokeDynamicInsnNode;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.LineNumberNode;
+import org.objectweb.asm.tree.LookupSwitchInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MultiANewArrayInsnNode;
+import org.objectweb.asm.tree.TableSwitchInsnNode;
+import org.objectweb.asm.tree.TypeInsnNode;
+import org.objectweb.asm.tree.VarInsnNode;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A compact, immutable encoding of an {@link InsnList}.
+ *
+ * <p>An {@code InsnList} is a doubly linked list of {@link AbstractInsnNode}
+ * objects, each with its own operand objects. To keep the instructions of
+ * many methods in memory (e.g., as the expected values of a bulk comparison),
+ * a {@code PackedInsnList} encodes each instruction into a few {@code int}s
+ * of a single array:
+ * <ul>
+ *   <li>the type and the opcode of the instruction;
+ *   <li>{@code int} operands (e.g., a local variable index) as they are;
+ *   <li>{@link LabelNode}s by their index, which is the order of occurrence
+ *   in the instructions (see {@link InsnListUtils#extractLabelIndices(Iterable)});
+ *   <li>and all other operands (e.g., owners, names, descriptors or
+ *   {@link LdcInsnNode#cst}) by their index in a {@link ConstantTable}.
+ * </ul>
+ *
+ * <p>The {@code ConstantTable} deduplicates the constants and should be
+ * shared by all {@code PackedInsnList}s, which get kept in memory together.
+ * Constants of the same {@code ConstantTable} are equal if their indices are
+ * equal, which makes comparisons of {@code PackedInsnList}s cheap.
+ *
+ * <p>A {@code PackedInsnList} can be unpacked again via {@link #toInsnList()}.
+ */
+public final class PackedInsnList {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final int OPCODE_MASK = 0xFF;
+  private static final int NO_OPCODE   = OPCODE_MASK;
+
+  /**
+   * The tags of the {@link FrameNode} local and stack values.
+   */
+  private static final int FRAME_VALUE_INTEGER  = 0;
+  private static final int FRAME_VALUE_CONSTANT = 1;
+  private static final int FRAME_VALUE_LABEL    = 2;
+  /**
+   * For example, the removed locals of an {@code F_CHOP} frame.
+   */
+  private static final int FRAME_VALUE_NULL     = 3;
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final int[]         code;
+  /**
+   * The positions in {@link #code} which are indices in the
+   * {@link #constantTable}.
+   */
+  private final BitSet        constantPositions;
+  private final int           size;
+  private final int           labelsCount;
+  private final ConstantTable constantTable;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  private PackedInsnList(int[] code, BitSet constantPositions, int size, int labelsCount, ConstantTable constantTable) {
+    this.code = code;
+    this.constantPositions = constantPositions;
+    this.size = size;
+    this.labelsCount = labelsCount;
+    this.constantTable = constantTable;
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Packs the given instructions with a new {@link ConstantTable}.
+   *
+   * @param instructions an {@link Iterable} of {@link AbstractInsnNode}s;
+   *                     never null.
+   * @return a new {@link PackedInsnList}; never null.
+   * @see #create(Iterable, ConstantTable)
+   */
+  public static PackedInsnList create(Iterable<? extends AbstractInsnNode> instructions) {
+    return create(instructions, ConstantTable.create());
+  }
+
+  /**
+   * Packs the given instructions.
+   *
+   * @param instructions  an {@link Iterable} of {@link AbstractInsnNode}s;
+   *                      never null.
+   * @param constantTable the {@link ConstantTable} to store the constants in;
+   *                      never null.
+   * @return a new {@link PackedInsnList}; never null.
+   */
+  public static PackedInsnList create(Iterable<? extends AbstractInsnNode> instructions, ConstantTable constantTable) {
+    return new Packer(Objects.requireNonNull(instructions), Objects.requireNonNull(constantTable)).pack();
+  }
+
+  /**
+   * Unpacks {@code this} {@link PackedInsnList}.
+   *
+   * <p>Each call creates new {@link AbstractInsnNode}s and
+   * {@link LabelNode}s.
+   *
+   * @return a new {@link InsnList}; never null.
+   */
+  public InsnList toInsnList() {
+    return new Unpacker(this).unpack();
+  }
+
+  /**
+   * Gets the number of instructions.
+   *
+   * @return the number of instructions (including {@link LabelNode}s,
+   * {@link LineNumberNode}s and {@link FrameNode}s).
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Gets the {@link ConstantTable} which contains the constants of
+   * {@code this} {@link PackedInsnList}.
+   *
+   * @return the {@link ConstantTable}; never null.
+   */
+  public ConstantTable constantTable() {
+    return constantTable;
+  }
+
+  /**
+   * Gets the length of the encoded instructions.
+   *
+   * @return the number of {@code int}s of the encoded instructions.
+   * @see #codeAt(int)
+   */
+  public int codeLength() {
+    return code.length;
+  }
+
+  /**
+   * Gets an {@code int} of the encoded instructions.
+   *
+   * <p>Two {@link PackedInsnList}s have the same structure up to the first
+   * position at which their encoded instructions differ. Therefore, they can
+   * be compared position by position, with the exception that the constants
+   * of different {@link ConstantTable}s have to be compared by their values
+   * (see {@link #isConstantAt(int)}).
+   *
+   * @param position the position in the encoded instructions.
+   * @return the {@code int} at the given {@code position}.
+   */
+  public int codeAt(int position) {
+    return code[position];
+  }
+
+  /**
+   * Whether the {@code int} at the given position of the encoded instructions
+   * is an index in the {@link #constantTable()}.
+   *
+   * @param position the position in the encoded instructions.
+   * @return true if the position refers to a constant.
+   */
+  public boolean isConstantAt(int position) {
+    return constantPositions.get(position);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    PackedInsnList that = (PackedInsnList) o;
+    if (size != that.size || code.length != that.code.length || !constantPositions.equals(that.constantPositions)) {
+      return false;
+    }
+    if (constantTable == that.constantTable) {
+      return Arrays.equals(code, that.code);
+    }
+    for (int i = 0; i < code.length; i++) {
+      if (constantPositions.get(i)
+          ? !constantTable.get(code[i]).equals(that.constantTable.get(that.code[i]))
+          : code[i] != that.code[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int result = size;
+    for (int i = 0; i < code.length; i++) {
+      result = 31 * result + (constantPositions.get(i) ? constantTable.get(code[i]).hashCode() : code[i]);
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return size + " packed instruction" + (size != 1 ? "s" : "");
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  /**
+   * A thread-safe and deduplicating table of the constant operands of
+   * {@link PackedInsnList}s.
+   *
+   * <p>Each distinct constant (by {@link Object#equals(Object)}) gets stored
+   * once and is identified by its index. The table only grows, so it should
+   * be discarded together with the {@code PackedInsnList}s which are using
+   * it.
+   */
+  public static final class ConstantTable {
+
+    private final Map<Object, Integer> indices = new ConcurrentHashMap<>();
+    /**
+     * Gets replaced by a larger copy if it's full. The volatile write
+     * publishes the constants to readers which got their index via
+     * {@link #indices}.
+     */
+    private volatile Object[] constants = new Object[64];
+    private int               size      = 0;
+
+    private ConstantTable() {
+    }
+
+    /**
+     * Creates a new and empty {@link ConstantTable}.
+     *
+     * @return a new {@link ConstantTable}; never null.
+     */
+    public static ConstantTable create() {
+      return new ConstantTable();
+    }
+
+    /**
+     * Gets the index of the given constant or adds it to the table.
+     *
+     * @param constant the constant; never null.
+     * @return the index of the {@code constant}.
+     */
+    public int indexOf(Object constant) {
+      Integer index = indices.get(Objects.requireNonNull(constant));
+      if (index != null) {
+        return index;
+      }
+
+      synchronized (this) {
+        index = indices.get(constant);
+        if (index != null) {
+          return index;
+        }
+
+        Object[] currentConstants = constants;
+        if (size == currentConstants.length) {
+          currentConstants = Arrays.copyOf(currentConstants, size * 2);
+        }
+        currentConstants[size] = constant;
+        constants = currentConstants;
+        indices.put(constant, size);
+        return size++;
+      }
+    }
+
+    /**
+     * Gets the constant with the given index.
+     *
+     * @param index an index returned by {@link #indexOf(Object)}.
+     * @return the constant; never null.
+     */
+    public Object get(int index) {
+      return constants[index];
+    }
+
+    /**
+     * Gets the number of constants.
+     *
+     * @return the number of constants.
+     */
+    public synchronized int size() {
+      return size;
+    }
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  private static class Packer {
+
+    private final Iterable<? extends AbstractInsnNode> instructions;
+    private final ConstantTable                        constantTable;
+    private final Map<LabelNode, Integer>              labelIndices = new IdentityHashMap<>();
+    private final BitSet                               constantPositions = new BitSet();
+
+    private int[] code = new int[64];
+    private int   position = 0;
+
+    Packer(Iterable<? extends AbstractInsnNode> instructions, ConstantTable constantTable) {
+      this.instructions = instructions;
+      this.constantTable = constantTable;
+    }
+
+    PackedInsnList pack() {
+      // Number the labels in their order of occurrence
+      for (AbstractInsnNode instruction : instructions) {
+        if (instruction instanceof LabelNode) {
+          labelIndices.putIfAbsent((LabelNode) instruction, labelIndices.size());
+        }
+      }
+
+      int size = 0;
+      for (AbstractInsnNode instruction : instructions) {
+        packInstruction(instruction);
+        size++;
+      }
+
+      return new PackedInsnList(Arrays.copyOf(code, position), constantPositions, size, labelIndices.size(), constantTable);
+    }
+
+    private void packInstruction(AbstractInsnNode instruction) {
+      int opcode = instruction.getOpcode();
+      putInt((instruction.getType() << 8) | (opcode >= 0 ? opcode : NO_OPCODE));
+
+      switch (instruction.getType()) {
+        case AbstractInsnNode.INSN:
+          break;
+        case AbstractInsnNode.INT_INSN:
+          putInt(((IntInsnNode) instruction).operand);
+          break;
+        case AbstractInsnNode.VAR_INSN:
+          putInt(((VarInsnNode) instruction).var);
+          break;
+        case AbstractInsnNode.TYPE_INSN:
+          putConstant(((TypeInsnNode) instruction).desc);
+          break;
+        case AbstractInsnNode.FIELD_INSN:
+          var fieldInsnNode = (FieldInsnNode) instruction;
+          putConstant(fieldInsnNode.owner);
+          putConstant(fieldInsnNode.name);
+          putConstant(fieldInsnNode.desc);
+          break;
+        case AbstractInsnNode.METHOD_INSN:
+          var methodInsnNode = (MethodInsnNode) instruction;
+          putConstant(methodInsnNode.owner);
+          putConstant(methodInsnNode.name);
+          putConstant(methodInsnNode.desc);
+          putInt(methodInsnNode.itf ? 1 : 0);
+          break;
+        case AbstractInsnNode.INVOKE_DYNAMIC_INSN:
+          var invokeDynamicInsnNode = (InvokeDynamicInsnNode) instruction;
+          putConstant(invokeDynamicInsnNode.name);
+          putConstant(invokeDynamicInsnNode.desc);
+          putConstant(invokeDynamicInsnNode.bsm);
+          putInt(invokeDynamicInsnNode.bsmArgs.length);
+          for (Object bsmArg : invokeDynamicInsnNode.bsmArgs) {
+            putConstant(bsmArg);
+          }
+          break;
+        case AbstractInsnNode.JUMP_INSN:
+          putLabel(((JumpInsnNode) instruction).label);
+          break;
+        case AbstractInsnNode.LABEL:
+          putLabel((LabelNode) instruction);
+          break;
+        case AbstractInsnNode.LDC_INSN:
+          putConstant(((LdcInsnNode) instruction).cst);
+          break;
+        case AbstractInsnNode.IINC_INSN:
+          var iincInsnNode = (IincInsnNode) instruction;
+          putInt(iincInsnNode.var);
+          putInt(iincInsnNode.incr);
+          break;
+        case AbstractInsnNode.TABLESWITCH_INSN:
+          var tableSwitchInsnNode = (TableSwitchInsnNode) instruction;
+          putInt(tableSwitchInsnNode.min);
+          putInt(tableSwitchInsnNode.max);
+          putLabel(tableSwitchInsnNode.dflt);
+          putLabels(tableSwitchInsnNode.labels);
+          break;
+        case AbstractInsnNode.LOOKUPSWITCH_INSN:
+          var lookupSwitchInsnNode = (LookupSwitchInsnNode) instruction;
+          putLabel(lookupSwitchInsnNode.dflt);
+          putInt(lookupSwitchInsnNode.keys.size());
+          lookupSwitchInsnNode.keys.forEach(this::putInt);
+          putLabels(lookupSwitchInsnNode.labels);
+          break;
+        case AbstractInsnNode.MULTIANEWARRAY_INSN:
+          var multiANewArrayInsnNode = (MultiANewArrayInsnNode) instruction;
+          putConstant(multiANewArrayInsnNode.desc);
+          putInt(multiANewArrayInsnNode.dims);
+          break;
+        case AbstractInsnNode.FRAME:
+          var frameNode = (FrameNode) instruction;
+          putInt(frameNode.type);
+          putFrameValues(frameNode.local);
+          putFrameValues(frameNode.stack);
+          break;
+        case AbstractInsnNode.LINE:
+          var lineNumberNode = (LineNumberNode) instruction;
+          putInt(lineNumberNode.line);
+          putLabel(lineNumberNode.start);
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown instruction type: " + instruction.getType());
+      }
+    }
+
+    private void putFrameValues(List<Object> values) {
+      if (values == null) {
+        putInt(-1);
+        return;
+      }
+
+      putInt(values.size());
+      for (Object value : values) {
+        if (value == null) {
+          putInt(FRAME_VALUE_NULL);
+        }
+        else if (value instanceof Integer) {
+          putInt(FRAME_VALUE_INTEGER);
+          putInt((Integer) value);
+        }
+        else if (value instanceof LabelNode) {
+          putInt(FRAME_VALUE_LABEL);
+          putLabel((LabelNode) value);
+        }
+        else {
+          putInt(FRAME_VALUE_CONSTANT);
+          putConstant(value);
+        }
+      }
+    }
+
+    private void putLabels(List<LabelNode> labels) {
+      putInt(labels.size());
+      labels.forEach(this::putLabel);
+    }
+
+    private void putLabel(LabelNode label) {
+      // A label which is not part of the instructions gets a new index
+      putInt(labelIndices.computeIfAbsent(label, ignored -> labelIndices.size()));
+    }
+
+    private void putConstant(Object constant) {
+      constantPositions.set(position);
+      putInt(constantTable.indexOf(constant));
+    }
+
+    private void putInt(int value) {
+      if (position == code.length) {
+        code = Arrays.copyOf(code, code.length * 2);
+      }
+      code[position++] = value;
+    }
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  private static class Unpacker {
+
+    private final PackedInsnList packedInsnList;
+    private final LabelNode[]    labels;
+
+    private int position = 0;
+
+    Unpacker(PackedInsnList packedInsnList) {
+      this.packedInsnList = packedInsnList;
+      this.labels = new LabelNode[packedInsnList.labelsCount];
+    }
+
+    InsnList unpack() {
+      var insnList = new InsnList();
+      for (int i = 0; i < packedInsnList.size; i++) {
+        insnList.add(unpackInstruction());
+      }
+      return insnList;
+    }
+
+    private AbstractInsnNode unpackInstruction() {
+      int header = nextInt();
+      int type = header >>> 8;
+      int opcode = header & OPCODE_MASK;
+
+      switch (type) {
+        case AbstractInsnNode.INSN:
+          return new InsnNode(opcode);
+        case AbstractInsnNode.INT_INSN:
+          return new IntInsnNode(opcode, nextInt());
+        case AbstractInsnNode.VAR_INSN:
+          return new VarInsnNode(opcode, nextInt());
+        case AbstractInsnNode.TYPE_INSN:
+          return new TypeInsnNode(opcode, nextConstant());
+        case AbstractInsnNode.FIELD_INSN:
+          return new FieldInsnNode(opcode, nextConstant(), nextConstant(), nextConstant());
+        case AbstractInsnNode.METHOD_INSN:
+          return new MethodInsnNode(opcode, nextConstant(), nextConstant(), nextConstant(), nextInt() == 1);
+        case AbstractInsnNode.INVOKE_DYNAMIC_INSN:
+          String name = nextConstant();
+          String descriptor = nextConstant();
+          org.objectweb.asm.Handle bsm = nextConstant();
+          var bsmArgs = new Object[nextInt()];
+          for (int i = 0; i < bsmArgs.length; i++) {
+            bsmArgs[i] = nextConstant();
+          }
+          return new InvokeDynamicInsnNode(name, descriptor, bsm, bsmArgs);
+        case AbstractInsnNode.JUMP_INSN:
+          return new JumpInsnNode(opcode, nextLabel());
+        case AbstractInsnNode.LABEL:
+          return nextLabel();
+        case AbstractInsnNode.LDC_INSN:
+          return new LdcInsnNode(nextConstant());
+        case AbstractInsnNode.IINC_INSN:
+          return new IincInsnNode(nextInt(), nextInt());
+        case AbstractInsnNode.TABLESWITCH_INSN:
+          int min = nextInt();
+          int max = nextInt();
+          LabelNode tableSwitchDefault = nextLabel();
+          return new TableSwitchInsnNode(min, max, tableSwitchDefault, nextLabels());
+        case AbstractInsnNode.LOOKUPSWITCH_INSN:
+          LabelNode lookupSwitchDefault = nextLabel();
+          var keys = new int[nextInt()];
+          for (int i = 0; i < keys.length; i++) {
+            keys[i] = nextInt();
+          }
+          return new LookupSwitchInsnNode(lookupSwitchDefault, keys, nextLabels());
+        case AbstractInsnNode.MULTIANEWARRAY_INSN:
+          return new MultiANewArrayInsnNode(nextConstant(), nextInt());
+        case AbstractInsnNode.FRAME:
+          int frameType = nextInt();
+          Object[] local = nextFrameValues();
+          Object[] stack = nextFrameValues();
+          return new FrameNode(frameType, local != null ? local.length : 0, local, stack != null ? stack.length : 0, stack);
+        case AbstractInsnNode.LINE:
+          int line = nextInt();
+          return new LineNumberNode(line, nextLabel());
+        default:
+          throw new IllegalStateException("Unknown instruction type: " + type);
+      }
+    }
+
+    private Object[] nextFrameValues() {
+      int count = nextInt();
+      if (count < 0) {
+        return null;
+      }
+
+      var values = new Object[count];
+      for (int i = 0; i < count; i++) {
+        switch (nextInt()) {
+          case FRAME_VALUE_INTEGER:
+            values[i] = nextInt();
+            break;
+          case FRAME_VALUE_LABEL:
+            values[i] = nextLabel();
+            break;
+          case FRAME_VALUE_CONSTANT:
+            values[i] = nextConstant();
+            break;
+          case FRAME_VALUE_NULL:
+            values[i] = null;
+            break;
+          default:
+            throw new IllegalStateException("Unknown frame value tag at position: " + (position - 1));
+        }
+      }
+      return values;
+    }
+
+    private LabelNode[] nextLabels() {
+      var result = new LabelNode[nextInt()];
+      for (int i = 0; i < result.length; i++) {
+        result[i] = nextLabel();
+      }
+      return result;
+    }
+
+    private LabelNode nextLabel() {
+      int index = nextInt();
+      LabelNode label = labels[index];
+      if (label == null) {
+        label = new LabelNode();
+        labels[index] = label;
+      }
+      return label;
+    }
+
+    private <T> T nextConstant() {
+      //noinspection unchecked
+      return (T) packedInsnList.constantTable.get(nextInt());
+    }
+
+    private int nextInt() {
+      return packedInsnList.code[position++];
+    }
+  }
+}
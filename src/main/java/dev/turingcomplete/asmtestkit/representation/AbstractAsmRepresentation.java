@@ -1,7 +1,11 @@
 package dev.turingcomplete.asmtestkit.representation;
 
+import dev.turingcomplete.asmtestkit.common.LabelIndexLookup;
+import dev.turingcomplete.asmtestkit.representation._internal.IndentingAppendable;
 import org.assertj.core.presentation.StandardRepresentation;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Objects;
 
 /**
@@ -53,7 +57,7 @@ public abstract class AbstractAsmRepresentation<T> extends StandardRepresentatio
   }
 
   protected final String fallbackToStringOf(Object object) {
-    if (objectClass.equals(object) || objectClass.isAssignableFrom(objectClass)) {
+    if (objectClass.isInstance(object)) {
       return doToStringOf(objectClass.cast(object));
     }
 
@@ -74,7 +78,7 @@ public abstract class AbstractAsmRepresentation<T> extends StandardRepresentatio
 
   @Override
   public final String toSimplifiedStringOf(Object object) {
-    return object != null && (objectClass.equals(object) || objectClass.isAssignableFrom(objectClass))
+    return objectClass.isInstance(object)
             ? doToSimplifiedStringOf(objectClass.cast(object))
             : null;
   }
@@ -101,6 +105,61 @@ public abstract class AbstractAsmRepresentation<T> extends StandardRepresentatio
     return doToStringOf(object);
   }
 
+  @Override
+  public final void appendTo(Object object, Appendable output, String indent, LabelIndexLookup labelIndexLookup) throws IOException {
+    Appendable indentedOutput = IndentingAppendable.wrap(output, indent);
+    if (objectClass.isInstance(object)) {
+      doAppendTo(objectClass.cast(object), indentedOutput, labelIndexLookup);
+    }
+    else {
+      indentedOutput.append(toStringOf(object));
+    }
+  }
+
+  /**
+   * Appends the representation of the given {@code object} to the given
+   * {@link Appendable}.
+   *
+   * <p>The default implementation appends the result of
+   * {@link #doToStringOf(Object)}. Representations of large objects should
+   * override this method to write directly into the {@code output} and
+   * implement {@link #doToStringOf(Object)} via
+   * {@link #appendToString(Object, LabelIndexLookup)}.
+   *
+   * @param object           the object of type {@link T} to create a
+   *                         representation of; never null.
+   * @param output           the {@link Appendable} to write to, which
+   *                         already takes care of the indent; never null.
+   * @param labelIndexLookup a {@link LabelIndexLookup} to look up names of
+   *                         {@link org.objectweb.asm.Label}s; may be null.
+   * @throws IOException if the {@code output} throws an {@code IOException}.
+   */
+  protected void doAppendTo(T object, Appendable output, LabelIndexLookup labelIndexLookup) throws IOException {
+    output.append(doToStringOf(object));
+  }
+
+  /**
+   * Creates the {@link String} representation of the given {@code object} via
+   * {@link #doAppendTo(Object, Appendable, LabelIndexLookup)}.
+   *
+   * @param object           the object of type {@link T} to create a
+   *                         representation of; never null.
+   * @param labelIndexLookup a {@link LabelIndexLookup} to look up names of
+   *                         {@link org.objectweb.asm.Label}s; may be null.
+   * @return the {@link String} representation; never null.
+   */
+  protected final String appendToString(T object, LabelIndexLookup labelIndexLookup) {
+    var output = new StringBuilder();
+    try {
+      doAppendTo(object, output, labelIndexLookup);
+    }
+    catch (IOException e) {
+      // Can't happen, a StringBuilder does not throw IOExceptions
+      throw new UncheckedIOException(e);
+    }
+    return output.toString();
+  }
+
   // -- Private Methods --------------------------------------------------------------------------------------------- //
   // -- Inner Type -------------------------------------------------------------------------------------------------- //
 }
@@ -3,6 +3,7 @@ package dev.turingcomplete.asmtestkit.representation;
 import dev.turingcomplete.asmtestkit.common.LabelIndexLookup;
 import org.objectweb.asm.Label;
 
+import java.io.IOException;
 import java.util.Objects;
 
 /**
@@ -84,6 +85,19 @@ public abstract class AbstractWithLabelIndexAsmRepresentation<T>
    */
   protected abstract String doToStringOf(T object, LabelIndexLookup labelIndexLookup);
 
+  /**
+   * Appends the representation of the given {@code object} to the given
+   * {@link Appendable}.
+   *
+   * <p>The default implementation appends the result of
+   * {@link #doToStringOf(Object, LabelIndexLookup)} or, if the
+   * {@code labelIndexLookup} is null, of {@link #doToStringOf(Object)}.
+   */
+  @Override
+  protected void doAppendTo(T object, Appendable output, LabelIndexLookup labelIndexLookup) throws IOException {
+    output.append(labelIndexLookup != null ? doToStringOf(object, labelIndexLookup) : doToStringOf(object));
+  }
+
   // -- Private Methods --------------------------------------------------------------------------------------------- //
   // -- Inner Type -------------------------------------------------------------------------------------------------- //
 }
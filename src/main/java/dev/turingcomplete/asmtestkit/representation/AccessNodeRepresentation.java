@@ -2,16 +2,24 @@ package dev.turingcomplete.asmtestkit.representation;
 
 import dev.turingcomplete.asmtestkit.asmutils.Access;
 import dev.turingcomplete.asmtestkit.asmutils.AccessKind;
+import dev.turingcomplete.asmtestkit.common._internal.InternCache;
 import dev.turingcomplete.asmtestkit.node.AccessNode;
 import org.assertj.core.presentation.Representation;
 
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
  * An AssertJ {@link Representation} for {@link AccessNode}s.
  *
  * <p>Example output: {@code (513) public interface}.
+ *
+ * <p>The access flags of a class file come from a small set of recurring
+ * combinations. Therefore, the representations get memoized per
+ * {@link AccessKind} and access flags.
  */
 public class AccessNodeRepresentation extends AbstractAsmRepresentation<AccessNode> {
   // -- Class Fields ------------------------------------------------------------------------------------------------ //
@@ -21,11 +29,30 @@ public class AccessNodeRepresentation extends AbstractAsmRepresentation<AccessNo
    */
   public static final AccessNodeRepresentation INSTANCE = new AccessNodeRepresentation();
 
+  private static final int ACCESS_CACHE_MAX_SIZE = 4096;
+
+  /**
+   * The {@link Access}es of each {@link AccessKind}, sorted by their opcode.
+   */
+  private static final Map<AccessKind, Access[]> SORTED_ACCESSES = createSortedAccesses();
+
   // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final Map<AccessKind, InternCache<Integer, String>> simplifiedRepresentations     = new EnumMap<>(AccessKind.class);
+  private final Map<AccessKind, InternCache<Integer, String>> javaSourceCodeRepresentations = new EnumMap<>(AccessKind.class);
+
   // -- Initialization ---------------------------------------------------------------------------------------------- //
 
   protected AccessNodeRepresentation() {
     super(AccessNode.class);
+
+    // The caches compute their values by the overridable methods
+    for (AccessKind accessKind : AccessKind.values()) {
+      simplifiedRepresentations.put(accessKind, InternCache.create(access -> createSimplifiedRepresentation(AccessNode.create(access, accessKind)),
+                                                                   ACCESS_CACHE_MAX_SIZE));
+      javaSourceCodeRepresentations.put(accessKind, InternCache.create(access -> String.join(" ", toJavaSourceCodeRepresentations(AccessNode.create(access, accessKind))),
+                                                                       ACCESS_CACHE_MAX_SIZE));
+    }
   }
 
   // -- Exposed Methods --------------------------------------------------------------------------------------------- //
@@ -46,14 +73,7 @@ public class AccessNodeRepresentation extends AbstractAsmRepresentation<AccessNo
 
   @Override
   protected String doToSimplifiedStringOf(AccessNode accessNode) {
-    int access = accessNode.access();
-    String textifiedAccess = "[" + access;
-    String[] elements = toJavaSourceCodeRepresentations(accessNode);
-    if (elements.length > 0) {
-      textifiedAccess += ": " + String.join(", ", elements);
-    }
-    textifiedAccess += "]";
-    return textifiedAccess;
+    return simplifiedRepresentations.get(accessNode.accessKind()).get(accessNode.access());
   }
 
   /**
@@ -71,11 +91,15 @@ public class AccessNodeRepresentation extends AbstractAsmRepresentation<AccessNo
     }
 
     int access = accessNode.access();
-    return accessNode.accessKind().getAccesses().stream()
-                     .filter(_access -> _access.check(access))
-                     .sorted(Comparator.comparingInt(Access::getOpcode))
-                     .map(Access::toJavaSourceCodeRepresentation)
-                     .toArray(String[]::new);
+    Access[] sortedAccesses = SORTED_ACCESSES.get(accessNode.accessKind());
+    String[] representations = new String[sortedAccesses.length];
+    int representationsCount = 0;
+    for (Access sortedAccess : sortedAccesses) {
+      if (sortedAccess.check(access)) {
+        representations[representationsCount++] = sortedAccess.toJavaSourceCodeRepresentation();
+      }
+    }
+    return Arrays.copyOf(representations, representationsCount);
   }
 
   /**
@@ -91,7 +115,7 @@ public class AccessNodeRepresentation extends AbstractAsmRepresentation<AccessNo
       return null;
     }
 
-    return String.join(" ", toJavaSourceCodeRepresentations(accessNode));
+    return javaSourceCodeRepresentations.get(accessNode.accessKind()).get(accessNode.access());
   }
 
 
@@ -135,5 +159,26 @@ public class AccessNodeRepresentation extends AbstractAsmRepresentation<AccessNo
   }
 
   // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private String createSimplifiedRepresentation(AccessNode accessNode) {
+    String textifiedAccess = "[" + accessNode.access();
+    String[] elements = toJavaSourceCodeRepresentations(accessNode);
+    if (elements.length > 0) {
+      textifiedAccess += ": " + String.join(", ", elements);
+    }
+    textifiedAccess += "]";
+    return textifiedAccess;
+  }
+
+  private static Map<AccessKind, Access[]> createSortedAccesses() {
+    var sortedAccesses = new EnumMap<AccessKind, Access[]>(AccessKind.class);
+    for (AccessKind accessKind : AccessKind.values()) {
+      sortedAccesses.put(accessKind, accessKind.getAccesses().stream()
+                                               .sorted(Comparator.comparingInt(Access::getOpcode))
+                                               .toArray(Access[]::new));
+    }
+    return sortedAccesses;
+  }
+
   // -- Inner Type -------------------------------------------------------------------------------------------------- //
 }
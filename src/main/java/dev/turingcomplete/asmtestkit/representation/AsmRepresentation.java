@@ -1,7 +1,11 @@
 package dev.turingcomplete.asmtestkit.representation;
 
+import dev.turingcomplete.asmtestkit.common.LabelIndexLookup;
+import dev.turingcomplete.asmtestkit.representation._internal.IndentingAppendable;
 import org.assertj.core.presentation.Representation;
 
+import java.io.IOException;
+
 /**
  * An AssertJ {@link Representation} which represents one specific ASM
  * {@link #getObjectClass()}.
@@ -39,6 +43,30 @@ public interface AsmRepresentation<T> extends Representation {
     return toStringOf(object);
   }
 
+  /**
+   * Appends the representation of the given {@code object} to the given
+   * {@link Appendable}, with each line prefixed by the given {@code indent}.
+   *
+   * <p>The appended text is the same as the one of {@link #toStringOf(Object)}.
+   * However, representations of large objects should write directly into the
+   * {@code output}, instead of creating intermediate {@link String}s of the
+   * whole representation. The default implementation appends the result of
+   * {@link #toStringOf(Object)}.
+   *
+   * @param object           the object to create a representation of; may be
+   *                         null.
+   * @param output           the {@link Appendable} to write to; never null.
+   * @param indent           the indent of each line; never null.
+   * @param labelIndexLookup a {@link LabelIndexLookup} to look up names of
+   *                         {@link org.objectweb.asm.Label}s; may be null. If
+   *                         null, the representation uses its own lookup like
+   *                         in {@link #toStringOf(Object)}.
+   * @throws IOException if the {@code output} throws an {@code IOException}.
+   */
+  default void appendTo(Object object, Appendable output, String indent, LabelIndexLookup labelIndexLookup) throws IOException {
+    IndentingAppendable.wrap(output, indent).append(toStringOf(object));
+  }
+
   // -- Private Methods --------------------------------------------------------------------------------------------- //
   // -- Inner Type -------------------------------------------------------------------------------------------------- //
 }
@@ -1,6 +1,11 @@
 package dev.turingcomplete.asmtestkit.representation;
 
+import dev.turingcomplete.asmtestkit.common.LabelIndexLookup;
+import dev.turingcomplete.asmtestkit.representation._internal.IndentingAppendable;
 import org.assertj.core.presentation.Representation;
+import org.objectweb.asm.Label;
+
+import java.io.IOException;
 
 /**
  * An AssertJ {@link Representation} which can handle the representations of
@@ -41,6 +46,28 @@ public interface AsmRepresentations extends Representation, WithLabelIndexAsmRep
    */
   <T> AsmRepresentation<T> getAsmRepresentation(Class<T> elementClass);
 
+  /**
+   * Appends the representation of the given {@code object} to the given
+   * {@link Appendable}, with each line prefixed by the given {@code indent}.
+   *
+   * <p>The default implementation appends the result of
+   * {@link #toStringOf(Object, LabelIndexLookup)} or, if the
+   * {@code labelIndexLookup} is null, of {@link #toStringOf(Object)}.
+   *
+   * @param object           the object to create a representation of; may be
+   *                         null.
+   * @param output           the {@link Appendable} to write to; never null.
+   * @param indent           the indent of each line; never null.
+   * @param labelIndexLookup a {@link LabelIndexLookup} to look up names of
+   *                         {@link Label}s; may be null.
+   * @throws IOException if the {@code output} throws an {@code IOException}.
+   * @see AsmRepresentation#appendTo(Object, Appendable, String, LabelIndexLookup)
+   */
+  default void appendTo(Object object, Appendable output, String indent, LabelIndexLookup labelIndexLookup) throws IOException {
+    IndentingAppendable.wrap(output, indent)
+                       .append(labelIndexLookup != null ? toStringOf(object, labelIndexLookup) : toStringOf(object));
+  }
+
   // -- Private Methods --------------------------------------------------------------------------------------------- //
   // -- Inner Type -------------------------------------------------------------------------------------------------- //
 }
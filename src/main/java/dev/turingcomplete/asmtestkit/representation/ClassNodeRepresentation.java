@@ -2,6 +2,7 @@ package dev.turingcomplete.asmtestkit.representation;
 
 import dev.turingcomplete.asmtestkit.asmutils.Access;
 import dev.turingcomplete.asmtestkit.asmutils.TypeUtils;
+import dev.turingcomplete.asmtestkit.common.LabelIndexLookup;
 import dev.turingcomplete.asmtestkit.node.AccessNode;
 import org.assertj.core.presentation.Representation;
 import org.objectweb.asm.Type;
@@ -10,6 +11,15 @@ import org.objectweb.asm.tree.FieldNode;
 import org.objectweb.asm.tree.InnerClassNode;
 import org.objectweb.asm.tree.MethodNode;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
 import static dev.turingcomplete.asmtestkit.representation._internal.RepresentationUtils.createAnnotationNodesRepresentations;
@@ -51,6 +61,10 @@ import static dev.turingcomplete.asmtestkit.representation._internal.Representat
  *
  * <p>The simplified output contains the class kind and the name, for example:
  * {@code interface foo.bar.MyInterface}
+ *
+ * <p>The methods of a large class (see
+ * {@link #useConcurrentRendering(Executor, int)}) get rendered concurrently.
+ * The output is the same as the one of the sequential rendering.
  */
 public class ClassNodeRepresentation extends AbstractAsmRepresentation<ClassNode> {
   // -- Class Fields ------------------------------------------------------------------------------------------------ //
@@ -64,7 +78,17 @@ public class ClassNodeRepresentation extends AbstractAsmRepresentation<ClassNode
    */
   public static final ClassNodeRepresentation INSTANCE = create();
 
+  /**
+   * The default minimum number of instructions of all rendered methods, from
+   * which on the methods get rendered concurrently.
+   */
+  public static final int DEFAULT_CONCURRENT_RENDERING_THRESHOLD = 10_000;
+
   // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private Executor concurrentRenderingExecutor  = ForkJoinPool.commonPool();
+  private int      concurrentRenderingThreshold = DEFAULT_CONCURRENT_RENDERING_THRESHOLD;
+
   // -- Initialization ---------------------------------------------------------------------------------------------- //
 
   private ClassNodeRepresentation() {
@@ -82,6 +106,49 @@ public class ClassNodeRepresentation extends AbstractAsmRepresentation<ClassNode
     return new ClassNodeRepresentation();
   }
 
+  /**
+   * Renders the {@link ClassNode#methods} concurrently on the given
+   * {@link Executor}, if the rendered methods have at least
+   * {@code instructionsThreshold} instructions in total.
+   *
+   * <p>Each method gets rendered with its own {@link LabelIndexLookup} into
+   * a separate buffer. The buffers get concatenated in the declaration order
+   * of the methods. Smaller classes get rendered on the calling thread, since
+   * the overhead of the concurrency would outweigh its benefit.
+   *
+   * <p>By default, the methods of classes with at least
+   * {@link #DEFAULT_CONCURRENT_RENDERING_THRESHOLD} instructions get rendered
+   * on the {@link ForkJoinPool#commonPool()}.
+   *
+   * @param executor              the {@link Executor} to render the methods
+   *                              on; never null.
+   * @param instructionsThreshold the minimum number of instructions of all
+   *                              rendered methods, from which on they get
+   *                              rendered concurrently.
+   * @return {@code this} {@link ClassNodeRepresentation}; never null.
+   */
+  public ClassNodeRepresentation useConcurrentRendering(Executor executor, int instructionsThreshold) {
+    if (instructionsThreshold < 0) {
+      throw new IllegalArgumentException("Instructions threshold must not be negative: " + instructionsThreshold);
+    }
+
+    this.concurrentRenderingExecutor = Objects.requireNonNull(executor);
+    this.concurrentRenderingThreshold = instructionsThreshold;
+
+    return this;
+  }
+
+  /**
+   * Renders all {@link ClassNode#methods} on the calling thread.
+   *
+   * @return {@code this} {@link ClassNodeRepresentation}; never null.
+   */
+  public ClassNodeRepresentation disableConcurrentRendering() {
+    this.concurrentRenderingExecutor = null;
+
+    return this;
+  }
+
   @Override
   protected String doToSimplifiedStringOf(ClassNode classNode) {
     // Kind
@@ -96,82 +163,148 @@ public class ClassNodeRepresentation extends AbstractAsmRepresentation<ClassNode
 
   @Override
   protected String doToStringOf(ClassNode classNode) {
-    AsmRepresentation<Type> typeRepresentation = asmRepresentations.getAsmRepresentation(Type.class);
+    return appendToString(classNode, null);
+  }
 
+  @Override
+  protected void doAppendTo(ClassNode classNode, Appendable output, LabelIndexLookup labelIndexLookup) throws IOException {
+    appendClassNode(classNode, output);
+  }
+
+  /**
+   * Creates the class declaration as one single line, including: access,
+   * name, hierarchy and signature.
+   *
+   * @param classNode the {@link ClassNode}; never null
+   * @return a {@link String} representation of {@code classNode}'s
+   * declaration; never null.
+   */
+  public String createClassDeclaration(ClassNode classNode) {
     var representation = new StringBuilder();
 
+    // Access
+    AccessNode accessNode = AccessNode.forClass(classNode.access);
+    if (classNode.access >= 0) {
+      representation.append(asmRepresentations.toStringOf(accessNode)).append(" ");
+    }
+
+    // Kind
+    representation.append(((AccessNodeRepresentation) asmRepresentations.getAsmRepresentation(AccessNode.class))
+                                  .toJavaSourceCodeClassKindRepresentation(accessNode));
+
+    // Name
+    representation.append(" ").append(asmRepresentations.toStringOf(TypeUtils.nameToTypeElseNull(classNode.name)));
+
+    // Hierarchy
+    String interfaces = null;
+    if (classNode.interfaces != null && !classNode.interfaces.isEmpty()) {
+      interfaces = classNode.interfaces.stream()
+                                       .map(_interface -> asmRepresentations.toStringOf(TypeUtils.nameToTypeElseNull(_interface)))
+                                       .collect(Collectors.joining(" ,"));
+    }
+
+    if (Access.INTERFACE.check(classNode.access)) {
+      if (interfaces != null) {
+        representation.append(" extends ").append(interfaces);
+      }
+    }
+    else {
+      if (classNode.superName != null) {
+        representation.append(" extends ").append(asmRepresentations.toStringOf(Type.getObjectType(classNode.superName)));
+      }
+      if (classNode.interfaces != null && !classNode.interfaces.isEmpty()) {
+        representation.append(" implements ").append(interfaces);
+      }
+    }
+
+    // Signature
+    if (classNode.signature != null) {
+      representation.append(" // signature: ").append(classNode.signature);
+    }
+
+    return representation.toString();
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private void appendClassNode(ClassNode classNode, Appendable output) throws IOException {
+    AsmRepresentation<Type> typeRepresentation = asmRepresentations.getAsmRepresentation(Type.class);
+
     // Version
-    representation.append("// Class version: ").append(classNode.version).append(System.lineSeparator());
+    output.append("// Class version: ").append(String.valueOf(classNode.version)).append(System.lineSeparator());
 
     // Attributes
-    createAttributesRepresentations(asmRepresentations, classNode.attrs)
-            .forEach(attributeRepresentation -> representation.append("// Attribute: ")
-                                                              .append(attributeRepresentation)
-                                                              .append(System.lineSeparator()));
+    for (String attributeRepresentation : createAttributesRepresentations(asmRepresentations, classNode.attrs)) {
+      output.append("// Attribute: ").append(attributeRepresentation).append(System.lineSeparator());
+    }
 
     // Annotations
-    createAnnotationNodesRepresentations(asmRepresentations, classNode.visibleAnnotations, classNode.invisibleAnnotations)
-            .forEach(annotationNodeRepresentation -> representation.append(annotationNodeRepresentation)
-                                                                   .append(System.lineSeparator()));
+    for (String annotationNodeRepresentation : createAnnotationNodesRepresentations(asmRepresentations, classNode.visibleAnnotations, classNode.invisibleAnnotations)) {
+      output.append(annotationNodeRepresentation).append(System.lineSeparator());
+    }
 
     // Type annotations
-    createTypeAnnotationNodesRepresentations(asmRepresentations, classNode.visibleTypeAnnotations, classNode.invisibleTypeAnnotations)
-            .forEach(typeAnnotationNodeRepresentation -> representation.append(typeAnnotationNodeRepresentation)
-                                                                       .append(System.lineSeparator()));
+    for (String typeAnnotationNodeRepresentation : createTypeAnnotationNodesRepresentations(asmRepresentations, classNode.visibleTypeAnnotations, classNode.invisibleTypeAnnotations)) {
+      output.append(typeAnnotationNodeRepresentation).append(System.lineSeparator());
+    }
 
     // Declaration
-    representation.append(createClassDeclaration(classNode)).append(System.lineSeparator()).append(System.lineSeparator());
+    output.append(createClassDeclaration(classNode)).append(System.lineSeparator()).append(System.lineSeparator());
 
     // Fields
     if (classNode.fields != null && !classNode.fields.isEmpty()) {
+      AsmRepresentation<FieldNode> fieldNodeRepresentation = asmRepresentations.getAsmRepresentation(FieldNode.class);
       for (FieldNode fieldNode : classNode.fields) {
-        asmRepresentations.getAsmRepresentation(FieldNode.class)
-                          .toStringOf(fieldNode).lines()
-                          .forEach(line -> representation.append(FIELDS_INDENT).append(line).append(System.lineSeparator()));
+        fieldNodeRepresentation.appendTo(fieldNode, output, FIELDS_INDENT, null);
+        output.append(System.lineSeparator());
       }
-      representation.append(System.lineSeparator());
+      output.append(System.lineSeparator());
     }
 
     // Methods
     if (classNode.methods != null && !classNode.methods.isEmpty()) {
-      for (MethodNode methodNode : classNode.methods) {
-        asmRepresentations.getAsmRepresentation(MethodNode.class)
-                          .toStringOf(methodNode).lines()
-                          .forEach(line -> representation.append(METHODS_INDENT).append(line)
-                                                         .append(System.lineSeparator()));
-        representation.append(System.lineSeparator());
+      AsmRepresentation<MethodNode> methodNodeRepresentation = asmRepresentations.getAsmRepresentation(MethodNode.class);
+      List<MethodNode> methodNodes = classNode.methods;
+      if (shouldRenderConcurrently(methodNodes)) {
+        appendMethodNodesConcurrently(methodNodeRepresentation, methodNodes, output);
+      }
+      else {
+        for (MethodNode methodNode : methodNodes) {
+          methodNodeRepresentation.appendTo(methodNode, output, METHODS_INDENT, null);
+          output.append(System.lineSeparator()).append(System.lineSeparator());
+        }
       }
     }
 
     // Source file
     if (classNode.sourceFile != null) {
-      representation.append(META_INFORMATION_INDENT).append("Source file: ")
-                    .append(classNode.sourceFile)
-                    .append(System.lineSeparator());
+      output.append(META_INFORMATION_INDENT).append("Source file: ")
+            .append(classNode.sourceFile)
+            .append(System.lineSeparator());
     }
 
     // Source debug
     if (classNode.sourceDebug != null) {
-      representation.append(META_INFORMATION_INDENT).append("Source debug: ")
-                    .append(classNode.sourceDebug)
-                    .append(System.lineSeparator());
+      output.append(META_INFORMATION_INDENT).append("Source debug: ")
+            .append(classNode.sourceDebug)
+            .append(System.lineSeparator());
     }
 
     // Outer class
     if (classNode.outerClass != null) {
-      representation.append(META_INFORMATION_INDENT).append("Outer class: ")
-                    .append(typeRepresentation.toStringOf(TypeUtils.nameToTypeElseNull(classNode.outerClass)))
-                    .append(System.lineSeparator());
+      output.append(META_INFORMATION_INDENT).append("Outer class: ")
+            .append(typeRepresentation.toStringOf(TypeUtils.nameToTypeElseNull(classNode.outerClass)))
+            .append(System.lineSeparator());
     }
 
     // Outer method
     if (classNode.outerMethod != null || classNode.outerMethodDesc != null) {
-      representation.append(META_INFORMATION_INDENT).append("Outer method: ")
-                    .append(classNode.outerMethod != null ? classNode.outerMethod : "null");
+      output.append(META_INFORMATION_INDENT).append("Outer method: ")
+            .append(classNode.outerMethod != null ? classNode.outerMethod : "null");
       if (classNode.outerMethodDesc != null) {
-        representation.append(classNode.outerMethodDesc);
+        output.append(classNode.outerMethodDesc);
       }
-      representation.append(System.lineSeparator());
+      output.append(System.lineSeparator());
     }
 
     // Inner classes
@@ -180,15 +313,15 @@ public class ClassNodeRepresentation extends AbstractAsmRepresentation<ClassNode
       String innerClasses = classNode.innerClasses.stream()
                                                   .map(innerClassNodeRepresentation::toStringOf)
                                                   .collect(Collectors.joining(System.lineSeparator()));
-      representation.append(prependToFirstLine(META_INFORMATION_INDENT + "Inner classes: ", innerClasses))
-                    .append(System.lineSeparator());
+      output.append(prependToFirstLine(META_INFORMATION_INDENT + "Inner classes: ", innerClasses))
+            .append(System.lineSeparator());
     }
 
     // Nest host class
     if (classNode.nestHostClass != null) {
-      representation.append(META_INFORMATION_INDENT).append("Nest host class: ")
-                    .append(typeRepresentation.toStringOf(TypeUtils.nameToTypeElseNull(classNode.nestHostClass)))
-                    .append(System.lineSeparator());
+      output.append(META_INFORMATION_INDENT).append("Nest host class: ")
+            .append(typeRepresentation.toStringOf(TypeUtils.nameToTypeElseNull(classNode.nestHostClass)))
+            .append(System.lineSeparator());
     }
 
     // Nest members
@@ -196,8 +329,8 @@ public class ClassNodeRepresentation extends AbstractAsmRepresentation<ClassNode
       String nestMembers = TypeUtils.namesToTypes(classNode.nestMembers).stream()
                                     .map(typeRepresentation::toStringOf)
                                     .collect(Collectors.joining(System.lineSeparator()));
-      representation.append(prependToFirstLine(META_INFORMATION_INDENT + "Nest members: ", nestMembers))
-                    .append(System.lineSeparator());
+      output.append(prependToFirstLine(META_INFORMATION_INDENT + "Nest members: ", nestMembers))
+            .append(System.lineSeparator());
     }
 
     // Permitted subclasses
@@ -205,67 +338,68 @@ public class ClassNodeRepresentation extends AbstractAsmRepresentation<ClassNode
       String permittedSubclasses = TypeUtils.namesToTypes(classNode.permittedSubclasses).stream()
                                             .map(typeRepresentation::toStringOf)
                                             .collect(Collectors.joining(System.lineSeparator()));
-      representation.append(prependToFirstLine(META_INFORMATION_INDENT + "Permitted subclasses: ", permittedSubclasses))
-                    .append(System.lineSeparator());
+      output.append(prependToFirstLine(META_INFORMATION_INDENT + "Permitted subclasses: ", permittedSubclasses))
+            .append(System.lineSeparator());
     }
-
-    return representation.toString();
   }
 
-  /**
-   * Creates the class declaration as one single line, including: access,
-   * name, hierarchy and signature.
-   *
-   * @param classNode the {@link ClassNode}; never null
-   * @return a {@link String} representation of {@code classNode}'s
-   * declaration; never null.
-   */
-  public String createClassDeclaration(ClassNode classNode) {
-    var representation = new StringBuilder();
-
-    // Access
-    AccessNode accessNode = AccessNode.forClass(classNode.access);
-    if (classNode.access >= 0) {
-      representation.append(asmRepresentations.toStringOf(accessNode)).append(" ");
+  private boolean shouldRenderConcurrently(List<MethodNode> methodNodes) {
+    if (concurrentRenderingExecutor == null || methodNodes.size() < 2) {
+      return false;
     }
 
-    // Kind
-    representation.append(((AccessNodeRepresentation) asmRepresentations.getAsmRepresentation(AccessNode.class))
-                                  .toJavaSourceCodeClassKindRepresentation(accessNode));
+    long instructionsCount = 0;
+    for (MethodNode methodNode : methodNodes) {
+      if (methodNode.instructions != null) {
+        instructionsCount += methodNode.instructions.size();
+      }
+    }
+    return instructionsCount >= concurrentRenderingThreshold;
+  }
 
-    // Name
-    representation.append(" ").append(asmRepresentations.toStringOf(TypeUtils.nameToTypeElseNull(classNode.name)));
+  private void appendMethodNodesConcurrently(AsmRepresentation<MethodNode> methodNodeRepresentation,
+                                             List<MethodNode> methodNodes,
+                                             Appendable output) throws IOException {
 
-    // Hierarchy
-    String interfaces = null;
-    if (classNode.interfaces != null && !classNode.interfaces.isEmpty()) {
-      interfaces = classNode.interfaces.stream()
-                                       .map(_interface -> asmRepresentations.toStringOf(TypeUtils.nameToTypeElseNull(_interface)))
-                                       .collect(Collectors.joining(" ,"));
+    // The active render cache is thread-safe and gets shared with the workers
+    RenderCache renderCache = RenderCache.current();
+    var renderings = new ArrayList<CompletableFuture<String>>(methodNodes.size());
+    for (MethodNode methodNode : methodNodes) {
+      renderings.add(CompletableFuture.supplyAsync(() -> renderMethodNode(methodNodeRepresentation, methodNode, renderCache),
+                                                   concurrentRenderingExecutor));
     }
 
-    if (Access.INTERFACE.check(classNode.access)) {
-      if (interfaces != null) {
-        representation.append(" extends ").append(interfaces);
+    // Appends each method as soon as it and all its predecessors are rendered
+    for (CompletableFuture<String> rendering : renderings) {
+      String renderedMethodNode;
+      try {
+        renderedMethodNode = rendering.join();
       }
-    }
-    else {
-      if (classNode.superName != null) {
-        representation.append(" extends ").append(asmRepresentations.toStringOf(Type.getObjectType(classNode.superName)));
-      }
-      if (classNode.interfaces != null && !classNode.interfaces.isEmpty()) {
-        representation.append(" implements ").append(interfaces);
+      catch (CompletionException e) {
+        renderings.forEach(remainingRendering -> remainingRendering.cancel(false));
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        if (e.getCause() instanceof Error) {
+          throw (Error) e.getCause();
+        }
+        throw e;
       }
+      output.append(renderedMethodNode).append(System.lineSeparator()).append(System.lineSeparator());
     }
+  }
 
-    // Signature
-    if (classNode.signature != null) {
-      representation.append(" // signature: ").append(classNode.signature);
+  private static String renderMethodNode(AsmRepresentation<MethodNode> methodNodeRepresentation, MethodNode methodNode, RenderCache renderCache) {
+    var output = new StringBuilder();
+    try (RenderCache.Activation ignored = renderCache != null ? renderCache.activate() : null) {
+      methodNodeRepresentation.appendTo(methodNode, output, METHODS_INDENT, null);
     }
-
-    return representation.toString();
+    catch (IOException e) {
+      // Can't happen, a StringBuilder does not throw IOExceptions
+      throw new UncheckedIOException(e);
+    }
+    return output.toString();
   }
 
-  // -- Private Methods --------------------------------------------------------------------------------------------- //
   // -- Inner Type -------------------------------------------------------------------------------------------------- //
 }
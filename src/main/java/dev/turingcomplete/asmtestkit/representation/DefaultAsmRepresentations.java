@@ -3,7 +3,9 @@ package dev.turingcomplete.asmtestkit.representation;
 import dev.turingcomplete.asmtestkit.node.AccessNode;
 import dev.turingcomplete.asmtestkit.asmutils.AccessKind;
 import dev.turingcomplete.asmtestkit.common.LabelIndexLookup;
+import dev.turingcomplete.asmtestkit.common._internal.ClassRegistry;
 import dev.turingcomplete.asmtestkit.node.AnnotationDefaultNode;
+import dev.turingcomplete.asmtestkit.representation._internal.IndentingAppendable;
 import org.assertj.core.api.AbstractAssert;
 import org.assertj.core.presentation.Representation;
 import org.assertj.core.presentation.StandardRepresentation;
@@ -25,10 +27,8 @@ import org.objectweb.asm.tree.ParameterNode;
 import org.objectweb.asm.tree.TryCatchBlockNode;
 import org.objectweb.asm.tree.TypeAnnotationNode;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.io.IOException;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.function.Supplier;
 
 import static java.lang.Integer.toHexString;
@@ -51,7 +51,11 @@ public final class DefaultAsmRepresentations extends StandardRepresentation impl
    */
   public static final DefaultAsmRepresentations INSTANCE = create();
 
-  private static final Map<Class<?>, Container<?>> ASM_REPRESENTATIONS = new HashMap<>();
+  /**
+   * Thread-safe, because the registrations may be accessed and extended
+   * concurrently (e.g., with parallel JUnit test execution).
+   */
+  private static final ClassRegistry<AsmRepresentation<?>> ASM_REPRESENTATIONS = ClassRegistry.create();
 
   // -- Instance Fields --------------------------------------------------------------------------------------------- //
   // -- Initialization ---------------------------------------------------------------------------------------------- //
@@ -78,7 +82,7 @@ public final class DefaultAsmRepresentations extends StandardRepresentation impl
     registerAsmRepresentation(ClassNode.class, () -> ClassNodeRepresentation.INSTANCE);
 
     // An 'InsnList' is an 'Iterable' and would be handled in the 'toStringOf'
-    registerFormatterForType(InsnList.class, insnList -> ASM_REPRESENTATIONS.get(InsnList.class).get().toStringOf(insnList));
+    registerFormatterForType(InsnList.class, insnList -> ASM_REPRESENTATIONS.findExact(InsnList.class).toStringOf(insnList));
   }
 
   // -- Exposed Methods --------------------------------------------------------------------------------------------- //
@@ -106,27 +110,35 @@ public final class DefaultAsmRepresentations extends StandardRepresentation impl
    * @param <T> the type of {@code objectClass}.
    */
   public static <T> void registerAsmRepresentation(Class<T> objectClass, Supplier<AsmRepresentation<T>> asmRepresentation) {
-    ASM_REPRESENTATIONS.put(Objects.requireNonNull(objectClass),
-                            new Container<>(Objects.requireNonNull(asmRepresentation)));
+    ASM_REPRESENTATIONS.register(Objects.requireNonNull(objectClass), Objects.requireNonNull(asmRepresentation));
   }
 
   @Override
   public <T> AsmRepresentation<T> getAsmRepresentation(Class<T> elementClass) {
-    if (!ASM_REPRESENTATIONS.containsKey(elementClass)) {
+    AsmRepresentation<?> asmRepresentation = ASM_REPRESENTATIONS.findExact(elementClass);
+    if (asmRepresentation == null) {
       throw new IllegalArgumentException("No representation for: " + elementClass.getName());
     }
 
     //noinspection unchecked
-    return (AsmRepresentation<T>) ASM_REPRESENTATIONS.get(elementClass).get();
+    return (AsmRepresentation<T>) asmRepresentation;
   }
 
   // ---- toStringOf -------------------------------------------------------- //
 
   @Override
   protected String fallbackToStringOf(Object object) {
-    return findSingleAsmRepresentation(object)
-            .map(singleAsmRepresentation -> singleAsmRepresentation.toStringOf(object))
-            .orElseGet(() -> super.fallbackToStringOf(object));
+    AsmRepresentation<?> singleAsmRepresentation = findSingleAsmRepresentation(object);
+    if (singleAsmRepresentation == null) {
+      return super.fallbackToStringOf(object);
+    }
+
+    RenderCache renderCache = RenderCache.current();
+    if (renderCache != null && isCacheable(object)) {
+      return renderCache.toStringOf(object, null, () -> singleAsmRepresentation.toStringOf(object));
+    }
+
+    return singleAsmRepresentation.toStringOf(object);
   }
 
   @Override
@@ -142,16 +154,34 @@ public final class DefaultAsmRepresentations extends StandardRepresentation impl
       return null;
     }
 
-    return findSingleAsmRepresentation(object)
-            .map(singleAsmRepresentation -> {
-              if (singleAsmRepresentation instanceof WithLabelIndexAsmRepresentation) {
-                return ((WithLabelIndexAsmRepresentation) singleAsmRepresentation).toStringOf(object, labelIndexLookup);
-              }
-              else {
-                return singleAsmRepresentation.toStringOf(object);
-              }
-            })
-            .orElseGet(() -> toStringOf(object));
+    AsmRepresentation<?> singleAsmRepresentation = findSingleAsmRepresentation(object);
+    if (singleAsmRepresentation instanceof WithLabelIndexAsmRepresentation) {
+      var withLabelIndexAsmRepresentation = (WithLabelIndexAsmRepresentation) singleAsmRepresentation;
+      RenderCache renderCache = RenderCache.current();
+      if (renderCache != null && isCacheable(object)) {
+        return renderCache.toStringOf(object, labelIndexLookup, () -> withLabelIndexAsmRepresentation.toStringOf(object, labelIndexLookup));
+      }
+      return withLabelIndexAsmRepresentation.toStringOf(object, labelIndexLookup);
+    }
+    else if (singleAsmRepresentation != null) {
+      return singleAsmRepresentation.toStringOf(object);
+    }
+    else {
+      return toStringOf(object);
+    }
+  }
+
+  // ---- appendTo ---------------------------------------------------------- //
+
+  @Override
+  public void appendTo(Object object, Appendable output, String indent, LabelIndexLookup labelIndexLookup) throws IOException {
+    AsmRepresentation<?> singleAsmRepresentation = object != null ? findSingleAsmRepresentation(object) : null;
+    if (singleAsmRepresentation != null) {
+      singleAsmRepresentation.appendTo(object, output, indent, labelIndexLookup);
+    }
+    else {
+      IndentingAppendable.wrap(output, indent).append(toStringOf(object));
+    }
   }
 
   // ---- toSimplifiedStringOf ---------------------------------------------- //
@@ -162,9 +192,8 @@ public final class DefaultAsmRepresentations extends StandardRepresentation impl
       return null;
     }
 
-    return findSingleAsmRepresentation(object)
-            .map(singleAsmRepresentation -> singleAsmRepresentation.toSimplifiedStringOf(object))
-            .orElseGet(() -> toStringOf(object));
+    AsmRepresentation<?> singleAsmRepresentation = findSingleAsmRepresentation(object);
+    return singleAsmRepresentation != null ? singleAsmRepresentation.toSimplifiedStringOf(object) : toStringOf(object);
   }
 
   @Override
@@ -175,52 +204,53 @@ public final class DefaultAsmRepresentations extends StandardRepresentation impl
       return null;
     }
 
-    return findSingleAsmRepresentation(object)
-            .map(singleAsmRepresentation -> {
-              if (singleAsmRepresentation instanceof WithLabelIndexAsmRepresentation) {
-                return ((WithLabelIndexAsmRepresentation) singleAsmRepresentation).toSimplifiedStringOf(object, labelIndexLookup);
-              }
-              else {
-                return singleAsmRepresentation.toSimplifiedStringOf(object);
-              }
-            })
-            .orElseGet(() -> toStringOf(object));
+    AsmRepresentation<?> singleAsmRepresentation = findSingleAsmRepresentation(object);
+    if (singleAsmRepresentation instanceof WithLabelIndexAsmRepresentation) {
+      return ((WithLabelIndexAsmRepresentation) singleAsmRepresentation).toSimplifiedStringOf(object, labelIndexLookup);
+    }
+    else if (singleAsmRepresentation != null) {
+      return singleAsmRepresentation.toSimplifiedStringOf(object);
+    }
+    else {
+      return toStringOf(object);
+    }
   }
 
   // -- Private Methods --------------------------------------------------------------------------------------------- //
 
-  private Optional<? extends AsmRepresentation<?>> findSingleAsmRepresentation(Object object) {
-    assert object != null;
+  /**
+   * Checks whether the representation of the given {@code object} should be
+   * memoized in a {@link RenderCache}.
+   *
+   * <p>The value objects are excluded, since they are cheap to render and
+   * usually get created for each rendering, so they would only fill the
+   * cache.
+   */
+  private static boolean isCacheable(Object object) {
+    return !(object instanceof Type
+             || object instanceof AccessNode
+             || object instanceof AnnotationDefaultNode
+             || object instanceof TypePath
+             || object instanceof TypeReference);
+  }
 
-    // Fast path
-    if (ASM_REPRESENTATIONS.containsKey(object.getClass())) {
-      return Optional.of(ASM_REPRESENTATIONS.get(object.getClass()).get());
-    }
+  /**
+   * Finds the {@link AsmRepresentation} for the most specific registered
+   * type of the given {@code object}.
+   *
+   * <p>The resolution is cached per concrete class (e.g., a
+   * {@link org.objectweb.asm.tree.MethodInsnNode} resolves to the
+   * representation of {@link AbstractInsnNode}), which includes the case
+   * that there is no representation at all.
+   *
+   * @param object the object to find the representation for; never null.
+   * @return the {@link AsmRepresentation}; may be null.
+   */
+  private AsmRepresentation<?> findSingleAsmRepresentation(Object object) {
+    assert object != null;
 
-    // Check for subtypes
-    return ASM_REPRESENTATIONS.entrySet().stream()
-                              .filter(entry -> entry.getKey().isAssignableFrom(object.getClass()))
-                              .map(entry -> entry.getValue().get())
-                              .findFirst();
+    return ASM_REPRESENTATIONS.find(object.getClass());
   }
 
   // -- Inner Type -------------------------------------------------------------------------------------------------- //
-
-  private static class Container<T> {
-
-    AsmRepresentation<T>           asmRepresentation;
-    Supplier<AsmRepresentation<T>> asmRepresentationSupplier;
-
-    Container(Supplier<AsmRepresentation<T>> asmRepresentationSupplier) {
-      this.asmRepresentationSupplier = asmRepresentationSupplier;
-    }
-
-    AsmRepresentation<?> get() {
-      if (asmRepresentation == null) {
-        asmRepresentation = Objects.requireNonNull(asmRepresentationSupplier.get());
-      }
-
-      return asmRepresentation;
-    }
-  }
 }
@@ -0,0 +1,355 @@
+package dev.turingcomplete.asmtestkit.representation;
+
+import org.assertj.core.presentation.Representation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.ToIntFunction;
+
+/**
+ * An AssertJ {@link Representation} which renders the actual and expected
+ * object of a failed assertion only in a window around their first
+ * difference.
+ *
+ * <p>The location of the first difference (e.g., the index of the first
+ * differing element of a {@link List}) gets determined separately for the actual and the
+ * expected object by a comparator. Only the elements within
+ * {@code contextSize} positions around this location get rendered,
+ * the omitted elements get replaced by summary lines, like
+ * {@code ... 1,842 identical methods ...}. Therefore, the cost of a failure
+ * message depends on the size of the difference and not on the size of the
+ * compared objects.
+ *
+ * <p>The locations get determined lazily on the first rendering, so a
+ * passing assertion does not pay for them.
+ *
+ * <p>All other objects, and objects which are not the actual or expected
+ * object, get rendered by the delegate {@link Representation}.
+ */
+public final class DifferenceWindowRepresentation implements Representation {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  /**
+   * The default number of elements rendered before and after the first
+   * difference.
+   */
+  public static final int DEFAULT_CONTEXT_SIZE = 2;
+
+  private static final int UNKNOWN_FOCUS = Integer.MIN_VALUE;
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final Representation        delegate;
+  private final Object                actual;
+  private final Object                expected;
+  private final ToIntFunction<Object> focusLocator;
+  private final WindowRenderer        windowRenderer;
+  private final int                   contextSize;
+
+  /**
+   * The index of the first difference in the actual and expected object or
+   * {@code -1} if there is none. Lazily initialized by
+   * {@link #focus(Object)}.
+   */
+  private volatile int actualFocus   = UNKNOWN_FOCUS;
+  private volatile int expectedFocus = UNKNOWN_FOCUS;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  private DifferenceWindowRepresentation(Representation delegate,
+                                         Object actual,
+                                         Object expected,
+                                         ToIntFunction<Object> focusLocator,
+                                         WindowRenderer windowRenderer,
+                                         int contextSize) {
+
+    if (contextSize < 0) {
+      throw new IllegalArgumentException("Context size must not be negative: " + contextSize);
+    }
+
+    this.delegate = Objects.requireNonNull(delegate);
+    this.actual = actual;
+    this.expected = expected;
+    this.focusLocator = focusLocator;
+    this.windowRenderer = windowRenderer;
+    this.contextSize = contextSize;
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Creates a new {@link DifferenceWindowRepresentation} for two
+   * {@link List}s, which only renders the elements around the first
+   * differing element.
+   *
+   * <p>The order of the elements is not taken into account, like by
+   * {@link org.assertj.core.api.AbstractIterableAssert#containsExactlyInAnyOrderElementsOf(Iterable)}.
+   * Therefore, the first differing element of a {@code List} is its first
+   * element without an equal counterpart in the other {@code List}.
+   *
+   * <p>AssertJ may pass a copy of a {@code List} to the
+   * {@link Representation} (e.g., an array of the expected elements). Such
+   * copies get recognized if they contain the same element instances in the
+   * same order.
+   *
+   * @param delegate     the {@link Representation} to render the elements and
+   *                     all other objects; never null.
+   * @param actual       the actual {@link List}; may be null.
+   * @param expected     the expected {@link List}; may be null.
+   * @param comparator   the {@link Comparator} to determine the first
+   *                     differing element, which should be the one used by
+   *                     the assertion; never null.
+   * @param elementsName the plural name of the elements used in the summary
+   *                     lines, like {@code "methods"}; never null.
+   * @param contextSize  the number of elements to render before and after the
+   *                     first differing element.
+   * @param <E>          the type of the elements.
+   * @return a new {@link DifferenceWindowRepresentation}; never null;
+   */
+  public static <E> DifferenceWindowRepresentation forLists(Representation delegate,
+                                                            List<? extends E> actual,
+                                                            List<? extends E> expected,
+                                                            Comparator<? super E> comparator,
+                                                            String elementsName,
+                                                            int contextSize) {
+
+    Objects.requireNonNull(comparator);
+    Objects.requireNonNull(elementsName);
+
+    ToIntFunction<Object> focusLocator = list -> {
+      if (actual == null || expected == null) {
+        return -1;
+      }
+      return list == actual ? indexOfFirstUnmatched(actual, expected, comparator) : indexOfFirstUnmatched(expected, actual, comparator);
+    };
+    WindowRenderer windowRenderer = (object, focus, output) -> {
+      List<?> elements = (List<?>) object;
+      if (elements.isEmpty()) {
+        output.append("[]");
+        return;
+      }
+
+      int[] window = window(focus, elements.size(), contextSize);
+
+      output.append("[");
+      String separator = System.lineSeparator();
+      if (window[0] > 0) {
+        output.append(separator).append(createOmittedSummary(window[0], "identical " + elementsName));
+        separator = "," + System.lineSeparator();
+      }
+      for (Object element : elements.subList(window[0], window[1])) {
+        output.append(separator).append(delegate.toStringOf(element));
+        separator = "," + System.lineSeparator();
+      }
+      if (window[1] < elements.size()) {
+        output.append(separator).append(createOmittedSummary(elements.size() - window[1], "more " + elementsName));
+      }
+      output.append(System.lineSeparator()).append("]");
+    };
+    return new DifferenceWindowRepresentation(delegate, actual, expected, focusLocator, windowRenderer, contextSize);
+  }
+
+  /**
+   * Gets the index of the first difference in the actual object.
+   *
+   * @return the index of the first difference; or {@code -1} if there is
+   * none or if the actual or expected object is null.
+   */
+  public int focus() {
+    return focus(actual);
+  }
+
+  /**
+   * Gets the {@link Representation} for all objects which are not rendered
+   * in a window.
+   *
+   * @return the delegate {@link Representation}; never null.
+   */
+  public Representation delegate() {
+    return delegate;
+  }
+
+  /**
+   * Gets the number of elements rendered before and after the first
+   * difference.
+   *
+   * @return the context size.
+   */
+  public int contextSize() {
+    return contextSize;
+  }
+
+  @Override
+  public String toStringOf(Object object) {
+    Object windowed = toWindowedObject(object);
+    if (windowed == null) {
+      return delegate.toStringOf(object);
+    }
+
+    var output = new StringBuilder();
+    try {
+      windowRenderer.append(windowed, focus(windowed), output);
+    }
+    catch (IOException e) {
+      // Can't happen, a StringBuilder does not throw IOExceptions
+      throw new UncheckedIOException(e);
+    }
+    return output.toString();
+  }
+
+  @Override
+  public String unambiguousToStringOf(Object object) {
+    return toWindowedObject(object) != null ? toStringOf(object) : delegate.unambiguousToStringOf(object);
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + delegate + ", context size: " + contextSize + "]";
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Gets the index of the first difference in the given actual or expected
+   * object.
+   */
+  private int focus(Object windowed) {
+    if (windowed == actual) {
+      int result = actualFocus;
+      if (result == UNKNOWN_FOCUS) {
+        result = focusLocator.applyAsInt(actual);
+        actualFocus = result;
+      }
+      return result;
+    }
+
+    int result = expectedFocus;
+    if (result == UNKNOWN_FOCUS) {
+      result = focusLocator.applyAsInt(expected);
+      expectedFocus = result;
+    }
+    return result;
+  }
+
+  /**
+   * Gets the index of the first element in {@code elements} which has no
+   * equal counterpart in {@code others}. Each element of {@code others} can
+   * only be the counterpart of one element.
+   *
+   * @return the index of the first unmatched element; or {@code -1} if all
+   * elements have a counterpart.
+   */
+  private static <E> int indexOfFirstUnmatched(List<? extends E> elements, List<? extends E> others, Comparator<? super E> comparator) {
+    var othersCounts = new TreeMap<E, Integer>(comparator);
+    for (E other : others) {
+      othersCounts.merge(other, 1, Integer::sum);
+    }
+
+    for (int i = 0; i < elements.size(); i++) {
+      Integer count = othersCounts.get(elements.get(i));
+      if (count == null) {
+        return i;
+      }
+      if (count == 1) {
+        othersCounts.remove(elements.get(i));
+      }
+      else {
+        othersCounts.put(elements.get(i), count - 1);
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Determines the half-open range {@code [from, to)} of rendered elements.
+   */
+  private static int[] window(int focus, int size, int contextSize) {
+    if (focus < 0) {
+      // No difference in these elements, everything is identical
+      return new int[]{size, size};
+    }
+
+    int from = Math.max(0, focus - contextSize);
+    int to = (int) Math.min(size, (long) focus + contextSize + 1);
+    return new int[]{Math.min(from, to), to};
+  }
+
+  /**
+   * Creates the summary line for omitted elements, like
+   * {@code ... 1,842 identical methods ...}.
+   */
+  private static String createOmittedSummary(int count, String description) {
+    String elements = count != 1 ? description : description.substring(0, description.length() - 1);
+    return "... " + String.format(Locale.ROOT, "%,d", count) + " " + elements + " ...";
+  }
+
+  /**
+   * Maps the given {@code object} to the actual or expected object, if it is
+   * one of them or a copy of a {@link List}.
+   *
+   * @return the actual or expected object; or null if the {@code object} is
+   * neither of them.
+   */
+  private Object toWindowedObject(Object object) {
+    if (object == null) {
+      return null;
+    }
+
+    if (object == actual || object == expected) {
+      return object;
+    }
+
+    if (actual instanceof List && hasSameElements(object, (List<?>) actual)) {
+      return actual;
+    }
+
+    if (expected instanceof List && hasSameElements(object, (List<?>) expected)) {
+      return expected;
+    }
+
+    return null;
+  }
+
+  private static boolean hasSameElements(Object object, List<?> elements) {
+    Iterator<?> objectElements;
+    if (object instanceof Object[]) {
+      Object[] array = (Object[]) object;
+      if (array.length != elements.size()) {
+        return false;
+      }
+      objectElements = Arrays.asList(array).iterator();
+    }
+    else if (object instanceof List) {
+      List<?> list = (List<?>) object;
+      if (list.size() != elements.size()) {
+        return false;
+      }
+      objectElements = list.iterator();
+    }
+    else {
+      return false;
+    }
+
+    for (Object element : elements) {
+      if (objectElements.next() != element) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  @FunctionalInterface
+  private interface WindowRenderer {
+
+    void append(Object object, int focus, Appendable output) throws IOException;
+  }
+}
@@ -0,0 +1,337 @@
+package dev.turingcomplete.asmtestkit.representation;
+
+import dev.turingcomplete.asmtestkit.asmutils.InsnListUtils;
+import dev.turingcomplete.asmtestkit.asmutils._internal.TextifierUtils;
+import dev.turingcomplete.asmtestkit.common._internal.MyersDiff;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.util.TraceMethodVisitor;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The differences between two {@link Iterable}s of {@link AbstractInsnNode}s
+ * (e.g., {@link InsnList}s) as a compact edit script.
+ *
+ * <p>The instructions get textified like by the {@link InsnListRepresentation}.
+ * However, the {@link Label}s get named by their order of occurrence in the
+ * instructions (see {@link InsnListUtils#extractLabelIndices(Iterable)}), so
+ * that an instruction which got inserted before a forward jump doesn't rename
+ * all subsequent labels. The textified instructions then get compared with
+ * the linear space variant of the O(ND) difference algorithm by Eugene W.
+ * Myers, which makes the diff cheap even for methods near the 64 KB limit.
+ *
+ * <p>Example output of {@link #toString()}:
+ * <pre>{@code
+ * @@ -2,3 +2,3 @@
+ *     GETSTATIC java/lang/System.out : Ljava/io/PrintStream; // opcode: 178
+ * -   ICONST_2 // opcode: 5
+ * +   ICONST_1 // opcode: 4
+ *     INVOKEVIRTUAL java/io/PrintStream.println (I)V // opcode: 182
+ * }</pre>
+ *
+ * <p>Lines starting with {@code -} only exist in the expected instructions
+ * and lines starting with {@code +} only exist in the actual instructions.
+ * The hunk headers contain the zero-based index of the first instruction and
+ * the number of instructions of the hunk in the expected and the actual
+ * instructions.
+ */
+public final class InsnListDiff {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  /**
+   * The default number of unchanged instructions which get shown around each
+   * edit.
+   */
+  public static final int DEFAULT_CONTEXT_SIZE = 3;
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final List<String> expectedInstructions;
+  private final List<String> actualInstructions;
+  private final List<Edit>   edits;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  private InsnListDiff(List<String> expectedInstructions, List<String> actualInstructions, List<Edit> edits) {
+    this.expectedInstructions = expectedInstructions;
+    this.actualInstructions = actualInstructions;
+    this.edits = edits;
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Computes the differences between the given instructions.
+   *
+   * @param expected the expected {@link Iterable} of {@link AbstractInsnNode}s;
+   *                 never null.
+   * @param actual   the actual {@link Iterable} of {@link AbstractInsnNode}s;
+   *                 never null.
+   * @return a new {@link InsnListDiff}; never null.
+   */
+  public static InsnListDiff create(Iterable<? extends AbstractInsnNode> expected, Iterable<? extends AbstractInsnNode> actual) {
+    List<String> expectedInstructions = textify(Objects.requireNonNull(expected));
+    List<String> actualInstructions = textify(Objects.requireNonNull(actual));
+
+    // Map equal instructions to equal symbols
+    Map<String, Integer> symbols = new HashMap<>();
+    int[] expectedSymbols = toSymbols(expectedInstructions, symbols);
+    int[] actualSymbols = toSymbols(actualInstructions, symbols);
+
+    var deleted = new BitSet(expectedSymbols.length);
+    var inserted = new BitSet(actualSymbols.length);
+    MyersDiff.diff(expectedSymbols, actualSymbols, deleted, inserted);
+
+    return new InsnListDiff(expectedInstructions, actualInstructions, collectEdits(deleted, inserted, expectedSymbols.length, actualSymbols.length));
+  }
+
+  /**
+   * Whether both instructions are textually equal.
+   *
+   * @return true if there are no {@link #edits()}.
+   */
+  public boolean isEmpty() {
+    return edits.isEmpty();
+  }
+
+  /**
+   * Gets the {@link Edit}s, which transform the expected into the actual
+   * instructions, ordered by their position.
+   *
+   * @return an unmodifiable {@link List} of {@link Edit}s; never null.
+   */
+  public List<Edit> edits() {
+    return edits;
+  }
+
+  /**
+   * Creates the textual edit script with {@link #DEFAULT_CONTEXT_SIZE}
+   * unchanged instructions around each edit.
+   *
+   * @return the edit script; never null. Empty if there are no differences.
+   */
+  @Override
+  public String toString() {
+    return toString(DEFAULT_CONTEXT_SIZE);
+  }
+
+  /**
+   * Creates the textual edit script.
+   *
+   * @param contextSize the number of unchanged instructions which get shown
+   *                    around each edit; must not be negative.
+   * @return the edit script; never null. Empty if there are no differences.
+   */
+  public String toString(int contextSize) {
+    if (contextSize < 0) {
+      throw new IllegalArgumentException("The context size must not be negative: " + contextSize);
+    }
+
+    var output = new StringBuilder();
+    int i = 0;
+    while (i < edits.size()) {
+      // Merge all edits into one hunk whose contexts overlap
+      int j = i;
+      while (j + 1 < edits.size() && edits.get(j + 1).expectedFrom - edits.get(j).expectedTo <= 2 * contextSize) {
+        j++;
+      }
+
+      Edit firstEdit = edits.get(i);
+      Edit lastEdit = edits.get(j);
+      int contextBefore = Math.min(contextSize, firstEdit.expectedFrom);
+      int contextAfter = Math.min(contextSize, expectedInstructions.size() - lastEdit.expectedTo);
+      int expectedFrom = firstEdit.expectedFrom - contextBefore;
+      int expectedTo = lastEdit.expectedTo + contextAfter;
+      int actualFrom = firstEdit.actualFrom - contextBefore;
+      int actualTo = lastEdit.actualTo + contextAfter;
+
+      if (output.length() > 0) {
+        output.append(System.lineSeparator());
+      }
+      output.append("@@ -").append(expectedFrom).append(',').append(expectedTo - expectedFrom)
+            .append(" +").append(actualFrom).append(',').append(actualTo - actualFrom).append(" @@");
+
+      int expectedIndex = expectedFrom;
+      for (int k = i; k <= j; k++) {
+        Edit edit = edits.get(k);
+        appendLines(output, "  ", expectedInstructions, expectedIndex, edit.expectedFrom);
+        appendLines(output, "- ", expectedInstructions, edit.expectedFrom, edit.expectedTo);
+        appendLines(output, "+ ", actualInstructions, edit.actualFrom, edit.actualTo);
+        expectedIndex = edit.expectedTo;
+      }
+      appendLines(output, "  ", expectedInstructions, expectedIndex, expectedTo);
+
+      i = j + 1;
+    }
+    return output.toString();
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private static List<String> textify(Iterable<? extends AbstractInsnNode> instructions) {
+    var textifier = new LabelIndexTextifier(InsnListUtils.extractLabelIndices(instructions));
+    var traceMethodVisitor = new TraceMethodVisitor(textifier);
+    List<Object> text = textifier.getText();
+
+    var result = new ArrayList<String>();
+    var instructionText = new StringBuilder();
+    for (AbstractInsnNode instruction : instructions) {
+      int textStart = text.size();
+      instruction.accept(traceMethodVisitor);
+
+      instructionText.setLength(0);
+      for (int i = textStart; i < text.size(); i++) {
+        instructionText.append(text.get(i));
+      }
+      String textifiedInstruction = instructionText.toString().replaceAll("[\n\r]+$", "");
+      result.add(InstructionRepresentation.appendOpcode(instruction.getOpcode(), textifiedInstruction));
+    }
+    return result;
+  }
+
+  private static int[] toSymbols(List<String> instructions, Map<String, Integer> symbols) {
+    var result = new int[instructions.size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = symbols.computeIfAbsent(instructions.get(i), instruction -> symbols.size());
+    }
+    return result;
+  }
+
+  private static List<Edit> collectEdits(BitSet deleted, BitSet inserted, int expectedSize, int actualSize) {
+    var edits = new ArrayList<Edit>();
+
+    int expectedIndex = 0;
+    int actualIndex = 0;
+    while (expectedIndex < expectedSize || actualIndex < actualSize) {
+      if ((expectedIndex < expectedSize && deleted.get(expectedIndex)) || (actualIndex < actualSize && inserted.get(actualIndex))) {
+        int expectedTo = expectedIndex < expectedSize && deleted.get(expectedIndex) ? deleted.nextClearBit(expectedIndex) : expectedIndex;
+        int actualTo = actualIndex < actualSize && inserted.get(actualIndex) ? inserted.nextClearBit(actualIndex) : actualIndex;
+        edits.add(new Edit(expectedIndex, Math.min(expectedTo, expectedSize), actualIndex, Math.min(actualTo, actualSize)));
+        expectedIndex = Math.min(expectedTo, expectedSize);
+        actualIndex = Math.min(actualTo, actualSize);
+      }
+      else {
+        // Unchanged instruction
+        expectedIndex++;
+        actualIndex++;
+      }
+    }
+
+    return Collections.unmodifiableList(edits);
+  }
+
+  private static void appendLines(StringBuilder output, String prefix, List<String> instructions, int from, int to) {
+    for (int i = from; i < to; i++) {
+      for (String line : instructions.get(i).split("\\R")) {
+        output.append(System.lineSeparator()).append(prefix).append(line);
+      }
+    }
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  /**
+   * A single edit, which replaces a range of the expected instructions by a
+   * range of the actual instructions.
+   */
+  public static final class Edit {
+
+    private final int expectedFrom;
+    private final int expectedTo;
+    private final int actualFrom;
+    private final int actualTo;
+
+    Edit(int expectedFrom, int expectedTo, int actualFrom, int actualTo) {
+      this.expectedFrom = expectedFrom;
+      this.expectedTo = expectedTo;
+      this.actualFrom = actualFrom;
+      this.actualTo = actualTo;
+    }
+
+    /**
+     * Gets the kind of this edit.
+     *
+     * @return the {@link Type}; never null.
+     */
+    public Type type() {
+      if (expectedFrom == expectedTo) {
+        return Type.INSERTED;
+      }
+      else if (actualFrom == actualTo) {
+        return Type.DELETED;
+      }
+      return Type.CHANGED;
+    }
+
+    /**
+     * @return the inclusive index of the first affected expected instruction.
+     */
+    public int expectedFrom() {
+      return expectedFrom;
+    }
+
+    /**
+     * @return the exclusive index of the last affected expected instruction.
+     */
+    public int expectedTo() {
+      return expectedTo;
+    }
+
+    /**
+     * @return the inclusive index of the first affected actual instruction.
+     */
+    public int actualFrom() {
+      return actualFrom;
+    }
+
+    /**
+     * @return the exclusive index of the last affected actual instruction.
+     */
+    public int actualTo() {
+      return actualTo;
+    }
+
+    @Override
+    public String toString() {
+      return type() + " [" + expectedFrom + ", " + expectedTo + ") -> [" + actualFrom + ", " + actualTo + ")";
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    public enum Type {
+      /**
+       * The instructions only exist in the actual instructions.
+       */
+      INSERTED,
+      /**
+       * The instructions only exist in the expected instructions.
+       */
+      DELETED,
+      /**
+       * Expected instructions got replaced by different actual instructions.
+       */
+      CHANGED
+    }
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  /**
+   * A textifier which names the {@link Label}s by given indices.
+   */
+  private static class LabelIndexTextifier extends TextifierUtils.ExtendedTextifier {
+
+    LabelIndexTextifier(Map<Label, Integer> labelIndices) {
+      labelNames = new HashMap<>();
+      labelIndices.forEach((label, index) -> labelNames.put(label, "L" + index));
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package dev.turingcomplete.asmtestkit.representation;
 
 import dev.turingcomplete.asmtestkit.asmutils._internal.TextifierUtils;
+import dev.turingcomplete.asmtestkit.common.LabelIndexLookup;
 import org.assertj.core.presentation.Representation;
 import org.objectweb.asm.Handle;
 import org.objectweb.asm.Label;
@@ -8,6 +9,8 @@ import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.tree.InsnList;
 import org.objectweb.asm.util.TraceMethodVisitor;
 
+import java.io.IOException;
+
 /**
  * An AssertJ {@link Representation} for an {@link InsnList}.
  *
@@ -77,9 +80,14 @@ public class InsnListRepresentation extends AbstractAsmRepresentation<InsnList>
 
   @Override
   protected String doToStringOf(InsnList insnList) {
+    return appendToString(insnList, null);
+  }
+
+  @Override
+  protected void doAppendTo(InsnList insnList, Appendable output, LabelIndexLookup labelIndexLookup) throws IOException {
     var textifier = !hideOpcode ? new OpcodeAppendingTextifier() : new TextifierUtils.ExtendedTextifier();
     insnList.accept(new TraceMethodVisitor(textifier));
-    return TextifierUtils.toString(textifier).replaceAll("[\n\r]$", "");
+    TextifierUtils.appendWithoutTrailingLineBreaks(textifier, output);
   }
 
   // -- Private Methods --------------------------------------------------------------------------------------------- //
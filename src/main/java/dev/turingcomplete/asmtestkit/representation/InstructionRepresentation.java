@@ -1,9 +1,8 @@
 package dev.turingcomplete.asmtestkit.representation;
 
-import dev.turingcomplete.asmtestkit.asmutils._internal.TextifierUtils;
+import dev.turingcomplete.asmtestkit.representation._internal.InstructionPrinter;
 import org.assertj.core.presentation.Representation;
 import org.objectweb.asm.tree.AbstractInsnNode;
-import org.objectweb.asm.util.TraceMethodVisitor;
 
 import static dev.turingcomplete.asmtestkit.representation._internal.RepresentationUtils.appendToFirstLine;
 
@@ -47,11 +46,7 @@ public class InstructionRepresentation extends AbstractAsmRepresentation<Abstrac
 
   @Override
   protected String doToSimplifiedStringOf(AbstractInsnNode abstractInsnNode) {
-    return TextifierUtils.toString(textifier -> {
-      textifier.setTab2(0);
-      textifier.setTab3(1);
-      abstractInsnNode.accept(new TraceMethodVisitor(textifier));
-    }).replaceAll("[\n\r]$", "");
+    return InstructionPrinter.toString(abstractInsnNode, false);
   }
 
   @Override
@@ -62,7 +57,7 @@ public class InstructionRepresentation extends AbstractAsmRepresentation<Abstrac
 
   static String appendOpcode(int opcode, String textifiedInstruction) {
     if (opcode >= 0) {
-      return appendToFirstLine(" // opcode: " + opcode, textifiedInstruction);
+      return appendToFirstLine(InstructionPrinter.opcodeSuffix(opcode), textifiedInstruction);
     }
     else {
       return textifiedInstruction;
@@ -47,7 +47,8 @@ public class LabelNodeRepresentation extends AbstractWithLabelIndexAsmRepresenta
 
   @Override
   public String doToStringOf(LabelNode labelNode, LabelIndexLookup labelIndexLookup) {
-    return "L" + labelIndexLookup.find(labelNode.getLabel()).orElse(labelNode.getLabel().hashCode());
+    int index = labelIndexLookup.findIndex(labelNode.getLabel());
+    return "L" + (index != LabelIndexLookup.UNKNOWN_INDEX ? index : labelNode.getLabel().hashCode());
   }
 
   // -- Private Methods --------------------------------------------------------------------------------------------- //
@@ -15,9 +15,9 @@ import org.objectweb.asm.tree.MethodNode;
 import org.objectweb.asm.tree.ParameterNode;
 import org.objectweb.asm.tree.TryCatchBlockNode;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
-import java.util.function.Consumer;
 
 import static dev.turingcomplete.asmtestkit.asmutils.MethodNodeUtils.extractLabelIndices;
 import static dev.turingcomplete.asmtestkit.asmutils.TypeUtils.nameToTypeElseNull;
@@ -91,97 +91,99 @@ public class MethodNodeRepresentation extends AbstractWithLabelIndexAsmRepresent
 
   @Override
   protected String doToStringOf(MethodNode methodNode) {
-    return doToStringOf(methodNode, DefaultLabelIndexLookup.create(extractLabelIndices(methodNode)));
+    return appendToString(methodNode, null);
   }
 
   @Override
   protected String doToStringOf(MethodNode methodNode, LabelIndexLookup labelIndexLookup) {
-    var representation = new StringBuilder();
+    return appendToString(methodNode, labelIndexLookup);
+  }
+
+  @Override
+  protected void doAppendTo(MethodNode methodNode, Appendable output, LabelIndexLookup labelIndexLookup) throws IOException {
+    if (labelIndexLookup == null) {
+      labelIndexLookup = DefaultLabelIndexLookup.create(extractLabelIndices(methodNode));
+    }
 
     // Attributes
-    createAttributesRepresentations(asmRepresentations, methodNode.attrs)
-            .forEach(attributeRepresentation -> representation.append("// Attribute: ")
-                                                              .append(attributeRepresentation)
-                                                              .append(System.lineSeparator()));
+    for (String attributeRepresentation : createAttributesRepresentations(asmRepresentations, methodNode.attrs)) {
+      output.append("// Attribute: ").append(attributeRepresentation).append(System.lineSeparator());
+    }
 
     // Annotations
-    createAnnotationNodesRepresentations(asmRepresentations, methodNode.visibleAnnotations, methodNode.invisibleAnnotations)
-            .forEach(annotationNodeRepresentation -> representation.append(annotationNodeRepresentation)
-                                                                   .append(System.lineSeparator()));
+    for (String annotationNodeRepresentation : createAnnotationNodesRepresentations(asmRepresentations, methodNode.visibleAnnotations, methodNode.invisibleAnnotations)) {
+      output.append(annotationNodeRepresentation).append(System.lineSeparator());
+    }
 
     // Type annotations
-    createTypeAnnotationNodesRepresentations(asmRepresentations, methodNode.visibleTypeAnnotations, methodNode.invisibleTypeAnnotations)
-            .forEach(typeAnnotationNodeRepresentation -> representation.append(typeAnnotationNodeRepresentation)
-                                                                       .append(System.lineSeparator()));
+    for (String typeAnnotationNodeRepresentation : createTypeAnnotationNodesRepresentations(asmRepresentations, methodNode.visibleTypeAnnotations, methodNode.invisibleTypeAnnotations)) {
+      output.append(typeAnnotationNodeRepresentation).append(System.lineSeparator());
+    }
 
     // Declaration
-    representation.append(createMethodDeclaration(methodNode)).append(System.lineSeparator());
+    output.append(createMethodDeclaration(methodNode)).append(System.lineSeparator());
 
     // Instructions
-    if (methodNode.instructions != null) {
-      asmRepresentations.toStringOf(methodNode.instructions).lines()
-                        .forEach(line -> representation.append(INSTRUCTIONS_INDENT).append(line).append(System.lineSeparator()));
+    if (methodNode.instructions != null && methodNode.instructions.size() > 0) {
+      asmRepresentations.appendTo(methodNode.instructions, output, INSTRUCTIONS_INDENT, null);
+      output.append(System.lineSeparator());
     }
 
     // Annotation default
     if (methodNode.annotationDefault != null) {
-      representation.append(META_INFORMATION_INDENT).append("Annotation default: ")
-                    .append(asmRepresentations.toStringOf(AnnotationDefaultNode.create(methodNode.annotationDefault)))
-                    .append(System.lineSeparator());
+      output.append(META_INFORMATION_INDENT).append("Annotation default: ")
+            .append(asmRepresentations.toStringOf(AnnotationDefaultNode.create(methodNode.annotationDefault)))
+            .append(System.lineSeparator());
     }
     // Parameters
     if (methodNode.parameters != null) {
       for (int i = 0; i < methodNode.parameters.size(); i++) {
-        prependToFirstLine("Parameter: ", toStringOfParameter(methodNode.parameters.get(i), i, methodNode.visibleParameterAnnotations, methodNode.invisibleParameterAnnotations))
-                .lines().forEach(appendMetaInformationLine(representation));
+        appendMetaInformationLines(output, prependToFirstLine("Parameter: ", toStringOfParameter(methodNode.parameters.get(i), i, methodNode.visibleParameterAnnotations, methodNode.invisibleParameterAnnotations)));
       }
     }
 
     // Local Variables
     if (methodNode.localVariables != null) {
       for (LocalVariableNode localVariable : methodNode.localVariables) {
-        representation.append(META_INFORMATION_INDENT)
-                      .append("Local variable: ")
-                      .append(asmRepresentations.toStringOf(localVariable, labelIndexLookup))
-                      .append(System.lineSeparator());
+        output.append(META_INFORMATION_INDENT)
+              .append("Local variable: ")
+              .append(asmRepresentations.toStringOf(localVariable, labelIndexLookup))
+              .append(System.lineSeparator());
       }
     }
 
     // Local Variable Annotations
     if (methodNode.visibleLocalVariableAnnotations != null) {
       for (LocalVariableAnnotationNode localVariableAnnotation : methodNode.visibleLocalVariableAnnotations) {
-        representation.append(META_INFORMATION_INDENT)
-                      .append("Local variable annotation: ")
-                      .append(asmRepresentations.toStringOf(localVariableAnnotation, labelIndexLookup))
-                      .append(System.lineSeparator());
+        output.append(META_INFORMATION_INDENT)
+              .append("Local variable annotation: ")
+              .append(asmRepresentations.toStringOf(localVariableAnnotation, labelIndexLookup))
+              .append(System.lineSeparator());
       }
     }
     if (methodNode.invisibleLocalVariableAnnotations != null) {
       for (LocalVariableAnnotationNode localVariableAnnotation : methodNode.invisibleLocalVariableAnnotations) {
-        representation.append(META_INFORMATION_INDENT)
-                      .append("Local variable annotation: ")
-                      .append(asmRepresentations.toStringOf(localVariableAnnotation, labelIndexLookup))
-                      .append(" // invisible")
-                      .append(System.lineSeparator());
+        output.append(META_INFORMATION_INDENT)
+              .append("Local variable annotation: ")
+              .append(asmRepresentations.toStringOf(localVariableAnnotation, labelIndexLookup))
+              .append(" // invisible")
+              .append(System.lineSeparator());
       }
     }
 
     // Try Catch Blocks
     if (methodNode.tryCatchBlocks != null) {
       for (TryCatchBlockNode tryCatchBlock : methodNode.tryCatchBlocks) {
-        prependToFirstLine("Try catch block: ", asmRepresentations.toStringOf(tryCatchBlock, labelIndexLookup))
-                .lines().forEach(appendMetaInformationLine(representation));
+        appendMetaInformationLines(output, prependToFirstLine("Try catch block: ", asmRepresentations.toStringOf(tryCatchBlock, labelIndexLookup)));
       }
     }
 
     // Max Locals and Stack
-    representation.append(META_INFORMATION_INDENT).append("Max locals: ")
-                  .append(methodNode.maxLocals)
-                  .append(System.lineSeparator());
-    representation.append(META_INFORMATION_INDENT).append("Max stack: ")
-                  .append(methodNode.maxStack);
-
-    return representation.toString();
+    output.append(META_INFORMATION_INDENT).append("Max locals: ")
+          .append(String.valueOf(methodNode.maxLocals))
+          .append(System.lineSeparator());
+    output.append(META_INFORMATION_INDENT).append("Max stack: ")
+          .append(String.valueOf(methodNode.maxStack));
   }
 
   /**
@@ -268,10 +270,10 @@ public class MethodNodeRepresentation extends AbstractWithLabelIndexAsmRepresent
 
   // -- Private Methods --------------------------------------------------------------------------------------------- //
 
-  private Consumer<String> appendMetaInformationLine(StringBuilder representation) {
-    return line -> representation.append(META_INFORMATION_INDENT)
-                                 .append(line)
-                                 .append(System.lineSeparator());
+  private void appendMetaInformationLines(Appendable output, String text) throws IOException {
+    for (String line : (Iterable<String>) text.lines()::iterator) {
+      output.append(META_INFORMATION_INDENT).append(line).append(System.lineSeparator());
+    }
   }
 
   private String toStringOfParameter(ParameterNode parameter,
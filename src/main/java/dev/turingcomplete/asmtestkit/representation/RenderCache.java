@@ -0,0 +1,287 @@
+package dev.turingcomplete.asmtestkit.representation;
+
+import dev.turingcomplete.asmtestkit.common.LabelIndexLookup;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Memoizes the rendered {@link String} representations of nodes, for example,
+ * for the duration of a single assertion.
+ *
+ * <p>The comparators create the representations of the same nodes many
+ * times, for example, the elements of an {@link Iterable} while it gets
+ * sorted. While a {@code RenderCache} is active on the current thread (see
+ * {@link #activate()}), the {@link DefaultAsmRepresentations} render each
+ * node only once:
+ * <pre>{@code
+ * RenderCache renderCache = RenderCache.create();
+ * try (RenderCache.Activation ignored = renderCache.activate()) {
+ *   ClassNodeComparator.INSTANCE.compare(first, second);
+ * }
+ * }</pre>
+ *
+ * <p>The representations are keyed by the identity of the node. A
+ * representation which depends on a {@link LabelIndexLookup} is additionally
+ * keyed by the identity and the {@link LabelIndexLookup#version()} of the
+ * lookup, so a modification of the lookup invalidates it. Representations
+ * for an {@link LabelIndexLookup#UNVERSIONED} lookup are not memoized.
+ *
+ * <p>The memoized representations get discarded as soon as the last
+ * {@link Activation} of the cache gets closed. Therefore, an activation
+ * should span a single assertion, and the nodes may be modified between
+ * two activations, but not during one. The nodes and lookups are only
+ * weakly referenced, so the cache does not prevent them from being garbage
+ * collected.
+ *
+ * <p>This class is thread-safe.
+ */
+public final class RenderCache {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final ThreadLocal<RenderCache> ACTIVE_RENDER_CACHE = new ThreadLocal<>();
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final Map<NodeReference, Entry> entries        = new HashMap<>();
+  private final ReferenceQueue<Object>    collectedNodes = new ReferenceQueue<>();
+
+  /**
+   * The number of open {@link Activation}s on all threads.
+   */
+  private int activationsCount = 0;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  private RenderCache() {
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Creates a new, empty {@link RenderCache}.
+   *
+   * @return a new {@link RenderCache}; never null.
+   */
+  public static RenderCache create() {
+    return new RenderCache();
+  }
+
+  /**
+   * Gets the active {@link RenderCache} of the current thread.
+   *
+   * @return the active {@link RenderCache}; may be null if there is none.
+   */
+  public static RenderCache current() {
+    return ACTIVE_RENDER_CACHE.get();
+  }
+
+  /**
+   * Activates this {@link RenderCache} for the current thread.
+   *
+   * <p>Closing the returned {@link Activation} restores the previously
+   * active {@code RenderCache}, so activations can be nested. Closing the
+   * last open activation of this cache (on any thread) discards all
+   * memoized representations.
+   *
+   * @return an {@link Activation}, which must be closed; never null.
+   */
+  public Activation activate() {
+    synchronized (this) {
+      activationsCount++;
+    }
+
+    RenderCache previous = ACTIVE_RENDER_CACHE.get();
+    ACTIVE_RENDER_CACHE.set(this);
+    return new Activation(this, previous);
+  }
+
+  /**
+   * Gets the memoized representation of the given node or renders and
+   * memoizes it.
+   *
+   * <p>The {@code renderer} gets called without holding a lock, since it may
+   * recursively render the child nodes.
+   *
+   * @param node             the node; never null.
+   * @param labelIndexLookup the {@link LabelIndexLookup} the representation
+   *                         depends on; may be null if it does not depend on
+   *                         one.
+   * @param renderer         creates the representation if there is no
+   *                         memoized one; never null.
+   * @return the representation; may be null if {@code renderer} returns null.
+   */
+  public String toStringOf(Object node, LabelIndexLookup labelIndexLookup, Supplier<String> renderer) {
+    Objects.requireNonNull(node);
+    Objects.requireNonNull(renderer);
+
+    long version = labelIndexLookup != null ? labelIndexLookup.version() : LabelIndexLookup.UNVERSIONED;
+    if (labelIndexLookup != null && version == LabelIndexLookup.UNVERSIONED) {
+      return renderer.get();
+    }
+
+    synchronized (this) {
+      Entry entry = entries.get(new NodeReference(node));
+      if (entry != null && entry.matches(labelIndexLookup, version)) {
+        return entry.representation(labelIndexLookup);
+      }
+    }
+
+    String representation = renderer.get();
+
+    synchronized (this) {
+      expungeCollectedNodes();
+      Entry entry = entries.get(new NodeReference(node));
+      if (entry == null) {
+        entry = new Entry();
+        entries.put(new NodeReference(node, collectedNodes), entry);
+      }
+      entry.update(labelIndexLookup, version, representation);
+    }
+    return representation;
+  }
+
+  /**
+   * Gets the number of nodes with memoized representations.
+   *
+   * @return the number of nodes, which may include nodes that were already
+   * garbage collected.
+   */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private synchronized void deactivate() {
+    activationsCount--;
+    if (activationsCount == 0) {
+      // The nodes may get modified until the next activation
+      entries.clear();
+      expungeCollectedNodes();
+    }
+  }
+
+  private void expungeCollectedNodes() {
+    Object collectedNode;
+    while ((collectedNode = collectedNodes.poll()) != null) {
+      entries.remove(collectedNode);
+    }
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  /**
+   * The activation of a {@link RenderCache} for the current thread.
+   */
+  public static final class Activation implements AutoCloseable {
+
+    private final RenderCache renderCache;
+    private final RenderCache previous;
+    private       boolean     closed = false;
+
+    private Activation(RenderCache renderCache, RenderCache previous) {
+      this.renderCache = renderCache;
+      this.previous = previous;
+    }
+
+    /**
+     * Restores the previously active {@link RenderCache}.
+     */
+    @Override
+    public void close() {
+      if (closed) {
+        return;
+      }
+      closed = true;
+
+      if (previous != null) {
+        ACTIVE_RENDER_CACHE.set(previous);
+      }
+      else {
+        ACTIVE_RENDER_CACHE.remove();
+      }
+      renderCache.deactivate();
+    }
+  }
+
+  /**
+   * A weak reference to a node, which is compared by the identity of the
+   * node. A cleared reference is only equal to itself.
+   */
+  private static final class NodeReference extends WeakReference<Object> {
+
+    private final int hashCode;
+
+    NodeReference(Object node) {
+      super(node);
+      this.hashCode = System.identityHashCode(node);
+    }
+
+    NodeReference(Object node, ReferenceQueue<Object> queue) {
+      super(node, queue);
+      this.hashCode = System.identityHashCode(node);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof NodeReference)) {
+        return false;
+      }
+      Object node = get();
+      return node != null && node == ((NodeReference) o).get();
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+  /**
+   * The memoized representations of one node: one without a
+   * {@link LabelIndexLookup} and one for the last used lookup.
+   */
+  private static final class Entry {
+
+    private boolean hasRepresentation = false;
+    private String  representation;
+
+    private WeakReference<LabelIndexLookup> labelIndexLookup;
+    private long                            labelIndexLookupVersion;
+    private String                          labelIndexLookupRepresentation;
+
+    boolean matches(LabelIndexLookup labelIndexLookup, long version) {
+      if (labelIndexLookup == null) {
+        return hasRepresentation;
+      }
+
+      return this.labelIndexLookup != null
+             && this.labelIndexLookup.get() == labelIndexLookup
+             && labelIndexLookupVersion == version;
+    }
+
+    String representation(LabelIndexLookup labelIndexLookup) {
+      return labelIndexLookup == null ? representation : labelIndexLookupRepresentation;
+    }
+
+    void update(LabelIndexLookup labelIndexLookup, long version, String representation) {
+      if (labelIndexLookup == null) {
+        this.hasRepresentation = true;
+        this.representation = representation;
+      }
+      else {
+        this.labelIndexLookup = new WeakReference<>(labelIndexLookup);
+        this.labelIndexLookupVersion = version;
+        this.labelIndexLookupRepresentation = representation;
+      }
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package dev.turingcomplete.asmtestkit.representation;
 
 import dev.turingcomplete.asmtestkit.asmutils.ClassNameUtils;
+import dev.turingcomplete.asmtestkit.asmutils.TypeUtils;
 import org.assertj.core.presentation.Representation;
 import org.objectweb.asm.Type;
 
@@ -8,6 +9,10 @@ import java.util.Objects;
 
 /**
  * An AssertJ {@link Representation} for a {@link Type}.
+ *
+ * <p>With the default {@link #useClassName()}, the names of object and array
+ * {@link Type}s are the interned class names of
+ * {@link TypeUtils#toClassName(Type)}.
  */
 public class TypeRepresentation extends AbstractAsmRepresentation<Type> {
   // -- Class Fields ------------------------------------------------------------------------------------------------ //
@@ -102,6 +107,9 @@ public class TypeRepresentation extends AbstractAsmRepresentation<Type> {
       case Type.METHOD:
         return type.toString();
       case Type.ARRAY:
+        if (objectNameMode == ObjectMode.CLASS_NAME) {
+          return TypeUtils.toClassName(type);
+        }
         return doToStringOf(type.getElementType()) + "[]".repeat(type.getDimensions());
       case Type.OBJECT:
         // Fall through
@@ -115,7 +123,7 @@ public class TypeRepresentation extends AbstractAsmRepresentation<Type> {
   // -- Private Methods --------------------------------------------------------------------------------------------- //
 
   private String getObjectName(Type type) {
-    String className = type.getClassName();
+    String className = TypeUtils.toClassName(type);
     switch (objectNameMode) {
       case DESCRIPTOR:
         return type.getDescriptor();
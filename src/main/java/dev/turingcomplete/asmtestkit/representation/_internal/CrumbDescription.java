@@ -3,6 +3,17 @@ package dev.turingcomplete.asmtestkit.representation._internal;
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.description.Description;
 
+import java.util.Objects;
+
+/**
+ * A {@link Description} which appends a crumb (e.g., {@code "Has equal
+ * name"}) to the {@link Description} of a parent {@link AssertionInfo}.
+ *
+ * <p>The value gets only created if it gets read (usually only if an
+ * assertion fails) and then memoized. Since the parent {@link Description}s
+ * are also memoized, the value of the parent chain gets created only once and
+ * is shared between all siblings.
+ */
 public final class CrumbDescription extends Description {
   // -- Class Fields ------------------------------------------------------------------------------------------------ //
   // -- Instance Fields --------------------------------------------------------------------------------------------- //
@@ -10,6 +21,17 @@ public final class CrumbDescription extends Description {
   private final AssertionInfo assertionInfo;
   private final String        crumbDescription;
   private final Object[]      crumbArgs;
+  private final Description   crumb;
+
+  private String formattedCrumbDescription;
+
+  /**
+   * The last created value, which is valid as long as the value of the
+   * parent and of the crumb are the same instances.
+   */
+  private String cachedParentValue;
+  private String cachedCrumbValue;
+  private String cachedValue;
 
   // -- Initialization ---------------------------------------------------------------------------------------------- //
 
@@ -17,21 +39,46 @@ public final class CrumbDescription extends Description {
     this.assertionInfo = assertionInfo;
     this.crumbDescription = crumbDescription;
     this.crumbArgs = crumbArgs;
+    this.crumb = null;
+  }
+
+  public CrumbDescription(AssertionInfo assertionInfo, Description crumb) {
+    this.assertionInfo = assertionInfo;
+    this.crumbDescription = null;
+    this.crumbArgs = null;
+    this.crumb = Objects.requireNonNull(crumb);
   }
 
   // -- Exposed Methods --------------------------------------------------------------------------------------------- //
 
   @Override
   public String value() {
-    String value = assertionInfo.description().value();
-
-    if (crumbDescription != null) {
-      value += " > " + String.format(crumbDescription, crumbArgs);
+    String parentValue = assertionInfo.description().value();
+    String crumbValue = crumbValue();
+    if (crumbValue == null) {
+      return parentValue;
     }
 
-    return value;
+    if (cachedValue == null || cachedParentValue != parentValue || cachedCrumbValue != crumbValue) {
+      cachedValue = parentValue + " > " + crumbValue;
+      cachedParentValue = parentValue;
+      cachedCrumbValue = crumbValue;
+    }
+    return cachedValue;
   }
 
   // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private String crumbValue() {
+    if (crumb != null) {
+      return crumb.value();
+    }
+
+    if (crumbDescription != null && formattedCrumbDescription == null) {
+      formattedCrumbDescription = String.format(crumbDescription, crumbArgs);
+    }
+    return formattedCrumbDescription;
+  }
+
   // -- Inner Type -------------------------------------------------------------------------------------------------- //
 }
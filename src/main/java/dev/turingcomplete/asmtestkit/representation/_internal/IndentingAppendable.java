@@ -0,0 +1,104 @@
+package dev.turingcomplete.asmtestkit.representation._internal;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * An {@link Appendable} which prefixes each line with an indent, while the
+ * text gets appended to the underlying {@link Appendable}.
+ *
+ * <p>The indent gets written lazily before the first character of a line, so
+ * no indent gets written after a trailing line break. Empty lines in between
+ * get indented, like {@code text.lines().forEach(line -> indent + line)}
+ * would do.
+ *
+ * <p>Nested {@code IndentingAppendable}s accumulate their indents.
+ */
+public final class IndentingAppendable implements Appendable {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final Appendable output;
+  private final String     indent;
+
+  private boolean atLineStart         = true;
+  private boolean afterCarriageReturn = false;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  private IndentingAppendable(Appendable output, String indent) {
+    this.output = output;
+    this.indent = indent;
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Wraps the given {@link Appendable} into an {@link IndentingAppendable}.
+   *
+   * @param output the underlying {@link Appendable}; never null.
+   * @param indent the indent of each line; never null.
+   * @return an {@link Appendable} which indents each line; never null. The
+   * given {@code output} itself if the {@code indent} is empty.
+   */
+  public static Appendable wrap(Appendable output, String indent) {
+    Objects.requireNonNull(output);
+    Objects.requireNonNull(indent);
+
+    return indent.isEmpty() ? output : new IndentingAppendable(output, indent);
+  }
+
+  @Override
+  public Appendable append(CharSequence text) throws IOException {
+    if (text == null) {
+      text = "null";
+    }
+
+    return append(text, 0, text.length());
+  }
+
+  @Override
+  public Appendable append(CharSequence text, int start, int end) throws IOException {
+    if (text == null) {
+      text = "null";
+    }
+
+    int segmentStart = start;
+    for (int i = start; i < end; i++) {
+      char c = text.charAt(i);
+      if (needsIndent(c)) {
+        output.append(text, segmentStart, i).append(indent);
+        segmentStart = i;
+      }
+      updateLineState(c);
+    }
+    output.append(text, segmentStart, end);
+
+    return this;
+  }
+
+  @Override
+  public Appendable append(char c) throws IOException {
+    if (needsIndent(c)) {
+      output.append(indent);
+    }
+    updateLineState(c);
+    output.append(c);
+
+    return this;
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private boolean needsIndent(char c) {
+    // The '\n' of a "\r\n" does not start a new line
+    return atLineStart && !(afterCarriageReturn && c == '\n');
+  }
+
+  private void updateLineState(char c) {
+    atLineStart = c == '\n' || c == '\r';
+    afterCarriageReturn = c == '\r';
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
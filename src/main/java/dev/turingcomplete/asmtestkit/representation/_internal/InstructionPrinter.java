@@ -0,0 +1,291 @@
+package dev.turingcomplete.asmtestkit.representation._internal;
+
+import dev.turingcomplete.asmtestkit.asmutils._internal.TextifierUtils;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.IincInsnNode;
+import org.objectweb.asm.tree.IntInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.LineNumberNode;
+import org.objectweb.asm.tree.LookupSwitchInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MultiANewArrayInsnNode;
+import org.objectweb.asm.tree.TableSwitchInsnNode;
+import org.objectweb.asm.tree.TypeInsnNode;
+import org.objectweb.asm.tree.VarInsnNode;
+import org.objectweb.asm.util.Printer;
+import org.objectweb.asm.util.Textifier;
+import org.objectweb.asm.util.TraceMethodVisitor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Prints a single {@link AbstractInsnNode} directly into a
+ * {@link StringBuilder}.
+ *
+ * <p>The output is identical to the text of a new {@link Textifier} (with
+ * no instruction indent and a one space switch case indent), which visited
+ * only the given instruction, without the trailing line break. The
+ * {@link Label}s get named in the order of their first appearance within
+ * the instruction, starting with {@code L0}.
+ *
+ * <p>In contrast to the {@code Textifier}, no visitor, writer and label
+ * {@link Map} gets created for each instruction. The opcode names get taken
+ * from the same static tables ({@link Printer#OPCODES} and
+ * {@link Printer#TYPES}) the {@code Textifier} uses.
+ *
+ * <p>Rare instructions with a complex text (frames, {@code INVOKEDYNAMIC}s
+ * and instructions with type annotations) still get textified by a
+ * {@code Textifier}.
+ */
+public final class InstructionPrinter {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final String OPCODE_PREFIX = " // opcode: ";
+
+  /**
+   * The precomputed {@code " // opcode: <opcode>"} suffixes of all opcodes,
+   * by their opcode.
+   */
+  private static final String[] OPCODE_SUFFIXES = createOpcodeSuffixes();
+
+  /**
+   * The maximum capacity of a reused {@link StringBuilder}, to not keep the
+   * buffer of an exceptional large instruction (e.g., a huge switch) alive.
+   */
+  private static final int MAX_REUSED_CAPACITY = 16 * 1024;
+
+  private static final ThreadLocal<StringBuilder> REUSABLE_OUTPUT = ThreadLocal.withInitial(StringBuilder::new);
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  private InstructionPrinter() {
+    throw new UnsupportedOperationException();
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Gets the suffix {@code " // opcode: <opcode>"} for the given opcode.
+   *
+   * @param opcode an opcode; must not be negative.
+   * @return the suffix; never null.
+   */
+  public static String opcodeSuffix(int opcode) {
+    return opcode < OPCODE_SUFFIXES.length ? OPCODE_SUFFIXES[opcode] : OPCODE_PREFIX + opcode;
+  }
+
+  /**
+   * Prints the given instruction into a reused {@link StringBuilder} of the
+   * current thread.
+   *
+   * @param instruction  the {@link AbstractInsnNode} to print; never null.
+   * @param appendOpcode whether to append {@code " // opcode: <opcode>"} to
+   *                     the first line of an instruction with an opcode.
+   * @return the text of the instruction; never null.
+   */
+  public static String toString(AbstractInsnNode instruction, boolean appendOpcode) {
+    Objects.requireNonNull(instruction);
+
+    StringBuilder output = REUSABLE_OUTPUT.get();
+    output.setLength(0);
+    append(instruction, appendOpcode, output);
+    String result = output.toString();
+
+    if (output.capacity() > MAX_REUSED_CAPACITY) {
+      REUSABLE_OUTPUT.remove();
+    }
+    return result;
+  }
+
+  /**
+   * Prints the given instruction into the given {@link StringBuilder}.
+   *
+   * @param instruction  the {@link AbstractInsnNode} to print; never null.
+   * @param appendOpcode whether to append {@code " // opcode: <opcode>"} to
+   *                     the first line of an instruction with an opcode.
+   * @param output       the {@link StringBuilder} to print into; never null.
+   */
+  public static void append(AbstractInsnNode instruction, boolean appendOpcode, StringBuilder output) {
+    Objects.requireNonNull(instruction);
+    Objects.requireNonNull(output);
+
+    if (hasTypeAnnotations(instruction)) {
+      appendTextified(instruction, appendOpcode, output);
+      return;
+    }
+
+    int opcode = instruction.getOpcode();
+    switch (instruction.getType()) {
+      case AbstractInsnNode.INSN:
+        output.append(Printer.OPCODES[opcode]);
+        break;
+
+      case AbstractInsnNode.INT_INSN:
+        int operand = ((IntInsnNode) instruction).operand;
+        output.append(Printer.OPCODES[opcode]).append(' ');
+        if (opcode == Opcodes.NEWARRAY) {
+          output.append(Printer.TYPES[operand]);
+        }
+        else {
+          output.append(operand);
+        }
+        break;
+
+      case AbstractInsnNode.VAR_INSN:
+        output.append(Printer.OPCODES[opcode]).append(' ').append(((VarInsnNode) instruction).var);
+        break;
+
+      case AbstractInsnNode.TYPE_INSN:
+        output.append(Printer.OPCODES[opcode]).append(' ').append(((TypeInsnNode) instruction).desc);
+        break;
+
+      case AbstractInsnNode.FIELD_INSN:
+        var fieldInsn = (FieldInsnNode) instruction;
+        output.append(Printer.OPCODES[opcode]).append(' ')
+              .append(fieldInsn.owner).append('.').append(fieldInsn.name).append(" : ").append(fieldInsn.desc);
+        break;
+
+      case AbstractInsnNode.METHOD_INSN:
+        var methodInsn = (MethodInsnNode) instruction;
+        output.append(Printer.OPCODES[opcode]).append(' ')
+              .append(methodInsn.owner).append('.').append(methodInsn.name).append(' ').append(methodInsn.desc);
+        if (methodInsn.itf) {
+          output.append(" (itf)");
+        }
+        break;
+
+      case AbstractInsnNode.JUMP_INSN:
+        output.append(Printer.OPCODES[opcode]).append(" L0");
+        break;
+
+      case AbstractInsnNode.LABEL:
+        output.append("L0");
+        break;
+
+      case AbstractInsnNode.LDC_INSN:
+        appendLdcInsn((LdcInsnNode) instruction, output);
+        break;
+
+      case AbstractInsnNode.IINC_INSN:
+        var iincInsn = (IincInsnNode) instruction;
+        output.append("IINC ").append(iincInsn.var).append(' ').append(iincInsn.incr);
+        break;
+
+      case AbstractInsnNode.TABLESWITCH_INSN:
+        var tableSwitchInsn = (TableSwitchInsnNode) instruction;
+        output.append("TABLESWITCH");
+        appendOpcode(opcode, appendOpcode, output);
+        appendSwitchCases(tableSwitchInsn.min, null, tableSwitchInsn.labels, tableSwitchInsn.dflt, output);
+        return;
+
+      case AbstractInsnNode.LOOKUPSWITCH_INSN:
+        var lookupSwitchInsn = (LookupSwitchInsnNode) instruction;
+        output.append("LOOKUPSWITCH");
+        appendOpcode(opcode, appendOpcode, output);
+        appendSwitchCases(0, lookupSwitchInsn.keys, lookupSwitchInsn.labels, lookupSwitchInsn.dflt, output);
+        return;
+
+      case AbstractInsnNode.MULTIANEWARRAY_INSN:
+        var multiANewArrayInsn = (MultiANewArrayInsnNode) instruction;
+        output.append("MULTIANEWARRAY ").append(multiANewArrayInsn.desc).append(' ').append(multiANewArrayInsn.dims);
+        break;
+
+      case AbstractInsnNode.LINE:
+        output.append("LINENUMBER ").append(((LineNumberNode) instruction).line).append(" L0");
+        break;
+
+      default:
+        // Frames, INVOKEDYNAMICs and unknown instructions
+        appendTextified(instruction, appendOpcode, output);
+        return;
+    }
+
+    appendOpcode(opcode, appendOpcode, output);
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private static String[] createOpcodeSuffixes() {
+    var opcodeSuffixes = new String[Printer.OPCODES.length];
+    for (int opcode = 0; opcode < opcodeSuffixes.length; opcode++) {
+      opcodeSuffixes[opcode] = OPCODE_PREFIX + opcode;
+    }
+    return opcodeSuffixes;
+  }
+
+  private static boolean hasTypeAnnotations(AbstractInsnNode instruction) {
+    return (instruction.visibleTypeAnnotations != null && !instruction.visibleTypeAnnotations.isEmpty())
+           || (instruction.invisibleTypeAnnotations != null && !instruction.invisibleTypeAnnotations.isEmpty());
+  }
+
+  private static void appendOpcode(int opcode, boolean appendOpcode, StringBuilder output) {
+    if (appendOpcode && opcode >= 0) {
+      output.append(opcodeSuffix(opcode));
+    }
+  }
+
+  /**
+   * Like {@link Textifier#visitLdcInsn(Object)}.
+   */
+  private static void appendLdcInsn(LdcInsnNode ldcInsn, StringBuilder output) {
+    output.append("LDC ");
+    Object value = ldcInsn.cst;
+    if (value instanceof String) {
+      Printer.appendString(output, (String) value);
+    }
+    else if (value instanceof Type) {
+      output.append(((Type) value).getDescriptor()).append(".class");
+    }
+    else {
+      output.append(value);
+    }
+  }
+
+  /**
+   * Like {@link Textifier#visitTableSwitchInsn(int, int, Label, Label...)}
+   * (if {@code keys} is null) and
+   * {@link Textifier#visitLookupSwitchInsn(Label, int[], Label[])}.
+   */
+  private static void appendSwitchCases(int min, List<Integer> keys, List<LabelNode> labels, LabelNode dflt, StringBuilder output) {
+    Map<Label, Integer> labelIndices = new HashMap<>();
+    for (int i = 0; i < labels.size(); i++) {
+      output.append("\n ").append(keys != null ? keys.get(i).intValue() : min + i).append(": ");
+      appendLabel(labels.get(i), labelIndices, output);
+    }
+    output.append("\n default: ");
+    appendLabel(dflt, labelIndices, output);
+  }
+
+  /**
+   * Like {@link Textifier#appendLabel(Label)}, which names the labels in the
+   * order of their first appearance.
+   */
+  private static void appendLabel(LabelNode labelNode, Map<Label, Integer> labelIndices, StringBuilder output) {
+    Integer labelIndex = labelIndices.computeIfAbsent(labelNode.getLabel(), label -> labelIndices.size());
+    output.append('L').append(labelIndex.intValue());
+  }
+
+  private static void appendTextified(AbstractInsnNode instruction, boolean appendOpcode, StringBuilder output) {
+    String textifiedInstruction = TextifierUtils.toString(textifier -> {
+      textifier.setTab2(0);
+      textifier.setTab3(1);
+      instruction.accept(new TraceMethodVisitor(textifier));
+    }).replaceAll("[\n\r]$", "");
+
+    if (appendOpcode && instruction.getOpcode() >= 0) {
+      textifiedInstruction = RepresentationUtils.appendToFirstLine(opcodeSuffix(instruction.getOpcode()), textifiedInstruction);
+    }
+    output.append(textifiedInstruction);
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
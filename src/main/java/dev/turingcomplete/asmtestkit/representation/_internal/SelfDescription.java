@@ -4,6 +4,7 @@ import dev.turingcomplete.asmtestkit.common.LabelIndexLookup;
 import dev.turingcomplete.asmtestkit.assertion._internal.AsmWritableAssertionInfo;
 import dev.turingcomplete.asmtestkit.representation.AbstractAsmRepresentation;
 import dev.turingcomplete.asmtestkit.representation.AbstractWithLabelIndexAsmRepresentation;
+import dev.turingcomplete.asmtestkit.representation.DifferenceWindowRepresentation;
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.description.Description;
 import org.assertj.core.presentation.Representation;
@@ -16,6 +17,14 @@ public final class SelfDescription extends Description {
   private final Object             actual;
   private final AssertionInfo      assertionInfo;
 
+  /**
+   * The last created value, which is valid as long as the representation
+   * and the version of the {@link LabelIndexLookup} are the same.
+   */
+  private Representation cachedRepresentation;
+  private long           cachedLabelIndexLookupVersion;
+  private String         cachedValue;
+
   // -- Initialization ---------------------------------------------------------------------------------------------- //
   // -- Exposed Methods --------------------------------------------------------------------------------------------- //
 
@@ -28,6 +37,21 @@ public final class SelfDescription extends Description {
   @Override
   public String value() {
     Representation representation = assertionInfo.representation();
+    if (representation instanceof DifferenceWindowRepresentation) {
+      // The description should not contain the windowed full representation
+      representation = ((DifferenceWindowRepresentation) representation).delegate();
+    }
+
+    // The description gets read repeatedly (e.g., for each failed check), but
+    // only changes with the representation or the label indices
+    long labelIndexLookupVersion = assertionInfo instanceof AsmWritableAssertionInfo
+            ? ((AsmWritableAssertionInfo) assertionInfo).labelIndexLookup().version()
+            : LabelIndexLookup.UNVERSIONED;
+    if (cachedValue != null && cachedRepresentation == representation
+        && labelIndexLookupVersion != LabelIndexLookup.UNVERSIONED && cachedLabelIndexLookupVersion == labelIndexLookupVersion) {
+      return cachedValue;
+    }
+
     String actualRepresentation;
     if (assertionInfo instanceof AsmWritableAssertionInfo && representation instanceof AbstractWithLabelIndexAsmRepresentation) {
       LabelIndexLookup labelIndexLookup = ((AsmWritableAssertionInfo) assertionInfo).labelIndexLookup();
@@ -40,7 +64,11 @@ public final class SelfDescription extends Description {
       actualRepresentation = representation.toStringOf(actual);
     }
 
-    return name + ": " + actualRepresentation;
+    String value = name + ": " + actualRepresentation;
+    cachedRepresentation = representation;
+    cachedLabelIndexLookupVersion = labelIndexLookupVersion;
+    cachedValue = value;
+    return value;
   }
 
   // -- Private Methods --------------------------------------------------------------------------------------------- //
@@ -3,6 +3,7 @@ package dev.turingcomplete.asmtestkit.representation._internal;
 import dev.turingcomplete.asmtestkit.common.LabelIndexLookup;
 import dev.turingcomplete.asmtestkit.representation.AbstractWithLabelIndexAsmRepresentation;
 
+import java.io.IOException;
 import java.util.Objects;
 
 public class WithLabelIndexRepresentationAdapter<T> extends AbstractWithLabelIndexAsmRepresentation<T> {
@@ -43,6 +44,11 @@ public class WithLabelIndexRepresentationAdapter<T> extends AbstractWithLabelInd
     return delegate.toStringOf(object, labelIndexLookup);
   }
 
+  @Override
+  protected void doAppendTo(T object, Appendable output, LabelIndexLookup labelIndexLookup) throws IOException {
+    delegate.appendTo(object, output, "", labelIndexLookup != null ? labelIndexLookup : this.labelIndexLookup);
+  }
+
   @Override
   public String toString() {
     return delegate.getClass().getSimpleName();
@@ -0,0 +1,234 @@
+package dev.turingcomplete.asmtestkit.snapshot;
+
+import dev.turingcomplete.asmtestkit.fingerprint.AsmFingerprint;
+import dev.turingcomplete.asmtestkit.fingerprint.AsmFingerprints;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Objects;
+
+/**
+ * Stores snapshots of the text representations of nodes together with their
+ * {@link AsmFingerprint}s, one file per snapshot.
+ *
+ * <p>A snapshot with the name {@code foo/MyClass} gets stored in the file
+ * {@code <directory>/foo/MyClass.txt}. The first line of the file contains
+ * the fingerprint, which allows to verify an unchanged node by reading only
+ * this line, without rendering the node. The following lines contain the
+ * text representation, which gets used to show the differences of a
+ * changed node. The line breaks of the text are always {@code \n}, so that
+ * the snapshots are independent of the platform.
+ *
+ * <p>In the update mode, the snapshot assertions (e.g.,
+ * {@link dev.turingcomplete.asmtestkit.assertion.ClassNodeAssert#matchesSnapshot(String)})
+ * rewrite all new and changed snapshots instead of failing. The update mode
+ * of {@link #INSTANCE} and {@link #create()} gets enabled by setting the
+ * system property {@value #UPDATE_MODE_PROPERTY} to {@code true}, for
+ * example, for a single test run.
+ */
+public final class SnapshotStore {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  /**
+   * The system property which enables the update mode of the
+   * {@link SnapshotStore}s created by {@link #create()}.
+   */
+  public static final String UPDATE_MODE_PROPERTY = "asmtestkit.snapshots.update";
+
+  /**
+   * The default directory of the snapshots, relative to the working directory.
+   */
+  public static final Path DEFAULT_DIRECTORY = Paths.get("src", "test", "resources", "snapshots");
+
+  /**
+   * A reusable {@link SnapshotStore} instance in the {@link #DEFAULT_DIRECTORY}.
+   */
+  public static final SnapshotStore INSTANCE = create();
+
+  private static final String FILE_EXTENSION     = ".txt";
+  private static final String FINGERPRINT_PREFIX = "// Fingerprint: ";
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  private final Path    directory;
+  private final boolean updateMode;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+
+  private SnapshotStore(Path directory, boolean updateMode) {
+    this.directory = directory;
+    this.updateMode = updateMode;
+  }
+
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Creates a new {@link SnapshotStore} in the {@link #DEFAULT_DIRECTORY}.
+   *
+   * <p>The update mode is enabled if the system property
+   * {@value #UPDATE_MODE_PROPERTY} is {@code true}.
+   *
+   * @return a new {@link SnapshotStore}; never null.
+   */
+  public static SnapshotStore create() {
+    return create(DEFAULT_DIRECTORY);
+  }
+
+  /**
+   * Creates a new {@link SnapshotStore} in the given directory.
+   *
+   * <p>The update mode is enabled if the system property
+   * {@value #UPDATE_MODE_PROPERTY} is {@code true}.
+   *
+   * @param directory the directory of the snapshots; never null.
+   * @return a new {@link SnapshotStore}; never null.
+   */
+  public static SnapshotStore create(Path directory) {
+    return new SnapshotStore(Objects.requireNonNull(directory), Boolean.getBoolean(UPDATE_MODE_PROPERTY));
+  }
+
+  /**
+   * Creates a {@link SnapshotStore} in the same directory with the enabled
+   * update mode, in which the snapshot assertions rewrite new and changed
+   * snapshots instead of failing.
+   *
+   * <p>{@code this} {@link SnapshotStore} stays unchanged.
+   *
+   * @return a new {@link SnapshotStore} in the update mode; never null.
+   */
+  public SnapshotStore useUpdateMode() {
+    return new SnapshotStore(directory, true);
+  }
+
+  /**
+   * Whether the update mode is enabled.
+   *
+   * @return true if the snapshot assertions should rewrite new and changed
+   * snapshots.
+   * @see #useUpdateMode()
+   */
+  public boolean isUpdateMode() {
+    return updateMode;
+  }
+
+  /**
+   * Gets the directory of the snapshots.
+   *
+   * @return the directory; never null.
+   */
+  public Path directory() {
+    return directory;
+  }
+
+  /**
+   * Gets the file of the snapshot with the given name.
+   *
+   * @param name the name of the snapshot, which may contain {@code /} to
+   *             group snapshots into subdirectories; never null.
+   * @return the {@link Path} of the snapshot file; never null.
+   * @throws IllegalArgumentException if the file would be outside of the
+   *                                  {@link #directory()}.
+   */
+  public Path snapshotFile(String name) {
+    Objects.requireNonNull(name);
+
+    Path normalizedDirectory = directory.toAbsolutePath().normalize();
+    Path snapshotFile = normalizedDirectory.resolve(name + FILE_EXTENSION).normalize();
+    if (name.isEmpty() || !snapshotFile.startsWith(normalizedDirectory) || snapshotFile.equals(normalizedDirectory)) {
+      throw new IllegalArgumentException("Invalid snapshot name: " + name);
+    }
+    return snapshotFile;
+  }
+
+  /**
+   * Reads only the {@link AsmFingerprint} of the snapshot with the given
+   * name.
+   *
+   * @param name the name of the snapshot; never null.
+   * @return the stored {@link AsmFingerprint}; may be null if the snapshot
+   * does not exist or has no valid fingerprint.
+   * @throws IOException if the snapshot file can't be read.
+   */
+  public AsmFingerprint readFingerprint(String name) throws IOException {
+    Path snapshotFile = snapshotFile(name);
+    try (BufferedReader reader = Files.newBufferedReader(snapshotFile, StandardCharsets.UTF_8)) {
+      String firstLine = reader.readLine();
+      if (firstLine == null || !firstLine.startsWith(FINGERPRINT_PREFIX)) {
+        return null;
+      }
+
+      try {
+        return AsmFingerprint.fromHexString(firstLine.substring(FINGERPRINT_PREFIX.length()).trim());
+      }
+      catch (IllegalArgumentException e) {
+        // A manually edited fingerprint
+        return null;
+      }
+    }
+    catch (NoSuchFileException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Reads the text representation of the snapshot with the given name.
+   *
+   * @param name the name of the snapshot; never null.
+   * @return the text representation with {@code \n} line breaks; may be null
+   * if the snapshot does not exist.
+   * @throws IOException if the snapshot file can't be read.
+   */
+  public String readText(String name) throws IOException {
+    Path snapshotFile = snapshotFile(name);
+    if (!Files.exists(snapshotFile)) {
+      return null;
+    }
+
+    String content = normalizeLineBreaks(Files.readString(snapshotFile, StandardCharsets.UTF_8));
+    if (!content.startsWith(FINGERPRINT_PREFIX)) {
+      return content;
+    }
+
+    int firstLineEnd = content.indexOf('\n');
+    return firstLineEnd >= 0 ? content.substring(firstLineEnd + 1) : "";
+  }
+
+  /**
+   * Writes the snapshot with the given name, which replaces an existing
+   * snapshot.
+   *
+   * @param name        the name of the snapshot; never null.
+   * @param fingerprint the {@link AsmFingerprint} of the node, for example,
+   *                    created by {@link AsmFingerprints#of(org.objectweb.asm.tree.ClassNode)};
+   *                    never null.
+   * @param text        the text representation of the node; never null.
+   * @throws IOException if the snapshot file can't be written.
+   */
+  public void write(String name, AsmFingerprint fingerprint, String text) throws IOException {
+    Objects.requireNonNull(fingerprint);
+    Objects.requireNonNull(text);
+
+    Path snapshotFile = snapshotFile(name);
+    Files.createDirectories(snapshotFile.getParent());
+    Files.writeString(snapshotFile, FINGERPRINT_PREFIX + fingerprint.toHexString() + "\n" + normalizeLineBreaks(text), StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Replaces all platform-specific line breaks in the given text by
+   * {@code \n}.
+   *
+   * @param text the text; never null.
+   * @return the text with {@code \n} line breaks; never null.
+   */
+  public static String normalizeLineBreaks(String text) {
+    return text.indexOf('\r') >= 0 ? text.replace("\r\n", "\n") : text;
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
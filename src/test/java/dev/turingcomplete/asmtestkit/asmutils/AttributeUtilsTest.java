@@ -0,0 +1,122 @@
+package dev.turingcomplete.asmtestkit.asmutils;
+
+import dev.turingcomplete.asmtestkit.__helper.DummyAttribute;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Attribute;
+import org.objectweb.asm.ByteVector;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.ClassNode;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AttributeUtilsTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  @Test
+  void testReadContentOfRawAttribute() {
+    // The raw bytes may contain unresolved constant pool indices
+    assertThat(AttributeUtils.readContent(new RawAttribute("A", new byte[]{1, 2, 3})))
+            .isEmpty();
+  }
+
+  @Test
+  void testReadContentOfUnknownAttributeIsIndependentOfConstantPool() {
+    Attribute firstUnknownAttribute = readUnknownAttribute(new String[0]);
+    Attribute secondUnknownAttribute = readUnknownAttribute(new String[]{"first", "second"});
+    assertThat(firstUnknownAttribute.isUnknown())
+            .isTrue();
+
+    assertThat(AttributeUtils.readContent(firstUnknownAttribute))
+            .isEqualTo(AttributeUtils.readContent(secondUnknownAttribute));
+    assertThat(AttributeUtils.contentHash(firstUnknownAttribute))
+            .isEqualTo(AttributeUtils.contentHash(secondUnknownAttribute));
+  }
+
+  @Test
+  void testReadContentOfTextifierSupport() {
+    assertThat(AttributeUtils.readContent(new DummyAttribute("A", "Content")))
+            .isEqualTo("Content".getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void testReadContentWithContentExtractor() {
+    AttributeUtils.registerContentExtractor(ExtractableAttribute.class, attribute -> new byte[]{attribute.value});
+
+    assertThat(AttributeUtils.readContent(new ExtractableAttribute((byte) 7)))
+            .isEqualTo(new byte[]{7});
+  }
+
+  @Test
+  void testContentHash() {
+    assertThat(AttributeUtils.contentHash(new DummyAttribute("A", "1")))
+            .isEqualTo(AttributeUtils.contentHash(new DummyAttribute("A", "1")));
+
+    assertThat(AttributeUtils.contentHash(new DummyAttribute("A", "1")))
+            .isNotEqualTo(AttributeUtils.contentHash(new DummyAttribute("A", "2")));
+
+    assertThat(AttributeUtils.contentHash(new DummyAttribute("A", "1")))
+            .isNotEqualTo(AttributeUtils.contentHash(new DummyAttribute("B", "1")));
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Writes and reads a class with an attribute which references a constant
+   * pool entry, whose index depends on the constants added before.
+   */
+  private static Attribute readUnknownAttribute(String[] precedingConstants) {
+    var classWriter = new ClassWriter(0);
+    classWriter.visit(Opcodes.V1_8, 0, "MyClass", null, "java/lang/Object", null);
+    for (String precedingConstant : precedingConstants) {
+      classWriter.newUTF8(precedingConstant);
+    }
+    classWriter.visitAttribute(new Attribute("A") {
+      @Override
+      protected ByteVector write(ClassWriter classWriter, byte[] code, int codeLength, int maxStack, int maxLocals) {
+        return new ByteVector().putShort(classWriter.newUTF8("value"));
+      }
+    });
+    classWriter.visitEnd();
+
+    var classNode = new ClassNode();
+    new ClassReader(classWriter.toByteArray()).accept(classNode, 0);
+    return classNode.attrs.get(0);
+  }
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  private static class RawAttribute extends Attribute {
+
+    private final byte[] content;
+
+    RawAttribute(String type, byte[] content) {
+      super(type);
+
+      this.content = content;
+    }
+
+    @Override
+    protected ByteVector write(ClassWriter classWriter, byte[] code, int codeLength, int maxStack, int maxLocals) {
+      return new ByteVector().putByteArray(content, 0, content.length);
+    }
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  private static class ExtractableAttribute extends Attribute {
+
+    private final byte value;
+
+    ExtractableAttribute(byte value) {
+      super("Extractable");
+
+      this.value = value;
+    }
+  }
+}
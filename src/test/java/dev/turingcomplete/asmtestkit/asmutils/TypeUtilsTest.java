@@ -0,0 +1,60 @@
+package dev.turingcomplete.asmtestkit.asmutils;
+
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Type;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TypeUtilsTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  @Test
+  void testNameToTypeElseNull() {
+    assertThat(TypeUtils.nameToTypeElseNull("java/lang/String"))
+            .isEqualTo(Type.getType(String.class));
+
+    assertThat(TypeUtils.nameToTypeElseNull("java.lang.String"))
+            .isEqualTo(Type.getType(String.class));
+
+    assertThat(TypeUtils.nameToTypeElseNull(null))
+            .isNull();
+
+    // Interned
+    assertThat(TypeUtils.nameToTypeElseNull("java/lang/String"))
+            .isSameAs(TypeUtils.nameToTypeElseNull("java/lang/String"));
+  }
+
+  @Test
+  void testNamesToTypes() {
+    assertThat(TypeUtils.namesToTypes(Arrays.asList("java/lang/String", null)))
+            .isEqualTo(Arrays.asList(Type.getType(String.class), null));
+
+    assertThat(TypeUtils.namesToTypes(null))
+            .isEqualTo(List.of());
+  }
+
+  @Test
+  void testToClassName() {
+    assertThat(TypeUtils.toClassName(Type.getObjectType("java/lang/String")))
+            .isEqualTo("java.lang.String");
+
+    assertThat(TypeUtils.toClassName(Type.getType(int[][].class)))
+            .isEqualTo("int[][]");
+
+    assertThat(TypeUtils.toClassName(Type.INT_TYPE))
+            .isEqualTo("int");
+
+    // Interned
+    assertThat(TypeUtils.toClassName(Type.getType(String.class)))
+            .isSameAs(TypeUtils.toClassName(Type.getObjectType("java/lang/String")));
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
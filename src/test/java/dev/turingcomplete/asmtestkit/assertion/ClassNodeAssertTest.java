@@ -9,15 +9,21 @@ import dev.turingcomplete.asmtestkit.__helper.VisibleTypeParameterAnnotationA;
 import dev.turingcomplete.asmtestkit.asmutils.AnnotationNodeUtils;
 import dev.turingcomplete.asmtestkit.asmutils.ClassNodeUtils;
 import dev.turingcomplete.asmtestkit.assertion.option.StandardAssertOption;
+import dev.turingcomplete.asmtestkit.fingerprint.AsmFingerprint;
+import dev.turingcomplete.asmtestkit.fingerprint.AsmFingerprints;
+import dev.turingcomplete.asmtestkit.representation.ClassNodeRepresentation;
+import dev.turingcomplete.asmtestkit.snapshot.SnapshotStore;
 import org.assertj.core.api.Assertions;
 import org.intellij.lang.annotations.Language;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.tree.ClassNode;
 import org.objectweb.asm.tree.InnerClassNode;
 import org.objectweb.asm.tree.TypeAnnotationNode;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 
 import static dev.turingcomplete.asmtestkit.asmutils.ClassNameUtils.toInternalName;
@@ -27,6 +33,10 @@ import static dev.turingcomplete.asmtestkit.compile.CompilationEnvironment.creat
 public class ClassNodeAssertTest {
   // -- Class Fields ------------------------------------------------------------------------------------------------ //
   // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  @TempDir
+  Path tempDir;
+
   // -- Initialization ---------------------------------------------------------------------------------------------- //
   // -- Exposed Methods --------------------------------------------------------------------------------------------- //
 
@@ -61,6 +71,19 @@ public class ClassNodeAssertTest {
             .isEqualTo(secondClass);
   }
 
+  @Test
+  void testIsEqualToUsesComparator() {
+    var firstClassNode = new ClassNode();
+    firstClassNode.name = "A";
+
+    // Equal fingerprints must not skip a comparator which considers the
+    // classes as different
+    Assertions.assertThatThrownBy(() -> assertThat(firstClassNode)
+                      .usingComparator((first, second) -> 1)
+                      .isEqualTo(ClassNodeUtils.copy(firstClassNode)))
+              .isInstanceOf(AssertionError.class);
+  }
+
   @Test
   void testIsEqualToVersion() {
     var firstClassNode = new ClassNode();
@@ -835,6 +858,78 @@ public class ClassNodeAssertTest {
                           "when comparing values using MethodNodeComparator");
   }
 
+  @Test
+  void testMatchesSnapshot() throws IOException {
+    var classNode = new ClassNode();
+    classNode.visit(Opcodes.V11, Opcodes.ACC_PUBLIC, "MyClass", null, "java/lang/Object", null);
+    classNode.visitField(Opcodes.ACC_PRIVATE, "field", "I", null, null);
+
+    SnapshotStore snapshotStore = SnapshotStore.create(tempDir);
+
+    // Missing snapshot
+    Assertions.assertThatThrownBy(() -> assertThat(classNode)
+                      .useSnapshotStore(snapshotStore)
+                      .matchesSnapshot("foo/MyClass"))
+              .isInstanceOf(AssertionError.class)
+              .hasMessageContaining("Expecting snapshot 'foo/MyClass' to exist")
+              .hasMessageContaining(SnapshotStore.UPDATE_MODE_PROPERTY);
+
+    // Create snapshot
+    assertThat(classNode)
+            .useSnapshotStore(SnapshotStore.create(tempDir).useUpdateMode())
+            .matchesSnapshot("foo/MyClass");
+    Assertions.assertThat(snapshotStore.readText("foo/MyClass"))
+              .isEqualTo(SnapshotStore.normalizeLineBreaks(ClassNodeRepresentation.INSTANCE.toStringOf(classNode)));
+
+    assertThat(ClassNodeUtils.copy(classNode))
+            .useSnapshotStore(snapshotStore)
+            .matchesSnapshot("foo/MyClass");
+
+    // Changed class
+    ClassNode changedClassNode = ClassNodeUtils.copy(classNode);
+    changedClassNode.fields.get(0).access = Opcodes.ACC_PUBLIC;
+    Assertions.assertThatThrownBy(() -> assertThat(changedClassNode)
+                      .useSnapshotStore(snapshotStore)
+                      .matchesSnapshot("foo/MyClass"))
+              .isInstanceOf(AssertionError.class)
+              .hasMessageContaining("Matches snapshot 'foo/MyClass'");
+
+    // Update snapshot
+    assertThat(changedClassNode)
+            .useSnapshotStore(SnapshotStore.create(tempDir).useUpdateMode())
+            .matchesSnapshot("foo/MyClass");
+    assertThat(changedClassNode)
+            .useSnapshotStore(snapshotStore)
+            .matchesSnapshot("foo/MyClass");
+  }
+
+  @Test
+  void testMatchesSnapshotWithStaleFingerprint() throws IOException {
+    var classNode = new ClassNode();
+    classNode.visit(Opcodes.V11, Opcodes.ACC_PUBLIC, "MyClass", null, "java/lang/Object", null);
+
+    SnapshotStore snapshotStore = SnapshotStore.create(tempDir);
+    AsmFingerprint staleFingerprint = AsmFingerprint.create(1, 2);
+    snapshotStore.write("MyClass", staleFingerprint, ClassNodeRepresentation.INSTANCE.toStringOf(classNode));
+
+    Assertions.assertThatThrownBy(() -> assertThat(classNode)
+                      .useSnapshotStore(snapshotStore)
+                      .matchesSnapshot("MyClass"))
+              .isInstanceOf(AssertionError.class)
+              .hasMessageContaining("the fingerprint is stale: " + staleFingerprint.toHexString())
+              .hasMessageContaining(SnapshotStore.UPDATE_MODE_PROPERTY);
+
+    // The update mode rewrites the fingerprint
+    assertThat(classNode)
+            .useSnapshotStore(SnapshotStore.create(tempDir).useUpdateMode())
+            .matchesSnapshot("MyClass");
+    Assertions.assertThat(snapshotStore.readFingerprint("MyClass"))
+              .isEqualTo(AsmFingerprints.of(classNode));
+    assertThat(classNode)
+            .useSnapshotStore(snapshotStore)
+            .matchesSnapshot("MyClass");
+  }
+
   @Test
   void testIsEqualToMethods_ignoreLineNumbers() throws IOException {
     @Language("Java")
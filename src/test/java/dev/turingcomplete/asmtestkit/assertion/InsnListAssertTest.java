@@ -1,13 +1,18 @@
 package dev.turingcomplete.asmtestkit.assertion;
 
 import dev.turingcomplete.asmtestkit.compile.CompilationResult;
+import dev.turingcomplete.asmtestkit.node.PackedInsnList;
 import org.intellij.lang.annotations.Language;
 import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.LdcInsnNode;
 
 import java.io.IOException;
 
 import static dev.turingcomplete.asmtestkit.compile.CompilationEnvironment.create;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class InsnListAssertTest {
@@ -130,6 +135,80 @@ class InsnListAssertTest {
                         "when comparing values using InsnListComparator");
   }
 
+  @Test
+  void testAssertThatInstructions_diff() {
+    var firstInstructions = new InsnList();
+    firstInstructions.add(new InsnNode(Opcodes.NOP));
+    firstInstructions.add(new InsnNode(Opcodes.ICONST_1));
+    firstInstructions.add(new InsnNode(Opcodes.IRETURN));
+
+    var secondInstructions = new InsnList();
+    secondInstructions.add(new InsnNode(Opcodes.NOP));
+    secondInstructions.add(new InsnNode(Opcodes.ICONST_2));
+    secondInstructions.add(new InsnNode(Opcodes.IRETURN));
+
+    AsmAssertions.assertThatInstructions(firstInstructions)
+                 .useDiffFrom(0)
+                 .isEqualTo(firstInstructions);
+
+    assertThatThrownBy(() -> AsmAssertions.assertThatInstructions(firstInstructions)
+                                          .useDiffFrom(0)
+                                          .isEqualTo(secondInstructions))
+            .isInstanceOf(AssertionError.class)
+            .hasMessage(String.format("[Instructions] %n" +
+                                      "Expecting instructions to be equal, but found 1 edit(s) (-expected, +actual):%n" +
+                                      "@@ -0,3 +0,3 @@%n" +
+                                      "    NOP // opcode: 0%n" +
+                                      "-   ICONST_2 // opcode: 5%n" +
+                                      "+   ICONST_1 // opcode: 4%n" +
+                                      "    IRETURN // opcode: 172"));
+  }
+
+  @Test
+  void testAssertThatPackedInsnList() {
+    var firstInstructions = new InsnList();
+    firstInstructions.add(new InsnNode(Opcodes.ICONST_1));
+    firstInstructions.add(new InsnNode(Opcodes.IRETURN));
+
+    var secondInstructions = new InsnList();
+    secondInstructions.add(new InsnNode(Opcodes.ICONST_2));
+    secondInstructions.add(new InsnNode(Opcodes.IRETURN));
+
+    PackedInsnList firstPackedInsnList = PackedInsnList.create(firstInstructions);
+
+    AsmAssertions.assertThat(firstPackedInsnList)
+                 .isEqualTo(firstInstructions);
+
+    AsmAssertions.assertThatInstructions(firstInstructions)
+                 .isEqualTo(firstPackedInsnList);
+
+    assertThatThrownBy(() -> AsmAssertions.assertThatInstructions(secondInstructions)
+                                          .isEqualTo(firstPackedInsnList))
+            .isInstanceOf(AssertionError.class);
+  }
+
+  @Test
+  void testAssertThatPackedInsnListDoesNotModifyConstantTable() {
+    var constantTable = PackedInsnList.ConstantTable.create();
+    var expectedInstructions = new InsnList();
+    expectedInstructions.add(new LdcInsnNode("expected"));
+    PackedInsnList expectedPackedInsnList = PackedInsnList.create(expectedInstructions, constantTable);
+
+    var actualInstructions = new InsnList();
+    actualInstructions.add(new LdcInsnNode("expected"));
+    AsmAssertions.assertThatInstructions(actualInstructions)
+                 .isEqualTo(expectedPackedInsnList);
+
+    var otherInstructions = new InsnList();
+    otherInstructions.add(new LdcInsnNode("other"));
+    assertThatThrownBy(() -> AsmAssertions.assertThatInstructions(otherInstructions)
+                                          .isEqualTo(expectedPackedInsnList))
+            .isInstanceOf(AssertionError.class);
+
+    assertThat(constantTable.size())
+            .isEqualTo(1);
+  }
+
   // -- Private Methods --------------------------------------------------------------------------------------------- //
   // -- Inner Type -------------------------------------------------------------------------------------------------- //
 }
@@ -0,0 +1,262 @@
+package dev.turingcomplete.asmtestkit.assertion;
+
+import dev.turingcomplete.asmtestkit.comparator.MethodNodeComparator;
+import dev.turingcomplete.asmtestkit.representation.InsnListDiff;
+import dev.turingcomplete.asmtestkit.representation.MethodNodeRepresentation;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.MethodNode;
+
+import java.util.function.IntFunction;
+
+import static dev.turingcomplete.asmtestkit.assertion.AsmAssertions.assertThat;
+
+/**
+ * Compares, asserts and renders synthetic state machine methods, whose code
+ * is close to the 64 KB limit of the JVM.
+ *
+ * <p>The tests with the {@value #BENCHMARK_TAG} tag check that the time grows
+ * linearly with the size of the method. Since they measure the wall-clock
+ * time, they are excluded from the {@code test} task and run by the
+ * {@code benchmark} task.
+ */
+class LargeMethodScalabilityTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final String BENCHMARK_TAG = "benchmark";
+
+  /**
+   * The number of states of a method with about 62 KB of code. Each state has
+   * a label, a line number, a try-catch block, a local variable and a case
+   * in two switches.
+   */
+  private static final int LARGE_STATES = 2_600;
+  private static final int SMALL_STATES = LARGE_STATES / 4;
+
+  /**
+   * The four times larger method should take about four times as long if the
+   * time grows linearly, but 16 times as long if it grows quadratically.
+   */
+  private static final double MAX_GROWTH_FACTOR = 8;
+
+  /**
+   * The minimum time of the small method, which compensates the measurement
+   * inaccuracy of very short runs.
+   */
+  private static final long MIN_SMALL_NANOS = 5_000_000;
+
+  private static final int RUNS = 5;
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  @Test
+  void testGeneratedMethodIsNearCodeLimit() {
+    MethodNode methodNode = createStateMachine(LARGE_STATES, Difference.NONE);
+
+    var classNode = new ClassNode();
+    classNode.visit(Opcodes.V11, Opcodes.ACC_PUBLIC, "StateMachine", null, "java/lang/Object", null);
+    classNode.methods.add(methodNode);
+    // Would throw a 'MethodTooLargeException' above 64 KB
+    classNode.accept(new ClassWriter(ClassWriter.COMPUTE_MAXS));
+
+    // The last label marks the end of the code
+    AbstractInsnNode lastLabel = methodNode.instructions.getLast();
+    while (!(lastLabel instanceof LabelNode)) {
+      lastLabel = lastLabel.getPrevious();
+    }
+    Assertions.assertThat(((LabelNode) lastLabel).getLabel().getOffset())
+              .isGreaterThan(60_000);
+  }
+
+  @Test
+  void testCompare() {
+    MethodNode methodNode = createStateMachine(LARGE_STATES, Difference.NONE);
+    Assertions.assertThat(MethodNodeComparator.create().compare(methodNode, createStateMachine(LARGE_STATES, Difference.NONE)))
+              .isEqualTo(0);
+    Assertions.assertThat(MethodNodeComparator.create().ignoreLineNumbers().compare(methodNode, createStateMachine(LARGE_STATES, Difference.NONE)))
+              .isEqualTo(0);
+    for (Difference difference : new Difference[]{Difference.INSTRUCTION, Difference.LOCAL_VARIABLE, Difference.MAX_STACK}) {
+      Assertions.assertThat(MethodNodeComparator.create().compare(methodNode, createStateMachine(LARGE_STATES, difference)))
+                .isNotEqualTo(0);
+    }
+  }
+
+  @Test
+  void testAssert() {
+    assertThat(createStateMachine(LARGE_STATES, Difference.NONE))
+            .isEqualTo(createStateMachine(LARGE_STATES, Difference.NONE));
+    Assertions.assertThatThrownBy(() -> assertThat(createStateMachine(LARGE_STATES, Difference.NONE))
+                      .isEqualTo(createStateMachine(LARGE_STATES, Difference.INSTRUCTION)))
+              .isInstanceOf(AssertionError.class);
+  }
+
+  @Test
+  void testRender() {
+    MethodNode first = createStateMachine(LARGE_STATES, Difference.NONE);
+    MethodNode second = createStateMachine(LARGE_STATES, Difference.INSTRUCTION);
+    Assertions.assertThat(InsnListDiff.create(first.instructions, second.instructions).edits())
+              .hasSize(1);
+  }
+
+  @Test
+  @Tag(BENCHMARK_TAG)
+  void testCompareTimeGrowsLinearly() {
+    // The differences in the last local variable and the max stack force a
+    // comparison of all instructions, try-catch blocks and local variables
+    assertLinearTime("Compare with different local variable", states -> {
+      MethodNode first = createStateMachine(states, Difference.NONE);
+      MethodNode second = createStateMachine(states, Difference.LOCAL_VARIABLE);
+      return () -> MethodNodeComparator.create().compare(first, second);
+    });
+    assertLinearTime("Compare with different max stack", states -> {
+      MethodNode first = createStateMachine(states, Difference.NONE);
+      MethodNode second = createStateMachine(states, Difference.MAX_STACK);
+      return () -> MethodNodeComparator.create().compare(first, second);
+    });
+    assertLinearTime("Compare ignoring line numbers", states -> {
+      MethodNode first = createStateMachine(states, Difference.NONE);
+      MethodNode second = createStateMachine(states, Difference.INSTRUCTION);
+      return () -> MethodNodeComparator.create().ignoreLineNumbers().compare(first, second);
+    });
+  }
+
+  @Test
+  @Tag(BENCHMARK_TAG)
+  void testAssertTimeGrowsLinearly() {
+    assertLinearTime("Successful assertion", states -> {
+      MethodNode actual = createStateMachine(states, Difference.NONE);
+      MethodNode expected = createStateMachine(states, Difference.NONE);
+      return () -> assertThat(actual).isEqualTo(expected);
+    });
+    assertLinearTime("Failing assertion", states -> {
+      MethodNode actual = createStateMachine(states, Difference.NONE);
+      MethodNode expected = createStateMachine(states, Difference.INSTRUCTION);
+      return () -> {
+        try {
+          assertThat(actual).isEqualTo(expected);
+        }
+        catch (AssertionError ignored) {
+          // Expected
+        }
+      };
+    });
+  }
+
+  @Test
+  @Tag(BENCHMARK_TAG)
+  void testRenderTimeGrowsLinearly() {
+    assertLinearTime("Representation", states -> {
+      MethodNode methodNode = createStateMachine(states, Difference.NONE);
+      return () -> MethodNodeRepresentation.create().toStringOf(methodNode);
+    });
+    assertLinearTime("Instructions diff", states -> {
+      MethodNode expected = createStateMachine(states, Difference.NONE);
+      MethodNode actual = createStateMachine(states, Difference.INSTRUCTION);
+      return () -> InsnListDiff.create(expected.instructions, actual.instructions).toString();
+    });
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  /**
+   * Creates a state machine, which jumps via a {@code TABLESWITCH} to the
+   * code of each state and maps keys via a {@code LOOKUPSWITCH} to the states.
+   * The given {@link Difference} gets applied to the last state or the max
+   * stack.
+   */
+  private static MethodNode createStateMachine(int states, Difference difference) {
+    var methodNode = new MethodNode(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, "run", "(I)I", null, null);
+
+    var stateLabels = new Label[states];
+    var lookupSwitchLabels = new Label[states];
+    var lookupSwitchKeys = new int[states];
+    for (int i = 0; i < states; i++) {
+      stateLabels[i] = new Label();
+      lookupSwitchKeys[i] = i * 7;
+    }
+    for (int i = 0; i < states; i++) {
+      lookupSwitchLabels[i] = stateLabels[(i * 31) % states];
+    }
+    var lookupLabel = new Label();
+    var handlerLabel = new Label();
+    var endLabel = new Label();
+
+    methodNode.visitCode();
+    methodNode.visitVarInsn(Opcodes.ILOAD, 0);
+    methodNode.visitTableSwitchInsn(0, states - 1, lookupLabel, stateLabels);
+    for (int i = 0; i < states; i++) {
+      boolean isLast = i == states - 1;
+      methodNode.visitLabel(stateLabels[i]);
+      methodNode.visitLineNumber(i + 1, stateLabels[i]);
+
+      var tryStartLabel = new Label();
+      var tryEndLabel = new Label();
+      methodNode.visitTryCatchBlock(tryStartLabel, tryEndLabel, handlerLabel, i % 2 == 0 ? "java/lang/RuntimeException" : null);
+      methodNode.visitLabel(tryStartLabel);
+      methodNode.visitIincInsn(0, isLast && difference == Difference.INSTRUCTION ? 2 : 1);
+      methodNode.visitLdcInsn("state" + i);
+      methodNode.visitMethodInsn(Opcodes.INVOKESTATIC, "Log", "log", "(Ljava/lang/String;)V", false);
+      methodNode.visitLabel(tryEndLabel);
+      methodNode.visitLocalVariable(isLast && difference == Difference.LOCAL_VARIABLE ? "last" : "state" + i, "I", null, tryStartLabel, tryEndLabel, 1);
+      methodNode.visitJumpInsn(Opcodes.GOTO, endLabel);
+    }
+    methodNode.visitLabel(lookupLabel);
+    methodNode.visitVarInsn(Opcodes.ILOAD, 0);
+    methodNode.visitLookupSwitchInsn(endLabel, lookupSwitchKeys, lookupSwitchLabels);
+    methodNode.visitLabel(handlerLabel);
+    methodNode.visitInsn(Opcodes.POP);
+    methodNode.visitLabel(endLabel);
+    methodNode.visitVarInsn(Opcodes.ILOAD, 0);
+    methodNode.visitInsn(Opcodes.IRETURN);
+    methodNode.visitMaxs(difference == Difference.MAX_STACK ? 3 : 2, 2);
+    methodNode.visitEnd();
+
+    return methodNode;
+  }
+
+  /**
+   * Measures the given operation for a small and a four times larger method
+   * and fails if the time grows clearly faster than linearly.
+   */
+  private static void assertLinearTime(String operationName, IntFunction<Runnable> operationFactory) {
+    Runnable smallOperation = operationFactory.apply(SMALL_STATES);
+    Runnable largeOperation = operationFactory.apply(LARGE_STATES);
+    // Warm-up, so that the small operation doesn't run in the interpreter
+    largeOperation.run();
+
+    long smallNanos = Math.max(measureNanos(smallOperation), MIN_SMALL_NANOS);
+    long largeNanos = measureNanos(largeOperation);
+
+    Assertions.assertThat((double) largeNanos / smallNanos)
+              .as("%s took %d ms for %d states, but %d ms for %d states", operationName,
+                  smallNanos / 1_000_000, SMALL_STATES, largeNanos / 1_000_000, LARGE_STATES)
+              .isLessThanOrEqualTo(MAX_GROWTH_FACTOR);
+  }
+
+  /**
+   * Gets the fastest of several runs, which excludes the garbage collection
+   * as far as possible.
+   */
+  private static long measureNanos(Runnable operation) {
+    long fastestNanos = Long.MAX_VALUE;
+    for (int i = 0; i < RUNS; i++) {
+      long start = System.nanoTime();
+      operation.run();
+      fastestNanos = Math.min(fastestNanos, System.nanoTime() - start);
+    }
+    return fastestNanos;
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  private enum Difference {NONE, INSTRUCTION, LOCAL_VARIABLE, MAX_STACK}
+}
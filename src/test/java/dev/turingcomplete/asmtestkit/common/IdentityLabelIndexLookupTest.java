@@ -0,0 +1,137 @@
+package dev.turingcomplete.asmtestkit.common;
+
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Label;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static dev.turingcomplete.asmtestkit.common.LabelIndexLookup.UNKNOWN_INDEX;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdentityLabelIndexLookupTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  @Test
+  void testFind() {
+    Label label0 = new Label();
+    Label label1 = new Label();
+    IdentityLabelIndexLookup labelIndexLookup = IdentityLabelIndexLookup.create(Map.of(label0, 0, label1, 1));
+
+    assertThat(labelIndexLookup.findIndex(label0))
+            .isEqualTo(0);
+    assertThat(labelIndexLookup.find(label1))
+            .isEqualTo(Optional.of(1));
+
+    assertThat(labelIndexLookup.findIndex(new Label()))
+            .isEqualTo(UNKNOWN_INDEX);
+    assertThat(labelIndexLookup.find(new Label()))
+            .isEqualTo(Optional.empty());
+    assertThat(labelIndexLookup.findIndex(null))
+            .isEqualTo(UNKNOWN_INDEX);
+  }
+
+  @Test
+  void testManyLabels() {
+    List<Label> labels = new ArrayList<>();
+    IdentityLabelIndexLookup labelIndexLookup = IdentityLabelIndexLookup.create();
+    for (int i = 0; i < 10_000; i++) {
+      Label label = new Label();
+      labels.add(label);
+      labelIndexLookup.putIfUnknown(label, i);
+    }
+
+    for (int i = 0; i < labels.size(); i++) {
+      assertThat(labelIndexLookup.findIndex(labels.get(i)))
+              .isEqualTo(i);
+    }
+    assertThat(labelIndexLookup.getAllLabelIndices().size())
+            .isEqualTo(10_000);
+  }
+
+  @Test
+  void testPutIfUnknown() {
+    Label label = new Label();
+    IdentityLabelIndexLookup labelIndexLookup = IdentityLabelIndexLookup.create();
+
+    labelIndexLookup.putIfUnknown(label, 1);
+    labelIndexLookup.putIfUnknown(label, 2);
+    assertThat(labelIndexLookup.findIndex(label))
+            .isEqualTo(1);
+
+    labelIndexLookup.putAll(Map.of(label, 3));
+    assertThat(labelIndexLookup.findIndex(label))
+            .isEqualTo(3);
+
+    // Known by a child
+    Label childLabel = new Label();
+    labelIndexLookup.addChild(IdentityLabelIndexLookup.create(Map.of(childLabel, 4)));
+    labelIndexLookup.putIfUnknown(childLabel, 5);
+    assertThat(labelIndexLookup.findIndex(childLabel))
+            .isEqualTo(4);
+    assertThat(labelIndexLookup.getAllLabelIndices().containsKey(childLabel))
+            .isFalse();
+  }
+
+  @Test
+  void testChildren() {
+    Label label = new Label();
+    IdentityLabelIndexLookup child = IdentityLabelIndexLookup.create();
+    IdentityLabelIndexLookup labelIndexLookup = IdentityLabelIndexLookup.create();
+    labelIndexLookup.addChild(child);
+
+    // A child is referenced, so later changes are visible
+    child.putIfUnknown(label, 1);
+    assertThat(labelIndexLookup.findIndex(label))
+            .isEqualTo(1);
+
+    labelIndexLookup.clearChildren();
+    assertThat(labelIndexLookup.findIndex(label))
+            .isEqualTo(UNKNOWN_INDEX);
+  }
+
+  @Test
+  void testMergeWithFlattensChildren() {
+    Label label0 = new Label();
+    Label label1 = new Label();
+    Label label2 = new Label();
+
+    IdentityLabelIndexLookup grandchild = IdentityLabelIndexLookup.create(Map.of(label2, 2, label0, 20));
+    IdentityLabelIndexLookup child = IdentityLabelIndexLookup.create(Map.of(label1, 1));
+    child.addChild(grandchild);
+    DefaultLabelIndexLookup other = DefaultLabelIndexLookup.create(Map.of(label0, 0));
+    other.addChild(child);
+
+    IdentityLabelIndexLookup labelIndexLookup = IdentityLabelIndexLookup.create(Map.of(label0, 10));
+    labelIndexLookup.mergeWith(other);
+
+    assertThat(labelIndexLookup.getChildren())
+            .isEmpty();
+    assertThat(labelIndexLookup.findIndex(label0))
+            .isEqualTo(0);
+    assertThat(labelIndexLookup.findIndex(label1))
+            .isEqualTo(1);
+    assertThat(labelIndexLookup.findIndex(label2))
+            .isEqualTo(2);
+  }
+
+  @Test
+  void testClearLabelIndices() {
+    Label label = new Label();
+    IdentityLabelIndexLookup labelIndexLookup = IdentityLabelIndexLookup.create(Map.of(label, 1));
+
+    labelIndexLookup.clearLabelIndices();
+    assertThat(labelIndexLookup.findIndex(label))
+            .isEqualTo(UNKNOWN_INDEX);
+    assertThat(labelIndexLookup.getAllLabelIndices())
+            .isEmpty();
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
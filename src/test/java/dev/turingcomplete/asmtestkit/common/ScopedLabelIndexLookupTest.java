@@ -0,0 +1,164 @@
+package dev.turingcomplete.asmtestkit.common;
+
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Label;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static dev.turingcomplete.asmtestkit.common.LabelIndexLookup.UNKNOWN_INDEX;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScopedLabelIndexLookupTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  @Test
+  void testParentFallback() {
+    Label classLabel = new Label();
+    Label methodLabel = new Label();
+
+    ScopedLabelIndexLookup classScope = ScopedLabelIndexLookup.create();
+    classScope.putAll(Map.of(classLabel, 1));
+
+    ScopedLabelIndexLookup methodScope = ScopedLabelIndexLookup.create(classScope);
+    methodScope.putAll(Map.of(methodLabel, 2));
+
+    assertThat(methodScope.findIndex(classLabel))
+            .isEqualTo(1);
+    assertThat(methodScope.findIndex(methodLabel))
+            .isEqualTo(2);
+
+    // Nothing gets propagated to the parent
+    assertThat(classScope.findIndex(methodLabel))
+            .isEqualTo(UNKNOWN_INDEX);
+    assertThat(methodScope.getAllLabelIndices().size())
+            .isEqualTo(1);
+  }
+
+  @Test
+  void testOwnMappingsShadowParent() {
+    Label label = new Label();
+
+    ScopedLabelIndexLookup parent = ScopedLabelIndexLookup.create();
+    parent.putAll(Map.of(label, 1));
+
+    ScopedLabelIndexLookup scope = ScopedLabelIndexLookup.create(parent);
+    scope.putIfUnknown(label, 2);
+    assertThat(scope.findIndex(label))
+            .isEqualTo(1);
+
+    scope.putAll(Map.of(label, 3));
+    assertThat(scope.findIndex(label))
+            .isEqualTo(3);
+    assertThat(parent.findIndex(label))
+            .isEqualTo(1);
+  }
+
+  @Test
+  void testUseParent() {
+    Label label = new Label();
+    IdentityLabelIndexLookup parent = IdentityLabelIndexLookup.create(Map.of(label, 1));
+
+    ScopedLabelIndexLookup scope = ScopedLabelIndexLookup.create();
+    scope.useParent(parent);
+
+    assertThat(scope.parent())
+            .isSameAs(parent);
+    assertThat(scope.findIndex(label))
+            .isEqualTo(1);
+    assertThat(scope.isWithin(parent))
+            .isTrue();
+    assertThat(ScopedLabelIndexLookup.create(scope).isWithin(scope))
+            .isTrue();
+    assertThat(scope.isWithin(ScopedLabelIndexLookup.create(scope)))
+            .isFalse();
+  }
+
+  @Test
+  void testUseParentRejectsCycles() {
+    ScopedLabelIndexLookup scope = ScopedLabelIndexLookup.create();
+    ScopedLabelIndexLookup nestedScope = ScopedLabelIndexLookup.create(scope);
+
+    assertThatThrownBy(() -> scope.useParent(nestedScope))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("A scope can't be its own parent.");
+  }
+
+  @Test
+  void testVersion() {
+    IdentityLabelIndexLookup parent = IdentityLabelIndexLookup.create();
+    ScopedLabelIndexLookup scope = ScopedLabelIndexLookup.create(parent);
+
+    long initialVersion = scope.version();
+    assertThat(scope.version())
+            .isEqualTo(initialVersion);
+
+    // A modification of the parent changes the version of the scope
+    parent.putAll(Map.of(new Label(), 1));
+    long parentModifiedVersion = scope.version();
+    assertThat(parentModifiedVersion)
+            .isGreaterThan(initialVersion);
+
+    scope.putIfUnknown(new Label(), 2);
+    long scopeModifiedVersion = scope.version();
+    assertThat(scopeModifiedVersion)
+            .isGreaterThan(parentModifiedVersion);
+
+    // Discarding the own mappings changes the version as well
+    scope.clearLabelIndices();
+    assertThat(scope.version())
+            .isGreaterThan(scopeModifiedVersion);
+
+    // A lookup which doesn't track its modifications makes the scope unversioned
+    scope.useParent(new LabelIndexLookup() {
+      @Override
+      public Optional<Integer> find(Label label) {
+        return Optional.empty();
+      }
+
+      @Override
+      public void putAll(Map<Label, Integer> labelIndices) {
+      }
+
+      @Override
+      public void putIfUnknown(Label label, Integer index) {
+      }
+
+      @Override
+      public void clearLabelIndices() {
+      }
+
+      @Override
+      public Map<Label, Integer> getAllLabelIndices() {
+        return Map.of();
+      }
+
+      @Override
+      public void addChild(LabelIndexLookup childLabelIndexLookup) {
+      }
+
+      @Override
+      public List<LabelIndexLookup> getChildren() {
+        return List.of();
+      }
+
+      @Override
+      public void clearChildren() {
+      }
+
+      @Override
+      public void mergeWith(LabelIndexLookup labelIndexLookup) {
+      }
+    });
+    assertThat(scope.version())
+            .isEqualTo(LabelIndexLookup.UNVERSIONED);
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -0,0 +1,152 @@
+package dev.turingcomplete.asmtestkit.common._internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClassRegistryTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  @Test
+  void testFind() {
+    ClassRegistry<String> registry = ClassRegistry.create();
+    registry.register(CharSequence.class, () -> "CharSequence");
+    registry.register(Number.class, () -> "Number");
+
+    assertThat(registry.findExact(Number.class))
+            .isEqualTo("Number");
+    assertThat(registry.find(Number.class))
+            .isEqualTo("Number");
+
+    assertThat(registry.findExact(Integer.class))
+            .isNull();
+    assertThat(registry.find(Integer.class))
+            .isEqualTo("Number");
+
+    assertThat(registry.find(String.class))
+            .isEqualTo("CharSequence");
+
+    assertThat(registry.find(Object.class))
+            .isNull();
+  }
+
+  @Test
+  void testFindMostSpecificType() {
+    // The registration order must not matter
+    ClassRegistry<String> first = ClassRegistry.create();
+    first.register(Object.class, () -> "Object");
+    first.register(Number.class, () -> "Number");
+    first.register(Comparable.class, () -> "Comparable");
+
+    ClassRegistry<String> second = ClassRegistry.create();
+    second.register(Comparable.class, () -> "Comparable");
+    second.register(Number.class, () -> "Number");
+    second.register(Object.class, () -> "Object");
+
+    for (ClassRegistry<String> registry : List.of(first, second)) {
+      // 'Comparable' is a direct interface of 'Integer', 'Number' is the direct superclass
+      assertThat(registry.find(Integer.class))
+              .isIn("Number", "Comparable");
+      assertThat(registry.find(StringBuilder.class))
+              .isEqualTo("Comparable");
+      assertThat(registry.find(Thread.class))
+              .isEqualTo("Object");
+      assertThat(registry.find(Runnable.class))
+              .isEqualTo("Object");
+    }
+
+    // Equal distance, so the first registration wins
+    assertThat(first.find(Integer.class))
+            .isEqualTo("Number");
+    assertThat(second.find(Integer.class))
+            .isEqualTo("Comparable");
+  }
+
+  @Test
+  void testSubtypeWinsOverCloserSupertype() {
+    ClassRegistry<String> registry = ClassRegistry.create();
+    registry.register(CharSequence.class, () -> "CharSequence");
+    registry.register(Object.class, () -> "Object");
+
+    // 'CharSequence' is a subtype of 'Object', although 'Object' is the direct superclass
+    assertThat(registry.find(String.class))
+            .isEqualTo("CharSequence");
+  }
+
+  @Test
+  void testRegisterPublishesNewSnapshot() {
+    ClassRegistry<String> registry = ClassRegistry.create();
+    registry.register(Number.class, () -> "Number");
+
+    // Caches the resolution of 'Integer'
+    assertThat(registry.find(Integer.class))
+            .isEqualTo("Number");
+
+    registry.register(Integer.class, () -> "Integer");
+    assertThat(registry.find(Integer.class))
+            .isEqualTo("Integer");
+
+    registry.register(Number.class, () -> "Number2");
+    assertThat(registry.find(Long.class))
+            .isEqualTo("Number2");
+  }
+
+  @Test
+  void testValueSupplierIsCalledOnce() {
+    var calls = new AtomicInteger();
+    ClassRegistry<String> registry = ClassRegistry.create();
+    registry.register(Number.class, () -> "Number" + calls.incrementAndGet());
+
+    assertThat(registry.find(Integer.class))
+            .isEqualTo("Number1");
+    assertThat(registry.find(Long.class))
+            .isEqualTo("Number1");
+    assertThat(calls.get())
+            .isEqualTo(1);
+  }
+
+  @Test
+  void testConcurrentRegistrationAndLookup() throws Exception {
+    ClassRegistry<String> registry = ClassRegistry.create();
+    registry.register(Number.class, () -> "Number");
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        int thread = i;
+        results.add(executor.submit(() -> {
+          boolean allFound = true;
+          for (int j = 0; j < 1000; j++) {
+            if (thread == 0) {
+              registry.register(CharSequence.class, () -> "CharSequence");
+            }
+            allFound &= "Number".equals(registry.find(Integer.class));
+          }
+          return allFound;
+        }));
+      }
+
+      for (Future<Boolean> result : results) {
+        assertThat(result.get())
+                .isTrue();
+      }
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -0,0 +1,49 @@
+package dev.turingcomplete.asmtestkit.common._internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InternCacheTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  @Test
+  void testGet() {
+    var calls = new AtomicInteger();
+    InternCache<String, String> internCache = InternCache.create(key -> key + calls.incrementAndGet(), 10);
+
+    assertThat(internCache.get("a"))
+            .isEqualTo("a1");
+    assertThat(internCache.get("a"))
+            .isEqualTo("a1");
+    assertThat(internCache.get("b"))
+            .isEqualTo("b2");
+  }
+
+  @Test
+  void testBoundedSize() {
+    InternCache<Integer, String> internCache = InternCache.create(String::valueOf, 3);
+
+    for (int i = 0; i < 10; i++) {
+      internCache.get(i);
+
+      assertThat(internCache.size())
+              .isLessThanOrEqualTo(3);
+    }
+  }
+
+  @Test
+  void testInvalidMaxSize() {
+    assertThatThrownBy(() -> InternCache.create(String::valueOf, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
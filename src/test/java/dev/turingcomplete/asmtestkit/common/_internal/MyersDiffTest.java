@@ -0,0 +1,109 @@
+package dev.turingcomplete.asmtestkit.common._internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MyersDiffTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  @Test
+  void testDiff() {
+    var deleted = new BitSet();
+    var inserted = new BitSet();
+    MyersDiff.diff(new int[]{1, 2, 3, 4, 5}, new int[]{1, 3, 4, 6, 5}, deleted, inserted);
+
+    assertThat(deleted)
+            .isEqualTo(BitSet.valueOf(new long[]{0b10}));
+    assertThat(inserted)
+            .isEqualTo(BitSet.valueOf(new long[]{0b1000}));
+  }
+
+  @Test
+  void testDiffEmpty() {
+    var deleted = new BitSet();
+    var inserted = new BitSet();
+    MyersDiff.diff(new int[0], new int[]{1, 2}, deleted, inserted);
+
+    assertThat(deleted.cardinality())
+            .isEqualTo(0);
+    assertThat(inserted.cardinality())
+            .isEqualTo(2);
+  }
+
+  @Test
+  void testDiffWithoutCommonSymbols() {
+    var deleted = new BitSet();
+    var inserted = new BitSet();
+    MyersDiff.diff(new int[]{1, 2}, new int[]{3}, deleted, inserted);
+
+    assertThat(deleted.cardinality())
+            .isEqualTo(2);
+    assertThat(inserted.cardinality())
+            .isEqualTo(1);
+  }
+
+  @Test
+  void testDiffIsShortestEditScript() {
+    var random = new Random(42);
+    for (int run = 0; run < 500; run++) {
+      int[] first = randomSymbols(random);
+      int[] second = randomSymbols(random);
+
+      var deleted = new BitSet();
+      var inserted = new BitSet();
+      MyersDiff.diff(first, second, deleted, inserted);
+
+      // The remaining symbols must be equal
+      int[] firstRemaining = remaining(first, deleted);
+      int[] secondRemaining = remaining(second, inserted);
+      assertThat(firstRemaining)
+              .isEqualTo(secondRemaining);
+
+      // ... and must be a longest common subsequence
+      assertThat(firstRemaining.length)
+              .isEqualTo(longestCommonSubsequenceLength(first, second));
+    }
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private static int[] randomSymbols(Random random) {
+    var symbols = new int[random.nextInt(40)];
+    for (int i = 0; i < symbols.length; i++) {
+      symbols[i] = random.nextInt(4);
+    }
+    return symbols;
+  }
+
+  private static int[] remaining(int[] symbols, BitSet removed) {
+    var result = new int[symbols.length - removed.cardinality()];
+    int j = 0;
+    for (int i = 0; i < symbols.length; i++) {
+      if (!removed.get(i)) {
+        result[j++] = symbols[i];
+      }
+    }
+    return result;
+  }
+
+  private static int longestCommonSubsequenceLength(int[] first, int[] second) {
+    var lengths = new int[first.length + 1][second.length + 1];
+    for (int i = 1; i <= first.length; i++) {
+      for (int j = 1; j <= second.length; j++) {
+        lengths[i][j] = first[i - 1] == second[j - 1]
+                ? lengths[i - 1][j - 1] + 1
+                : Math.max(lengths[i - 1][j], lengths[i][j - 1]);
+      }
+    }
+    return lengths[first.length][second.length];
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -3,7 +3,10 @@ package dev.turingcomplete.asmtestkit.comparator;
 import dev.turingcomplete.asmtestkit.__helper.DummyAttribute;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static dev.turingcomplete.asmtestkit.comparator.AttributeComparator.INSTANCE;
+import static dev.turingcomplete.asmtestkit.comparator.AttributeComparator.ITERABLE_INSTANCE;
 import static org.assertj.core.api.Assertions.assertThat;
 
 class AttributeComparatorTest {
@@ -36,6 +39,21 @@ class AttributeComparatorTest {
             .isGreaterThanOrEqualTo(1);
   }
 
+  @Test
+  void testCompareIterable() {
+    assertThat(ITERABLE_INSTANCE.compare(List.of(new DummyAttribute("A", "1"), new DummyAttribute("B", "2")),
+                                         List.of(new DummyAttribute("B", "2"), new DummyAttribute("A", "1"))))
+            .isEqualTo(0);
+
+    assertThat(ITERABLE_INSTANCE.compare(List.of(new DummyAttribute("A", "1"), new DummyAttribute("B", "2")),
+                                         List.of(new DummyAttribute("B", "3"), new DummyAttribute("A", "1"))))
+            .isLessThanOrEqualTo(-1);
+
+    assertThat(ITERABLE_INSTANCE.compare(List.of(new DummyAttribute("A", "1")),
+                                         List.of(new DummyAttribute("A", "1"), new DummyAttribute("A", "1"))))
+            .isLessThanOrEqualTo(-1);
+  }
+
   // -- Private Methods --------------------------------------------------------------------------------------------- //
   // -- Inner Type -------------------------------------------------------------------------------------------------- //
 }
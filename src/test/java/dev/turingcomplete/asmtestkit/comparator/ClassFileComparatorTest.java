@@ -0,0 +1,196 @@
+package dev.turingcomplete.asmtestkit.comparator;
+
+import org.intellij.lang.annotations.Language;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Attribute;
+import org.objectweb.asm.ByteVector;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.ClassNode;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static dev.turingcomplete.asmtestkit.comparator.ClassFileComparator.INSTANCE;
+import static dev.turingcomplete.asmtestkit.comparator.ClassFileComparator.INSTANCE_IGNORE_LINE_NUMBERS;
+import static dev.turingcomplete.asmtestkit.compile.CompilationEnvironment.create;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClassFileComparatorTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  @Language("Java")
+  private static final String MY_CLASS = "class MyClass {" +
+                                         "  String myField = \"foo\";" +
+                                         "  void myMethod() { System.out.println(222); } " +
+                                         "}";
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  @Test
+  void testCompareEqualBytes() throws IOException {
+    byte[] classFile = toClassFile(readClassNode(MY_CLASS));
+
+    assertThat(INSTANCE.compare(classFile, classFile.clone()))
+            .isEqualTo(0);
+  }
+
+  @Test
+  void testCompareReorderedConstantPool() throws IOException {
+    ClassNode classNode = readClassNode(MY_CLASS);
+
+    byte[] first = toClassFile(classNode);
+
+    // Adds used constants in a different order before the class gets written
+    var classWriter = new ClassWriter(0);
+    classWriter.newUTF8("myMethod");
+    classWriter.newConst("foo");
+    classWriter.newField("java/lang/System", "out", "Ljava/io/PrintStream;");
+    classWriter.newClass("MyClass");
+    classNode.accept(classWriter);
+    byte[] second = classWriter.toByteArray();
+
+    assertThat(first)
+            .isNotEqualTo(second);
+
+    assertThat(INSTANCE.normalize(first))
+            .isEqualTo(INSTANCE.normalize(second));
+
+    assertThat(INSTANCE.compare(first, second))
+            .isEqualTo(0);
+  }
+
+  @Test
+  void testCompareUnknownAttributes() {
+    // The raw contents are equal, but refer to different constants
+    byte[] first = createClassFileWithUnknownAttribute("foo", "bar");
+    byte[] second = createClassFileWithUnknownAttribute("bar", "foo");
+
+    assertThat(INSTANCE.normalize(first))
+            .isEqualTo(INSTANCE.normalize(second));
+
+    assertThat(INSTANCE.compare(first, second))
+            .isEqualTo(ClassNodeComparator.INSTANCE.compare(readClassNode(first), readClassNode(second)))
+            .isEqualTo(0);
+  }
+
+  @Test
+  void testCompareNotEqual() throws IOException {
+    byte[] first = toClassFile(readClassNode(MY_CLASS));
+    byte[] second = toClassFile(readClassNode(MY_CLASS.replace("222", "333")));
+
+    assertThat(INSTANCE.compare(first, second))
+            .isNotEqualTo(0);
+
+    assertThat(INSTANCE.compare(first, second))
+            .isEqualTo(-INSTANCE.compare(second, first));
+  }
+
+  @Test
+  void testCompareIgnoreLineNumbers() throws IOException {
+    byte[] first = toClassFile(readClassNode(MY_CLASS));
+    byte[] second = toClassFile(readClassNode(MY_CLASS.replace("System.out", "\n\nSystem\n.out")));
+
+    assertThat(INSTANCE.compare(first, second))
+            .isNotEqualTo(0);
+
+    assertThat(INSTANCE_IGNORE_LINE_NUMBERS.compare(first, second))
+            .isEqualTo(0);
+  }
+
+  @Test
+  void testCompareIgnoreSourceFile() throws IOException {
+    ClassNode classNode = readClassNode(MY_CLASS);
+    byte[] first = toClassFile(classNode);
+    classNode.sourceFile = "Other.java";
+    byte[] second = toClassFile(classNode);
+
+    assertThat(INSTANCE.compare(first, second))
+            .isNotEqualTo(0);
+
+    assertThat(INSTANCE.ignoreSourceFile().compare(first, second))
+            .isEqualTo(0);
+  }
+
+  @Test
+  void testCompareByteBuffers() throws IOException {
+    byte[] classFile = toClassFile(readClassNode(MY_CLASS));
+
+    var withOffset = new byte[classFile.length + 3];
+    System.arraycopy(classFile, 0, withOffset, 3, classFile.length);
+    ByteBuffer first = ByteBuffer.wrap(withOffset, 3, classFile.length);
+    ByteBuffer second = ByteBuffer.wrap(toClassFile(readClassNode(MY_CLASS.replace("222", "333"))));
+
+    assertThat(INSTANCE.compare(first, ByteBuffer.wrap(classFile)))
+            .isEqualTo(0);
+
+    assertThat(INSTANCE.compare(first, second))
+            .isNotEqualTo(0);
+
+    assertThat(first.position())
+            .isEqualTo(3);
+  }
+
+  @Test
+  void testConfigurationReturnsDerivedInstances() {
+    assertThat(INSTANCE.ignoreLineNumbers())
+            .isNotSameAs(INSTANCE);
+
+    assertThat(INSTANCE_IGNORE_LINE_NUMBERS.ignoreLineNumbers())
+            .isSameAs(INSTANCE_IGNORE_LINE_NUMBERS);
+
+    // Repeated calls return the cached derived instance
+    assertThat(INSTANCE.ignoreLineNumbers())
+            .isSameAs(INSTANCE_IGNORE_LINE_NUMBERS);
+    ClassFileComparator ignoreSourceFileComparator = INSTANCE.ignoreSourceFile();
+    assertThat(ignoreSourceFileComparator)
+            .isNotSameAs(INSTANCE);
+    assertThat(INSTANCE.ignoreSourceFile())
+            .isSameAs(ignoreSourceFileComparator);
+    assertThat(ignoreSourceFileComparator.ignoreSourceFile())
+            .isSameAs(ignoreSourceFileComparator);
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private static ClassNode readClassNode(String source) throws IOException {
+    return create().addJavaInputSource(source).compile().readClassNode("MyClass");
+  }
+
+  private static byte[] toClassFile(ClassNode classNode) {
+    var classWriter = new ClassWriter(0);
+    classNode.accept(classWriter);
+    return classWriter.toByteArray();
+  }
+
+  private static ClassNode readClassNode(byte[] classFile) {
+    var classNode = new ClassNode();
+    new ClassReader(classFile).accept(classNode, 0);
+    return classNode;
+  }
+
+  /**
+   * Creates a class file with an unknown attribute, whose content is the
+   * index of the first given constant.
+   */
+  private static byte[] createClassFileWithUnknownAttribute(String... constants) {
+    var classWriter = new ClassWriter(0);
+    for (String constant : constants) {
+      classWriter.newUTF8(constant);
+    }
+    classWriter.visit(Opcodes.V11, Opcodes.ACC_PUBLIC, "MyClass", null, "java/lang/Object", null);
+    classWriter.visitAttribute(new Attribute("Unknown") {
+      @Override
+      protected ByteVector write(ClassWriter classWriter, byte[] code, int codeLength, int maxStack, int maxLocals) {
+        return new ByteVector().putShort(1);
+      }
+    });
+    classWriter.visitEnd();
+    return classWriter.toByteArray();
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
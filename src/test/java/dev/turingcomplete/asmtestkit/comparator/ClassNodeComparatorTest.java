@@ -4,12 +4,17 @@ import dev.turingcomplete.asmtestkit.__helper.AsmNodeTestUtils;
 import dev.turingcomplete.asmtestkit.__helper.VisibleAnnotationA;
 import org.intellij.lang.annotations.Language;
 import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.tree.ClassNode;
 import org.objectweb.asm.tree.MethodNode;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static dev.turingcomplete.asmtestkit.comparator.ClassNodeComparator.INSTANCE;
+import static dev.turingcomplete.asmtestkit.comparator.ClassNodeComparator.INSTANCE_IGNORE_LINE_NUMBERS;
 import static dev.turingcomplete.asmtestkit.compile.CompilationEnvironment.create;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -130,6 +135,168 @@ class ClassNodeComparatorTest {
             .isNotEqualTo(0);
   }
 
+  @Test
+  void testCompareMethodsInParallel() throws IOException {
+    @Language("Java")
+    String myClass = "class MyClass {" +
+                     "  int myMethod1() { return 1; }" +
+                     "  int myMethod2() { return 2; }" +
+                     "  int myMethod3() { return 3; }" +
+                     "}";
+
+    ClassNode first = create()
+            .addJavaInputSource(myClass)
+            .compile()
+            .readClassNode("MyClass");
+
+    ClassNode second = create()
+            .addJavaInputSource(myClass.replace("return 2;", "return 4;"))
+            .compile()
+            .readClassNode("MyClass");
+
+    ClassNodeComparator parallelComparator = ClassNodeComparator.create().compareMethodsInParallel();
+
+    assertThat(parallelComparator.compare(first, first))
+            .isEqualTo(0);
+
+    assertThat(parallelComparator.compare(first, second))
+            .isNotEqualTo(0);
+
+    assertThat(Integer.signum(parallelComparator.compare(first, second)))
+            .isEqualTo(-Integer.signum(parallelComparator.compare(second, first)));
+
+    assertThat(INSTANCE.compare(first, second))
+            .isNotEqualTo(0);
+  }
+
+  @Test
+  void testCompareMethodsInParallelIgnoreLineNumbers() throws IOException {
+    @Language("Java")
+    String myClass = "class MyClass {" +
+                     "  int myMethod1() { return 1; }" +
+                     "  int myMethod2() { return 2; }" +
+                     "  int myMethod3() { return 3; }" +
+                     "}";
+
+    ClassNode first = create()
+            .addJavaInputSource(myClass)
+            .compile()
+            .readClassNode("MyClass");
+
+    ClassNode firstWithOtherLineNumbers = create()
+            .addJavaInputSource(myClass.replace("{ return", "{\n return"))
+            .compile()
+            .readClassNode("MyClass");
+
+    ClassNode second = create()
+            .addJavaInputSource(myClass.replace("{ return", "{\n return").replace("return 2;", "return 4;"))
+            .compile()
+            .readClassNode("MyClass");
+
+    var tasksCount = new AtomicInteger();
+    Executor countingExecutor = task -> {
+      tasksCount.incrementAndGet();
+      task.run();
+    };
+    ClassNodeComparator parallelComparator = ClassNodeComparator.create().ignoreLineNumbers().compareMethodsInParallel(countingExecutor);
+
+    assertThat(parallelComparator.compare(first, firstWithOtherLineNumbers))
+            .isEqualTo(INSTANCE_IGNORE_LINE_NUMBERS.compare(first, firstWithOtherLineNumbers))
+            .isEqualTo(0);
+
+    tasksCount.set(0);
+    assertThat(parallelComparator.compare(first, second))
+            .isNotEqualTo(0);
+    assertThat(INSTANCE_IGNORE_LINE_NUMBERS.compare(first, second))
+            .isNotEqualTo(0);
+    // Each method (including the constructor) gets compared in its own task
+    assertThat(tasksCount.get())
+            .isEqualTo(4);
+  }
+
+  @Test
+  void testParallelIterableComparator() throws IOException {
+    ClassNode firstClass = create()
+            .addJavaInputSource("class MyClass1 { int myMethod() { return 1; } }")
+            .compile()
+            .readClassNode("MyClass1");
+
+    ClassNode secondClass = create()
+            .addJavaInputSource("class MyClass2 { int myMethod() { return 2; } }")
+            .compile()
+            .readClassNode("MyClass2");
+
+    assertThat(ClassNodeComparator.PARALLEL_ITERABLE_INSTANCE.compare(List.of(firstClass, secondClass), List.of(secondClass, firstClass)))
+            .isEqualTo(0);
+
+    assertThat(ClassNodeComparator.PARALLEL_ITERABLE_INSTANCE.compare(List.of(firstClass, secondClass), List.of(firstClass)))
+            .isGreaterThan(0);
+  }
+
+  @Test
+  void testConfigurationReturnsDerivedInstances() {
+    ClassNodeComparator comparator = ClassNodeComparator.create();
+
+    ClassNodeComparator ignoreLineNumbersComparator = comparator.ignoreLineNumbers();
+    assertThat(ignoreLineNumbersComparator)
+            .isNotSameAs(comparator);
+    assertThat(comparator.ignoreLineNumbers())
+            .isSameAs(ignoreLineNumbersComparator);
+
+    ClassNodeComparator parallelComparator = comparator.compareMethodsInParallel();
+    assertThat(parallelComparator)
+            .isNotSameAs(comparator);
+    assertThat(comparator.compareMethodsInParallel())
+            .isSameAs(parallelComparator);
+    assertThat(parallelComparator.compareMethodsInParallel())
+            .isSameAs(parallelComparator);
+
+    ClassNodeComparator cheapFirstComparator = comparator.compareCheapFirst();
+    assertThat(cheapFirstComparator)
+            .isNotSameAs(comparator);
+    assertThat(comparator.compareCheapFirst())
+            .isSameAs(cheapFirstComparator);
+    assertThat(cheapFirstComparator.compareCheapFirst())
+            .isSameAs(cheapFirstComparator);
+
+    assertThat(INSTANCE.ignoreLineNumbers())
+            .isSameAs(ClassNodeComparator.INSTANCE_IGNORE_LINE_NUMBERS);
+  }
+
+  @Test
+  void testCompareCheapFirst() {
+    // "A" is ordered before "B" by default, but has more methods
+    ClassNode first = createClassNode("A", "a", "b");
+    ClassNode second = createClassNode("B", "a");
+
+    assertThat(INSTANCE.compare(first, second))
+            .isLessThan(0);
+    assertThat(INSTANCE.compareCheap(first, second))
+            .isGreaterThan(0);
+    assertThat(INSTANCE.compareCheapFirst().compare(first, second))
+            .isGreaterThan(0);
+    assertThat(INSTANCE.compareCheapFirst().compare(second, first))
+            .isLessThan(0);
+
+    // Same equality result as the default mode
+    assertThat(INSTANCE.compareCheapFirst().compare(createClassNode("A", "a"), createClassNode("A", "a")))
+            .isEqualTo(0);
+    assertThat(INSTANCE.compareCheap(createClassNode("A", "a"), createClassNode("B", "a")))
+            .isEqualTo(0);
+    assertThat(INSTANCE.compareCheapFirst().compare(createClassNode("A", "a"), createClassNode("B", "a")))
+            .isLessThan(0);
+  }
+
   // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private static ClassNode createClassNode(String name, String... methodNames) {
+    var classNode = new ClassNode();
+    classNode.visit(Opcodes.V11, Opcodes.ACC_PUBLIC, name, null, "java/lang/Object", null);
+    for (String methodName : methodNames) {
+      classNode.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_ABSTRACT, methodName, "()V", null, null);
+    }
+    return classNode;
+  }
+
   // -- Inner Type -------------------------------------------------------------------------------------------------- //
 }
@@ -0,0 +1,145 @@
+package dev.turingcomplete.asmtestkit.comparator;
+
+import dev.turingcomplete.asmtestkit.fingerprint.AsmFingerprint;
+import dev.turingcomplete.asmtestkit.fingerprint.AsmFingerprints;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.tree.AnnotationNode;
+import org.objectweb.asm.tree.MethodNode;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ComparisonContextTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  @Test
+  void testOpenAndClose() {
+    assertThat(ComparisonContext.current())
+            .isNull();
+
+    try (ComparisonContext outer = ComparisonContext.open()) {
+      assertThat(ComparisonContext.current())
+              .isSameAs(outer);
+
+      try (ComparisonContext inner = ComparisonContext.open()) {
+        assertThat(inner)
+                .isSameAs(outer);
+      }
+
+      // Still active after the nested close
+      assertThat(ComparisonContext.current())
+              .isSameAs(outer);
+    }
+
+    assertThat(ComparisonContext.current())
+            .isNull();
+  }
+
+  @Test
+  void testCompareIsMemoizedPerIdentity() {
+    var calls = new AtomicInteger();
+    Object comparator = new Object();
+    var first = new AnnotationNode("LA;");
+    var second = new AnnotationNode("LA;");
+
+    try (ComparisonContext context = ComparisonContext.open()) {
+      assertThat(context.compare(comparator, first, second, () -> calls.incrementAndGet()))
+              .isEqualTo(1);
+      assertThat(context.compare(comparator, first, second, () -> calls.incrementAndGet()))
+              .isEqualTo(1);
+
+      // Different order, nodes or comparator are not memoized
+      context.compare(comparator, second, first, () -> calls.incrementAndGet());
+      context.compare(comparator, first, new AnnotationNode("LA;"), () -> calls.incrementAndGet());
+      context.compare(new Object(), first, second, () -> calls.incrementAndGet());
+    }
+
+    assertThat(calls.get())
+            .isEqualTo(4);
+
+    // Released after close
+    try (ComparisonContext context = ComparisonContext.open()) {
+      context.compare(comparator, first, second, () -> calls.incrementAndGet());
+    }
+
+    assertThat(calls.get())
+            .isEqualTo(5);
+  }
+
+  @Test
+  void testCanonicalStringIsMemoized() {
+    var calls = new AtomicInteger();
+    Function<AnnotationNode, String> canonicalizer = annotationNode -> annotationNode.desc + calls.incrementAndGet();
+    var annotationNode = new AnnotationNode("LA;");
+
+    try (ComparisonContext context = ComparisonContext.open()) {
+      assertThat(context.canonicalString(annotationNode, canonicalizer))
+              .isEqualTo("LA;1");
+      assertThat(context.canonicalString(annotationNode, canonicalizer))
+              .isEqualTo("LA;1");
+      assertThat(context.canonicalString(new AnnotationNode("LA;"), canonicalizer))
+              .isEqualTo("LA;2");
+    }
+  }
+
+  @Test
+  void testFingerprintIsMemoized() {
+    var calls = new AtomicInteger();
+    Function<MethodNode, AsmFingerprint> fingerprinter = methodNode -> {
+      calls.incrementAndGet();
+      return AsmFingerprints.of(methodNode);
+    };
+    var methodNode = new MethodNode(0, "a", "()V", null, null);
+
+    try (ComparisonContext context = ComparisonContext.open()) {
+      AsmFingerprint fingerprint = context.fingerprint(methodNode, fingerprinter);
+      assertThat(context.fingerprint(methodNode, fingerprinter))
+              .isSameAs(fingerprint);
+      assertThat(context.fingerprint(new MethodNode(0, "a", "()V", null, null), fingerprinter))
+              .isEqualTo(fingerprint);
+    }
+
+    assertThat(calls.get())
+            .isEqualTo(2);
+  }
+
+  @Test
+  void testCopyIsMemoized() {
+    var methodNode = new MethodNode(0, "a", "()V", null, null);
+
+    try (ComparisonContext ignored = ComparisonContext.open()) {
+      MethodNode copy = MethodNodeComparator.copyWithFilteredLineNumbers(methodNode);
+      assertThat(copy)
+              .isNotSameAs(methodNode);
+      assertThat(MethodNodeComparator.copyWithFilteredLineNumbers(methodNode))
+              .isSameAs(copy);
+    }
+
+    // Without a context, each call creates a new copy
+    assertThat(MethodNodeComparator.copyWithFilteredLineNumbers(methodNode))
+            .isNotSameAs(MethodNodeComparator.copyWithFilteredLineNumbers(methodNode));
+  }
+
+  @Test
+  void testComparatorsReleaseContext() {
+    var first = new MethodNode(0, "a", "()V", null, null);
+    first.visibleAnnotations = List.of(new AnnotationNode("LB;"), new AnnotationNode("LA;"));
+    var second = new MethodNode(0, "a", "()V", null, null);
+    second.visibleAnnotations = List.of(new AnnotationNode("LA;"), new AnnotationNode("LC;"));
+
+    assertThat(MethodNodeComparator.INSTANCE.compare(first, second))
+            .isLessThan(0);
+
+    assertThat(ComparisonContext.current())
+            .isNull();
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
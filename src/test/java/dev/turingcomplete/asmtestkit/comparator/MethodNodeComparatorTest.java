@@ -3,9 +3,12 @@ package dev.turingcomplete.asmtestkit.comparator;
 import dev.turingcomplete.asmtestkit.__helper.VisibleAnnotationA;
 import org.intellij.lang.annotations.Language;
 import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.InsnNode;
 import org.objectweb.asm.tree.MethodNode;
 
 import java.io.IOException;
+import java.util.ArrayList;
 
 import static dev.turingcomplete.asmtestkit.__helper.AsmNodeTestUtils.countLineNumbers;
 import static dev.turingcomplete.asmtestkit.comparator.MethodNodeComparator.INSTANCE;
@@ -153,6 +156,141 @@ class MethodNodeComparatorTest {
             .isNotEqualTo(0);
   }
 
+  @Test
+  void testIgnoreLineNumbersReturnsDerivedInstance() {
+    MethodNodeComparator comparator = MethodNodeComparator.create();
+    MethodNodeComparator ignoreLineNumbersComparator = comparator.ignoreLineNumbers();
+
+    assertThat(ignoreLineNumbersComparator)
+            .isNotSameAs(comparator);
+    assertThat(comparator.ignoreLineNumbers())
+            .isSameAs(ignoreLineNumbersComparator);
+    assertThat(ignoreLineNumbersComparator.ignoreLineNumbers())
+            .isSameAs(ignoreLineNumbersComparator);
+
+    assertThat(INSTANCE.ignoreLineNumbers())
+            .isSameAs(INSTANCE_IGNORE_LINE_NUMBERS);
+  }
+
+  @Test
+  void testCompareCheapFirst() {
+    MethodNode first = createMethodNode(2, Opcodes.ICONST_1, Opcodes.IRETURN);
+    MethodNode second = createMethodNode(1, Opcodes.ICONST_1, Opcodes.ICONST_1, Opcodes.IADD, Opcodes.IRETURN);
+    MethodNode secondCopy = createMethodNode(1, Opcodes.ICONST_1, Opcodes.ICONST_1, Opcodes.IADD, Opcodes.IRETURN);
+
+    MethodNodeComparator cheapFirstComparator = INSTANCE.compareCheapFirst();
+
+    // The number of instructions decides before the max stack
+    assertThat(cheapFirstComparator.compare(first, second))
+            .isLessThan(0);
+    assertThat(cheapFirstComparator.compare(second, first))
+            .isGreaterThan(0);
+    assertThat(INSTANCE.compareCheap(first, second))
+            .isLessThan(0);
+
+    // Same equality result as the default mode
+    assertThat(cheapFirstComparator.compare(second, secondCopy))
+            .isEqualTo(0);
+    assertThat(INSTANCE.compare(second, secondCopy))
+            .isEqualTo(0);
+    assertThat(INSTANCE.compare(first, second))
+            .isNotEqualTo(0);
+  }
+
+  @Test
+  void testCompareCheapIsInconclusive() {
+    MethodNode first = createMethodNode(1, Opcodes.ICONST_1, Opcodes.IRETURN);
+    MethodNode second = createMethodNode(1, Opcodes.ICONST_2, Opcodes.IRETURN);
+
+    assertThat(INSTANCE.compareCheap(first, second))
+            .isEqualTo(0);
+    assertThat(INSTANCE.compare(first, second))
+            .isNotEqualTo(0);
+    // The differing fingerprints decide the order
+    int cheapFirstResult = INSTANCE.compareCheapFirst().compare(first, second);
+    assertThat(cheapFirstResult)
+            .isNotEqualTo(0);
+    assertThat(Integer.signum(INSTANCE.compareCheapFirst().compare(second, first)))
+            .isEqualTo(-Integer.signum(cheapFirstResult));
+  }
+
+  @Test
+  void testCompareCheapFirstIgnoreLineNumbers() {
+    MethodNode first = createMethodNode(1, Opcodes.ICONST_1, Opcodes.IRETURN);
+    first.exceptions.add("java/io/IOException");
+    MethodNode second = createMethodNode(1, Opcodes.ICONST_1, Opcodes.IRETURN);
+
+    MethodNodeComparator cheapFirstComparator = INSTANCE_IGNORE_LINE_NUMBERS.compareCheapFirst();
+
+    assertThat(INSTANCE_IGNORE_LINE_NUMBERS.compare(first, second))
+            .isNotEqualTo(0);
+    assertThat(cheapFirstComparator.compare(first, second))
+            .isNotEqualTo(0);
+
+    // The copies without line numbers don't distinguish between an empty and
+    // a null list
+    second.exceptions.add("java/io/IOException");
+    second.parameters = new ArrayList<>();
+    assertThat(INSTANCE_IGNORE_LINE_NUMBERS.compareCheap(first, second))
+            .isEqualTo(0);
+    assertThat(cheapFirstComparator.compare(first, second))
+            .isEqualTo(INSTANCE_IGNORE_LINE_NUMBERS.compare(first, second))
+            .isEqualTo(0);
+  }
+
+  @Test
+  void testCompareCheapFirstReturnsDerivedInstance() {
+    MethodNodeComparator cheapFirstComparator = INSTANCE.compareCheapFirst();
+
+    assertThat(cheapFirstComparator)
+            .isNotSameAs(INSTANCE);
+    assertThat(INSTANCE.compareCheapFirst())
+            .isSameAs(cheapFirstComparator);
+    assertThat(cheapFirstComparator.compareCheapFirst())
+            .isSameAs(cheapFirstComparator);
+    assertThat(cheapFirstComparator.ignoreLineNumbers())
+            .isSameAs(cheapFirstComparator.ignoreLineNumbers().compareCheapFirst());
+  }
+
+  @Test
+  void testDerivedInstancesKeepSubclass() {
+    var comparator = new NameOnlyMethodNodeComparator(false, false);
+    MethodNode first = createMethodNode(1, Opcodes.ICONST_1, Opcodes.IRETURN);
+    MethodNode second = createMethodNode(2, Opcodes.ICONST_2, Opcodes.IRETURN);
+
+    assertThat(comparator.ignoreLineNumbers())
+            .isInstanceOf(NameOnlyMethodNodeComparator.class);
+    assertThat(comparator.compareCheapFirst().ignoreLineNumbers().compare(first, second))
+            .isEqualTo(0);
+  }
+
   // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private static MethodNode createMethodNode(int maxStack, int... opcodes) {
+    var methodNode = new MethodNode(Opcodes.ACC_STATIC, "myMethod", "()I", null, null);
+    for (int opcode : opcodes) {
+      methodNode.instructions.add(new InsnNode(opcode));
+    }
+    methodNode.maxStack = maxStack;
+    return methodNode;
+  }
+
   // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  private static class NameOnlyMethodNodeComparator extends MethodNodeComparator {
+
+    NameOnlyMethodNodeComparator(boolean ignoreLineNumbers, boolean cheapFirst) {
+      super(ignoreLineNumbers, cheapFirst);
+    }
+
+    @Override
+    protected MethodNodeComparator createDerived(boolean ignoreLineNumbers, boolean cheapFirst) {
+      return new NameOnlyMethodNodeComparator(ignoreLineNumbers, cheapFirst);
+    }
+
+    @Override
+    protected int doCompare(MethodNode first, MethodNode second) {
+      return first.name.compareTo(second.name);
+    }
+  }
 }
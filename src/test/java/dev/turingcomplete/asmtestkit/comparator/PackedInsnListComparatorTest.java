@@ -0,0 +1,175 @@
+package dev.turingcomplete.asmtestkit.comparator;
+
+import dev.turingcomplete.asmtestkit.node.PackedInsnList;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.FrameNode;
+import org.objectweb.asm.tree.IincInsnNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.InvokeDynamicInsnNode;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.LineNumberNode;
+import org.objectweb.asm.tree.LookupSwitchInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MultiANewArrayInsnNode;
+import org.objectweb.asm.tree.TableSwitchInsnNode;
+import org.objectweb.asm.tree.TypeInsnNode;
+import org.objectweb.asm.tree.VarInsnNode;
+
+import java.util.List;
+
+import static dev.turingcomplete.asmtestkit.comparator.PackedInsnListComparator.INSTANCE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PackedInsnListComparatorTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  @Test
+  void testCompare() {
+    var constantTable = PackedInsnList.ConstantTable.create();
+
+    assertThat(INSTANCE.compare(PackedInsnList.create(List.of(), constantTable), PackedInsnList.create(List.of(), constantTable)))
+            .isEqualTo(0);
+
+    assertThat(INSTANCE.compare(PackedInsnList.create(List.of(new InsnNode(Opcodes.RETURN)), constantTable),
+                                PackedInsnList.create(List.of(new InsnNode(Opcodes.RETURN), new InsnNode(Opcodes.IADD)), constantTable)))
+            .isLessThanOrEqualTo(-1);
+
+    assertThat(INSTANCE.compare(PackedInsnList.create(List.of(new LdcInsnNode("b")), constantTable),
+                                PackedInsnList.create(List.of(new LdcInsnNode("a")), constantTable)))
+            .isGreaterThanOrEqualTo(1);
+  }
+
+  @Test
+  void testCompareWithDifferentConstantTables() {
+    InsnList instructions = createInstructions();
+
+    assertThat(INSTANCE.compare(PackedInsnList.create(instructions), PackedInsnList.create(createInstructions())))
+            .isEqualTo(0);
+
+    var otherInstructions = createInstructions();
+    ((LdcInsnNode) otherInstructions.get(3)).cst = "other";
+    assertThat(INSTANCE.compare(PackedInsnList.create(instructions), PackedInsnList.create(otherInstructions)))
+            .isNotEqualTo(0);
+  }
+
+  @Test
+  void testCompareLabelsByIndex() {
+    var firstLabel = new LabelNode();
+    var first = new InsnList();
+    first.add(new JumpInsnNode(Opcodes.GOTO, firstLabel));
+    first.add(firstLabel);
+
+    var secondLabel = new LabelNode();
+    var second = new InsnList();
+    second.add(new JumpInsnNode(Opcodes.GOTO, secondLabel));
+    second.add(secondLabel);
+
+    var third = new InsnList();
+    third.add(new JumpInsnNode(Opcodes.GOTO, new LabelNode()));
+    third.add(new LabelNode());
+
+    assertThat(INSTANCE.compare(PackedInsnList.create(first), PackedInsnList.create(second)))
+            .isEqualTo(0);
+    assertThat(INSTANCE.compare(PackedInsnList.create(first), PackedInsnList.create(third)))
+            .isNotEqualTo(0);
+  }
+
+  @Test
+  void testRoundTrip() {
+    InsnList instructions = createInstructions();
+    PackedInsnList packedInsnList = PackedInsnList.create(instructions);
+
+    assertThat(packedInsnList.size())
+            .isEqualTo(instructions.size());
+    assertThat(InsnListComparator.INSTANCE.compare(packedInsnList.toInsnList(), instructions))
+            .isEqualTo(0);
+    assertThat(PackedInsnList.create(packedInsnList.toInsnList()))
+            .isEqualTo(packedInsnList);
+  }
+
+  @Test
+  void testRoundTripFramesWithNullValues() {
+    var label = new LabelNode();
+    var instructions = new InsnList();
+    instructions.add(label);
+    // 'F_CHOP' frames store their removed locals as nulls
+    instructions.add(new FrameNode(Opcodes.F_CHOP, 2, null, 0, null));
+    instructions.add(new FrameNode(Opcodes.F_SAME1, 0, null, 1, new Object[]{"java/lang/Throwable"}));
+    instructions.add(new FrameNode(Opcodes.F_FULL, 3, new Object[]{Opcodes.INTEGER, null, label}, 0, new Object[0]));
+    instructions.add(new InsnNode(Opcodes.RETURN));
+
+    PackedInsnList packedInsnList = PackedInsnList.create(instructions);
+    InsnList unpackedInstructions = packedInsnList.toInsnList();
+
+    assertThat(((FrameNode) unpackedInstructions.get(1)).local)
+            .containsExactly(null, null);
+    assertThat(((FrameNode) unpackedInstructions.get(2)).stack)
+            .containsExactly("java/lang/Throwable");
+    FrameNode fullFrame = (FrameNode) unpackedInstructions.get(3);
+    assertThat(fullFrame.local)
+            .containsExactly(Opcodes.INTEGER, null, unpackedInstructions.get(0));
+    assertThat(PackedInsnList.create(unpackedInstructions))
+            .isEqualTo(packedInsnList);
+  }
+
+  @Test
+  void testConstantsAreDeduplicated() {
+    var constantTable = PackedInsnList.ConstantTable.create();
+    PackedInsnList first = PackedInsnList.create(createInstructions(), constantTable);
+    int constantsCount = constantTable.size();
+    PackedInsnList second = PackedInsnList.create(createInstructions(), constantTable);
+
+    assertThat(constantTable.size())
+            .isEqualTo(constantsCount);
+    assertThat(constantTable.indexOf(new String("java/lang/System")))
+            .isEqualTo(constantTable.indexOf("java/lang/System"));
+    assertThat(INSTANCE.compare(first, second))
+            .isEqualTo(0);
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private static InsnList createInstructions() {
+    var start = new LabelNode();
+    var loop = new LabelNode();
+    var end = new LabelNode();
+    var handle = new Handle(Opcodes.H_INVOKESTATIC, "java/lang/invoke/LambdaMetafactory", "metafactory",
+                            "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/invoke/MethodType;Ljava/lang/invoke/MethodType;Ljava/lang/invoke/MethodHandle;Ljava/lang/invoke/MethodType;)Ljava/lang/invoke/CallSite;",
+                            false);
+
+    var instructions = new InsnList();
+    instructions.add(start);
+    instructions.add(new LineNumberNode(7, start));
+    instructions.add(new FieldInsnNode(Opcodes.GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;"));
+    instructions.add(new LdcInsnNode("text"));
+    instructions.add(new MethodInsnNode(Opcodes.INVOKEVIRTUAL, "java/io/PrintStream", "println", "(Ljava/lang/String;)V", false));
+    instructions.add(new LdcInsnNode(Type.getType("Ljava/lang/String;")));
+    instructions.add(new TypeInsnNode(Opcodes.CHECKCAST, "java/lang/String"));
+    instructions.add(new VarInsnNode(Opcodes.ASTORE, 1));
+    instructions.add(new IincInsnNode(2, -1));
+    instructions.add(loop);
+    instructions.add(new FrameNode(Opcodes.F_FULL, 2, new Object[]{"java/lang/String", Opcodes.INTEGER}, 1, new Object[]{loop}));
+    instructions.add(new InvokeDynamicInsnNode("run", "()Ljava/lang/Runnable;", handle, Type.getType("()V"), handle, Type.getType("()V")));
+    instructions.add(new MultiANewArrayInsnNode("[[I", 2));
+    instructions.add(new VarInsnNode(Opcodes.ILOAD, 2));
+    instructions.add(new TableSwitchInsnNode(0, 1, end, loop, end));
+    instructions.add(new VarInsnNode(Opcodes.ILOAD, 2));
+    instructions.add(new LookupSwitchInsnNode(end, new int[]{5}, new LabelNode[]{loop}));
+    instructions.add(new JumpInsnNode(Opcodes.GOTO, loop));
+    instructions.add(end);
+    instructions.add(new InsnNode(Opcodes.RETURN));
+    return instructions;
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
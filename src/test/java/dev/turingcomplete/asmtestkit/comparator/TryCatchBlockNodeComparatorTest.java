@@ -1,11 +1,21 @@
 package dev.turingcomplete.asmtestkit.comparator;
 
 import dev.turingcomplete.asmtestkit.common.DefaultLabelIndexLookup;
+import dev.turingcomplete.asmtestkit.common.IdentityLabelIndexLookup;
+import dev.turingcomplete.asmtestkit.comparator._internal.WithLabelIndexIterableAsmComparator;
 import org.intellij.lang.annotations.Language;
 import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.tree.LabelNode;
 import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.TryCatchBlockNode;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import static dev.turingcomplete.asmtestkit.asmutils.MethodNodeUtils.extractLabelIndices;
 import static dev.turingcomplete.asmtestkit.comparator.TryCatchBlockNodeComparator.INSTANCE;
@@ -94,6 +104,36 @@ class TryCatchBlockNodeComparatorTest {
             .isNotEqualTo(0);
   }
 
+  @Test
+  void testCompareIterableInDifferentOrder() {
+    Map<Label, Integer> labelIndices = new HashMap<>();
+    List<TryCatchBlockNode> first = createTryCatchBlocks(labelIndices, "A", "B", "C");
+    List<TryCatchBlockNode> second = createTryCatchBlocks(labelIndices, "A", "B", "C");
+    Collections.reverse(second);
+
+    var labelIndexLookup = IdentityLabelIndexLookup.create(labelIndices);
+    assertThat(WithLabelIndexIterableAsmComparator.create(INSTANCE).compare(first, second, labelIndexLookup))
+            .isEqualTo(0);
+    assertThat(WithLabelIndexIterableAsmComparator.create(INSTANCE).compare(first, createTryCatchBlocks(labelIndices, "A", "B", "D"), labelIndexLookup))
+            .isNotEqualTo(0);
+  }
+
   // -- Private Methods --------------------------------------------------------------------------------------------- //
+  /**
+   * Creates a try-catch block for each type, with new {@link Label}s that get
+   * the same indices for each call.
+   */
+  private static List<TryCatchBlockNode> createTryCatchBlocks(Map<Label, Integer> labelIndices, String... types) {
+    var tryCatchBlocks = new ArrayList<TryCatchBlockNode>();
+    for (int i = 0; i < types.length; i++) {
+      var start = new LabelNode();
+      var end = new LabelNode();
+      labelIndices.put(start.getLabel(), i * 2);
+      labelIndices.put(end.getLabel(), i * 2 + 1);
+      tryCatchBlocks.add(new TryCatchBlockNode(start, end, end, types[i]));
+    }
+    return tryCatchBlocks;
+  }
+
   // -- Inner Type -------------------------------------------------------------------------------------------------- //
 }
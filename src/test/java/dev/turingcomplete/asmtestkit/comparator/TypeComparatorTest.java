@@ -25,6 +25,32 @@ class TypeComparatorTest {
             .isGreaterThanOrEqualTo(1);
   }
 
+  @Test
+  void testCompareObjectTypes() {
+    assertThat(INSTANCE.compare(Type.getObjectType("java/lang/String"), Type.getType(String.class)))
+            .isEqualTo(0);
+
+    assertThat(INSTANCE.compare(Type.getType(Object.class), Type.getType(String.class)))
+            .isLessThanOrEqualTo(-1);
+
+    assertThat(INSTANCE.compare(Type.getType(String[].class), Type.getType(String[][].class)))
+            .isEqualTo(-INSTANCE.compare(Type.getType(String[][].class), Type.getType(String[].class)))
+            .isNotEqualTo(0);
+
+    // Ordered by the sort first
+    assertThat(INSTANCE.compare(Type.INT_TYPE, Type.getType(String.class)))
+            .isLessThanOrEqualTo(-1);
+  }
+
+  @Test
+  void testCompareMethodTypes() {
+    assertThat(INSTANCE.compare(Type.getMethodType("(I)V"), Type.getMethodType("(I)V")))
+            .isEqualTo(0);
+
+    assertThat(INSTANCE.compare(Type.getMethodType("(I)V"), Type.getMethodType("(J)V")))
+            .isLessThanOrEqualTo(-1);
+  }
+
   // -- Private Methods --------------------------------------------------------------------------------------------- //
   // -- Inner Type -------------------------------------------------------------------------------------------------- //
 }
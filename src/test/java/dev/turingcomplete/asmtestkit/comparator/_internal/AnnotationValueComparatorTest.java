@@ -0,0 +1,99 @@
+package dev.turingcomplete.asmtestkit.comparator._internal;
+
+import dev.turingcomplete.asmtestkit.comparator.AnnotationNodeComparator;
+import dev.turingcomplete.asmtestkit.comparator.TypeComparator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AnnotationNode;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnnotationValueComparatorTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  private static final AnnotationValueComparator COMPARATOR = AnnotationValueComparator.create(TypeComparator.INSTANCE, AnnotationNodeComparator.INSTANCE);
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  @ParameterizedTest
+  @MethodSource("testCompareEqualArguments")
+  void testCompareEqual(Object first, Object second) {
+    assertThat(COMPARATOR.compare(first, second))
+            .isEqualTo(0);
+  }
+
+  @ParameterizedTest
+  @MethodSource("testCompareLessArguments")
+  void testCompareLess(Object first, Object second) {
+    assertThat(COMPARATOR.compare(first, second))
+            .isLessThan(0);
+
+    assertThat(COMPARATOR.compare(second, first))
+            .isGreaterThan(0);
+  }
+
+  @Test
+  void testCompareValuesIgnoresPairOrder() {
+    assertThat(COMPARATOR.compareValues(Arrays.asList("b", 1, "a", 2), Arrays.asList("a", 2, "b", 1)))
+            .isEqualTo(0);
+
+    assertThat(COMPARATOR.compareValues(Arrays.asList("b", 1, "a", 2), Arrays.asList("a", 3, "b", 1)))
+            .isLessThan(0);
+
+    // Fewer pairs first
+    assertThat(COMPARATOR.compareValues(List.of("z", 1), Arrays.asList("a", 1, "b", 1)))
+            .isLessThan(0);
+
+    // A null list is like an empty list
+    assertThat(COMPARATOR.compareValues(null, List.of()))
+            .isEqualTo(0);
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private static Stream<Arguments> testCompareEqualArguments() {
+    return Stream.of(
+            Arguments.of(1, 1),
+            Arguments.of("a", "a"),
+            Arguments.of(Type.getType(String.class), Type.getObjectType("java/lang/String")),
+            Arguments.of(new String[]{"LE;", "A"}, new String[]{"LE;", "A"}),
+            Arguments.of(List.of(1, 2), Arrays.asList(1, 2)),
+            Arguments.of(new int[]{1, 2}, new int[]{1, 2}),
+            Arguments.of(createAnnotationNode("LA;", "x", 1, "y", 2), createAnnotationNode("LA;", "y", 2, "x", 1))
+    );
+  }
+
+  private static Stream<Arguments> testCompareLessArguments() {
+    return Stream.of(
+            Arguments.of(1, 2),
+            Arguments.of(Float.POSITIVE_INFINITY, Float.NaN),
+            Arguments.of("a", "b"),
+            // Different kinds
+            Arguments.of(true, 1),
+            Arguments.of(1, 1L),
+            Arguments.of("a", Type.INT_TYPE),
+            Arguments.of(new String[]{"LE;", "A"}, new String[]{"LE;", "B"}),
+            Arguments.of(List.of(1, 2), List.of(1, 3)),
+            Arguments.of(List.of(1, 2), List.of(1, 2, 3)),
+            Arguments.of(new int[]{1, 2}, new int[]{1, 3}),
+            Arguments.of(createAnnotationNode("LA;", "x", 1), createAnnotationNode("LA;", "x", 2))
+    );
+  }
+
+  private static AnnotationNode createAnnotationNode(String desc, Object... values) {
+    var annotationNode = new AnnotationNode(desc);
+    annotationNode.values = Arrays.asList(values);
+    return annotationNode;
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
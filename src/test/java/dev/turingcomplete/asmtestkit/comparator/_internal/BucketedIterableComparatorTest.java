@@ -0,0 +1,51 @@
+package dev.turingcomplete.asmtestkit.comparator._internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BucketedIterableComparatorTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+
+  /**
+   * Puts strings of the same length into the same bucket.
+   */
+  private static final BucketedIterableComparator<String> COMPARATOR = new BucketedIterableComparator<>(Comparator.naturalOrder(), String::length);
+
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  @Test
+  void testCompare() {
+    assertThat(COMPARATOR.compare(List.of("a", "bb", "c"), List.of("c", "a", "bb")))
+            .isEqualTo(0);
+
+    assertThat(COMPARATOR.compare(List.of("a"), List.of("a", "b")))
+            .isLessThanOrEqualTo(-1);
+
+    assertThat(COMPARATOR.compare(List.of("b"), List.of("a")))
+            .isGreaterThanOrEqualTo(1);
+  }
+
+  @Test
+  void testCompareIsConsistentWithIterableComparator() {
+    var iterableComparator = new IterableComparator<String>(Comparator.naturalOrder());
+    // The buckets have the same sizes, but the first difference of the
+    // sorted elements is in the bucket of the two character strings
+    List<List<String>> elementsLists = List.of(List.of("aa", "c"), List.of("ab", "b"), List.of("b", "aa"), List.of("c", "aa"));
+
+    for (List<String> first : elementsLists) {
+      for (List<String> second : elementsLists) {
+        assertThat(Integer.signum(COMPARATOR.compare(first, second)))
+                .isEqualTo(Integer.signum(iterableComparator.compare(first, second)));
+      }
+    }
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
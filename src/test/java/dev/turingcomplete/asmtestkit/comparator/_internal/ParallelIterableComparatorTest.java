@@ -0,0 +1,92 @@
+package dev.turingcomplete.asmtestkit.comparator._internal;
+
+import dev.turingcomplete.asmtestkit.common.DefaultLabelIndexLookup;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParallelIterableComparatorTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  @Test
+  void testNullArguments() {
+    var comparator = ParallelIterableComparator.<String>create(Comparator.naturalOrder(), Function.identity(), ForkJoinPool.commonPool());
+
+    assertThat(comparator.compare(null, null))
+            .isEqualTo(0);
+
+    assertThat(comparator.compare(null, List.of()))
+            .isLessThanOrEqualTo(-1);
+
+    assertThat(comparator.compare(List.of(), null))
+            .isGreaterThanOrEqualTo(1);
+  }
+
+  @Test
+  void testDifferentSize() {
+    var comparator = ParallelIterableComparator.<String>create(Comparator.naturalOrder(), Function.identity(), ForkJoinPool.commonPool());
+
+    assertThat(comparator.compare(List.of("A", "B"), List.of("A")))
+            .isGreaterThan(0);
+
+    assertThat(comparator.compare(List.of("A"), List.of("A", "B")))
+            .isLessThan(0);
+  }
+
+  @Test
+  void testElementsCompare() {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      // Pairs by the first character and compares the whole string
+      var comparator = ParallelIterableComparator.<String>create(Comparator.naturalOrder(), value -> value.substring(0, 1), executor);
+
+      assertThat(comparator.compare(List.of("A1", "B1", "C1"), List.of("C1", "A1", "B1")))
+              .isEqualTo(0);
+
+      assertThat(comparator.compare(List.of(), List.of()))
+              .isEqualTo(0);
+
+      // Different keys
+      assertThat(comparator.compare(List.of("A1", "B1"), List.of("A1", "C1")))
+              .isLessThan(0);
+
+      // Same keys, the first different pair in the key order decides
+      assertThat(comparator.compare(List.of("A1", "B2", "C1"), List.of("A1", "B1", "C2")))
+              .isGreaterThan(0);
+      assertThat(comparator.compare(List.of("A1", "B1", "C2"), List.of("A1", "B2", "C1")))
+              .isLessThan(0);
+
+      // Multiple elements with the same key
+      assertThat(comparator.compare(List.of("A1", "A2", "B1"), List.of("B1", "A2", "A1")))
+              .isEqualTo(0);
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void testLabelIndexLookupPerPair() {
+    var comparator = ParallelIterableComparator.<String>create(Comparator.naturalOrder(), Function.identity(), ForkJoinPool.commonPool());
+
+    DefaultLabelIndexLookup labelIndexLookup = DefaultLabelIndexLookup.create();
+    assertThat(comparator.compare(List.of("A", "B", "C"), List.of("A", "B", "C"), labelIndexLookup))
+            .isEqualTo(0);
+
+    assertThat(labelIndexLookup.getChildren())
+            .hasSize(3);
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -0,0 +1,251 @@
+package dev.turingcomplete.asmtestkit.dump;
+
+import dev.turingcomplete.asmtestkit.common.LabelIndexLookup;
+import dev.turingcomplete.asmtestkit.representation.AsmRepresentation;
+import dev.turingcomplete.asmtestkit.representation.AsmRepresentations;
+import dev.turingcomplete.asmtestkit.representation.ClassNodeRepresentation;
+import dev.turingcomplete.asmtestkit.representation.DefaultAsmRepresentations;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.ClassNode;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BytecodeDumperTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  @TempDir
+  Path tempDir;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  @Test
+  void testDumpDirectory() throws IOException {
+    Path classesDirectory = tempDir.resolve("classes");
+    writeClass(classesDirectory, "foo/First", 1);
+    writeClass(classesDirectory, "foo/bar/Second", 2);
+    Files.writeString(classesDirectory.resolve("foo/readme.txt"), "No class");
+
+    Path outputDirectory = tempDir.resolve("output");
+    BytecodeDumper.Result result = BytecodeDumper.create().useThreads(2).dump(classesDirectory, outputDirectory);
+    assertThat(result.dumpedClasses())
+            .isEqualTo(2);
+
+    assertThat(Files.readString(outputDirectory.resolve("foo/bar/Second.txt"), StandardCharsets.UTF_8))
+            .isEqualTo(ClassNodeRepresentation.INSTANCE.toStringOf(readClassNode(classesDirectory.resolve("foo/bar/Second.class"))));
+    assertThat(Files.exists(outputDirectory.resolve("foo/First.txt")))
+            .isTrue();
+    assertThat(Files.exists(outputDirectory.resolve(BytecodeDumper.INDEX_FILE_NAME)))
+            .isFalse();
+  }
+
+  @Test
+  void testDumpJarIncremental() throws IOException {
+    Path jar = tempDir.resolve("my.jar");
+    Path outputDirectory = tempDir.resolve("output");
+    var bytecodeDumper = BytecodeDumper.create().incremental();
+
+    writeJar(jar, "First", 1, "Second", 2, "Third", 3);
+    BytecodeDumper.Result result = bytecodeDumper.dump(jar, outputDirectory);
+    assertThat(result.toString())
+            .isEqualTo("Dumped 3 classes, 0 unchanged, 0 removed");
+
+    // 'Second' changes and 'Third' gets removed
+    writeJar(jar, "First", 1, "Second", 4);
+    result = bytecodeDumper.dump(jar, outputDirectory);
+    assertThat(result.toString())
+            .isEqualTo("Dumped 1 classes, 1 unchanged, 1 removed");
+    assertThat(Files.readString(outputDirectory.resolve("Second.txt"), StandardCharsets.UTF_8))
+            .contains("[4: private] int field");
+    assertThat(Files.exists(outputDirectory.resolve("Third.txt")))
+            .isFalse();
+
+    // A deleted dump gets recreated
+    Files.delete(outputDirectory.resolve("First.txt"));
+    result = bytecodeDumper.dump(jar, outputDirectory);
+    assertThat(result.toString())
+            .isEqualTo("Dumped 1 classes, 1 unchanged, 0 removed");
+  }
+
+  @Test
+  void testDumpIncrementalWithChangedConfiguration() throws IOException {
+    Path jar = tempDir.resolve("my.jar");
+    Path outputDirectory = tempDir.resolve("output");
+    writeJar(jar, "First", 1, "Second", 2);
+
+    BytecodeDumper.create().incremental().dump(jar, outputDirectory);
+    assertThat(Files.readAllLines(outputDirectory.resolve(BytecodeDumper.INDEX_FILE_NAME), StandardCharsets.UTF_8).get(0))
+            .startsWith("# parsingOptions=0, representation=" + ClassNodeRepresentation.class.getName());
+
+    BytecodeDumper.Result result = BytecodeDumper.create().incremental().useParsingOptions(ClassReader.SKIP_DEBUG).dump(jar, outputDirectory);
+    assertThat(result.toString())
+            .isEqualTo("Dumped 2 classes, 0 unchanged, 0 removed");
+
+    // The dumps of removed classes still get removed
+    writeJar(jar, "First", 1);
+    result = BytecodeDumper.create().incremental().dump(jar, outputDirectory);
+    assertThat(result.toString())
+            .isEqualTo("Dumped 1 classes, 0 unchanged, 1 removed");
+  }
+
+  @Test
+  void testDumpIncrementalWithChangedRepresentationConfiguration() throws IOException {
+    Path jar = tempDir.resolve("my.jar");
+    Path outputDirectory = tempDir.resolve("output");
+    writeJar(jar, "First", 1, "Second", 2);
+
+    BytecodeDumper.create().incremental().dump(jar, outputDirectory);
+
+    // Same class of the representation, but renders the internal names of types
+    var internalNamesClassNodeRepresentation = ClassNodeRepresentation.create();
+    internalNamesClassNodeRepresentation.useAsmRepresentations(new InternalNamesAsmRepresentations());
+    BytecodeDumper.Result result = BytecodeDumper.create().incremental().useClassNodeRepresentation(internalNamesClassNodeRepresentation).dump(jar, outputDirectory);
+    assertThat(result.toString())
+            .isEqualTo("Dumped 2 classes, 0 unchanged, 0 removed");
+    assertThat(Files.readString(outputDirectory.resolve("First.txt"), StandardCharsets.UTF_8))
+            .contains("class First extends java/lang/Object");
+
+    result = BytecodeDumper.create().incremental().useClassNodeRepresentation(internalNamesClassNodeRepresentation).dump(jar, outputDirectory);
+    assertThat(result.toString())
+            .isEqualTo("Dumped 0 classes, 2 unchanged, 0 removed");
+  }
+
+  @Test
+  void testDumpNotIncrementalDeletesIndex() throws IOException {
+    Path jar = tempDir.resolve("my.jar");
+    Path outputDirectory = tempDir.resolve("output");
+    writeJar(jar, "First", 1, "Second", 2);
+
+    BytecodeDumper.create().incremental().dump(jar, outputDirectory);
+    assertThat(Files.exists(outputDirectory.resolve(BytecodeDumper.INDEX_FILE_NAME)))
+            .isTrue();
+
+    // Overwrites the dumps, which no longer match the hashes of the index
+    BytecodeDumper.create().useParsingOptions(ClassReader.SKIP_DEBUG).dump(jar, outputDirectory);
+    assertThat(Files.exists(outputDirectory.resolve(BytecodeDumper.INDEX_FILE_NAME)))
+            .isFalse();
+
+    BytecodeDumper.Result result = BytecodeDumper.create().incremental().dump(jar, outputDirectory);
+    assertThat(result.toString())
+            .isEqualTo("Dumped 2 classes, 0 unchanged, 0 removed");
+  }
+
+  @Test
+  void testDumpStopsAfterFailure() throws IOException {
+    Path jar = tempDir.resolve("my.jar");
+    Path outputDirectory = tempDir.resolve("output");
+    var namesAndFieldAccesses = new Object[200];
+    for (int i = 0; i < namesAndFieldAccesses.length; i += 2) {
+      namesAndFieldAccesses[i] = "Class" + i;
+      namesAndFieldAccesses[i + 1] = 1;
+    }
+    writeJar(jar, namesAndFieldAccesses);
+    // Prepends an invalid class file
+    Path invalidJar = tempDir.resolve("invalid.jar");
+    try (OutputStream outputStream = Files.newOutputStream(invalidJar); var zipOutputStream = new ZipOutputStream(outputStream)) {
+      zipOutputStream.putNextEntry(new ZipEntry("Invalid.class"));
+      zipOutputStream.write(new byte[]{1, 2, 3});
+      zipOutputStream.closeEntry();
+      try (var zipFile = new ZipFile(jar.toFile())) {
+        for (ZipEntry entry : Collections.list(zipFile.entries())) {
+          zipOutputStream.putNextEntry(new ZipEntry(entry.getName()));
+          zipOutputStream.write(zipFile.getInputStream(entry).readAllBytes());
+          zipOutputStream.closeEntry();
+        }
+      }
+    }
+
+    assertThatThrownBy(() -> BytecodeDumper.create().useThreads(1).dump(invalidJar, outputDirectory))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Failed to dump class file 'Invalid.class'.");
+
+    long dumpedClasses;
+    try (Stream<Path> files = Files.list(outputDirectory)) {
+      dumpedClasses = files.count();
+    }
+    // Only the classes which were already in flight got dumped
+    assertThat(dumpedClasses)
+            .isLessThan(10);
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private static byte[] createClass(String name, int fieldAccess) {
+    var classWriter = new ClassWriter(0);
+    classWriter.visit(Opcodes.V11, Opcodes.ACC_PUBLIC, name, null, "java/lang/Object", null);
+    classWriter.visitField(fieldAccess, "field", "I", null, null).visitEnd();
+    classWriter.visitEnd();
+    return classWriter.toByteArray();
+  }
+
+  private static void writeClass(Path directory, String name, int fieldAccess) throws IOException {
+    Path classFile = directory.resolve(name + ".class");
+    Files.createDirectories(classFile.getParent());
+    Files.write(classFile, createClass(name, fieldAccess));
+  }
+
+  private static void writeJar(Path jar, Object... namesAndFieldAccesses) throws IOException {
+    try (OutputStream outputStream = Files.newOutputStream(jar); var zipOutputStream = new ZipOutputStream(outputStream)) {
+      for (int i = 0; i < namesAndFieldAccesses.length; i += 2) {
+        String name = (String) namesAndFieldAccesses[i];
+        zipOutputStream.putNextEntry(new ZipEntry(name + ".class"));
+        zipOutputStream.write(createClass(name, (Integer) namesAndFieldAccesses[i + 1]));
+        zipOutputStream.closeEntry();
+      }
+    }
+  }
+
+  private static ClassNode readClassNode(Path classFile) throws IOException {
+    var classNode = new ClassNode();
+    new ClassReader(Files.readAllBytes(classFile)).accept(classNode, 0);
+    return classNode;
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+
+  private static class InternalNamesAsmRepresentations implements AsmRepresentations {
+
+    @Override
+    public String toStringOf(Object object) {
+      return object instanceof Type ? ((Type) object).getInternalName() : DefaultAsmRepresentations.INSTANCE.toStringOf(object);
+    }
+
+    @Override
+    public String unambiguousToStringOf(Object object) {
+      return DefaultAsmRepresentations.INSTANCE.unambiguousToStringOf(object);
+    }
+
+    @Override
+    public String toSimplifiedStringOf(Object object) {
+      return DefaultAsmRepresentations.INSTANCE.toSimplifiedStringOf(object);
+    }
+
+    @Override
+    public <T> AsmRepresentation<T> getAsmRepresentation(Class<T> elementClass) {
+      return DefaultAsmRepresentations.INSTANCE.getAsmRepresentation(elementClass);
+    }
+
+    @Override
+    public String toStringOf(Object object, LabelIndexLookup labelIndexLookup) {
+      return DefaultAsmRepresentations.INSTANCE.toStringOf(object, labelIndexLookup);
+    }
+  }
+}
@@ -0,0 +1,135 @@
+package dev.turingcomplete.asmtestkit.fingerprint;
+
+import dev.turingcomplete.asmtestkit.assertion.option.StandardAssertOption;
+import org.intellij.lang.annotations.Language;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.MethodNode;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+import static dev.turingcomplete.asmtestkit.__helper.AsmNodeTestUtils.countLineNumbers;
+import static dev.turingcomplete.asmtestkit.compile.CompilationEnvironment.create;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsmFingerprintsTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  @Test
+  void testEqualFingerprints() throws IOException {
+    @Language("Java")
+    String myClass = "class MyClass {" +
+                     "  private int foo = 1;" +
+                     "  int myMethod(int param) {\n" +
+                     "    if (param > 5) { return foo; }\n" +
+                     "    switch (param) { case 1: return 2; case 3: return 4; default: return 5; }\n" +
+                     "  }" +
+                     "}";
+
+    ClassNode first = create().addJavaInputSource(myClass).compile().readClassNode("MyClass");
+    ClassNode second = create().addJavaInputSource(myClass).compile().readClassNode("MyClass");
+
+    assertThat(AsmFingerprints.of(first))
+            .isEqualTo(AsmFingerprints.of(second));
+    assertThat(AsmFingerprints.of(first.methods.get(1)))
+            .isEqualTo(AsmFingerprints.of(second.methods.get(1)));
+    assertThat(AsmFingerprints.of(first.methods.get(1).instructions))
+            .isEqualTo(AsmFingerprints.of(second.methods.get(1).instructions));
+  }
+
+  @Test
+  void testFingerprintIsIndependentOfMethodOrder() throws IOException {
+    ClassNode first = create()
+            .addJavaInputSource("class MyClass { void a() {} void b() {} }")
+            .compile()
+            .readClassNode("MyClass");
+
+    ClassNode second = create()
+            .addJavaInputSource("class MyClass { void a() {} void b() {} }")
+            .compile()
+            .readClassNode("MyClass");
+    Collections.reverse(second.methods);
+
+    assertThat(AsmFingerprints.of(first))
+            .isEqualTo(AsmFingerprints.of(second));
+  }
+
+  @Test
+  void testDifferentFingerprints() throws IOException {
+    MethodNode first = create()
+            .addJavaInputSource("class MyClass { int myMethod() { return 1; } }")
+            .compile()
+            .readClassNode("MyClass").methods.get(1);
+
+    MethodNode second = create()
+            .addJavaInputSource("class MyClass { int myMethod() { return 2; } }")
+            .compile()
+            .readClassNode("MyClass").methods.get(1);
+
+    assertThat(AsmFingerprints.of(first))
+            .isNotEqualTo(AsmFingerprints.of(second));
+    assertThat(AsmFingerprints.create().withOptions(List.of(StandardAssertOption.IGNORE_INSTRUCTIONS)).fingerprint(first))
+            .isEqualTo(AsmFingerprints.create().withOptions(List.of(StandardAssertOption.IGNORE_INSTRUCTIONS)).fingerprint(second));
+  }
+
+  @Test
+  void testIgnoreLineNumbers() throws IOException {
+    @Language("Java")
+    String myClassWithoutLineNumbers = "class MyClass {" +
+                                       "  void myMethod() {" +
+                                       "    System.out.println(1);" +
+                                       "    System.out.println(2);" +
+                                       "  }" +
+                                       "}";
+
+    MethodNode withoutLineNumbers = create()
+            .addJavaInputSource(myClassWithoutLineNumbers)
+            .compile()
+            .readClassNode("MyClass").methods.get(1);
+
+    @Language("Java")
+    String myClassWithLineNumbers = "class MyClass {\n" +
+                                    "  void myMethod() {\n" +
+                                    "    System\n.out\n.println(1)\n;\n" +
+                                    "    System\n.out\n.println(2)\n;\n" +
+                                    "  }\n" +
+                                    "}\n";
+
+    MethodNode withLineNumbers = create()
+            .addJavaInputSource(myClassWithLineNumbers)
+            .compile()
+            .readClassNode("MyClass").methods.get(1);
+
+    assertThat(countLineNumbers(withoutLineNumbers.instructions))
+            .isEqualTo(1);
+    assertThat(countLineNumbers(withLineNumbers.instructions))
+            .isEqualTo(5);
+
+    assertThat(AsmFingerprints.of(withoutLineNumbers))
+            .isNotEqualTo(AsmFingerprints.of(withLineNumbers));
+
+    AsmFingerprints fingerprints = AsmFingerprints.INSTANCE_IGNORE_LINE_NUMBERS;
+    assertThat(fingerprints.fingerprint(withoutLineNumbers))
+            .isEqualTo(fingerprints.fingerprint(withLineNumbers));
+    assertThat(fingerprints.fingerprint(withoutLineNumbers.instructions))
+            .isEqualTo(fingerprints.fingerprint(withLineNumbers.instructions));
+  }
+
+  @Test
+  void testHexString() {
+    AsmFingerprint fingerprint = AsmFingerprint.create(0x0123456789abcdefL, 0xfedcba9876543210L);
+
+    assertThat(fingerprint.toHexString())
+            .isEqualTo("0123456789abcdeffedcba9876543210");
+    assertThat(AsmFingerprint.fromHexString(fingerprint.toHexString()))
+            .isEqualTo(fingerprint);
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -40,6 +40,16 @@ class AccessNodeRepresentationTest {
             .isEqualTo("[10]");
   }
 
+  @Test
+  void testMemoizedToStringOf() {
+    AccessNode accessNode = AccessNode.forMethod(Opcodes.ACC_PUBLIC + Opcodes.ACC_STATIC);
+    assertThat(INSTANCE.toStringOf(accessNode))
+            .isSameAs(INSTANCE.toStringOf(AccessNode.forMethod(Opcodes.ACC_PUBLIC + Opcodes.ACC_STATIC)));
+    assertThat(INSTANCE.toJavaSourceCodeRepresentation(accessNode))
+            .isSameAs(INSTANCE.toJavaSourceCodeRepresentation(accessNode))
+            .isEqualTo("public static");
+  }
+
   // -- Private Methods --------------------------------------------------------------------------------------------- //
 
   private static Stream<Arguments> createAccessFlagsTestArguments() {
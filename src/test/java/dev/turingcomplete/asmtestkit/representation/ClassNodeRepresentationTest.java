@@ -9,10 +9,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.tree.ClassNode;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -226,6 +232,42 @@ public class ClassNodeRepresentationTest {
                          "  // Nest host class: MyClass\n");
   }
 
+  @Test
+  void testConcurrentRendering() {
+    var classNode = new ClassNode();
+    classNode.visit(Opcodes.V11, Opcodes.ACC_PUBLIC, "MyClass", null, "java/lang/Object", null);
+    for (int i = 0; i < 50; i++) {
+      MethodVisitor methodVisitor = classNode.visitMethod(Opcodes.ACC_STATIC, "m" + i, "(I)I", null, null);
+      var label = new Label();
+      methodVisitor.visitVarInsn(Opcodes.ILOAD, 0);
+      methodVisitor.visitJumpInsn(Opcodes.IFEQ, label);
+      methodVisitor.visitIincInsn(0, i);
+      methodVisitor.visitLabel(label);
+      methodVisitor.visitVarInsn(Opcodes.ILOAD, 0);
+      methodVisitor.visitInsn(Opcodes.IRETURN);
+      methodVisitor.visitMaxs(1, 1);
+    }
+
+    var executions = new AtomicInteger();
+    Executor executor = command -> {
+      executions.incrementAndGet();
+      ForkJoinPool.commonPool().execute(command);
+    };
+
+    String expected = ClassNodeRepresentation.create().disableConcurrentRendering().toStringOf(classNode);
+
+    Assertions.assertThat(ClassNodeRepresentation.create().useConcurrentRendering(executor, 0).toStringOf(classNode))
+              .isEqualTo(expected);
+    Assertions.assertThat(executions.get())
+              .isEqualTo(50);
+
+    // Below the threshold
+    Assertions.assertThat(ClassNodeRepresentation.create().useConcurrentRendering(executor, 1_000).toStringOf(classNode))
+              .isEqualTo(expected);
+    Assertions.assertThat(executions.get())
+              .isEqualTo(50);
+  }
+
   // -- Private Methods --------------------------------------------------------------------------------------------- //
   // -- Inner Type -------------------------------------------------------------------------------------------------- //
 }
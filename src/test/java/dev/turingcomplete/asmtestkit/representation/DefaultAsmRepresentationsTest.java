@@ -8,7 +8,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.tree.AnnotationNode;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.VarInsnNode;
 
 import java.util.stream.Stream;
 
@@ -48,7 +51,10 @@ class DefaultAsmRepresentationsTest {
   private static Stream<Arguments> testFallbackToStringOfArguments() {
     return Stream.of(
             Arguments.of(new AnnotationNode("Lfoo.A;"), "@foo.A"),
-            Arguments.of(new DummyAttribute("A", "Content"), "AContent")
+            Arguments.of(new DummyAttribute("A", "Content"), "AContent"),
+            // Concrete instruction classes are resolved to the 'AbstractInsnNode' representation
+            Arguments.of(new VarInsnNode(Opcodes.ALOAD, 0), "ALOAD 0 // opcode: 25"),
+            Arguments.of(new InsnNode(Opcodes.RETURN), "RETURN // opcode: 177")
     );
     // todo add all asm
   }
@@ -0,0 +1,86 @@
+package dev.turingcomplete.asmtestkit.representation;
+
+import dev.turingcomplete.asmtestkit.comparator.MethodNodeComparator;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.ClassNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DifferenceWindowRepresentationTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  @Test
+  void testForLists() {
+    var actual = createClassNode(10, 0).methods;
+    var expected = createClassNode(10, -1).methods;
+
+    var representation = DifferenceWindowRepresentation.forLists(MethodNodeRepresentation.INSTANCE, actual, expected, MethodNodeComparator.INSTANCE, "methods", 1);
+    String expectedRepresentation = "[\n" +
+                                    "[1025: public, abstract] void changed()\n" +
+                                    "  // Max locals: 0\n" +
+                                    "  // Max stack: 0,\n" +
+                                    "[1025: public, abstract] void m1()\n" +
+                                    "  // Max locals: 0\n" +
+                                    "  // Max stack: 0,\n" +
+                                    "... 8 more methods ...\n" +
+                                    "]";
+    assertThat(representation.toStringOf(actual))
+            .isEqualTo(expectedRepresentation);
+
+    // A copy with the same element instances gets recognized
+    assertThat(representation.toStringOf(new ArrayList<>(actual).toArray()))
+            .isEqualTo(expectedRepresentation);
+    assertThat(representation.toStringOf(List.of(actual.get(0))))
+            .isEqualTo(MethodNodeRepresentation.INSTANCE.toStringOf(List.of(actual.get(0))));
+  }
+
+  @Test
+  void testForListsWithReorderedElements() {
+    var actual = createClassNode(10, 7).methods;
+    var expected = new ArrayList<>(createClassNode(10, -1).methods);
+    Collections.reverse(expected);
+
+    var representation = DifferenceWindowRepresentation.forLists(MethodNodeRepresentation.INSTANCE, actual, expected, MethodNodeComparator.INSTANCE, "methods", 0);
+    assertThat(representation.focus())
+            .isEqualTo(7);
+    assertThat(representation.toStringOf(actual))
+            .isEqualTo("[\n" +
+                       "... 7 identical methods ...,\n" +
+                       "[1025: public, abstract] void changed()\n" +
+                       "  // Max locals: 0\n" +
+                       "  // Max stack: 0,\n" +
+                       "... 2 more methods ...\n" +
+                       "]");
+    // 'm7' is at index 2 of the reversed expected methods
+    assertThat(representation.toStringOf(expected))
+            .isEqualTo("[\n" +
+                       "... 2 identical methods ...,\n" +
+                       "[1025: public, abstract] void m7()\n" +
+                       "  // Max locals: 0\n" +
+                       "  // Max stack: 0,\n" +
+                       "... 7 more methods ...\n" +
+                       "]");
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private static ClassNode createClassNode(int methodsCount, int changedMethodIndex) {
+    var classNode = new ClassNode();
+    classNode.visit(Opcodes.V11, Opcodes.ACC_PUBLIC, "MyClass", null, "java/lang/Object", null);
+    for (int i = 0; i < methodsCount; i++) {
+      String methodName = i == changedMethodIndex ? "changed" : "m" + i;
+      classNode.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_ABSTRACT, methodName, "()V", null, null);
+    }
+    return classNode;
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -0,0 +1,119 @@
+package dev.turingcomplete.asmtestkit.representation;
+
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InsnListDiffTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  @Test
+  void testEqual() {
+    InsnListDiff diff = InsnListDiff.create(createInstructions(Opcodes.ICONST_1, Opcodes.IRETURN),
+                                            createInstructions(Opcodes.ICONST_1, Opcodes.IRETURN));
+
+    assertThat(diff.isEmpty())
+            .isTrue();
+    assertThat(diff.toString())
+            .isEmpty();
+  }
+
+  @Test
+  void testChanged() {
+    InsnListDiff diff = InsnListDiff.create(createInstructions(Opcodes.NOP, Opcodes.ICONST_2, Opcodes.IRETURN),
+                                            createInstructions(Opcodes.NOP, Opcodes.ICONST_1, Opcodes.IRETURN));
+
+    assertThat(diff.edits())
+            .hasSize(1);
+    assertThat(diff.edits().get(0).type())
+            .isEqualTo(InsnListDiff.Edit.Type.CHANGED);
+    assertThat(diff.toString().split("\\R"))
+            .containsExactly("@@ -0,3 +0,3 @@",
+                             "    NOP // opcode: 0",
+                             "-   ICONST_2 // opcode: 5",
+                             "+   ICONST_1 // opcode: 4",
+                             "    IRETURN // opcode: 172");
+  }
+
+  @Test
+  void testInsertedAndDeletedWithContext() {
+    InsnListDiff diff = InsnListDiff.create(createInstructions(Opcodes.ICONST_0, Opcodes.NOP, Opcodes.NOP, Opcodes.NOP, Opcodes.NOP, Opcodes.NOP, Opcodes.IRETURN),
+                                            createInstructions(Opcodes.NOP, Opcodes.NOP, Opcodes.NOP, Opcodes.NOP, Opcodes.NOP, Opcodes.ICONST_1, Opcodes.IRETURN));
+
+    assertThat(diff.edits().stream().map(InsnListDiff.Edit::type))
+            .containsExactly(InsnListDiff.Edit.Type.DELETED, InsnListDiff.Edit.Type.INSERTED);
+
+    // Two separate hunks
+    assertThat(diff.toString(1).split("\\R"))
+            .containsExactly("@@ -0,2 +0,1 @@",
+                             "-   ICONST_0 // opcode: 3",
+                             "    NOP // opcode: 0",
+                             "@@ -5,2 +4,3 @@",
+                             "    NOP // opcode: 0",
+                             "+   ICONST_1 // opcode: 4",
+                             "    IRETURN // opcode: 172");
+  }
+
+  @Test
+  void testLabelsAreNamedByTheirPosition() {
+    // The inserted forward jump must not rename the subsequent labels
+    var expectedLabel = new LabelNode();
+    var expected = new InsnList();
+    expected.add(new InsnNode(Opcodes.NOP));
+    expected.add(expectedLabel);
+    expected.add(new InsnNode(Opcodes.RETURN));
+
+    var actualLabel = new LabelNode();
+    var actual = new InsnList();
+    actual.add(new JumpInsnNode(Opcodes.GOTO, actualLabel));
+    actual.add(new InsnNode(Opcodes.NOP));
+    actual.add(actualLabel);
+    actual.add(new InsnNode(Opcodes.RETURN));
+
+    InsnListDiff diff = InsnListDiff.create(expected, actual);
+    assertThat(diff.edits())
+            .hasSize(1);
+    assertThat(diff.toString(0).split("\\R"))
+            .containsExactly("@@ -0,0 +0,1 @@",
+                             "+   GOTO L0 // opcode: 167");
+  }
+
+  @Test
+  void testLargeInstructions() {
+    var expectedOpcodes = new int[20_000];
+    var actualOpcodes = new int[20_000];
+    for (int i = 0; i < expectedOpcodes.length; i++) {
+      expectedOpcodes[i] = i % 7 == 0 ? Opcodes.ICONST_0 : Opcodes.NOP;
+      actualOpcodes[i] = i == 10_000 ? Opcodes.ICONST_5 : expectedOpcodes[i];
+    }
+
+    InsnListDiff diff = InsnListDiff.create(createInstructions(expectedOpcodes), createInstructions(actualOpcodes));
+    assertThat(diff.edits())
+            .hasSize(1);
+    assertThat(diff.edits().get(0).expectedFrom())
+            .isEqualTo(10_000);
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private static List<InsnNode> createInstructions(int... opcodes) {
+    var instructions = new ArrayList<InsnNode>();
+    for (int opcode : opcodes) {
+      instructions.add(new InsnNode(opcode));
+    }
+    return instructions;
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -4,8 +4,10 @@ import dev.turingcomplete.asmtestkit.representation.InstructionRepresentation;
 import org.assertj.core.api.Assertions;
 import org.intellij.lang.annotations.Language;
 import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.tree.AbstractInsnNode;
 import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.InsnNode;
 import org.objectweb.asm.tree.LookupSwitchInsnNode;
 
 import java.io.IOException;
@@ -97,6 +99,19 @@ class InstructionRepresentationTest {
               .containsExactlyElementsOf(expectedRepresentations);
   }
 
+  @Test
+  void testToStringOfBuildsOnSimplifiedString() {
+    var instructionRepresentation = new InstructionRepresentation() {
+      @Override
+      protected String doToSimplifiedStringOf(AbstractInsnNode abstractInsnNode) {
+        return "custom";
+      }
+    };
+
+    Assertions.assertThat(instructionRepresentation.toStringOf(new InsnNode(Opcodes.RETURN)))
+              .isEqualTo("custom // opcode: 177");
+  }
+
   // -- Private Methods --------------------------------------------------------------------------------------------- //
   // -- Inner Type -------------------------------------------------------------------------------------------------- //
 }
@@ -247,6 +247,33 @@ class MethodNodeRepresentationTest {
                        "  // Max stack: 0");
   }
 
+  @Test
+  void testAppendTo() throws IOException {
+    @Language("Java")
+    String myClass = "class MyClass {" +
+                     "  int myMethod(int a) {" +
+                     "    return a > 0 ? a : -a;" +
+                     "  }" +
+                     "}";
+    MethodNode methodNode = create()
+            .addJavaInputSource(myClass)
+            .compile()
+            .readClassNode("MyClass")
+            .methods.get(1);
+
+    var output = new StringBuilder("> ");
+    INSTANCE.appendTo(methodNode, output, "  ", null);
+
+    String expected = INSTANCE.toStringOf(methodNode).lines()
+                              .map(line -> "  " + line)
+                              .collect(Collectors.joining(System.lineSeparator()));
+    assertThat(output.toString())
+            .isEqualTo("> " + expected);
+    // The instructions use the same line breaks as the rest of the method
+    assertThat(output.toString().replace(System.lineSeparator(), ""))
+            .doesNotContain("\n");
+  }
+
   // -- Private Methods --------------------------------------------------------------------------------------------- //
   // -- Inner Type -------------------------------------------------------------------------------------------------- //
 }
@@ -0,0 +1,126 @@
+package dev.turingcomplete.asmtestkit.representation;
+
+import dev.turingcomplete.asmtestkit.common.IdentityLabelIndexLookup;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.VarInsnNode;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RenderCacheTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  @Test
+  void testMemoizesByIdentity() {
+    var renderCache = RenderCache.create();
+    var renderings = new AtomicInteger();
+
+    var node = new InsnNode(Opcodes.NOP);
+    assertThat(renderCache.toStringOf(node, null, () -> "NOP" + renderings.incrementAndGet()))
+            .isEqualTo("NOP1");
+    assertThat(renderCache.toStringOf(node, null, () -> "NOP" + renderings.incrementAndGet()))
+            .isEqualTo("NOP1");
+
+    // An equal node with another identity gets rendered again
+    assertThat(renderCache.toStringOf(new InsnNode(Opcodes.NOP), null, () -> "NOP" + renderings.incrementAndGet()))
+            .isEqualTo("NOP2");
+    assertThat(renderCache.size())
+            .isEqualTo(2);
+  }
+
+  @Test
+  void testInvalidatesOnLabelIndexLookupModification() {
+    var renderCache = RenderCache.create();
+    var label = new LabelNode();
+    var jump = new JumpInsnNode(Opcodes.GOTO, label);
+    var labelIndexLookup = IdentityLabelIndexLookup.create(Map.of(label.getLabel(), 0));
+
+    var renderings = new AtomicInteger();
+    Supplier<String> renderer = () -> {
+      renderings.incrementAndGet();
+      return "GOTO L" + labelIndexLookup.findIndex(label.getLabel());
+    };
+    assertThat(renderCache.toStringOf(jump, labelIndexLookup, renderer))
+            .isEqualTo("GOTO L0");
+    assertThat(renderCache.toStringOf(jump, labelIndexLookup, renderer))
+            .isEqualTo("GOTO L0");
+    assertThat(renderings.get())
+            .isEqualTo(1);
+
+    labelIndexLookup.putAll(Map.of(label.getLabel(), 5));
+    assertThat(renderCache.toStringOf(jump, labelIndexLookup, renderer))
+            .isEqualTo("GOTO L5");
+    assertThat(renderings.get())
+            .isEqualTo(2);
+
+    // Another lookup gets rendered separately
+    var otherLabelIndexLookup = IdentityLabelIndexLookup.create(Map.of(new Label(), 1));
+    assertThat(renderCache.toStringOf(jump, otherLabelIndexLookup, () -> "other"))
+            .isEqualTo("other");
+  }
+
+  @Test
+  void testActivation() {
+    var renderCache = RenderCache.create();
+    var node = new InsnNode(Opcodes.NOP);
+
+    try (RenderCache.Activation ignored = renderCache.activate()) {
+      assertThat(RenderCache.current())
+              .isSameAs(renderCache);
+
+      DefaultAsmRepresentations.INSTANCE.toStringOf(node);
+      DefaultAsmRepresentations.INSTANCE.toStringOf(node);
+      assertThat(renderCache.size())
+              .isEqualTo(1);
+
+      var nestedRenderCache = RenderCache.create();
+      try (RenderCache.Activation ignored2 = nestedRenderCache.activate()) {
+        assertThat(RenderCache.current())
+                .isSameAs(nestedRenderCache);
+      }
+      assertThat(RenderCache.current())
+              .isSameAs(renderCache);
+    }
+
+    assertThat(RenderCache.current())
+            .isNull();
+    assertThat(renderCache.size())
+            .isEqualTo(0);
+  }
+
+  @Test
+  void testRendersModifiedNodeInNextActivation() {
+    var renderCache = RenderCache.create();
+    var node = new VarInsnNode(Opcodes.ALOAD, 1);
+
+    try (RenderCache.Activation ignored = renderCache.activate()) {
+      assertThat(DefaultAsmRepresentations.INSTANCE.toStringOf(node))
+              .contains("ALOAD 1");
+
+      // A nested activation keeps the memoized representations
+      renderCache.activate().close();
+      assertThat(renderCache.size())
+              .isEqualTo(1);
+    }
+
+    node.var = 2;
+    try (RenderCache.Activation ignored = renderCache.activate()) {
+      assertThat(DefaultAsmRepresentations.INSTANCE.toStringOf(node))
+              .contains("ALOAD 2");
+    }
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
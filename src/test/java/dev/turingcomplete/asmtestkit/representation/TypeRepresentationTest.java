@@ -88,6 +88,16 @@ class TypeRepresentationTest {
             .isEqualTo("(I)Ljava/lang/String;");
   }
 
+  @Test
+  void testModeChangeAfterRendering() {
+    var typeRepresentation = new TypeRepresentation();
+    assertThat(typeRepresentation.toStringOf(Type.getType(String[].class)))
+            .isEqualTo("java.lang.String[]");
+
+    assertThat(typeRepresentation.useInternalName().toStringOf(Type.getType(String[].class)))
+            .isEqualTo("java/lang/String[]");
+  }
+
   // -- Private Methods --------------------------------------------------------------------------------------------- //
   // -- Inner Type -------------------------------------------------------------------------------------------------- //
 }
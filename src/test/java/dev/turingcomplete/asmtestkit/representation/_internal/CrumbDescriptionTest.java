@@ -0,0 +1,74 @@
+package dev.turingcomplete.asmtestkit.representation._internal;
+
+import org.assertj.core.api.WritableAssertionInfo;
+import org.assertj.core.description.Description;
+import org.assertj.core.description.TextDescription;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CrumbDescriptionTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  @Test
+  void testMemoizedValue() {
+    var parentInfo = new WritableAssertionInfo();
+    parentInfo.description(new TextDescription("Method"));
+
+    var formattings = new AtomicInteger();
+    var crumbArg = new Object() {
+      @Override
+      public String toString() {
+        return "name" + formattings.incrementAndGet();
+      }
+    };
+    var crumbDescription = new CrumbDescription(parentInfo, "Has equal %s", crumbArg);
+    assertThat(crumbDescription.value())
+            .isEqualTo("Method > Has equal name1")
+            .isSameAs(crumbDescription.value());
+
+    // Siblings share the value of the parent chain
+    var childInfo = new WritableAssertionInfo();
+    childInfo.description(crumbDescription);
+    assertThat(new CrumbDescription(childInfo, "First").value())
+            .isEqualTo("Method > Has equal name1 > First");
+    assertThat(new CrumbDescription(childInfo, (String) null).value())
+            .isSameAs(crumbDescription.value());
+
+    // A new parent description gets considered, but the crumb is formatted once
+    parentInfo.description(new TextDescription("Field"));
+    assertThat(crumbDescription.value())
+            .isEqualTo("Field > Has equal name1");
+    assertThat(formattings.get())
+            .isEqualTo(1);
+  }
+
+  @Test
+  void testDescriptionCrumb() {
+    var parentInfo = new WritableAssertionInfo();
+    parentInfo.description(new TextDescription("Instructions"));
+
+    var renderings = new AtomicInteger();
+    var crumb = new Description() {
+      @Override
+      public String value() {
+        renderings.incrementAndGet();
+        return "NOP % 100";
+      }
+    };
+
+    var crumbDescription = new CrumbDescription(parentInfo, crumb);
+    assertThat(renderings.get())
+            .isEqualTo(0);
+    assertThat(crumbDescription.value())
+            .isEqualTo("Instructions > NOP % 100");
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
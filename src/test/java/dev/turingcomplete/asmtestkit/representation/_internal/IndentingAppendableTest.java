@@ -0,0 +1,50 @@
+package dev.turingcomplete.asmtestkit.representation._internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IndentingAppendableTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  @Test
+  void testAppend() throws IOException {
+    var output = new StringBuilder();
+    IndentingAppendable.wrap(output, "  ")
+                       .append("foo\n\nbar")
+                       .append('\n')
+                       .append("baz\r\nqux", 0, 7)
+                       .append('\n');
+
+    assertThat(output.toString())
+            .isEqualTo("  foo\n  \n  bar\n  baz\r\n  qu\n");
+  }
+
+  @Test
+  void testAppendNested() throws IOException {
+    var output = new StringBuilder();
+    Appendable outer = IndentingAppendable.wrap(output, "  ");
+    outer.append("outer\n");
+    IndentingAppendable.wrap(outer, "--").append("first\nsecond");
+    outer.append("\nouter");
+
+    assertThat(output.toString())
+            .isEqualTo("  outer\n  --first\n  --second\n  outer");
+  }
+
+  @Test
+  void testWrapWithEmptyIndent() {
+    var output = new StringBuilder();
+
+    assertThat(IndentingAppendable.wrap(output, ""))
+            .isSameAs(output);
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -0,0 +1,110 @@
+package dev.turingcomplete.asmtestkit.representation._internal;
+
+import dev.turingcomplete.asmtestkit.asmutils._internal.TextifierUtils;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.TypePath;
+import org.objectweb.asm.TypeReference;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.FrameNode;
+import org.objectweb.asm.tree.IincInsnNode;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.IntInsnNode;
+import org.objectweb.asm.tree.InvokeDynamicInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.LookupSwitchInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MultiANewArrayInsnNode;
+import org.objectweb.asm.tree.TableSwitchInsnNode;
+import org.objectweb.asm.tree.TypeAnnotationNode;
+import org.objectweb.asm.util.TraceMethodVisitor;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InstructionPrinterTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  @Test
+  void testSwitchesWithRepeatedLabels() {
+    var first = new LabelNode();
+    var second = new LabelNode();
+
+    var tableSwitch = new TableSwitchInsnNode(3, 6, second, first, second, first, new LabelNode());
+    assertThat(InstructionPrinter.toString(tableSwitch, true))
+            .isEqualTo("TABLESWITCH // opcode: 170\n" +
+                       " 3: L0\n" +
+                       " 4: L1\n" +
+                       " 5: L0\n" +
+                       " 6: L2\n" +
+                       " default: L1")
+            .isEqualTo(textify(tableSwitch, true));
+
+    var lookupSwitch = new LookupSwitchInsnNode(first, new int[]{-1, 7}, new LabelNode[]{second, first});
+    assertThat(InstructionPrinter.toString(lookupSwitch, false))
+            .isEqualTo("LOOKUPSWITCH\n" +
+                       " -1: L0\n" +
+                       " 7: L1\n" +
+                       " default: L1")
+            .isEqualTo(textify(lookupSwitch, false));
+  }
+
+  @Test
+  void testIdenticalToTextifier() {
+    List<AbstractInsnNode> instructions = List.of(new InsnNode(Opcodes.ICONST_M1),
+                                                  new IntInsnNode(Opcodes.NEWARRAY, Opcodes.T_LONG),
+                                                  new IntInsnNode(Opcodes.SIPUSH, -300),
+                                                  new LdcInsnNode("a \"quoted\"\n\u00e4 string"),
+                                                  new LdcInsnNode(Type.getType("[Ljava/lang/String;")),
+                                                  new LdcInsnNode(1.5f),
+                                                  new LdcInsnNode(new Handle(Opcodes.H_INVOKESTATIC, "A", "b", "()V", false)),
+                                                  new MethodInsnNode(Opcodes.INVOKESTATIC, "java/util/List", "of", "()Ljava/util/List;", true),
+                                                  new IincInsnNode(2, -1),
+                                                  new MultiANewArrayInsnNode("[[I", 2),
+                                                  new InvokeDynamicInsnNode("run", "()Ljava/lang/Runnable;", new Handle(Opcodes.H_INVOKESTATIC, "A", "bsm", "()V", false), "arg"),
+                                                  new FrameNode(Opcodes.F_SAME, 0, null, 0, null));
+
+    for (AbstractInsnNode instruction : instructions) {
+      assertThat(InstructionPrinter.toString(instruction, true))
+              .isEqualTo(textify(instruction, true));
+      assertThat(InstructionPrinter.toString(instruction, false))
+              .isEqualTo(textify(instruction, false));
+    }
+  }
+
+  @Test
+  void testInstructionWithTypeAnnotation() {
+    var instruction = new MethodInsnNode(Opcodes.INVOKEVIRTUAL, "A", "b", "()V", false);
+    instruction.visibleTypeAnnotations = List.of(new TypeAnnotationNode(TypeReference.newTypeReference(TypeReference.METHOD_REFERENCE).getValue(),
+                                                                        TypePath.fromString("*"),
+                                                                        "LMyAnnotation;"));
+
+    assertThat(InstructionPrinter.toString(instruction, true))
+            .startsWith("INVOKEVIRTUAL A.b ()V // opcode: 182\n")
+            .isEqualTo(textify(instruction, true));
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+
+  private static String textify(AbstractInsnNode instruction, boolean appendOpcode) {
+    String textifiedInstruction = TextifierUtils.toString(textifier -> {
+      textifier.setTab2(0);
+      textifier.setTab3(1);
+      instruction.accept(new TraceMethodVisitor(textifier));
+    }).replaceAll("[\n\r]$", "");
+
+    if (appendOpcode && instruction.getOpcode() >= 0) {
+      return RepresentationUtils.appendToFirstLine(" // opcode: " + instruction.getOpcode(), textifiedInstruction);
+    }
+    return textifiedInstruction;
+  }
+
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}
@@ -0,0 +1,97 @@
+package dev.turingcomplete.asmtestkit.snapshot;
+
+import dev.turingcomplete.asmtestkit.fingerprint.AsmFingerprint;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnapshotStoreTest {
+  // -- Class Fields ------------------------------------------------------------------------------------------------ //
+  // -- Instance Fields --------------------------------------------------------------------------------------------- //
+
+  @TempDir
+  Path tempDir;
+
+  // -- Initialization ---------------------------------------------------------------------------------------------- //
+  // -- Exposed Methods --------------------------------------------------------------------------------------------- //
+
+  @Test
+  void testWriteAndRead() throws IOException {
+    SnapshotStore snapshotStore = SnapshotStore.create(tempDir);
+    AsmFingerprint fingerprint = AsmFingerprint.create(1, 2);
+
+    assertThat(snapshotStore.readFingerprint("foo/MyClass"))
+            .isNull();
+    assertThat(snapshotStore.readText("foo/MyClass"))
+            .isNull();
+
+    snapshotStore.write("foo/MyClass", fingerprint, "class MyClass\r\n  int field\r\n");
+    assertThat(snapshotStore.snapshotFile("foo/MyClass"))
+            .isEqualTo(tempDir.toAbsolutePath().resolve("foo").resolve("MyClass.txt"));
+    assertThat(snapshotStore.readFingerprint("foo/MyClass"))
+            .isEqualTo(fingerprint);
+    assertThat(snapshotStore.readText("foo/MyClass"))
+            .isEqualTo("class MyClass\n  int field\n");
+  }
+
+  @Test
+  void testReadManuallyEditedSnapshot() throws IOException {
+    SnapshotStore snapshotStore = SnapshotStore.create(tempDir);
+
+    Files.writeString(tempDir.resolve("Invalid.txt"), "// Fingerprint: xyz\r\nclass MyClass\r\n", StandardCharsets.UTF_8);
+    assertThat(snapshotStore.readFingerprint("Invalid"))
+            .isNull();
+    assertThat(snapshotStore.readText("Invalid"))
+            .isEqualTo("class MyClass\n");
+
+    Files.writeString(tempDir.resolve("NoFingerprint.txt"), "class MyClass\n", StandardCharsets.UTF_8);
+    assertThat(snapshotStore.readFingerprint("NoFingerprint"))
+            .isNull();
+    assertThat(snapshotStore.readText("NoFingerprint"))
+            .isEqualTo("class MyClass\n");
+  }
+
+  @Test
+  void testSnapshotFileOutsideOfDirectory() {
+    SnapshotStore snapshotStore = SnapshotStore.create(tempDir.resolve("snapshots"));
+
+    assertThatThrownBy(() -> snapshotStore.snapshotFile("../MyClass"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Invalid snapshot name: ../MyClass");
+    assertThatThrownBy(() -> snapshotStore.snapshotFile(""))
+            .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void testUpdateMode() {
+    SnapshotStore snapshotStore = SnapshotStore.create(tempDir);
+    assertThat(snapshotStore.isUpdateMode())
+            .isEqualTo(Boolean.getBoolean(SnapshotStore.UPDATE_MODE_PROPERTY));
+
+    SnapshotStore updatingSnapshotStore = snapshotStore.useUpdateMode();
+    assertThat(updatingSnapshotStore.isUpdateMode())
+            .isTrue();
+    assertThat(updatingSnapshotStore.directory())
+            .isEqualTo(tempDir);
+
+    // The original stores stay unchanged
+    assertThat(updatingSnapshotStore)
+            .isNotSameAs(snapshotStore);
+    assertThat(snapshotStore.isUpdateMode())
+            .isEqualTo(Boolean.getBoolean(SnapshotStore.UPDATE_MODE_PROPERTY));
+    assertThat(SnapshotStore.INSTANCE.useUpdateMode())
+            .isNotSameAs(SnapshotStore.INSTANCE);
+    assertThat(SnapshotStore.INSTANCE.isUpdateMode())
+            .isEqualTo(Boolean.getBoolean(SnapshotStore.UPDATE_MODE_PROPERTY));
+  }
+
+  // -- Private Methods --------------------------------------------------------------------------------------------- //
+  // -- Inner Type -------------------------------------------------------------------------------------------------- //
+}